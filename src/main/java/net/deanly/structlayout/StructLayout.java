@@ -1,11 +1,27 @@
 package net.deanly.structlayout;
 
 import net.deanly.structlayout.analysis.HexDumpUtil;
+import net.deanly.structlayout.analysis.LayoutTrace;
+import net.deanly.structlayout.buffer.BufferPool;
+import net.deanly.structlayout.buffer.PooledBuffer;
+import net.deanly.structlayout.buffer.SizeClassedBufferPool;
+import net.deanly.structlayout.codec.encode.GatherEncoder;
 import net.deanly.structlayout.codec.encode.StructEncoder;
+import net.deanly.structlayout.codec.decode.DecodeLimits;
+import net.deanly.structlayout.codec.decode.StructDecodeResult;
 import net.deanly.structlayout.codec.decode.StructDecoder;
+import net.deanly.structlayout.codec.helpers.CalculateStructureSizeHelper;
+import net.deanly.structlayout.codec.helpers.LayoutRegistrationHelper;
+import net.deanly.structlayout.metrics.CodecMetrics;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.Consumer;
 
 public class StructLayout {
 
+    private static volatile CodecMetrics metrics;
+
     /**
      * Encodes an object into a serialized byte array.
      *
@@ -14,7 +30,99 @@ public class StructLayout {
      * @return The serialized byte array.
      */
     public static <T> byte[] encode(T object) {
-        return StructEncoder.encode(object);
+        return encode(object, null);
+    }
+
+    /**
+     * Encodes an object into a serialized byte array and passes the offset and length of every field,
+     * including the fields of nested structs, to the tracer. The layout is collected while encoding,
+     * so the object is encoded only once.
+     *
+     * @param object The object to serialize.
+     * @param tracer The consumer of the trace, or {@code null} to encode without tracing. Not called if encoding fails.
+     * @param <T>    The type of the object.
+     * @return The serialized byte array.
+     */
+    public static <T> byte[] encode(T object, Consumer<? super LayoutTrace> tracer) {
+        CodecMetrics metrics = StructLayout.metrics;
+        if (metrics == null || object == null) {
+            return encodeTraced(object, tracer);
+        }
+
+        long start = System.nanoTime();
+        try {
+            byte[] encoded = encodeTraced(object, tracer);
+            metrics.recordSuccess(object.getClass(), CodecMetrics.Operation.ENCODE, encoded.length, System.nanoTime() - start);
+            return encoded;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(object.getClass(), CodecMetrics.Operation.ENCODE, e, System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    /**
+     * Encodes an object into a buffer borrowed from the pool instead of a new byte array. Close the returned
+     * handle once the bytes have been written:
+     *
+     * <pre>
+     * try (PooledBuffer encoded = StructLayout.encodePooled(message, pool)) {
+     *     encoded.writeTo(channel);
+     * }
+     * </pre>
+     *
+     * @param object The object to serialize.
+     * @param pool   The pool to borrow the buffer from, e.g. {@link SizeClassedBufferPool#heap()}.
+     * @param <T>    The type of the object.
+     * @return The encoded bytes, from position 0 to {@link PooledBuffer#size()}. Empty if the object is {@code null}.
+     */
+    public static <T> PooledBuffer encodePooled(T object, BufferPool pool) {
+        CodecMetrics metrics = StructLayout.metrics;
+        if (metrics == null || object == null) {
+            return StructEncoder.encode(object, pool);
+        }
+
+        long start = System.nanoTime();
+        try {
+            PooledBuffer encoded = StructEncoder.encode(object, pool);
+            metrics.recordSuccess(object.getClass(), CodecMetrics.Operation.ENCODE, encoded.size(), System.nanoTime() - start);
+            return encoded;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(object.getClass(), CodecMetrics.Operation.ENCODE, e, System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    /**
+     * Encodes an object into a gather list of buffers for
+     * {@link java.nio.channels.GatheringByteChannel#write(ByteBuffer[])}. The buffers hold the same bytes as
+     * {@link #encode(Object)}, but blob and byte sequence payloads of at least
+     * {@link GatherEncoder#DEFAULT_MIN_REFERENCE_LENGTH} bytes are wrapped instead of copied.
+     * The object must not be modified until the buffers have been written.
+     *
+     * @param object The object to serialize.
+     * @param <T>    The type of the object.
+     * @return The buffers, in order. Empty if the object is {@code null}.
+     * @see GatherEncoder
+     */
+    public static <T> ByteBuffer[] encodeGather(T object) {
+        CodecMetrics metrics = StructLayout.metrics;
+        if (metrics == null || object == null) {
+            return GatherEncoder.encode(object);
+        }
+
+        long start = System.nanoTime();
+        try {
+            ByteBuffer[] buffers = GatherEncoder.encode(object);
+            int bytes = 0;
+            for (ByteBuffer buffer : buffers) {
+                bytes += buffer.remaining();
+            }
+            metrics.recordSuccess(object.getClass(), CodecMetrics.Operation.ENCODE, bytes, System.nanoTime() - start);
+            return buffers;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(object.getClass(), CodecMetrics.Operation.ENCODE, e, System.nanoTime() - start);
+            throw e;
+        }
     }
 
     /**
@@ -26,7 +134,128 @@ public class StructLayout {
      * @return The deserialized object.
      */
     public static <T> T decode(byte[] data, Class<T> type) {
-        return StructDecoder.decode(type, data, 0).getValue();
+        return decode(type, data, 0, null, null);
+    }
+
+    /**
+     * Decodes a byte array into an instance of the given class and passes the offset and length of every
+     * field, including the fields of nested structs, to the tracer.
+     *
+     * @param data   The serialized byte array.
+     * @param type   The class type to deserialize into.
+     * @param tracer The consumer of the trace. Not called if decoding fails.
+     * @param <T>    The type of the class.
+     * @return The deserialized object.
+     */
+    public static <T> T decode(byte[] data, Class<T> type, Consumer<? super LayoutTrace> tracer) {
+        return decode(type, data, 0, null, tracer);
+    }
+
+    /**
+     * Decodes a byte array into an instance of the given class, rejecting length prefixes and nesting
+     * that exceed the given limits before anything is allocated for them.
+     *
+     * @param data   The serialized byte array.
+     * @param type   The class type to deserialize into.
+     * @param limits The limits applied to the whole message.
+     * @param <T>    The type of the class.
+     * @return The deserialized object.
+     * @throws net.deanly.structlayout.exception.StructDecodingException If a limit is exceeded; the cause is a
+     *                                                                   {@link net.deanly.structlayout.exception.DecodeLimitExceededException}.
+     */
+    public static <T> T decode(byte[] data, Class<T> type, DecodeLimits limits) {
+        return decode(type, data, 0, limits, null);
+    }
+
+    /**
+     * Returns the encoded size of the given struct class, if every instance encodes to the same number of bytes.
+     *
+     * @param type The struct class.
+     * @return The fixed size in bytes, or {@code -1} if the size depends on the data.
+     */
+    public static int fixedSize(Class<?> type) {
+        return CalculateStructureSizeHelper.calculateClassSize(type);
+    }
+
+    /**
+     * Decodes the {@code index}-th struct of a byte array that holds fixed size structs back to back.
+     * The offset is computed from the {@linkplain #fixedSize(Class) fixed size}, so no preceding struct is decoded.
+     *
+     * @param data  The serialized byte array.
+     * @param index The zero-based index of the struct.
+     * @param type  The class type to deserialize into. Must have a fixed size.
+     * @param <T>   The type of the class.
+     * @return The deserialized object.
+     * @throws IllegalArgumentException If the class does not have a fixed size.
+     */
+    public static <T> T decodeAt(byte[] data, int index, Class<T> type) {
+        int size = fixedSize(type);
+        if (size <= 0) {
+            throw new IllegalArgumentException("Struct '" + type.getName() + "' does not have a fixed size.");
+        }
+        return decode(type, data, Math.multiplyExact(index, size), null, null);
+    }
+
+    /**
+     * Validates and caches the layouts of the given struct classes, and of the structs nested in them,
+     * so that the first encode or decode does not pay for reflection and layout setup.
+     *
+     * @param types The struct classes to register.
+     * @throws net.deanly.structlayout.exception.LayoutInitializationException If any layout is invalid.
+     *         All problems found are listed in the message.
+     */
+    public static void register(Class<?>... types) {
+        LayoutRegistrationHelper.register(types);
+    }
+
+    /**
+     * Registers every concrete class with {@code @Struct*} fields in the given package and its subpackages,
+     * as found on the class path of the context class loader.
+     *
+     * @param packageName The package to scan, e.g. {@code "com.example.messages"}.
+     * @return The struct classes found, sorted by name.
+     * @throws net.deanly.structlayout.exception.LayoutInitializationException If any layout is invalid.
+     */
+    public static List<Class<?>> registerPackage(String packageName) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = StructLayout.class.getClassLoader();
+        }
+        List<Class<?>> types = LayoutRegistrationHelper.findStructClasses(packageName, classLoader);
+        LayoutRegistrationHelper.register(types.toArray(new Class<?>[0]));
+        return types;
+    }
+
+    /**
+     * Registers the given struct classes and then encodes and decodes a default instance of each
+     * {@code iterations} times, so that the codec paths are compiled before real traffic. Classes whose
+     * default instance cannot be encoded and decoded back are registered but not warmed up.
+     *
+     * @param iterations The number of encode/decode round trips per class.
+     * @param types      The struct classes to warm up.
+     * @throws net.deanly.structlayout.exception.LayoutInitializationException If any layout is invalid.
+     */
+    public static void warmUp(int iterations, Class<?>... types) {
+        for (Class<?> type : LayoutRegistrationHelper.register(types)) {
+            LayoutRegistrationHelper.warmUp(type, iterations);
+        }
+    }
+
+    /**
+     * Installs the metrics that every subsequent {@code encode}, {@code decode} and {@code decodeAt} reports to,
+     * e.g. a {@link net.deanly.structlayout.metrics.StructMetrics}. Only top-level structs are reported.
+     *
+     * @param metrics The metrics, or {@code null} to stop recording. Without metrics no timing is taken.
+     */
+    public static void setMetrics(CodecMetrics metrics) {
+        StructLayout.metrics = metrics;
+    }
+
+    /**
+     * Returns the installed metrics, or {@code null} if none are installed.
+     */
+    public static CodecMetrics getMetrics() {
+        return metrics;
     }
 
     /**
@@ -56,10 +285,50 @@ public class StructLayout {
         }
 
         try {
-            StructEncoder.encodeWithDebug(obj);
+            debug(obj, System.out);
         } catch (Exception e) {
             System.err.println("[Field Debug Error: " + e.getMessage() + "]");
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * Encodes the object and writes the order, path, offset, length and bytes of each field to the appendable.
+     *
+     * @param obj The object to debug.
+     * @param out The destination, e.g. a {@link StringBuilder} or a {@link java.io.Writer}.
+     * @throws java.io.UncheckedIOException If the appendable throws.
+     */
+    public static void debug(Object obj, Appendable out) {
+        StructEncoder.encode(obj, trace -> trace.appendTo(out));
+    }
+
+    private static <T> byte[] encodeTraced(T object, Consumer<? super LayoutTrace> tracer) {
+        return tracer == null ? StructEncoder.encode(object) : StructEncoder.encode(object, tracer);
+    }
+
+    private static <T> T decode(Class<T> type, byte[] data, int offset, DecodeLimits limits, Consumer<? super LayoutTrace> tracer) {
+        CodecMetrics metrics = StructLayout.metrics;
+        if (metrics == null) {
+            return decodeResult(type, data, offset, limits, tracer).getValue();
+        }
+
+        long start = System.nanoTime();
+        try {
+            StructDecodeResult<T> result = decodeResult(type, data, offset, limits, tracer);
+            metrics.recordSuccess(type, CodecMetrics.Operation.DECODE, result.getSize(), System.nanoTime() - start);
+            return result.getValue();
+        } catch (RuntimeException e) {
+            metrics.recordFailure(type, CodecMetrics.Operation.DECODE, e, System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    private static <T> StructDecodeResult<T> decodeResult(Class<T> type, byte[] data, int offset, DecodeLimits limits,
+                                                         Consumer<? super LayoutTrace> tracer) {
+        if (tracer != null) {
+            return StructDecoder.decode(type, data, offset, limits != null ? limits : DecodeLimits.DEFAULT, tracer);
+        }
+        return limits == null ? StructDecoder.decode(type, data, offset) : StructDecoder.decode(type, data, offset, limits);
+    }
+
+}
@@ -6,13 +6,13 @@ import net.deanly.structlayout.factory.ClassFactory;
 import net.deanly.structlayout.type.DynamicSpanField;
 import net.deanly.structlayout.type.basic.*;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class CachedLayoutProvider {
 
-    // 정적 타입 캐싱
-    private static final Map<Class<? extends Field<?>>, Field<?>> layoutCache = new HashMap<>();
+    // 정적 타입 캐싱 (인코딩 / 디코딩 스레드가 함께 사용)
+    private static final Map<Class<? extends Field<?>>, Field<?>> layoutCache = new ConcurrentHashMap<>();
 
     static {
         // 정수 타입 (Integer Types)
@@ -76,7 +76,8 @@ public class CachedLayoutProvider {
      * @param <T> The type of the value being processed by the layout.
      * @param layoutClass The class of the layout to retrieve. The layout class must extend {@code Field}.
      * @return An instance of the requested layout class. If the layout is cached, the cached instance is returned.
-     *         Otherwise, a new instance is created using {@code ClassFactory.createLayoutInstance}.
+     *         Otherwise, a new instance is created using {@code ClassFactory.createFieldInstance}, so
+     *         {@code Field} implementations that do not extend {@code FieldBase} are supported as well.
      */
     @SuppressWarnings("unchecked")
     public static <T> Field<T> getLayout(Class<? extends Field<?>> layoutClass) {
@@ -85,7 +86,7 @@ public class CachedLayoutProvider {
             return (Field<T>) cachedField;
         }
 
-        Field<T> field = ClassFactory.createLayoutInstance(layoutClass);
+        Field<T> field = ClassFactory.createFieldInstance(layoutClass);
 
         if (!DynamicSpanField.class.isAssignableFrom(layoutClass)) {
             layoutCache.put(layoutClass, field);
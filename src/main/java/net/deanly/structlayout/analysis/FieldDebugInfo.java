@@ -4,6 +4,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * The encoded bytes of one field, as produced by the handlers' {@code handleDebug}.
+ *
+ * @deprecated Use {@link LayoutTrace}, which records the offset and bytes of every field during a single encode
+ *             or decode. This class will be removed in a future release.
+ */
+@Deprecated
 @Getter
 @RequiredArgsConstructor
 @Builder(builderClassName = "Builder")
@@ -15,11 +22,7 @@ public class FieldDebugInfo {
     private final byte[] encodedBytes;
 
     public String getEncodedBytesHex() {
-        StringBuilder hex = new StringBuilder();
-        for (byte b : encodedBytes) {
-            hex.append(String.format("%02X ", b));
-        }
-        return hex.toString().trim();
+        return HexDumpUtil.toHex(encodedBytes);
     }
 
     public String getOrderString() {
@@ -1,7 +1,19 @@
 package net.deanly.structlayout.analysis;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.util.HexFormat;
+
 public class HexDumpUtil {
 
+    private static final int BYTES_PER_LINE = 16;
+    private static final char[] LOWER_HEX = "0123456789abcdef".toCharArray();
+    // 인라인 형식: "0A 1B 2C"
+    private static final HexFormat INLINE = HexFormat.ofDelimiter(" ").withUpperCase();
+
     /**
      * Converts a byte array into a formatted hex dump string.
      * The output mimics the format returned by macOS's `xxd` command.
@@ -10,47 +22,217 @@ public class HexDumpUtil {
      * @return A formatted hex dump string.
      */
     public static String toHexDump(byte[] data) {
-        StringBuilder hexDump = new StringBuilder();
+        StringBuilder hexDump = new StringBuilder((data.length / BYTES_PER_LINE + 1) * 70);
+        appendHexDump(hexDump, data, 0, data.length);
+        return hexDump.toString();
+    }
 
-        int length = data.length;
-        int offset = 0;
+    /**
+     * Writes the hex dump of {@code data[offset, offset + length)} to the appendable, line by line, in the
+     * format of {@link #toHexDump(byte[])}. The offsets in the dump start at 0.
+     *
+     * @throws UncheckedIOException If the appendable throws.
+     */
+    public static void appendHexDump(Appendable out, byte[] data, int offset, int length) {
+        checkRange(data.length, offset, length);
+        appendHexDump(out, ByteBuffer.wrap(data, offset, length).slice());
+    }
 
-        while (offset < length) {
-            if (offset != 0) {
-                hexDump.append(System.lineSeparator());
-            }
+    /**
+     * Writes the hex dump of the remaining bytes of the buffer to the appendable, in the format of
+     * {@link #toHexDump(byte[])}. The buffer's position is not changed, so memory-mapped buffers can be
+     * dumped without copying them.
+     *
+     * @throws UncheckedIOException If the appendable throws.
+     */
+    public static void appendHexDump(Appendable out, ByteBuffer buffer) {
+        char[] line = new char[10 + BYTES_PER_LINE * 3 + 2 + BYTES_PER_LINE];
+        String lineSeparator = System.lineSeparator();
+        int start = buffer.position();
+        int length = buffer.remaining();
+        try {
+            for (int offset = 0; offset < length; offset += BYTES_PER_LINE) {
+                if (offset != 0) {
+                    out.append(lineSeparator);
+                }
 
-            // Append the offset (in hexadecimal).
-            hexDump.append(String.format("%08x: ", offset));
+                // Offset (8 hex digits) + ": "
+                int pos = 0;
+                for (int shift = 28; shift >= 0; shift -= 4) {
+                    line[pos++] = LOWER_HEX[(offset >>> shift) & 0x0F];
+                }
+                line[pos++] = ':';
+                line[pos++] = ' ';
+
+                // Hex values, padded for incomplete lines
+                int count = Math.min(BYTES_PER_LINE, length - offset);
+                for (int i = 0; i < BYTES_PER_LINE; i++) {
+                    if (i < count) {
+                        int b = buffer.get(start + offset + i);
+                        line[pos++] = LOWER_HEX[(b >> 4) & 0x0F];
+                        line[pos++] = LOWER_HEX[b & 0x0F];
+                    } else {
+                        line[pos++] = ' ';
+                        line[pos++] = ' ';
+                    }
+                    line[pos++] = ' ';
+                }
+                line[pos++] = ' ';
+                line[pos++] = ' ';
 
-            // Append the hex values for this line.
-            for (int i = 0; i < 16; i++) {
-                if (offset + i < length) {
-                    hexDump.append(String.format("%02x ", data[offset + i]));
-                } else {
-                    hexDump.append("   "); // Padding for incomplete lines.
+                // Printable ASCII characters, otherwise '.'
+                for (int i = 0; i < count; i++) {
+                    int c = buffer.get(start + offset + i);
+                    line[pos++] = c >= 32 && c <= 126 ? (char) c : '.';
                 }
+                appendLine(out, line, pos);
             }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
-            hexDump.append("  "); // Space between hex column and ASCII column.
+    /**
+     * Converts bytes to upper-case hex pairs separated by spaces, e.g. {@code "0A 1B 2C"}.
+     */
+    public static String toHex(byte[] data) {
+        return INLINE.formatHex(data);
+    }
 
-            // Append the ASCII values for this line.
-            for (int i = 0; i < 16; i++) {
-                if (offset + i < length) {
-                    byte b = data[offset + i];
-                    char c = (char) b;
-                    // Print printable ASCII characters, otherwise use '.'
-                    if (c >= 32 && c <= 126) { // Printable ASCII range.
-                        hexDump.append(c);
-                    } else {
-                        hexDump.append('.');
-                    }
+    /**
+     * Converts {@code data[offset, offset + length)} to upper-case hex pairs separated by spaces.
+     */
+    public static String toHex(byte[] data, int offset, int length) {
+        checkRange(data.length, offset, length);
+        return INLINE.formatHex(data, offset, offset + length);
+    }
+
+    /**
+     * Writes {@code data[offset, offset + length)} as upper-case hex pairs separated by spaces.
+     *
+     * @throws UncheckedIOException If the appendable throws.
+     */
+    public static void appendHex(Appendable out, byte[] data, int offset, int length) {
+        checkRange(data.length, offset, length);
+        INLINE.formatHex(out, data, offset, offset + length);
+    }
+
+    /**
+     * Parses a hex dump back into bytes. Accepts the output of {@link #toHexDump(byte[])}, {@code xxd}
+     * dumps (with 2-byte groups) and plain hex such as {@code "0A 1B 2C"} or {@code "0a1b2c"}.
+     *
+     * <p>A line that starts with a hex offset followed by {@code ':'} is a dump line: the offset must match
+     * the number of bytes parsed so far, and the hex column ends at the first run of two spaces, after which
+     * the ASCII column is ignored. Any other line is read as plain hex, ignoring whitespace.</p>
+     *
+     * @throws IllegalArgumentException If a line contains an odd number of hex digits, a non-hex character,
+     *                                  or an offset that does not follow the previous line.
+     */
+    public static byte[] parseHexDump(CharSequence dump) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(dump.length() / 3);
+        int lineStart = 0;
+        int lineNumber = 1;
+        while (lineStart < dump.length()) {
+            int lineEnd = lineStart;
+            while (lineEnd < dump.length() && dump.charAt(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int end = lineEnd > lineStart && dump.charAt(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+            parseLine(dump, lineStart, end, lineNumber, bytes);
+            lineStart = lineEnd + 1;
+            lineNumber++;
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void parseLine(CharSequence dump, int start, int end, int lineNumber, ByteArrayOutputStream bytes) {
+        int pos = start;
+        while (pos < end && Character.isWhitespace(dump.charAt(pos))) {
+            pos++;
+        }
+
+        // "xxxxxxxx:" offset prefix
+        int colon = pos;
+        while (colon < end && Character.digit(dump.charAt(colon), 16) >= 0) {
+            colon++;
+        }
+        boolean dumpLine = colon > pos && colon < end && dump.charAt(colon) == ':';
+        if (dumpLine) {
+            long offset = Long.parseLong(dump.subSequence(pos, colon).toString(), 16);
+            if (offset != bytes.size()) {
+                throw new IllegalArgumentException(String.format(
+                        "Line %d: offset 0x%x does not follow the %d bytes parsed so far.", lineNumber, offset, bytes.size()));
+            }
+            pos = colon + 1;
+            if (pos < end && dump.charAt(pos) == ' ') {
+                pos++;
+            }
+        }
+
+        int high = -1;
+        while (pos < end) {
+            char c = dump.charAt(pos);
+            if (c == ' ' || c == '\t') {
+                if (dumpLine && pos + 1 < end && dump.charAt(pos + 1) == ' ') {
+                    break; // ASCII 컬럼 시작
                 }
+                pos++;
+                continue;
+            }
+            int digit = Character.digit(c, 16);
+            if (digit < 0) {
+                throw new IllegalArgumentException(String.format(
+                        "Line %d: unexpected character '%c' at column %d.", lineNumber, c, pos - start + 1));
+            }
+            if (high < 0) {
+                high = digit;
+            } else {
+                bytes.write((high << 4) | digit);
+                high = -1;
             }
+            pos++;
+        }
+        if (high >= 0) {
+            throw new IllegalArgumentException(String.format("Line %d: odd number of hex digits.", lineNumber));
+        }
+    }
+
+    private static void appendLine(Appendable out, char[] line, int length) throws IOException {
+        if (out instanceof StringBuilder builder) {
+            builder.append(line, 0, length);
+        } else if (out instanceof Writer writer) {
+            writer.write(line, 0, length);
+        } else {
+            out.append(new CharBufferView(line, length));
+        }
+    }
 
-            offset += 16;
+    private static void checkRange(int dataLength, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > dataLength - length) {
+            throw new IndexOutOfBoundsException(String.format(
+                    "Range [%d, %d) is out of bounds for length %d.", offset, (long) offset + length, dataLength));
         }
+    }
 
-        return hexDump.toString();
+    /**
+     * A {@link CharSequence} over the filled part of a reused line buffer, so that lines are appended without
+     * creating a {@code String}.
+     */
+    private record CharBufferView(char[] buffer, int length) implements CharSequence {
+
+        @Override
+        public char charAt(int index) {
+            return buffer[index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(buffer, start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(buffer, 0, length);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,281 @@
+package net.deanly.structlayout.analysis;
+
+import net.deanly.structlayout.codec.helpers.FieldDescriptor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The field layout of one encoded or decoded message: where every struct field, including the fields of
+ * nested structs and sequence elements, starts and how many bytes it occupies.
+ *
+ * <p>A trace is collected during the encode or decode itself, so nothing is encoded twice. Obtain one with
+ * {@link net.deanly.structlayout.StructLayout#encode(Object, Consumer)} or
+ * {@link net.deanly.structlayout.StructLayout#decode(byte[], Class, Consumer)}, and print it with
+ * {@link #appendTo(Appendable)}:</p>
+ *
+ * <pre>
+ * Order Field        Offset  Length Bytes (HEX)
+ * 1     id           0000000      4 07 00 00 00
+ * 2     inner        0000004      7
+ * 2-1   inner.text   0000004      7 03 00 00 00 61 62 63
+ * </pre>
+ */
+public final class LayoutTrace {
+
+    /**
+     * One struct field.
+     *
+     * @param path   The field name, prefixed by the names of the enclosing struct fields, e.g. {@code items[1].id}.
+     * @param order  The {@code order} of the field, prefixed by the orders of the enclosing struct fields, e.g. {@code 3-1}.
+     * @param kind   The struct annotation of the field.
+     * @param offset The offset of the field in the message bytes, including any optional or length prefix.
+     * @param length The number of bytes of the field. For {@link FieldDescriptor.Kind#OBJECT} and
+     *               {@link FieldDescriptor.Kind#SEQUENCE_OBJECT} fields this covers the nested structs,
+     *               which are listed as entries of their own.
+     */
+    public record Entry(String path, String order, FieldDescriptor.Kind kind, int offset, int length) {
+
+        /**
+         * Whether the bytes of this field are described by nested entries.
+         */
+        public boolean isContainer() {
+            return kind == FieldDescriptor.Kind.OBJECT || kind == FieldDescriptor.Kind.SEQUENCE_OBJECT;
+        }
+    }
+
+    private final Class<?> type;
+    private final byte[] data;
+    private final int offset;
+    private final int size;
+    private final List<Entry> entries;
+
+    private LayoutTrace(Class<?> type, byte[] data, int offset, int size, List<Entry> entries) {
+        this.type = type;
+        this.data = data;
+        this.offset = offset;
+        this.size = size;
+        this.entries = entries;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * The offset of the struct in {@link #getData()}.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * The number of bytes of the struct.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * The message bytes the offsets refer to. Not copied; do not modify.
+     */
+    public byte[] getData() {
+        return data;
+    }
+
+    /**
+     * The fields in encoding order. A struct field is followed by the fields of its nested structs.
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    public void forEach(Consumer<? super Entry> consumer) {
+        entries.forEach(consumer);
+    }
+
+    /**
+     * Returns a copy of the bytes of the given entry.
+     */
+    public byte[] bytesOf(Entry entry) {
+        return Arrays.copyOfRange(data, entry.offset(), entry.offset() + entry.length());
+    }
+
+    /**
+     * Writes the trace as a table, one line per field, followed by the total byte count.
+     * The bytes of nested structs are listed on their own fields only.
+     *
+     * @throws UncheckedIOException If the appendable throws.
+     */
+    public void appendTo(Appendable out) {
+        try {
+            int orderWidth = "Order".length();
+            int pathWidth = "Field".length();
+            for (Entry entry : entries) {
+                orderWidth = Math.max(orderWidth, entry.order().length());
+                pathWidth = Math.max(pathWidth, entry.path().length());
+            }
+
+            pad(out.append("Order"), orderWidth - "Order".length() + 1);
+            pad(out.append("Field"), pathWidth - "Field".length() + 1);
+            out.append("Offset   Length Bytes (HEX)").append(System.lineSeparator());
+            pad(out, orderWidth + pathWidth + 28, '=').append(System.lineSeparator());
+
+            for (Entry entry : entries) {
+                pad(out.append(entry.order()), orderWidth - entry.order().length() + 1);
+                pad(out.append(entry.path()), pathWidth - entry.path().length() + 1);
+                appendNumber(out, entry.offset(), 7, '0').append(' ');
+                appendNumber(out, entry.length(), 7, ' ');
+                if (!entry.isContainer() && entry.length() > 0) {
+                    out.append(' ');
+                    HexDumpUtil.appendHex(out, data, entry.offset(), entry.length());
+                }
+                out.append(System.lineSeparator());
+            }
+
+            pad(out, orderWidth + pathWidth + 28, '=').append(System.lineSeparator());
+            out.append("Total Bytes: ").append(Integer.toString(size)).append(System.lineSeparator());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        appendTo(builder);
+        return builder.toString();
+    }
+
+    private static Appendable pad(Appendable out, int count) throws IOException {
+        return pad(out, count, ' ');
+    }
+
+    private static Appendable pad(Appendable out, int count, char c) throws IOException {
+        for (int i = 0; i < count; i++) {
+            out.append(c);
+        }
+        return out;
+    }
+
+    private static Appendable appendNumber(Appendable out, int value, int width, char fill) throws IOException {
+        String digits = Integer.toString(value);
+        return pad(out, width - digits.length(), fill).append(digits);
+    }
+
+    /**
+     * Collects the entries of a trace while a message is encoded or decoded. Used by the codecs.
+     */
+    public static final class Recorder {
+
+        private static final class MutableEntry {
+            final String path;
+            final String order;
+            final FieldDescriptor.Kind kind;
+            int offset;
+            int length;
+
+            MutableEntry(String path, String order, FieldDescriptor.Kind kind, int offset) {
+                this.path = path;
+                this.order = order;
+                this.kind = kind;
+                this.offset = offset;
+            }
+        }
+
+        private final List<MutableEntry> entries = new ArrayList<>();
+        // 위치가 정해지지 않은 중첩 구조체 (entry 시작 index, 길이) 스택
+        private int[] children = new int[16];
+        private int childCount;
+
+        /**
+         * Starts a field and returns its index.
+         */
+        public int beginField(String path, String order, FieldDescriptor.Kind kind, int offset) {
+            entries.add(new MutableEntry(path, order, kind, offset));
+            return entries.size() - 1;
+        }
+
+        public void endField(int index, int length) {
+            entries.get(index).length = length;
+        }
+
+        public String pathOf(int index) {
+            return entries.get(index).path;
+        }
+
+        public String orderOf(int index) {
+            return entries.get(index).order;
+        }
+
+        public int size() {
+            return entries.size();
+        }
+
+        /**
+         * The current depth of the nested struct stack, to pass to {@link #placeChildren}.
+         */
+        public int childMark() {
+            return childCount;
+        }
+
+        /**
+         * Records that the entries from {@code fromIndex} on belong to a nested struct of {@code length} bytes,
+         * with offsets relative to the start of that struct.
+         */
+        public void addChild(int fromIndex, int length) {
+            if (childCount + 2 > children.length) {
+                children = Arrays.copyOf(children, children.length * 2);
+            }
+            children[childCount++] = fromIndex;
+            children[childCount++] = length;
+        }
+
+        /**
+         * Places the nested structs recorded since {@code mark}, which are laid out back to back and end at
+         * {@code end}, by shifting their entries from struct-relative offsets.
+         */
+        public void placeChildren(int mark, int end) {
+            int total = 0;
+            for (int i = mark; i < childCount; i += 2) {
+                total += children[i + 1];
+            }
+            int start = end - total;
+            for (int i = mark; i < childCount; i += 2) {
+                int to = i + 2 < childCount ? children[i + 2] : entries.size();
+                for (int e = children[i]; e < to; e++) {
+                    entries.get(e).offset += start;
+                }
+                start += children[i + 1];
+            }
+            childCount = mark;
+        }
+
+        public LayoutTrace build(Class<?> type, byte[] data, int offset, int size) {
+            List<Entry> result = new ArrayList<>(entries.size());
+            for (MutableEntry entry : entries) {
+                result.add(new Entry(entry.path, entry.order, entry.kind, entry.offset, entry.length));
+            }
+            return new LayoutTrace(type, data, offset, size, Collections.unmodifiableList(result));
+        }
+
+        /**
+         * Returns the path of a field of the struct at {@code parentPath}.
+         */
+        public static String childPath(String parentPath, String name) {
+            return parentPath.isEmpty() ? name : parentPath + "." + name;
+        }
+
+        /**
+         * Returns the order of a field of the struct whose order is {@code parentOrder}.
+         */
+        public static String childOrder(String parentOrder, int order) {
+            return parentOrder.isEmpty() ? Integer.toString(order) : parentOrder + "-" + order;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package net.deanly.structlayout.annotation;
+
+import net.deanly.structlayout.type.Endianness;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maps a field to a range of bits within an unsigned word of 1, 2, 4 or 8 bytes.
+ *
+ * <p>All bit fields declaring the same {@code order} share one word: the word is read once when
+ * decoding and each field is extracted with a shift and mask, and the values of all fields are OR-ed
+ * into the word when encoding. Fields of one word must declare the same {@code bytes} and
+ * {@code endianness}, and their bit ranges must not overlap. Bits not covered by any field are
+ * written as zero.</p>
+ *
+ * <p>Supported field types are {@code boolean} (width 1), {@code byte}, {@code short}, {@code int},
+ * {@code long}, {@code char}, their wrappers, and enums (stored by ordinal).</p>
+ *
+ * <pre>{@code
+ * @StructBitField(order = 1, offset = 0, width = 1)
+ * private boolean active;
+ *
+ * @StructBitField(order = 1, offset = 1, width = 3)
+ * private Mode mode;
+ *
+ * @StructBitField(order = 1, offset = 4, width = 4, signed = true)
+ * private int adjustment;
+ * }</pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface StructBitField {
+
+    /**
+     * Order of the word in the struct. Bit fields with the same order share one word.
+     */
+    int order();
+
+    /**
+     * Position of the lowest bit of the field within the word, counted from the least significant bit.
+     */
+    int offset();
+
+    /**
+     * Number of bits of the field (1 to 64).
+     */
+    int width();
+
+    /**
+     * Size of the shared word in bytes: 1, 2, 4 or 8.
+     */
+    int bytes() default 1;
+
+    /**
+     * Byte order of the shared word.
+     */
+    Endianness endianness() default Endianness.LITTLE_ENDIAN;
+
+    /**
+     * Whether the bits hold a two's complement signed value that is sign-extended when decoding.
+     */
+    boolean signed() default false;
+}
@@ -0,0 +1,37 @@
+package net.deanly.structlayout.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the constructor that the decoder should use to create a struct instance.
+ *
+ * <p>The constructor must declare one parameter per struct field (fields annotated with
+ * {@code @StructField}, {@code @StructObjectField}, {@code @StructSequenceField} or
+ * {@code @StructSequenceObjectField}, including superclass fields), in ascending {@code order}.
+ * All field values are decoded first and then passed to the constructor in a single call,
+ * so the struct fields may be declared {@code final}.</p>
+ *
+ * <p>Records do not need this annotation; their canonical constructor is used automatically.</p>
+ *
+ * <pre>{@code
+ * public class Point {
+ *     @StructField(order = 1, type = Int32LEField.class)
+ *     private final int x;
+ *     @StructField(order = 2, type = Int32LEField.class)
+ *     private final int y;
+ *
+ *     @StructConstructor
+ *     public Point(int x, int y) {
+ *         this.x = x;
+ *         this.y = y;
+ *     }
+ * }
+ * }</pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.CONSTRUCTOR)
+public @interface StructConstructor {
+}
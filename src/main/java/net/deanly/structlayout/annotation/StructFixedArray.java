@@ -0,0 +1,38 @@
+package net.deanly.structlayout.annotation;
+
+import net.deanly.structlayout.Field;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maps an array or {@code List} field to exactly {@code length} elements without a length prefix,
+ * such as {@code uint8[32]} or {@code int32[16]} in C.
+ *
+ * <p>The element type must have a fixed span, so the array always occupies
+ * {@code length * span} bytes. Encoding requires exactly {@code length} elements; a {@code null}
+ * value is written as zero bytes.</p>
+ *
+ * <pre>{@code
+ * @StructFixedArray(order = 1, length = 32, elementType = ByteField.class)
+ * private byte[] publicKey;
+ * }</pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface StructFixedArray {
+
+    int order();
+
+    /**
+     * Number of elements in the array.
+     */
+    int length();
+
+    /**
+     * Field type of each element. Must not be a dynamic span field.
+     */
+    Class<? extends Field<?>> elementType();
+}
@@ -0,0 +1,63 @@
+package net.deanly.structlayout.annotation;
+
+import net.deanly.structlayout.type.Endianness;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Class-level layout options of a struct.
+ *
+ * <p>{@link #alignment()} inserts zero padding the way a C compiler does, so that native structs can be
+ * mapped without hand-written padding fields. Each field starts at a multiple of its alignment, measured
+ * from the start of the struct, and the struct size is rounded up to the largest field alignment.</p>
+ *
+ * <ul>
+ *     <li>Numeric fields of 2, 4, 8 or 16 bytes are aligned to their span; other fields to 1 byte.</li>
+ *     <li>A bit field word is aligned to its size, a {@link StructFixedArray} to its element, and a
+ *     sequence to its length prefix.</li>
+ *     <li>A nested {@link StructObjectField} is aligned to the alignment of its class, which is laid out
+ *     with its own options.</li>
+ * </ul>
+ *
+ * <p>{@link #byteOrder()} is the byte order of the endianness-neutral numeric fields such as
+ * {@code Int32Field}; fields with an explicit order such as {@code Int32LEField} are not affected.</p>
+ *
+ * <p>Options on a class apply to the fields it declares. Options on a package ({@code package-info.java})
+ * apply to the classes of the package that do not declare their own.</p>
+ *
+ * <pre>{@code
+ * // struct { uint8_t tag; int32_t value; uint16_t port; }  -> 12 bytes
+ * @StructLayoutOptions(alignment = StructLayoutOptions.NATURAL)
+ * public class Native { ... }
+ * }</pre>
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.PACKAGE})
+public @interface StructLayoutOptions {
+
+    /**
+     * Aligns every field to its natural alignment.
+     */
+    int NATURAL = 0;
+
+    /**
+     * No padding. This is the layout of classes without {@code @StructLayoutOptions}.
+     */
+    int PACKED = 1;
+
+    /**
+     * {@link #NATURAL}, {@link #PACKED}, or a power of two {@code n} that caps the natural alignment
+     * like {@code #pragma pack(n)}.
+     */
+    int alignment() default PACKED;
+
+    /**
+     * Byte order of the {@link net.deanly.structlayout.type.ByteOrderField endianness-neutral} fields.
+     */
+    Endianness byteOrder() default Endianness.LITTLE_ENDIAN;
+}
@@ -0,0 +1,28 @@
+package net.deanly.structlayout.buffer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A source of reusable output buffers for {@link net.deanly.structlayout.StructLayout#encodePooled}.
+ *
+ * <p>Encoding into a pooled buffer instead of a new exactly-sized {@code byte[]} avoids allocating one array per
+ * message when the result is written out and dropped right away. Implementations must be safe to use from
+ * multiple threads; a buffer may be released on a different thread than the one that acquired it.</p>
+ *
+ * @see SizeClassedBufferPool
+ * @see LeakDetectingBufferPool
+ */
+public interface BufferPool {
+
+    /**
+     * Returns a cleared buffer with at least the given capacity. Its contents are undefined.
+     *
+     * @throws IllegalArgumentException If the capacity is negative.
+     */
+    ByteBuffer acquire(int capacity);
+
+    /**
+     * Returns a buffer obtained from {@link #acquire(int)} to the pool. The buffer must not be used afterwards.
+     */
+    void release(ByteBuffer buffer);
+}
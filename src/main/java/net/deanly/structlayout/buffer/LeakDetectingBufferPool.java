@@ -0,0 +1,76 @@
+package net.deanly.structlayout.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link BufferPool} decorator that tracks every acquired buffer until it is released, for use in tests.
+ *
+ * <p>Each acquire records the stack trace of its caller, so {@link #checkNoLeaks()} can report where a buffer
+ * that was never released came from. Releasing a buffer twice, or one that was not acquired from this pool,
+ * fails immediately. Tracking takes a lock and a stack trace per buffer; do not use it in production.</p>
+ */
+public final class LeakDetectingBufferPool implements BufferPool {
+
+    private final BufferPool delegate;
+    private final Map<ByteBuffer, Throwable> outstanding = new IdentityHashMap<>();
+
+    public LeakDetectingBufferPool(BufferPool delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public ByteBuffer acquire(int capacity) {
+        ByteBuffer buffer = delegate.acquire(capacity);
+        Throwable site = new Throwable("Buffer of " + capacity + " bytes acquired here");
+        synchronized (outstanding) {
+            outstanding.put(buffer, site);
+        }
+        return buffer;
+    }
+
+    /**
+     * @throws IllegalStateException If the buffer is not outstanding, i.e. it was released already or was not
+     *                               acquired from this pool.
+     */
+    @Override
+    public void release(ByteBuffer buffer) {
+        synchronized (outstanding) {
+            if (outstanding.remove(buffer) == null) {
+                throw new IllegalStateException("Buffer was released twice or was not acquired from this pool.");
+            }
+        }
+        delegate.release(buffer);
+    }
+
+    /**
+     * The number of buffers acquired and not yet released.
+     */
+    public int getOutstandingCount() {
+        synchronized (outstanding) {
+            return outstanding.size();
+        }
+    }
+
+    /**
+     * Fails if any acquired buffer has not been released.
+     *
+     * @throws IllegalStateException Listing the number of leaked buffers. The first acquire site is the cause,
+     *                               the others are suppressed.
+     */
+    public void checkNoLeaks() {
+        List<Throwable> sites;
+        synchronized (outstanding) {
+            sites = new ArrayList<>(outstanding.values());
+        }
+        if (sites.isEmpty()) {
+            return;
+        }
+        IllegalStateException leak = new IllegalStateException(sites.size() + " pooled buffer(s) were not released.", sites.get(0));
+        sites.subList(1, sites.size()).forEach(leak::addSuppressed);
+        throw leak;
+    }
+}
@@ -0,0 +1,114 @@
+package net.deanly.structlayout.buffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Encoded bytes held in a buffer borrowed from a {@link BufferPool}. Close the handle once the bytes have been
+ * written, typically with try-with-resources:
+ *
+ * <pre>
+ * try (PooledBuffer encoded = StructLayout.encodePooled(message, pool)) {
+ *     encoded.writeTo(channel);
+ * }
+ * </pre>
+ *
+ * <p>The handle is not thread-safe. After {@link #close()} the buffer belongs to the pool again and may be
+ * handed out to another encode.</p>
+ */
+public final class PooledBuffer implements AutoCloseable {
+
+    private final BufferPool pool;
+    private final int size;
+    private ByteBuffer buffer;
+    /** The number of bytes already written by {@link #writeTo(WritableByteChannel)}. */
+    private int written;
+
+    private PooledBuffer(BufferPool pool, ByteBuffer buffer, int size) {
+        this.pool = pool;
+        this.buffer = buffer;
+        this.size = size;
+    }
+
+    /**
+     * Acquires a buffer of at least {@code size} bytes from the pool and limits it to {@code size}.
+     */
+    public static PooledBuffer acquire(BufferPool pool, int size) {
+        ByteBuffer buffer = pool.acquire(size);
+        buffer.clear().limit(size);
+        return new PooledBuffer(pool, buffer, size);
+    }
+
+    /**
+     * Takes over a buffer already acquired from the pool, holding {@code size} encoded bytes from position 0.
+     */
+    public static PooledBuffer of(BufferPool pool, ByteBuffer buffer, int size) {
+        buffer.clear().limit(size);
+        return new PooledBuffer(pool, buffer, size);
+    }
+
+    /**
+     * The number of encoded bytes.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The encoded bytes, from position 0 to {@link #size()}. Reading moves the position of the returned buffer.
+     *
+     * @throws IllegalStateException If the handle has been closed.
+     */
+    public ByteBuffer buffer() {
+        if (buffer == null) {
+            throw new IllegalStateException("The pooled buffer has already been released.");
+        }
+        return buffer;
+    }
+
+    /**
+     * Writes the encoded bytes not yet written to the channel with a single {@link WritableByteChannel#write} call
+     * and returns the number of bytes written. A blocking channel writes all of them at once. A non-blocking channel
+     * may write fewer bytes or none; wait with a selector until it is writable and call again while
+     * {@link #hasRemaining()}.
+     *
+     * @throws IllegalStateException If the handle has been closed.
+     */
+    public int writeTo(WritableByteChannel channel) throws IOException {
+        ByteBuffer bytes = buffer().duplicate().position(written).limit(size);
+        int count = channel.write(bytes);
+        written += count;
+        return count;
+    }
+
+    /**
+     * Whether some encoded bytes have not been written by {@link #writeTo(WritableByteChannel)} yet.
+     */
+    public boolean hasRemaining() {
+        return written < size;
+    }
+
+    /**
+     * Returns a copy of the encoded bytes.
+     *
+     * @throws IllegalStateException If the handle has been closed.
+     */
+    public byte[] toByteArray() {
+        byte[] bytes = new byte[size];
+        buffer().get(0, bytes);
+        return bytes;
+    }
+
+    /**
+     * Returns the buffer to the pool. Further calls have no effect.
+     */
+    @Override
+    public void close() {
+        ByteBuffer released = buffer;
+        if (released != null) {
+            buffer = null;
+            pool.release(released);
+        }
+    }
+}
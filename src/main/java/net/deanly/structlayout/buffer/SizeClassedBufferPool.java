@@ -0,0 +1,130 @@
+package net.deanly.structlayout.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link BufferPool} that keeps released buffers in per-thread caches, one per power-of-two size class.
+ *
+ * <p>A request is served by the smallest size class that fits it, from {@value #MIN_CAPACITY} bytes up to the
+ * maximum pooled capacity. Larger requests are allocated with their exact size and are not kept on release.
+ * Each thread keeps at most {@code buffersPerClass} buffers of each size class, so an idle thread holds a
+ * bounded amount of memory. Buffers are either heap or direct, as chosen at construction.</p>
+ */
+public final class SizeClassedBufferPool implements BufferPool {
+
+    /** The capacity of the smallest size class. */
+    public static final int MIN_CAPACITY = 64;
+    public static final int DEFAULT_MAX_POOLED_CAPACITY = 1 << 20;
+    public static final int DEFAULT_BUFFERS_PER_CLASS = 8;
+
+    private static final int MIN_SHIFT = Integer.numberOfTrailingZeros(MIN_CAPACITY);
+
+    private final boolean direct;
+    private final int maxPooledCapacity;
+    private final int buffersPerClass;
+    private final int classCount;
+    private final ThreadLocal<ArrayDeque<ByteBuffer>[]> caches;
+    private final LongAdder allocations = new LongAdder();
+
+    /**
+     * @param direct            Whether to allocate direct buffers instead of heap buffers.
+     * @param maxPooledCapacity The largest capacity that is pooled, rounded up to a power of two.
+     * @param buffersPerClass   The number of buffers each thread keeps per size class.
+     * @throws IllegalArgumentException If a limit is not positive.
+     */
+    public SizeClassedBufferPool(boolean direct, int maxPooledCapacity, int buffersPerClass) {
+        if (maxPooledCapacity <= 0 || maxPooledCapacity > 1 << 30 || buffersPerClass <= 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid pool limits: maxPooledCapacity=%d, buffersPerClass=%d.", maxPooledCapacity, buffersPerClass));
+        }
+        this.direct = direct;
+        this.maxPooledCapacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(maxPooledCapacity - 1) << 1);
+        this.buffersPerClass = buffersPerClass;
+        this.classCount = classOf(this.maxPooledCapacity) + 1;
+        this.caches = ThreadLocal.withInitial(() -> {
+            @SuppressWarnings("unchecked")
+            ArrayDeque<ByteBuffer>[] threadCaches = (ArrayDeque<ByteBuffer>[]) new ArrayDeque<?>[classCount];
+            return threadCaches;
+        });
+    }
+
+    /**
+     * Returns a pool of heap buffers with the default limits.
+     */
+    public static SizeClassedBufferPool heap() {
+        return new SizeClassedBufferPool(false, DEFAULT_MAX_POOLED_CAPACITY, DEFAULT_BUFFERS_PER_CLASS);
+    }
+
+    /**
+     * Returns a pool of direct buffers with the default limits.
+     */
+    public static SizeClassedBufferPool direct() {
+        return new SizeClassedBufferPool(true, DEFAULT_MAX_POOLED_CAPACITY, DEFAULT_BUFFERS_PER_CLASS);
+    }
+
+    @Override
+    public ByteBuffer acquire(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        }
+        if (capacity > maxPooledCapacity) {
+            return allocate(capacity); // 풀링하지 않는 큰 버퍼
+        }
+        int sizeClass = classOf(capacity);
+        ArrayDeque<ByteBuffer> cache = caches.get()[sizeClass];
+        ByteBuffer buffer = cache != null ? cache.pollLast() : null;
+        if (buffer == null) {
+            return allocate(MIN_CAPACITY << sizeClass);
+        }
+        return buffer.clear();
+    }
+
+    @Override
+    public void release(ByteBuffer buffer) {
+        int capacity = buffer.capacity();
+        // 크기 클래스에 맞지 않거나 종류가 다른 buffer 는 버림
+        if (capacity > maxPooledCapacity || capacity != MIN_CAPACITY << classOf(capacity)
+                || buffer.isDirect() != direct || buffer.isReadOnly()) {
+            return;
+        }
+        ArrayDeque<ByteBuffer>[] threadCaches = caches.get();
+        int sizeClass = classOf(capacity);
+        ArrayDeque<ByteBuffer> cache = threadCaches[sizeClass];
+        if (cache == null) {
+            cache = threadCaches[sizeClass] = new ArrayDeque<>(buffersPerClass);
+        }
+        if (cache.size() < buffersPerClass) {
+            cache.addLast(buffer);
+        }
+    }
+
+    /**
+     * The number of buffers allocated so far, i.e. requests that could not be served from a cache.
+     */
+    public long getAllocationCount() {
+        return allocations.sum();
+    }
+
+    public boolean isDirect() {
+        return direct;
+    }
+
+    public int getMaxPooledCapacity() {
+        return maxPooledCapacity;
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        allocations.increment();
+        return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+
+    private static int classOf(int capacity) {
+        if (capacity <= MIN_CAPACITY) {
+            return 0;
+        }
+        // capacity 이상인 가장 작은 2 의 거듭제곱
+        return 32 - Integer.numberOfLeadingZeros(capacity - 1) - MIN_SHIFT;
+    }
+}
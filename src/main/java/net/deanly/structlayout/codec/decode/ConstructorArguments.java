@@ -0,0 +1,42 @@
+package net.deanly.structlayout.codec.decode;
+
+import java.lang.reflect.Field;
+
+/**
+ * Collects the decoded field values of a constructor-bound struct (see {@link ConstructorBinding})
+ * until all fields have been decoded and the instance can be created.
+ *
+ * <p>Field handlers receive an instance of this class in place of the struct instance and store
+ * values into it instead of writing the struct field reflectively.</p>
+ */
+public final class ConstructorArguments {
+
+    private final ConstructorBinding binding;
+    private final Object[] values;
+
+    ConstructorArguments(ConstructorBinding binding, Object[] values) {
+        this.binding = binding;
+        this.values = values;
+    }
+
+    /**
+     * Stores the decoded value of the given struct field.
+     *
+     * @param field The struct field the value belongs to.
+     * @param value The decoded value. {@code null} leaves the parameter default in place.
+     */
+    public void set(Field field, Object value) {
+        if (value != null) {
+            values[binding.slotOf(field)] = value;
+        }
+    }
+
+    /**
+     * Invokes the bound constructor with the collected values.
+     *
+     * @return The new struct instance.
+     */
+    public Object newInstance() {
+        return binding.construct(values);
+    }
+}
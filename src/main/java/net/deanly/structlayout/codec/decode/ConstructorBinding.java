@@ -0,0 +1,191 @@
+package net.deanly.structlayout.codec.decode;
+
+import net.deanly.structlayout.annotation.StructConstructor;
+import net.deanly.structlayout.codec.helpers.FieldHelper;
+import net.deanly.structlayout.exception.LayoutInitializationException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.RecordComponent;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Describes how a constructor-decoded struct is instantiated.
+ *
+ * <p>Records are bound to their canonical constructor, and other classes to the constructor annotated with
+ * {@link StructConstructor}. Decoded field values are collected into a {@link ConstructorArguments} array and
+ * passed to the constructor through a cached {@link MethodHandle} once all fields have been decoded.</p>
+ *
+ * <p>Bindings are resolved and validated once per class. Classes decoded through a no-arguments constructor
+ * and field injection have no binding.</p>
+ */
+public final class ConstructorBinding {
+
+    private static final ConstructorBinding NONE = new ConstructorBinding(null, null, Map.of(), new Object[0]);
+
+    private static final ClassValue<ConstructorBinding> BINDINGS = new ClassValue<>() {
+        @Override
+        protected ConstructorBinding computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final MethodHandle constructor;
+    private final Map<Field, Integer> slots;
+    private final Object[] defaults;
+
+    private ConstructorBinding(Class<?> type, MethodHandle constructor, Map<Field, Integer> slots, Object[] defaults) {
+        this.type = type;
+        this.constructor = constructor;
+        this.slots = slots;
+        this.defaults = defaults;
+    }
+
+    /**
+     * Returns the constructor binding of the given struct type.
+     *
+     * @param type The struct type.
+     * @return The binding, or {@code null} if the type is decoded through field injection.
+     * @throws LayoutInitializationException If the record or annotated constructor is invalid.
+     */
+    public static ConstructorBinding of(Class<?> type) {
+        ConstructorBinding binding = BINDINGS.get(type);
+        return binding == NONE ? null : binding;
+    }
+
+    /**
+     * Creates an empty argument array for a single decode, pre-filled with the default value of each parameter.
+     */
+    public ConstructorArguments newArguments() {
+        return new ConstructorArguments(this, defaults.clone());
+    }
+
+    int slotOf(Field field) {
+        Integer slot = slots.get(field);
+        if (slot == null) {
+            throw new IllegalArgumentException("Field '" + field.getName() + "' is not a constructor parameter of " + type.getName());
+        }
+        return slot;
+    }
+
+    Object construct(Object[] arguments) {
+        try {
+            return constructor.invokeExact(arguments);
+        } catch (RuntimeException e) {
+            throw new LayoutInitializationException("Exception occurred while initializing Layout class: "
+                    + type.getName() + ". Check the constructor logic.", e);
+        } catch (Throwable e) {
+            throw new LayoutInitializationException("Failed to instantiate Layout class: " + type.getName(), e);
+        }
+    }
+
+    private static ConstructorBinding resolve(Class<?> type) {
+        if (type.isRecord()) {
+            return resolveRecord(type);
+        }
+
+        Constructor<?> annotated = null;
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (constructor.isAnnotationPresent(StructConstructor.class)) {
+                if (annotated != null) {
+                    throw new LayoutInitializationException("Class '" + type.getName()
+                            + "' declares more than one @StructConstructor.");
+                }
+                annotated = constructor;
+            }
+        }
+        if (annotated == null) {
+            return NONE;
+        }
+
+        // 파라미터는 order 순으로 정렬된 구조체 필드와 1:1 대응
+        List<Field> orderedFields = FieldHelper.getOrderedFields(FieldHelper.getAllDeclaredFieldsIncludingSuperclasses(type));
+        Class<?>[] parameterTypes = annotated.getParameterTypes();
+        if (parameterTypes.length != orderedFields.size()) {
+            throw new LayoutInitializationException(String.format(
+                    "@StructConstructor of '%s' must declare %d parameters (one per struct field in order), but declares %d.",
+                    type.getName(), orderedFields.size(), parameterTypes.length));
+        }
+
+        Map<Field, Integer> slots = new HashMap<>();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            Field field = orderedFields.get(i);
+            if (!wrap(parameterTypes[i]).isAssignableFrom(wrap(field.getType()))) {
+                throw new LayoutInitializationException(String.format(
+                        "Parameter %d of @StructConstructor in '%s' has type '%s', which does not accept struct field '%s' of type '%s'.",
+                        i, type.getName(), parameterTypes[i].getName(), field.getName(), field.getType().getName()));
+            }
+            slots.put(field, i);
+        }
+        return new ConstructorBinding(type, unreflect(type, annotated), slots, defaultsOf(parameterTypes));
+    }
+
+    private static ConstructorBinding resolveRecord(Class<?> type) {
+        RecordComponent[] components = type.getRecordComponents();
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        Map<Field, Integer> slots = new HashMap<>();
+
+        for (int i = 0; i < components.length; i++) {
+            parameterTypes[i] = components[i].getType();
+            try {
+                Field field = type.getDeclaredField(components[i].getName());
+                if (FieldHelper.isStructField(field)) {
+                    slots.put(field, i);
+                }
+            } catch (NoSuchFieldException e) {
+                throw new LayoutInitializationException("Cannot resolve record component '"
+                        + components[i].getName() + "' of " + type.getName(), e);
+            }
+        }
+
+        Constructor<?> canonical;
+        try {
+            canonical = type.getDeclaredConstructor(parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new LayoutInitializationException("Cannot find the canonical constructor of record " + type.getName(), e);
+        }
+        return new ConstructorBinding(type, unreflect(type, canonical), slots, defaultsOf(parameterTypes));
+    }
+
+    private static MethodHandle unreflect(Class<?> type, Constructor<?> constructor) {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.privateLookupIn(type, MethodHandles.lookup()).unreflectConstructor(constructor);
+        } catch (IllegalAccessException | RuntimeException e) {
+            try {
+                constructor.setAccessible(true);
+                handle = MethodHandles.lookup().unreflectConstructor(constructor);
+            } catch (IllegalAccessException | RuntimeException ex) {
+                throw new LayoutInitializationException("Cannot access the constructor of Layout class: " + type.getName(), ex);
+            }
+        }
+        // (Object[]) -> Object 형태로 고정하여 invokeExact 로 호출
+        return handle.asSpreader(Object[].class, constructor.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object[].class));
+    }
+
+    private static Object[] defaultsOf(Class<?>[] parameterTypes) {
+        Object[] defaults = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            Class<?> parameterType = parameterTypes[i];
+            if (parameterType.isPrimitive()) {
+                // 값이 없는(optional) 기본형 파라미터는 0/false 로 전달
+                defaults[i] = java.lang.reflect.Array.get(java.lang.reflect.Array.newInstance(parameterType, 1), 0);
+            }
+        }
+        return defaults;
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        return MethodType.methodType(type).wrap().returnType();
+    }
+}
@@ -0,0 +1,224 @@
+package net.deanly.structlayout.codec.decode;
+
+import net.deanly.structlayout.analysis.LayoutTrace;
+import net.deanly.structlayout.exception.DecodeLimitExceededException;
+
+import java.util.Arrays;
+
+/**
+ * Per-message decoding state that enforces {@link DecodeLimits}.
+ *
+ * <p>{@link StructDecoder} binds a context to the current thread for the duration of a top-level decode;
+ * nested structs share it, so the depth and the allocation total cover the whole message. The context
+ * also holds the decoder's frame stack. Top-level decodes reuse one context per thread, reset at the start of
+ * each decode, so the frames are not allocated again for every message.</p>
+ */
+public final class DecodeContext {
+
+    private static final ThreadLocal<DecodeContext> CURRENT = new ThreadLocal<>();
+    // 최상위 디코딩이 재사용하는 스레드별 context (사용 중에는 비어 있음)
+    private static final ThreadLocal<DecodeContext> IDLE = new ThreadLocal<>();
+
+    private DecodeLimits limits;
+    private int depth;
+    private int maxDepthReached;
+    private long allocated;
+    // StructDecoder 의 프레임 스택 (프레임 객체는 재사용)
+    private StructDecoder.Frame[] frames = new StructDecoder.Frame[8];
+    private int frameCount;
+    // StructDecoder 가 LayoutTrace 를 수집할 때만 설정
+    LayoutTrace.Recorder recorder;
+    // IncrementalDecoder 가 받은 바이트의 끝 (전체 데이터가 있으면 -1), 중단 시 필요한 끝 위치
+    int available = -1;
+    long needed;
+
+    DecodeContext(DecodeLimits limits) {
+        this.limits = limits;
+    }
+
+    /**
+     * Returns the context of the decode in progress on this thread, or a fresh context with the
+     * {@linkplain DecodeLimits#DEFAULT default limits} when a handler is used on its own.
+     */
+    public static DecodeContext current() {
+        DecodeContext context = CURRENT.get();
+        return context != null ? context : new DecodeContext(DecodeLimits.DEFAULT);
+    }
+
+    /**
+     * Returns this thread's idle context, reset to the given limits, or a new context if it is in use by
+     * another top-level decode on this thread. Pass the context to {@link #release} once the decode is done.
+     */
+    static DecodeContext acquire(DecodeLimits limits) {
+        DecodeContext context = IDLE.get();
+        if (context == null) {
+            return new DecodeContext(limits);
+        }
+        IDLE.remove();
+        context.limits = limits;
+        context.depth = 0;
+        context.maxDepthReached = 0;
+        context.allocated = 0;
+        context.available = -1;
+        context.needed = 0;
+        return context;
+    }
+
+    /**
+     * Clears the frames of a context obtained from {@link #acquire} and keeps it for the next decode on this thread.
+     */
+    static void release(DecodeContext context) {
+        // 실패로 남은 프레임이 디코딩된 객체를 붙잡지 않도록 비움
+        for (int i = 0; i < context.frameCount; i++) {
+            context.frames[i].clear();
+        }
+        context.frameCount = 0;
+        context.recorder = null;
+        IDLE.set(context);
+    }
+
+    static DecodeContext bound() {
+        return CURRENT.get();
+    }
+
+    static void bind(DecodeContext context) {
+        if (context == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(context);
+        }
+    }
+
+    public DecodeLimits getLimits() {
+        return limits;
+    }
+
+    /**
+     * Validates a decoded element count before the sequence is allocated.
+     *
+     * @param name           The field name, for the error message.
+     * @param count          The decoded element count.
+     * @param remaining      The number of input bytes left after the length prefix.
+     * @param minElementSpan The smallest number of bytes one element can occupy (at least 1).
+     * @throws DecodeLimitExceededException If the count is negative, cannot fit in the remaining bytes,
+     *                                      or exceeds {@link DecodeLimits#getMaxSequenceElements()}.
+     */
+    public void checkSequenceLength(String name, int count, int remaining, int minElementSpan) {
+        if (count < 0) {
+            throw new DecodeLimitExceededException(String.format(
+                    "Sequence '%s' has a negative length %d.", name, count));
+        }
+        checkElementCount(name, count);
+        if ((long) count * Math.max(1, minElementSpan) > Math.max(0, remaining)) {
+            throw new DecodeLimitExceededException(String.format(
+                    "Sequence '%s' declares %d elements of at least %d bytes, but only %d bytes remain.",
+                    name, count, Math.max(1, minElementSpan), Math.max(0, remaining)));
+        }
+    }
+
+    /**
+     * Validates the number of elements decoded so far for a sequence without a length prefix.
+     *
+     * @throws DecodeLimitExceededException If the count exceeds {@link DecodeLimits#getMaxSequenceElements()}.
+     */
+    public void checkElementCount(String name, int count) {
+        if (count > limits.getMaxSequenceElements()) {
+            throw new DecodeLimitExceededException(String.format(
+                    "Sequence '%s' has %d elements, exceeding the limit of %d.", name, count, limits.getMaxSequenceElements()));
+        }
+    }
+
+    /**
+     * Validates the payload length of a length-prefixed string or blob before it is copied.
+     *
+     * @throws DecodeLimitExceededException If the length exceeds {@link DecodeLimits#getMaxByteLength()}.
+     */
+    public void checkByteLength(String name, int length) {
+        if (length > limits.getMaxByteLength()) {
+            throw new DecodeLimitExceededException(String.format(
+                    "Field '%s' holds %d bytes, exceeding the limit of %d.", name, length, limits.getMaxByteLength()));
+        }
+    }
+
+    /**
+     * Adds an estimated allocation to the total of the message.
+     *
+     * @throws DecodeLimitExceededException If the total exceeds {@link DecodeLimits#getMaxTotalAllocation()}.
+     */
+    public void allocate(String name, long bytes) {
+        allocated += bytes;
+        if (allocated > limits.getMaxTotalAllocation() || allocated < 0) {
+            throw new DecodeLimitExceededException(String.format(
+                    "Decoding '%s' exceeds the allocation limit of %d bytes.", name, limits.getMaxTotalAllocation()));
+        }
+    }
+
+    /**
+     * Returns the estimated heap size of one array element of the given type.
+     */
+    public static int elementBytes(Class<?> type) {
+        if (type == byte.class || type == boolean.class) {
+            return 1;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        }
+        return 8; // long, double, 참조
+    }
+
+    void enter(Class<?> type) {
+        if (depth >= limits.getMaxDepth()) {
+            throw new DecodeLimitExceededException(String.format(
+                    "Decoding '%s' exceeds the nesting depth limit of %d.", type.getSimpleName(), limits.getMaxDepth()));
+        }
+        depth++;
+        if (depth > maxDepthReached) {
+            maxDepthReached = depth;
+        }
+    }
+
+    void exit() {
+        depth--;
+    }
+
+    int frameCount() {
+        return frameCount;
+    }
+
+    StructDecoder.Frame topFrame() {
+        return frames[frameCount - 1];
+    }
+
+    StructDecoder.Frame frameAt(int index) {
+        return frames[index];
+    }
+
+    StructDecoder.Frame pushFrame() {
+        if (frameCount == frames.length) {
+            frames = Arrays.copyOf(frames, frameCount * 2);
+        }
+        StructDecoder.Frame frame = frames[frameCount];
+        if (frame == null) {
+            frame = new StructDecoder.Frame();
+            frames[frameCount] = frame;
+        }
+        frameCount++;
+        return frame;
+    }
+
+    StructDecoder.Frame popFrame() {
+        return frames[--frameCount];
+    }
+
+    public long getAllocated() {
+        return allocated;
+    }
+
+    /**
+     * The deepest struct nesting reached so far, 1 for a struct without nested structs.
+     */
+    public int getMaxDepthReached() {
+        return maxDepthReached;
+    }
+}
@@ -0,0 +1,48 @@
+package net.deanly.structlayout.codec.decode;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Upper bounds applied while decoding a single message.
+ *
+ * <p>Length prefixes are read from the input, so a corrupted or hostile frame could otherwise make the
+ * decoder allocate an array of billions of elements before any element is read. Every length is first
+ * checked against the bytes remaining in the input, and then against these limits, before anything is
+ * allocated. Exceeding a limit throws {@link net.deanly.structlayout.exception.DecodeLimitExceededException}.</p>
+ *
+ * <pre>{@code
+ * DecodeLimits limits = DecodeLimits.builder()
+ *         .maxSequenceElements(10_000)
+ *         .maxByteLength(64 * 1024)
+ *         .maxTotalAllocation(4 * 1024 * 1024)
+ *         .build();
+ * Account account = StructLayout.decode(data, Account.class, limits);
+ * }</pre>
+ */
+@Getter
+@Builder(builderClassName = "Builder")
+public final class DecodeLimits {
+
+    /**
+     * Limits used by {@link net.deanly.structlayout.StructLayout#decode(byte[], Class)}: only the
+     * remaining-bytes check. Nesting depth is unbounded, since nested structs do not use the Java stack.
+     */
+    public static final DecodeLimits DEFAULT = DecodeLimits.builder().build();
+
+    /** Maximum number of elements of a single sequence or array. */
+    @Builder.Default
+    private final int maxSequenceElements = Integer.MAX_VALUE;
+
+    /** Maximum payload length, in bytes, of a single length-prefixed string or blob. */
+    @Builder.Default
+    private final int maxByteLength = Integer.MAX_VALUE;
+
+    /** Maximum number of nested structs, counting the top-level struct as 1. */
+    @Builder.Default
+    private final int maxDepth = Integer.MAX_VALUE;
+
+    /** Maximum estimated number of bytes allocated for arrays, strings and blobs of one message. */
+    @Builder.Default
+    private final long maxTotalAllocation = Long.MAX_VALUE;
+}
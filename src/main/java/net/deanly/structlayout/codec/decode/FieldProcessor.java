@@ -1,52 +1,69 @@
 package net.deanly.structlayout.codec.decode;
 
-import net.deanly.structlayout.annotation.*;
 import net.deanly.structlayout.codec.decode.handler.*;
+import net.deanly.structlayout.codec.helpers.FieldDescriptor;
 import net.deanly.structlayout.exception.*;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
-import java.util.*;
 
 public class FieldProcessor {
 
-    private static final Map<Class<? extends Annotation>, BaseFieldHandler> HANDLERS = new HashMap<>();
+    private static final BaseFieldHandler STRUCT_FIELD_HANDLER = new StructFieldHandler();
+    private static final BaseFieldHandler STRUCT_SEQUENCE_FIELD_HANDLER = new StructSequenceFieldHandler();
+    private static final BaseFieldHandler STRUCT_OBJECT_FIELD_HANDLER = new StructObjectFieldHandler();
+    private static final BaseFieldHandler STRUCT_SEQUENCE_OBJECT_FIELD_HANDLER = new StructSequenceObjectFieldHandler();
+    private static final BaseFieldHandler STRUCT_BIT_FIELD_HANDLER = new StructBitFieldHandler();
+    private static final BaseFieldHandler STRUCT_FIXED_ARRAY_FIELD_HANDLER = new StructFixedArrayFieldHandler();
 
-    static {
-        HANDLERS.put(StructField.class, new StructFieldHandler());
-        HANDLERS.put(StructSequenceField.class, new StructSequenceFieldHandler());
-        HANDLERS.put(StructObjectField.class, new StructObjectFieldHandler());
-        HANDLERS.put(StructSequenceObjectField.class, new StructSequenceObjectFieldHandler());
+    public static <T> int processField(T instance, Field field, byte[] data, int offset) {
+        FieldDescriptor descriptor = FieldDescriptor.of(field);
+        if (descriptor == null) {
+            throw new IllegalArgumentException("No handler found for field: `" + field.getName() + "`");
+        }
+        return processField(instance, descriptor, data, offset);
     }
 
-    public static <T> int processField(T instance, Field field, byte[] data, int offset) {
-        for (Map.Entry<Class<? extends Annotation>, BaseFieldHandler> entry : HANDLERS.entrySet()) {
-            if (field.isAnnotationPresent(entry.getKey())) {
-                try {
-                    return entry.getValue().handleField(instance, field, data, offset);
-                } catch (IllegalAccessException e) {
-                    throw new FieldAccessException(field.getName(), field.getClass().getSimpleName(), e);
-                } catch (FieldOrderException e) {
-                    throw new FieldOrderException("Failed to process field: `" + field.getName() + "` => " + e.getMessage(), e);
-                } catch (IllegalArgumentException e) {
-                    throw new IllegalArgumentException("Failed to process field: `" + field.getName() + "` => " + e.getMessage(), e);
-                } catch (TypeConversionException e) {
-                    throw new TypeConversionException("Failed to process field: `" + field.getName() + "` => " + e.getMessage(), e);
-                } catch (InvalidDataOffsetException e) {
-                    throw new InvalidDataOffsetException("Failed to process field: `" + field.getName() + "` => " + e.getMessage(), e);
-                } catch (InvalidSequenceTypeException e) {
-                    throw new InvalidSequenceTypeException("Failed to process field: `" + field.getName() + "` => " + e.getMessage(), e);
-                } catch (LayoutInitializationException e) {
-                    throw new LayoutInitializationException("Failed to process field: `" + field.getName() + "` => " + e.getMessage(), e);
-                } catch (NoDefaultConstructorException e) {
-                    throw new NoDefaultConstructorException("Failed to process field: `" + field.getName() + "` => " + e.getMessage(), e);
-                } catch (StructParsingException e) {
-                    throw e;
-                } catch (RuntimeException e) {
-                    throw new StructParsingException("Failed to process field: `" + field.getName() + "` => " + e.getMessage(), e);
-                }
-            }
+    public static <T> int processField(T instance, FieldDescriptor descriptor, byte[] data, int offset) {
+        Field field = descriptor.getField();
+        BaseFieldHandler handler = switch (descriptor.getKind()) {
+            case FIELD -> STRUCT_FIELD_HANDLER;
+            case SEQUENCE -> STRUCT_SEQUENCE_FIELD_HANDLER;
+            case OBJECT -> STRUCT_OBJECT_FIELD_HANDLER;
+            case SEQUENCE_OBJECT -> STRUCT_SEQUENCE_OBJECT_FIELD_HANDLER;
+            case BIT -> STRUCT_BIT_FIELD_HANDLER;
+            case FIXED_ARRAY -> STRUCT_FIXED_ARRAY_FIELD_HANDLER;
+        };
+        try {
+            return handler.handleField(instance, descriptor, data, offset);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw wrapFailure(field, e);
+        }
+    }
+
+    /**
+     * Wraps an exception raised while decoding the given field, adding the field name to the message
+     * while keeping the exception type.
+     */
+    public static RuntimeException wrapFailure(Field field, Exception e) {
+        if (e instanceof IllegalAccessException) {
+            return new FieldAccessException(field.getName(), field.getClass().getSimpleName(), e);
+        } else if (e instanceof FieldOrderException) {
+            return new FieldOrderException("Failed to process field: `" + field.getName() + "` => " + e.getMessage(), e);
+        } else if (e instanceof IllegalArgumentException) {
+            return new IllegalArgumentException("Failed to process field: `" + field.getName() + "` => " + e.getMessage(), e);
+        } else if (e instanceof TypeConversionException) {
+            return new TypeConversionException("Failed to process field: `" + field.getName() + "` => " + e.getMessage(), e);
+        } else if (e instanceof InvalidDataOffsetException) {
+            return new InvalidDataOffsetException("Failed to process field: `" + field.getName() + "` => " + e.getMessage(), e);
+        } else if (e instanceof InvalidSequenceTypeException) {
+            return new InvalidSequenceTypeException("Failed to process field: `" + field.getName() + "` => " + e.getMessage(), e);
+        } else if (e instanceof LayoutInitializationException) {
+            return new LayoutInitializationException("Failed to process field: `" + field.getName() + "` => " + e.getMessage(), e);
+        } else if (e instanceof NoDefaultConstructorException) {
+            return new NoDefaultConstructorException("Failed to process field: `" + field.getName() + "` => " + e.getMessage(), e);
+        } else if (e instanceof StructParsingException) {
+            return (StructParsingException) e;
         }
-        throw new IllegalArgumentException("No handler found for field: `" + field.getName() + "`");
+        return new StructParsingException("Failed to process field: `" + field.getName() + "` => " + e.getMessage(), e);
     }
-}
\ No newline at end of file
+}
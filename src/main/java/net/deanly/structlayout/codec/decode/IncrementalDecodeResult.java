@@ -0,0 +1,43 @@
+package net.deanly.structlayout.codec.decode;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The outcome of feeding bytes to an {@link IncrementalDecoder}: either a decoded struct, or the position in
+ * the layout at which the decoder waits for more bytes.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class IncrementalDecodeResult<T> {
+
+    public enum Status {
+        /** The received bytes end inside the struct; feed more bytes to continue. */
+        NEED_MORE_DATA,
+        /** The struct is complete. */
+        DONE
+    }
+
+    private final Status status;
+    /** The decoded struct, or {@code null} while more data is needed. */
+    private final T value;
+    /** The number of bytes of the message received so far, or its size once decoded. */
+    private final int size;
+    /** The minimum number of further bytes needed to continue, 0 once decoded. */
+    private final long bytesNeeded;
+    /** The field the decoder waits for, e.g. {@code "items[2].name"}; empty before the message starts. */
+    private final String pendingPath;
+
+    static <T> IncrementalDecodeResult<T> done(T value, int size) {
+        return new IncrementalDecodeResult<>(Status.DONE, value, size, 0, "");
+    }
+
+    static <T> IncrementalDecodeResult<T> needMoreData(int received, long bytesNeeded, String pendingPath) {
+        return new IncrementalDecodeResult<>(Status.NEED_MORE_DATA, null, received, bytesNeeded, pendingPath);
+    }
+
+    public boolean isDone() {
+        return status == Status.DONE;
+    }
+}
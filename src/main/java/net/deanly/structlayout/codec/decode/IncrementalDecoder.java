@@ -0,0 +1,183 @@
+package net.deanly.structlayout.codec.decode;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Decodes a stream of structs from bytes that arrive in fragments, e.g. from a non-blocking socket.
+ *
+ * <p>Each {@code feed} appends the fragment and decodes as far as the received bytes allow. When they end
+ * inside a field, the decoder returns {@link IncrementalDecodeResult.Status#NEED_MORE_DATA} with the field it
+ * waits for, and keeps its frame stack: the next {@code feed} continues with that field instead of decoding
+ * the message from the start. A field is decoded only once its bytes have arrived, as determined from its
+ * prefixes by {@link net.deanly.structlayout.type.DynamicSpanField#spanWithin(byte[], int, int)}, so short data
+ * is never reported through exceptions.</p>
+ *
+ * <p>Once a struct is {@link IncrementalDecodeResult.Status#DONE}, bytes after it stay buffered and
+ * {@link #poll()} decodes the next struct from them. Received bytes are never overwritten, so
+ * {@link java.nio.ByteBuffer} fields decoded as slices stay valid.</p>
+ *
+ * <p>Sequences without a length prefix ({@code NoneField}) read to the end of the data, which a stream does not
+ * have, and fail with {@link UnsupportedOperationException}. Any failure discards the buffered bytes, since
+ * the position of the next message is unknown. Instances are not thread-safe.</p>
+ *
+ * @param <T> The type of the decoded structs.
+ */
+public class IncrementalDecoder<T> {
+
+    private static final byte[] EMPTY = new byte[0];
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final Class<T> type;
+    private final DecodeLimits limits;
+    private byte[] buffer = EMPTY;
+    /** The start of the message being decoded. */
+    private int start;
+    /** The end of the received bytes. */
+    private int limit;
+    /** The context of the message being decoded, or {@code null} between messages. */
+    private DecodeContext context;
+
+    public IncrementalDecoder(Class<T> type) {
+        this(type, DecodeLimits.DEFAULT);
+    }
+
+    /**
+     * @param limits The limits applied to each message. Declared lengths are checked against them before the
+     *               decoder waits for the bytes they announce.
+     */
+    public IncrementalDecoder(Class<T> type, DecodeLimits limits) {
+        this.type = Objects.requireNonNull(type, "type");
+        this.limits = Objects.requireNonNull(limits, "limits");
+    }
+
+    public IncrementalDecodeResult<T> feed(byte[] bytes) {
+        return feed(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Appends {@code bytes[offset, offset + length)} and decodes as far as possible.
+     *
+     * @throws net.deanly.structlayout.exception.StructDecodingException If the received bytes are invalid.
+     */
+    public IncrementalDecodeResult<T> feed(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, limit, length);
+        limit += length;
+        return poll();
+    }
+
+    /**
+     * Appends the remaining bytes of the source, advancing its position, and decodes as far as possible.
+     *
+     * @throws net.deanly.structlayout.exception.StructDecodingException If the received bytes are invalid.
+     */
+    public IncrementalDecodeResult<T> feed(ByteBuffer source) {
+        int length = source.remaining();
+        ensureCapacity(length);
+        source.get(buffer, limit, length);
+        limit += length;
+        return poll();
+    }
+
+    /**
+     * Decodes as far as the bytes received so far allow, without appending any. After a struct is done, this
+     * decodes the next struct from the bytes that followed it.
+     *
+     * @throws net.deanly.structlayout.exception.StructDecodingException If the received bytes are invalid.
+     */
+    public IncrementalDecodeResult<T> poll() {
+        if (context == null && limit == start) {
+            return IncrementalDecodeResult.needMoreData(0, 1, "");
+        }
+
+        DecodeContext previous = DecodeContext.bound();
+        try {
+            if (context == null) {
+                compact();
+                context = new DecodeContext(limits);
+                DecodeContext.bind(context);
+                StructDecoder.start(context, type, buffer, start);
+            } else {
+                DecodeContext.bind(context);
+            }
+            context.available = limit;
+
+            StructDecodeResult<T> result = StructDecoder.advance(context, type, buffer);
+            if (result == null) {
+                return IncrementalDecodeResult.needMoreData(limit - start, context.needed - limit, StructDecoder.pendingPath(context));
+            }
+            start += result.getSize();
+            context = null;
+            return IncrementalDecodeResult.done(result.getValue(), result.getSize());
+        } catch (RuntimeException e) {
+            reset();
+            throw e;
+        } finally {
+            DecodeContext.bind(previous);
+        }
+    }
+
+    /**
+     * The number of received bytes not yet returned as part of a decoded struct.
+     */
+    public int getBuffered() {
+        return limit - start;
+    }
+
+    /**
+     * Discards the buffered bytes and any partially decoded struct.
+     */
+    public void reset() {
+        buffer = EMPTY;
+        start = 0;
+        limit = 0;
+        context = null;
+    }
+
+    /**
+     * The size of the internal buffer, for tests.
+     */
+    int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Moves the bytes after the decoded messages to the front of a new array before the next message starts,
+     * once they occupy the back half of the buffer. A stream whose fragments straddle message boundaries rarely
+     * grows the buffer between messages, so without this the consumed bytes would never be dropped.
+     */
+    private void compact() {
+        if (start == 0 || start < buffer.length / 2) {
+            return;
+        }
+        // 디코딩된 ByteBuffer slice 가 참조할 수 있으므로 제자리가 아닌 새 배열로 옮김
+        int retained = limit - start;
+        byte[] compacted = new byte[buffer.length];
+        System.arraycopy(buffer, start, compacted, 0, retained);
+        buffer = compacted;
+        start = 0;
+        limit = retained;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (additional <= buffer.length - limit) {
+            return;
+        }
+        // 받은 바이트는 덮어쓰지 않고 새 배열로 옮김 (디코딩된 ByteBuffer slice 가 참조할 수 있음)
+        // 디코딩 중인 메시지의 프레임은 절대 위치를 가지므로, 메시지 사이에서만 앞부분을 버림
+        int keep = context == null ? start : 0;
+        int retained = limit - keep;
+        long required = (long) retained + additional;
+        if (required > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Buffered input would exceed the maximum array size: " + required + " bytes.");
+        }
+        int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(required, Math.max(INITIAL_CAPACITY, 2L * buffer.length)));
+        byte[] grown = new byte[capacity];
+        System.arraycopy(buffer, keep, grown, 0, retained);
+        buffer = grown;
+        start -= keep;
+        limit -= keep;
+    }
+}
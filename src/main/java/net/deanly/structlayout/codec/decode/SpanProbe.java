@@ -0,0 +1,166 @@
+package net.deanly.structlayout.codec.decode;
+
+import net.deanly.structlayout.Field;
+import net.deanly.structlayout.analysis.CachedLayoutProvider;
+import net.deanly.structlayout.annotation.OptionalEncoding;
+import net.deanly.structlayout.annotation.StructTypeSelector;
+import net.deanly.structlayout.codec.helpers.FieldDescriptor;
+import net.deanly.structlayout.dispatcher.StructTypeResolver;
+import net.deanly.structlayout.exception.DecodeLimitExceededException;
+import net.deanly.structlayout.type.ByteOrderField;
+import net.deanly.structlayout.type.DynamicSpanField;
+import net.deanly.structlayout.type.LengthPrefixedField;
+import net.deanly.structlayout.type.advanced.NoneField;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+/**
+ * Determines how many bytes a field needs before it can be decoded, for the {@link IncrementalDecoder}.
+ *
+ * <p>Only prefixes are read: optional tags, length prefixes, varints and terminators. Incomplete data never
+ * throws; if the number cannot be determined yet, a lower bound beyond the received bytes is returned and the
+ * field is probed again when more bytes arrive. Nested structs are not probed as a whole: the decoder pushes
+ * their frame and probes their fields one at a time.</p>
+ */
+final class SpanProbe {
+
+    private SpanProbe() {
+    }
+
+    /**
+     * Returns the number of bytes from {@code offset} the field needs, or a lower bound that exceeds
+     * {@code limit - offset} if it cannot be determined from the bytes received so far.
+     *
+     * @throws UnsupportedOperationException If the field has no length prefix and reads to the end of the data.
+     * @throws DecodeLimitExceededException  If a declared length already exceeds the {@link DecodeLimits}.
+     */
+    static long required(FieldDescriptor descriptor, byte[] data, int offset, int limit) throws ReflectiveOperationException {
+        FieldDescriptor.Kind kind = descriptor.getKind();
+        int prefix = 0;
+        if (descriptor.getOptional() == OptionalEncoding.BORSH
+                && kind != FieldDescriptor.Kind.BIT && kind != FieldDescriptor.Kind.FIXED_ARRAY) {
+            if (offset >= limit) {
+                return 1;
+            }
+            if (data[offset] != 1) {
+                return 1; // None (잘못된 tag 는 디코딩에서 오류 처리)
+            }
+            prefix = 1;
+        }
+
+        int at = offset + prefix;
+        return prefix + switch (kind) {
+            case FIELD -> fieldRequired(descriptor, data, at, limit);
+            case BIT -> descriptor.isBitGroupLeader() ? descriptor.getBitGroup().getBytes() : 0;
+            case FIXED_ARRAY -> (long) descriptor.getLength() * layoutOf(descriptor.getElementType(), descriptor).getSpan();
+            case SEQUENCE -> sequenceRequired(descriptor, data, at, limit);
+            case OBJECT -> structRequired(descriptor.getField().getType());
+            case SEQUENCE_OBJECT -> sequenceObjectRequired(descriptor, data, at, limit);
+        };
+    }
+
+    /**
+     * Returns the number of bytes a nested struct of the given type needs before its frame is pushed: the bytes
+     * its {@code @StructTypeSelector} dispatcher reads, and at least one.
+     */
+    static int structRequired(Class<?> type) throws ReflectiveOperationException {
+        if (type.isInterface() && type.isAnnotationPresent(StructTypeSelector.class)) {
+            return Math.max(1, StructTypeResolver.resolveDispatchSpan(type));
+        }
+        return 1;
+    }
+
+    private static long fieldRequired(FieldDescriptor descriptor, byte[] data, int offset, int limit) {
+        Field<?> layout = layoutOf(descriptor.getType(), descriptor);
+        if (!(layout instanceof DynamicSpanField dynamic)) {
+            return layout.getSpan();
+        }
+        int span = dynamic.spanWithin(data, offset, limit);
+        if (span < 0) {
+            return -(long) span;
+        }
+        if (span > limit - offset && layout instanceof LengthPrefixedField<?> prefixed) {
+            // payload 를 기다리기 전에 선언된 길이를 검증
+            DecodeContext.current().checkByteLength(descriptor.getName(), prefixed.payloadLength(data, offset));
+        }
+        return span;
+    }
+
+    private static long sequenceRequired(FieldDescriptor descriptor, byte[] data, int offset, int limit) {
+        Field<?> lengthField = layoutOf(descriptor.getLengthType(), descriptor);
+        long lengthSpan = lengthRequired(descriptor, lengthField, data, offset, limit);
+        if (offset + lengthSpan > limit) {
+            return lengthSpan;
+        }
+        int count = readLength(descriptor, lengthField, data, offset);
+
+        Field<?> elementField = layoutOf(descriptor.getElementType(), descriptor);
+        if (!(elementField instanceof DynamicSpanField dynamic)) {
+            return lengthSpan + (long) count * elementField.getSpan();
+        }
+        // 가변 길이 요소는 도착한 요소까지만 확인
+        int position = offset + (int) lengthSpan;
+        for (int i = 0; i < count; i++) {
+            int span = dynamic.spanWithin(data, position, limit);
+            if (span < 0) {
+                return position - offset - (long) span;
+            }
+            if (span == 0 || span > limit - position) {
+                return position - offset + (long) span; // span 0 은 디코딩에서 오류 처리
+            }
+            position += span;
+        }
+        return position - offset;
+    }
+
+    private static long sequenceObjectRequired(FieldDescriptor descriptor, byte[] data, int offset, int limit)
+            throws ReflectiveOperationException {
+        Field<?> lengthField = layoutOf(descriptor.getLengthType(), descriptor);
+        long lengthSpan = lengthRequired(descriptor, lengthField, data, offset, limit);
+        if (offset + lengthSpan > limit) {
+            return lengthSpan;
+        }
+        int count = readLength(descriptor, lengthField, data, offset);
+        // 요소는 각각의 프레임에서 확인하지만, 첫 요소의 타입은 시작할 때 결정됨
+        return count > 0 ? lengthSpan + structRequired(elementTypeOf(descriptor.getField())) : lengthSpan;
+    }
+
+    private static long lengthRequired(FieldDescriptor descriptor, Field<?> lengthField, byte[] data, int offset, int limit) {
+        if (lengthField instanceof NoneField) {
+            throw new UnsupportedOperationException(String.format(
+                    "Sequence '%s' has no length prefix and reads to the end of the data, so it cannot be decoded incrementally.",
+                    descriptor.getName()));
+        }
+        if (lengthField instanceof DynamicSpanField dynamic) {
+            int span = dynamic.spanWithin(data, offset, limit);
+            return span < 0 ? -(long) span : span;
+        }
+        return lengthField.getSpan();
+    }
+
+    private static int readLength(FieldDescriptor descriptor, Field<?> lengthField, byte[] data, int offset) {
+        int count = (int) descriptor.getLengthDecodeConverter().convert(lengthField.decode(data, offset));
+        // 요소를 기다리기 전에 선언된 개수를 검증
+        DecodeContext.current().checkSequenceLength(descriptor.getName(), count, Integer.MAX_VALUE, 1);
+        return count;
+    }
+
+    private static Class<?> elementTypeOf(java.lang.reflect.Field field) {
+        Class<?> fieldType = field.getType();
+        if (fieldType.isArray()) {
+            return fieldType.getComponentType();
+        }
+        if (field.getGenericType() instanceof ParameterizedType parameterized) {
+            Type argument = parameterized.getActualTypeArguments()[0];
+            if (argument instanceof Class<?> elementType) {
+                return elementType;
+            }
+        }
+        return Object.class; // 지원하지 않는 타입은 디코딩에서 오류 처리
+    }
+
+    private static Field<?> layoutOf(Class<? extends Field<?>> layoutClass, FieldDescriptor descriptor) {
+        return ByteOrderField.ordered(CachedLayoutProvider.getLayout(layoutClass), descriptor.getByteOrder());
+    }
+}
@@ -1,71 +1,493 @@
 package net.deanly.structlayout.codec.decode;
 
 import net.deanly.structlayout.analysis.DecodedFieldInfo;
-import net.deanly.structlayout.annotation.StructField;
-import net.deanly.structlayout.codec.helpers.FieldHelper;
+import net.deanly.structlayout.analysis.LayoutTrace;
+import net.deanly.structlayout.annotation.OptionalEncoding;
+import net.deanly.structlayout.codec.decode.handler.StructObjectFieldHandler;
+import net.deanly.structlayout.codec.decode.handler.StructSequenceObjectFieldHandler;
+import net.deanly.structlayout.codec.helpers.FieldDescriptor;
+import net.deanly.structlayout.codec.helpers.StructAlignmentHelper;
 import net.deanly.structlayout.factory.ClassFactory;
 import net.deanly.structlayout.exception.*;
-import net.deanly.structlayout.support.Tuple2;
+import net.deanly.structlayout.jfr.StructCodecFailureEvent;
+import net.deanly.structlayout.jfr.StructDecodeEvent;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
+/**
+ * Decodes structs without recursing into nested structs.
+ *
+ * <p>Each struct being decoded is a {@link Frame} on an explicit stack owned by the {@link DecodeContext}.
+ * {@code @StructObjectField} and {@code @StructSequenceObjectField} push a frame for the nested struct and
+ * resume the parent once it is complete, so the Java stack stays flat however deeply the structs nest.
+ * Frames are reused, so a sequence of nested structs decodes every element in the same frame.</p>
+ */
 public class StructDecoder {
 
+    private static final StructObjectFieldHandler OBJECT_HANDLER = new StructObjectFieldHandler();
+    private static final StructSequenceObjectFieldHandler SEQUENCE_OBJECT_HANDLER = new StructSequenceObjectFieldHandler();
+    /** Returned instead of a frame when an incremental decode runs out of received bytes. */
+    private static final Frame SUSPENDED = new Frame();
+
+    /**
+     * The decoding state of one struct.
+     */
+    static final class Frame {
+        Class<?> type;
+        ConstructorBinding binding;
+        Object target;
+        List<FieldDescriptor> descriptors;
+        int index;
+        int start;
+        int offset;
+        /** Start of the field being decoded, for error reporting. */
+        int fieldOffset;
+        /** The {@code @StructSequenceObjectField} whose elements are being decoded, otherwise {@code null}. */
+        StructSequenceObjectFieldHandler.Progress sequence;
+        /** The {@link LayoutTrace} path and order of the struct, and the entry of the field being decoded. */
+        String path;
+        String order;
+        int entry;
+
+        /** Drops the references to the struct, so a reused frame does not keep it alive. */
+        void clear() {
+            type = null;
+            binding = null;
+            target = null;
+            descriptors = null;
+            sequence = null;
+            path = null;
+            order = null;
+        }
+    }
+
     public static <T> StructDecodeResult<T> decode(Class<T> type, byte[] data, int startOffset) {
+        // 중첩 구조체는 진행 중인 디코딩의 한도(깊이, 할당량)와 프레임 스택을 공유
+        DecodeContext context = DecodeContext.bound();
+        if (context == null) {
+            return decode(type, data, startOffset, DecodeLimits.DEFAULT);
+        }
+        return run(context, type, data, startOffset);
+    }
+
+    /**
+     * Decodes a top-level struct, enforcing the given limits on the whole message.
+     */
+    public static <T> StructDecodeResult<T> decode(Class<T> type, byte[] data, int startOffset, DecodeLimits limits) {
+        return decode(type, data, startOffset, limits, null);
+    }
+
+    /**
+     * Decodes a top-level struct, enforcing the given limits, and passes the {@link LayoutTrace} of the
+     * decoded bytes to the tracer. The tracer is not called if decoding fails.
+     *
+     * @param tracer The consumer of the trace, or {@code null} to decode without tracing.
+     */
+    public static <T> StructDecodeResult<T> decode(Class<T> type, byte[] data, int startOffset, DecodeLimits limits,
+                                                   Consumer<? super LayoutTrace> tracer) {
+        DecodeContext previous = DecodeContext.bound();
+        DecodeContext context = DecodeContext.acquire(limits);
+        if (tracer != null) {
+            context.recorder = new LayoutTrace.Recorder();
+        }
+        DecodeContext.bind(context);
+        StructDecodeEvent event = new StructDecodeEvent();
+        event.begin();
+        try {
+            StructDecodeResult<T> result = run(context, type, data, startOffset);
+            event.complete(type, result.getSize(), context.getMaxDepthReached(), context.getAllocated());
+            if (tracer != null) {
+                tracer.accept(context.recorder.build(type, data, startOffset, result.getSize()));
+            }
+            return result;
+        } catch (RuntimeException e) {
+            recordFailure(type, e);
+            throw e;
+        } finally {
+            DecodeContext.bind(previous);
+            DecodeContext.release(context);
+        }
+    }
+
+    private static void recordFailure(Class<?> type, RuntimeException error) {
+        // 가장 안쪽의 StructDecodingException 이 실제로 실패한 구조체와 필드
+        StructDecodingException innermost = null;
+        for (Throwable cause = error; cause != null && cause != cause.getCause(); cause = cause.getCause()) {
+            if (cause instanceof StructDecodingException decodingException) {
+                innermost = decodingException;
+            }
+        }
+        if (innermost == null) {
+            StructCodecFailureEvent.record("decode", type, null, null, -1, error);
+        } else {
+            StructCodecFailureEvent.record("decode", type, innermost.getTargetType(), innermost.getFailedField(),
+                    innermost.getFailedOffset(), error);
+        }
+    }
+
+    private static <T> StructDecodeResult<T> run(DecodeContext context, Class<T> type, byte[] data, int startOffset) {
+        // 재진입(핸들러에서 직접 호출) 시 이 호출의 프레임은 base 위에만 쌓임
+        int base = context.frameCount();
+        Frame frame = push(context, type, data, startOffset);
+        if (context.recorder != null && base == 0) {
+            frame.path = "";
+            frame.order = "";
+        }
+        return drive(context, base, type, data);
+    }
+
+    /**
+     * Starts an incremental decode of a top-level struct at the given offset, without decoding any field.
+     */
+    static void start(DecodeContext context, Class<?> type, byte[] data, int startOffset) {
+        push(context, type, data, startOffset);
+    }
+
+    /**
+     * Continues the incremental decode started by {@link #start}, up to {@link DecodeContext#available}.
+     *
+     * @return The decoded struct, or {@code null} if the decode is suspended until {@link DecodeContext#needed}
+     *         bytes have been received. The frames are kept, so the next call continues with the same field.
+     */
+    static <T> StructDecodeResult<T> advance(DecodeContext context, Class<T> type, byte[] data) {
+        return drive(context, 0, type, data);
+    }
+
+    /**
+     * Describes the field a suspended decode is waiting for, e.g. {@code "items[2].name"}.
+     */
+    static String pendingPath(DecodeContext context) {
+        StringBuilder path = new StringBuilder();
+        for (int i = 0; i < context.frameCount(); i++) {
+            Frame frame = context.frameAt(i);
+            if (frame.index >= frame.descriptors.size()) {
+                break; // 구조체 끝의 정렬 padding 대기
+            }
+            if (!path.isEmpty()) {
+                path.append('.');
+            }
+            path.append(frame.descriptors.get(frame.index).getName());
+            if (frame.sequence != null) {
+                path.append('[').append(frame.sequence.getElementCount()).append(']');
+            }
+        }
+        return path.toString();
+    }
+
+    /**
+     * Runs the frames above {@code base} until the struct of the lowest one is complete.
+     *
+     * @return The struct, or {@code null} if an incremental decode is suspended.
+     */
+    private static <T> StructDecodeResult<T> drive(DecodeContext context, int base, Class<T> type, byte[] data) {
+        Frame frame = context.topFrame();
+        try {
+            while (true) {
+                if (frame.index < frame.descriptors.size()) {
+                    // 중단된 sequence 는 다음 요소부터 재개
+                    Frame child = frame.sequence != null
+                            ? continueSequence(context, frame, data)
+                            : step(context, frame, data);
+                    if (child == SUSPENDED) {
+                        return null;
+                    }
+                    if (child != null) {
+                        frame = child;
+                    }
+                    continue;
+                }
+
+                // 구조체 크기를 정렬 단위의 배수로 (@StructLayoutOptions)
+                int padding = StructAlignmentHelper.padding(frame.offset - frame.start, StructAlignmentHelper.structAlignment(frame.type));
+                if (suspends(context, frame.offset, padding)) {
+                    return null;
+                }
+                frame.offset += padding;
+                Object value = frame.binding != null
+                        ? ((ConstructorArguments) frame.target).newInstance()
+                        : frame.target;
+                int size = frame.offset - frame.start;
+                pop(context);
+
+                if (context.frameCount() == base) {
+                    return StructDecodeResult.of(type.cast(value), size);
+                }
+                frame = context.topFrame();
+                Frame child = resume(context, frame, data, value, size);
+                if (child == SUSPENDED) {
+                    return null;
+                }
+                if (child != null) {
+                    frame = child;
+                }
+            }
+        } catch (RuntimeException e) {
+            throw unwind(context, base, data, e);
+        }
+    }
+
+    /**
+     * Decodes the next field of the frame. Returns the frame of a nested struct to decode first, if any, or
+     * {@link #SUSPENDED} if the field has not been received completely.
+     */
+    private static Frame step(DecodeContext context, Frame frame, byte[] data) {
+        FieldDescriptor descriptor = frame.descriptors.get(frame.index);
+        int padding = StructAlignmentHelper.padding(frame.offset - frame.start, descriptor.getAlignment());
+        if (context.available >= 0) {
+            long required;
+            try {
+                required = SpanProbe.required(descriptor, data, frame.offset + padding, context.available);
+            } catch (Exception e) {
+                frame.fieldOffset = frame.offset + padding;
+                throw FieldProcessor.wrapFailure(descriptor.getField(), e);
+            }
+            if (suspends(context, frame.offset, padding + required)) {
+                return SUSPENDED;
+            }
+        }
+        frame.offset += padding;
+        frame.fieldOffset = frame.offset;
+        LayoutTrace.Recorder recorder = context.recorder;
+        if (recorder != null && frame.path != null) {
+            frame.entry = recorder.beginField(LayoutTrace.Recorder.childPath(frame.path, descriptor.getName()),
+                    LayoutTrace.Recorder.childOrder(frame.order, descriptor.getOrder()), descriptor.getKind(), frame.offset);
+        }
+
+        switch (descriptor.getKind()) {
+            case OBJECT -> {
+                try {
+                    int offset = frame.offset;
+                    if (descriptor.getOptional() == OptionalEncoding.BORSH) {
+                        if (data[offset] != 1) {
+                            setFieldValue(frame.target, descriptor.getField(), null);
+                            frame.offset += 1;
+                            endField(context, frame);
+                            return null;
+                        }
+                        offset += 1;
+                    }
+                    Class<?> nestedType = OBJECT_HANDLER.resolveNestedType(descriptor, data, offset);
+                    if (nestedType == null) {
+                        endField(context, frame);
+                        return null;
+                    }
+                    frame.offset = offset;
+                    return pushNested(context, frame, nestedType, data, offset, -1);
+                } catch (Exception e) {
+                    throw FieldProcessor.wrapFailure(descriptor.getField(), e);
+                }
+            }
+            case SEQUENCE_OBJECT -> {
+                try {
+                    StructSequenceObjectFieldHandler.Progress progress =
+                            SEQUENCE_OBJECT_HANDLER.begin(frame.target, descriptor, data, frame.offset);
+                    if (progress == null) {
+                        frame.offset += 1; // None
+                        endField(context, frame);
+                        return null;
+                    }
+                    return nextElement(context, frame, data, progress);
+                } catch (Exception e) {
+                    throw FieldProcessor.wrapFailure(descriptor.getField(), e);
+                }
+            }
+            default -> {
+                frame.offset += FieldProcessor.processField(frame.target, descriptor, data, frame.offset);
+                endField(context, frame);
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Hands a completed nested struct to its parent frame. Returns the frame of the next sequence element, if any.
+     */
+    private static Frame resume(DecodeContext context, Frame frame, byte[] data, Object value, int size) {
+        FieldDescriptor descriptor = frame.descriptors.get(frame.index);
+        try {
+            if (frame.sequence != null) {
+                frame.sequence.add(value, size);
+                return nextElement(context, frame, data, frame.sequence);
+            }
+            setFieldValue(frame.target, descriptor.getField(), value);
+            frame.offset += size;
+            endField(context, frame);
+            return null;
+        } catch (Exception e) {
+            throw FieldProcessor.wrapFailure(descriptor.getField(), e);
+        }
+    }
+
+    /**
+     * Continues a {@code @StructSequenceObjectField} whose next element had not been received.
+     */
+    private static Frame continueSequence(DecodeContext context, Frame frame, byte[] data) {
+        try {
+            return nextElement(context, frame, data, frame.sequence);
+        } catch (Exception e) {
+            throw FieldProcessor.wrapFailure(frame.descriptors.get(frame.index).getField(), e);
+        }
+    }
+
+    private static Frame nextElement(DecodeContext context, Frame frame, byte[] data,
+                                     StructSequenceObjectFieldHandler.Progress progress) throws ReflectiveOperationException {
+        if (progress.hasNext(data)) {
+            frame.sequence = progress;
+            if (context.available >= 0
+                    && suspends(context, progress.getOffset(), SpanProbe.structRequired(progress.getDeclaredElementType()))) {
+                return SUSPENDED;
+            }
+            return pushNested(context, frame, progress.nextElementType(data), data, progress.getOffset(), progress.getElementCount());
+        }
+        frame.sequence = null;
+        frame.offset += SEQUENCE_OBJECT_HANDLER.finish(frame.target, progress);
+        endField(context, frame);
+        return null;
+    }
+
+    /**
+     * Returns whether an incremental decode has to wait for the {@code required} bytes at {@code offset},
+     * recording the end it waits for.
+     */
+    private static boolean suspends(DecodeContext context, int offset, long required) {
+        if (context.available < 0 || offset + required <= context.available) {
+            return false;
+        }
+        context.needed = offset + required;
+        return true;
+    }
+
+    /**
+     * Moves on to the next field of the frame, completing the trace entry of the current one.
+     */
+    private static void endField(DecodeContext context, Frame frame) {
+        if (context.recorder != null && frame.path != null) {
+            context.recorder.endField(frame.entry, frame.offset - frame.fieldOffset);
+        }
+        frame.index++;
+    }
+
+    /**
+     * Pushes the frame of a struct nested in the field being decoded by {@code parent}.
+     *
+     * @param element The index of the sequence element, or {@code -1} for a {@code @StructObjectField}.
+     */
+    private static Frame pushNested(DecodeContext context, Frame parent, Class<?> type, byte[] data, int offset, int element) {
+        Frame child = push(context, type, data, offset);
+        LayoutTrace.Recorder recorder = context.recorder;
+        if (recorder != null && parent.path != null) {
+            String path = recorder.pathOf(parent.entry);
+            child.path = element < 0 ? path : path + "[" + element + "]";
+            child.order = recorder.orderOf(parent.entry);
+        }
+        return child;
+    }
+
+    private static Frame push(DecodeContext context, Class<?> type, byte[] data, int startOffset) {
         if (startOffset < 0 || startOffset >= data.length) {
             throw new InvalidDataOffsetException(startOffset, data.length);
         }
+        context.enter(type);
+
+        // 1. 디코딩할 객체의 인스턴스 생성 (record / @StructConstructor 는 생성자 인자 배열에 수집)
+        ConstructorBinding binding = ConstructorBinding.of(type);
+        Object target;
+        try {
+            target = binding != null ? binding.newArguments() : ClassFactory.createNoArgumentsInstance(type);
+        } catch (RuntimeException e) {
+            context.exit();
+            throw e;
+        }
 
-        // 1. 디코딩할 객체의 인스턴스 생성
-        T instance = ClassFactory.createNoArgumentsInstance(type);
+        // 2. 상속 계층의 모든 필드를 order 순으로 정렬한 디스크립터 (클래스별 캐시)
+        Frame frame = context.pushFrame();
+        frame.type = type;
+        frame.binding = binding;
+        frame.target = target;
+        frame.descriptors = FieldDescriptor.forClass(type);
+        frame.index = 0;
+        frame.start = startOffset;
+        frame.offset = startOffset;
+        frame.fieldOffset = startOffset;
+        frame.sequence = null;
+        frame.path = null;
+        frame.order = null;
+        return frame;
+    }
 
-        // 2. 상속 계층의 모든 필드 수집 및 정렬
-        List<Field> allFields = FieldHelper.getAllDeclaredFieldsIncludingSuperclasses(type);
-        List<Field> orderedFields = FieldHelper.getOrderedFields(allFields);
+    private static void pop(DecodeContext context) {
+        context.popFrame().clear();
+        context.exit();
+    }
 
-        // 3. 디코딩: 필드 순서대로 Byte 데이터를 객체 필드에 매핑
-        int offset = startOffset;
+    /**
+     * Builds the exception chain the recursive decoder produced: a {@link StructDecodingException} for every
+     * struct from the failing one outwards, each wrapped as the failure of its parent's field.
+     */
+    private static RuntimeException unwind(DecodeContext context, int base, byte[] data, RuntimeException cause) {
+        int count = context.frameCount() - base;
+        Class<?>[] types = new Class<?>[count];
+        Field[] fields = new Field[count];
+        int[] starts = new int[count];
+        int[] offsets = new int[count];
+        for (int i = count - 1; i >= 0; i--) {
+            Frame frame = context.topFrame();
+            types[i] = frame.type;
+            fields[i] = frame.index < frame.descriptors.size() ? frame.descriptors.get(frame.index).getField() : null;
+            starts[i] = frame.start;
+            offsets[i] = frame.fieldOffset;
+            pop(context);
+        }
 
-        for (Field field : orderedFields) {
-            try {
-                offset += FieldProcessor.processField(instance, field, data, offset);
-            } catch (Exception ex) {
-                // 예외 발생 시, 디버깅용으로 다시 순회하여 성공한 필드들 수집
-                List<DecodedFieldInfo> decodedInfos = collectDecodedFields(type, data, startOffset, field);
-                throw new StructDecodingException(type, field, offset, decodedInfos, ex);
+        RuntimeException error = cause;
+        for (int i = count - 1; i >= 0; i--) {
+            if (fields[i] == null) {
+                continue;
+            }
+            if (i != count - 1) {
+                error = FieldProcessor.wrapFailure(fields[i], error);
             }
+            // 디버깅용으로 다시 순회하여 성공한 필드들 수집
+            List<DecodedFieldInfo> decodedInfos = collectDecodedFields(types[i], data, starts[i], fields[i]);
+            error = new StructDecodingException(types[i], fields[i], offsets[i], decodedInfos, error);
         }
+        return error;
+    }
 
-        return StructDecodeResult.of(instance, offset - startOffset);
+    private static void setFieldValue(Object target, Field field, Object value) throws IllegalAccessException {
+        if (target instanceof ConstructorArguments arguments) {
+            arguments.set(field, value);
+            return;
+        }
+        field.set(target, value);
     }
 
     private static <T> List<DecodedFieldInfo> collectDecodedFields(Class<T> type, byte[] data, int startOffset, Field failedField) {
-        List<Field> allFields = FieldHelper.getAllDeclaredFieldsIncludingSuperclasses(type);
-        List<Tuple2<Field, Integer>> orderedFields = FieldHelper.getOrderedFieldsWithOrder(allFields);
-
-        T instance = ClassFactory.createNoArgumentsInstance(type);
+        ConstructorBinding binding = ConstructorBinding.of(type);
+        Object instance = binding != null ? binding.newArguments() : ClassFactory.createNoArgumentsInstance(type);
         int offset = startOffset;
         List<DecodedFieldInfo> decodedInfos = new ArrayList<>();
 
-        for (Tuple2<Field, Integer> tuple : orderedFields) {
-            Field field = tuple.first;
-            int order = tuple.second;
+        for (FieldDescriptor descriptor : FieldDescriptor.forClass(type)) {
+            Field field = descriptor.getField();
 
             if (field.equals(failedField)) {
                 // 실패한 필드에 도달하면 수집 중단
                 break;
             }
 
+            offset += StructAlignmentHelper.padding(offset - startOffset, descriptor.getAlignment());
             try {
                 int before = offset;
-                int consumed = FieldProcessor.processField(instance, field, data, offset);
+                int consumed = FieldProcessor.processField(instance, descriptor, data, offset);
                 offset += consumed;
 
                 byte[] fieldBytes = Arrays.copyOfRange(data, before, before + consumed);
-                decodedInfos.add(new DecodedFieldInfo(field.getName(), order, before, fieldBytes));
+                decodedInfos.add(new DecodedFieldInfo(field.getName(), descriptor.getOrder(), before, fieldBytes));
             } catch (Exception ignored) {
                 // collect 단계에서는 내부 오류 무시하고 로그 수집 목적만 수행
                 break;
@@ -74,4 +496,4 @@ public class StructDecoder {
 
         return decodedInfos;
     }
-}
\ No newline at end of file
+}
@@ -3,29 +3,83 @@ package net.deanly.structlayout.codec.decode.handler;
 import net.deanly.structlayout.Field;
 import net.deanly.structlayout.analysis.CachedLayoutProvider;
 import net.deanly.structlayout.annotation.OptionalEncoding;
+import net.deanly.structlayout.codec.decode.ConstructorArguments;
+import net.deanly.structlayout.codec.decode.DecodeContext;
+import net.deanly.structlayout.codec.helpers.FieldDescriptor;
+import net.deanly.structlayout.type.ByteOrderField;
+import net.deanly.structlayout.type.Endianness;
+import net.deanly.structlayout.type.LengthPrefixedField;
 
 public abstract class BaseFieldHandler {
 
-    public abstract <T> int handleField(T instance, java.lang.reflect.Field field, byte[] data, int offest) throws IllegalAccessException;
+    public abstract <T> int handleField(T instance, FieldDescriptor descriptor, byte[] data, int offset) throws IllegalAccessException;
+
+    public <T> int handleField(T instance, java.lang.reflect.Field field, byte[] data, int offset) throws IllegalAccessException {
+        FieldDescriptor descriptor = FieldDescriptor.of(field);
+        if (descriptor == null) {
+            throw new IllegalArgumentException(
+                    String.format("Field '%s' is not annotated with a @Struct* annotation", field.getName())
+            );
+        }
+        return handleField(instance, descriptor, data, offset);
+    }
 
     protected Field<Object> resolveLayout(Class<? extends Field<?>> fieldType) {
         return CachedLayoutProvider.getLayout(fieldType);
     }
 
-    protected OptionalEncoding resolveOptionalEncoding(java.lang.reflect.Field field) {
-        if (field.isAnnotationPresent(net.deanly.structlayout.annotation.StructField.class)) {
-            return field.getAnnotation(net.deanly.structlayout.annotation.StructField.class).optional();
+    /**
+     * Resolves the layout and, for a {@link ByteOrderField}, selects the given byte order.
+     */
+    protected Field<Object> resolveLayout(Class<? extends Field<?>> fieldType, Endianness byteOrder) {
+        return ByteOrderField.ordered(resolveLayout(fieldType), byteOrder);
+    }
+
+    /**
+     * Assigns a decoded value to the given field. Values of constructor-bound structs (records and
+     * {@code @StructConstructor} classes) are collected into their {@link ConstructorArguments} instead.
+     */
+    protected void setFieldValue(Object instance, java.lang.reflect.Field field, Object value) throws IllegalAccessException {
+        if (instance instanceof ConstructorArguments arguments) {
+            arguments.set(field, value);
+            return;
         }
-        if (field.isAnnotationPresent(net.deanly.structlayout.annotation.StructObjectField.class)) {
-            return field.getAnnotation(net.deanly.structlayout.annotation.StructObjectField.class).optional();
+        field.set(instance, value);
+    }
+
+    /**
+     * Assigns a decoded primitive {@code long} without boxing it, unless the struct is constructor-bound.
+     */
+    protected void setLongFieldValue(Object instance, java.lang.reflect.Field field, long value) throws IllegalAccessException {
+        if (instance instanceof ConstructorArguments arguments) {
+            arguments.set(field, value);
+            return;
         }
-        if (field.isAnnotationPresent(net.deanly.structlayout.annotation.StructSequenceField.class)) {
-            return field.getAnnotation(net.deanly.structlayout.annotation.StructSequenceField.class).optional();
+        field.setLong(instance, value);
+    }
+
+    /**
+     * For a {@link LengthPrefixedField}, validates the declared payload length against the
+     * {@link net.deanly.structlayout.codec.decode.DecodeLimits} before the payload is decoded.
+     */
+    protected void checkPayloadLength(String name, Field<?> layout, byte[] data, int offset) {
+        if (layout instanceof LengthPrefixedField<?> prefixed) {
+            int length = prefixed.payloadLength(data, offset);
+            DecodeContext context = DecodeContext.current();
+            context.checkByteLength(name, length);
+            context.allocate(name, Math.max(0, length));
         }
-        if (field.isAnnotationPresent(net.deanly.structlayout.annotation.StructSequenceObjectField.class)) {
-            return field.getAnnotation(net.deanly.structlayout.annotation.StructSequenceObjectField.class).optional();
+    }
+
+    /**
+     * Verifies that the descriptor belongs to the annotation this handler supports.
+     */
+    protected void requireKind(FieldDescriptor descriptor, FieldDescriptor.Kind kind, String annotationName) {
+        if (descriptor.getKind() != kind) {
+            throw new IllegalArgumentException(
+                    String.format("Field '%s' is not annotated with @%s", descriptor.getName(), annotationName)
+            );
         }
-        return OptionalEncoding.NONE;
     }
 
     protected boolean isValuePresent(byte[] data, int offset, OptionalEncoding encoding) {
@@ -0,0 +1,28 @@
+package net.deanly.structlayout.codec.decode.handler;
+
+import net.deanly.structlayout.codec.helpers.BitFieldGroup;
+import net.deanly.structlayout.codec.helpers.FieldDescriptor;
+
+/**
+ * Decoder handler for fields annotated with @StructBitField.
+ *
+ * <p>The first field of a bit group loads the shared word once and assigns every field of the group.
+ * The remaining fields of the group consume no bytes.</p>
+ */
+public class StructBitFieldHandler extends BaseFieldHandler {
+
+    @Override
+    public <T> int handleField(T instance, FieldDescriptor descriptor, byte[] data, int offset) throws IllegalAccessException {
+        requireKind(descriptor, FieldDescriptor.Kind.BIT, "StructBitField");
+        if (!descriptor.isBitGroupLeader()) {
+            return 0; // 그룹의 첫 필드에서 이미 디코딩됨
+        }
+
+        BitFieldGroup group = descriptor.getBitGroup();
+        long word = group.readWord(data, offset);
+        for (BitFieldGroup.Member member : group.getMembers()) {
+            setFieldValue(instance, member.getField(), member.extract(word));
+        }
+        return group.getBytes();
+    }
+}
@@ -2,57 +2,74 @@ package net.deanly.structlayout.codec.decode.handler;
 
 import net.deanly.structlayout.Field;
 import net.deanly.structlayout.annotation.OptionalEncoding;
-import net.deanly.structlayout.annotation.StructField;
-import net.deanly.structlayout.codec.helpers.TypeConverterHelper;
+import net.deanly.structlayout.codec.decode.ConstructorArguments;
+import net.deanly.structlayout.codec.decode.DecodeContext;
+import net.deanly.structlayout.codec.helpers.FieldDescriptor;
 import net.deanly.structlayout.type.DynamicSpanField;
+import net.deanly.structlayout.type.LengthPrefixedField;
+import net.deanly.structlayout.type.Long128Field;
+import net.deanly.structlayout.type.LongField;
+import net.deanly.structlayout.type.SliceableField;
+
+import java.nio.ByteBuffer;
 
 public class StructFieldHandler extends BaseFieldHandler {
 
     @Override
-    public <T> int handleField(T instance, java.lang.reflect.Field field, byte[] data, int offset) throws IllegalAccessException {
-        StructField annotation = field.getAnnotation(StructField.class);
-        if (annotation == null) {
-            throw new IllegalArgumentException(
-                    String.format("Field '%s' is not annotated with @CustomLayoutField", field.getName())
-            );
-        }
+    public <T> int handleField(T instance, FieldDescriptor descriptor, byte[] data, int offset) throws IllegalAccessException {
+        requireKind(descriptor, FieldDescriptor.Kind.FIELD, "StructField");
+        java.lang.reflect.Field field = descriptor.getField();
 
-        OptionalEncoding optional = annotation.optional();
+        OptionalEncoding optional = descriptor.getOptional();
 
         // Handle BORSH Optional prefix
         if (optional == OptionalEncoding.BORSH) {
             if (!isValuePresent(data, offset, optional)) {
-                field.setAccessible(true);
-                field.set(instance, null);
+                setFieldValue(instance, field, null);
                 return 1; // only prefix byte consumed
             }
             offset += 1; // skip prefix
         }
 
-        Field<?> layout = createLayoutInstance(annotation.type());
-        Object decodedValue = layout.decode(data, offset);
-        Object targetValue = TypeConverterHelper.convertToType(decodedValue, field.getType());
+        // 디코딩마다 새 인스턴스를 만들지 않고 캐시된 layout 사용
+        Field<?> layout = resolveLayout(descriptor.getType(), descriptor.getByteOrder());
+        int prefix = optional == OptionalEncoding.BORSH ? 1 : 0;
 
-        field.setAccessible(true);
-        field.set(instance, targetValue);
+        // long 필드 + 64-bit Field: 박싱/UnsignedLong 할당 없이 바로 설정
+        if (layout instanceof LongField<?> longLayout && field.getType() == long.class) {
+            setLongFieldValue(instance, field, longLayout.decodeLong(data, offset));
+            return layout.getSpan() + prefix;
+        }
 
-        if (layout instanceof DynamicSpanField) {
-            return ((DynamicSpanField) layout).calculateSpan(data, offset) + (optional == OptionalEncoding.BORSH ? 1 : 0);
+        // long[] 필드 + 128-bit Field: 기존 long[2] 가 있으면 그대로 채움
+        if (layout instanceof Long128Field<?> long128Layout && field.getType() == long[].class) {
+            long[] target = instance instanceof ConstructorArguments ? null : (long[]) field.get(instance);
+            if (target == null || target.length != 2) {
+                target = new long[2];
+            }
+            long128Layout.decodeLongs(data, offset, target);
+            setFieldValue(instance, field, target);
+            return layout.getSpan() + prefix;
+        }
+
+        if (field.getType() == ByteBuffer.class && layout instanceof SliceableField sliceable) {
+            // ByteBuffer 필드: 복사 없이 원본 배열의 읽기 전용 view 로 설정 (할당량에 포함하지 않음)
+            if (layout instanceof LengthPrefixedField<?> prefixed) {
+                DecodeContext.current().checkByteLength(descriptor.getName(), prefixed.payloadLength(data, offset));
+            }
+            setFieldValue(instance, field, sliceable.decodeSlice(data, offset));
         } else {
-            return layout.getSpan() + (optional == OptionalEncoding.BORSH ? 1 : 0);
+            checkPayloadLength(descriptor.getName(), layout, data, offset);
+            Object decodedValue = layout.decode(data, offset);
+            Object targetValue = descriptor.getDecodeConverter().convert(decodedValue);
+
+            setFieldValue(instance, field, targetValue);
         }
-    }
 
-    /**
-     * Creates an instance of the layout class provided in the annotation.
-     */
-    private Field<?> createLayoutInstance(Class<? extends Field<?>> layoutClass) {
-        try {
-            return layoutClass.getDeclaredConstructor().newInstance();
-        } catch (Exception e) {
-            throw new IllegalArgumentException(
-                    String.format("Failed to instantiate custom layout class '%s'", layoutClass.getName()), e
-            );
+        if (layout instanceof DynamicSpanField) {
+            return ((DynamicSpanField) layout).calculateSpan(data, offset) + prefix;
+        } else {
+            return layout.getSpan() + prefix;
         }
     }
-}
\ No newline at end of file
+}
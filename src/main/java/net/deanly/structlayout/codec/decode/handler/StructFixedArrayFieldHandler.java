@@ -0,0 +1,72 @@
+package net.deanly.structlayout.codec.decode.handler;
+
+import net.deanly.structlayout.Field;
+import net.deanly.structlayout.codec.decode.DecodeContext;
+import net.deanly.structlayout.codec.helpers.FieldDescriptor;
+import net.deanly.structlayout.codec.helpers.ValueConverter;
+import net.deanly.structlayout.exception.InvalidDataOffsetException;
+import net.deanly.structlayout.type.LongField;
+import net.deanly.structlayout.type.basic.ByteField;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class StructFixedArrayFieldHandler extends BaseFieldHandler {
+
+    @Override
+    public <T> int handleField(T instance, FieldDescriptor descriptor, byte[] data, int offset) throws IllegalAccessException {
+        requireKind(descriptor, FieldDescriptor.Kind.FIXED_ARRAY, "StructFixedArray");
+        java.lang.reflect.Field field = descriptor.getField();
+
+        int length = descriptor.getLength();
+        Field<Object> elementField = resolveLayout(descriptor.getElementType(), descriptor.getByteOrder());
+        int span = elementField.getSpan();
+        int total = length * span;
+
+        // 전체 크기가 고정이므로 요소 디코딩 전에 한 번만 범위 확인
+        if (offset < 0 || offset + total > data.length) {
+            throw new InvalidDataOffsetException(offset + total, data.length);
+        }
+
+        Class<?> fieldType = field.getType();
+        DecodeContext.current().allocate(descriptor.getName(),
+                (long) length * DecodeContext.elementBytes(fieldType.isArray() ? fieldType.getComponentType() : Object.class));
+        if (fieldType == byte[].class && descriptor.getElementType() == ByteField.class) {
+            // byte[] 는 복사 한 번으로 처리
+            setFieldValue(instance, field, Arrays.copyOfRange(data, offset, offset + total));
+            return total;
+        }
+
+        if (fieldType == long[].class && elementField instanceof LongField<?> longElement) {
+            // long[] 은 요소 박싱 없이 디코딩
+            long[] values = new long[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = longElement.decodeLong(data, offset + i * span);
+            }
+            setFieldValue(instance, field, values);
+            return total;
+        }
+
+        ValueConverter converter = descriptor.getDecodeConverter();
+        Object result;
+        if (fieldType.isArray()) {
+            result = Array.newInstance(fieldType.getComponentType(), length);
+            for (int i = 0; i < length; i++) {
+                Object rawElement = elementField.decode(data, offset + i * span);
+                Array.set(result, i, converter.convert(rawElement));
+            }
+        } else {
+            List<Object> list = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                Object rawElement = elementField.decode(data, offset + i * span);
+                list.add(converter.convert(rawElement));
+            }
+            result = list;
+        }
+
+        setFieldValue(instance, field, result);
+        return total;
+    }
+}
@@ -1,10 +1,10 @@
 package net.deanly.structlayout.codec.decode.handler;
 
 import net.deanly.structlayout.annotation.OptionalEncoding;
-import net.deanly.structlayout.annotation.StructObjectField;
 import net.deanly.structlayout.annotation.StructTypeSelector;
 import net.deanly.structlayout.codec.decode.StructDecodeResult;
 import net.deanly.structlayout.codec.decode.StructDecoder;
+import net.deanly.structlayout.codec.helpers.FieldDescriptor;
 import net.deanly.structlayout.dispatcher.StructTypeResolver;
 import net.deanly.structlayout.exception.LayoutInitializationException;
 
@@ -13,15 +13,11 @@ import java.lang.annotation.Annotation;
 public class StructObjectFieldHandler extends BaseFieldHandler {
 
     @Override
-    public <T> int handleField(T instance, java.lang.reflect.Field field, byte[] data, int offset) throws IllegalAccessException {
-        StructObjectField annotation = field.getAnnotation(StructObjectField.class);
-        if (annotation == null) {
-            throw new IllegalArgumentException(
-                    String.format("Field '%s' is not annotated with @StructObjectField", field.getName())
-            );
-        }
+    public <T> int handleField(T instance, FieldDescriptor descriptor, byte[] data, int offset) throws IllegalAccessException {
+        requireKind(descriptor, FieldDescriptor.Kind.OBJECT, "StructObjectField");
+        java.lang.reflect.Field field = descriptor.getField();
 
-        OptionalEncoding optionalEncoding = annotation.optional();
+        OptionalEncoding optionalEncoding = descriptor.getOptional();
         int consumed = 0;
 
         if (optionalEncoding == OptionalEncoding.BORSH) {
@@ -29,39 +25,56 @@ public class StructObjectFieldHandler extends BaseFieldHandler {
             consumed += 1; // consume 1 byte for prefix
 
             if (!isPresent) {
-                field.setAccessible(true);
-                field.set(instance, null);
+                setFieldValue(instance, field, null);
                 return consumed;
             }
 
             offset += 1;
         }
 
-        Class<?> nestedType = field.getType();
+        Class<?> nestedType = resolveNestedType(descriptor, data, offset);
+        if (nestedType == null) {
+            return 0;
+        }
+
         StructDecodeResult<?> result;
+        if (nestedType != field.getType()) {
+            try {
+                result = StructDecoder.decode(nestedType, data, offset);
+            } catch (Exception e) {
+                throw new LayoutInitializationException("Failed to dispatch interface: `" + field.getType().getName() + "` => " + e.getMessage(), e);
+            }
+        } else {
+            result = StructDecoder.decode(nestedType, data, offset);
+        }
+
+        setFieldValue(instance, field, result.getValue());
+
+        return consumed + result.getSize();
+    }
+
+    /**
+     * Resolves the class to decode at the given offset (after any optional prefix). Interfaces annotated with
+     * {@code @StructTypeSelector} are dispatched to their implementation.
+     *
+     * @return The class to decode, or {@code null} if an interface field has no data and no bytes to consume.
+     */
+    public Class<?> resolveNestedType(FieldDescriptor descriptor, byte[] data, int offset) {
+        Class<?> nestedType = descriptor.getField().getType();
 
         Annotation nestedTypeAnnotation = nestedType.getAnnotation(StructTypeSelector.class);
         if (nestedTypeAnnotation != null && nestedType.isInterface()) {
             // 인터페이스일 경우 `@StructTypeSelector` 로 생성
             try {
                 if (data.length - offset == 0 && StructTypeResolver.resolveNoDataSpan(nestedType) == 0) {
-                    return 0;
-                } else {
-                    Class<?> implClazz = StructTypeResolver.resolveClass(data, nestedType, offset);
-                    result = StructDecoder.decode(implClazz, data, offset);
+                    return null;
                 }
-
-            } catch(Exception e) {
+                return StructTypeResolver.resolveClass(data, nestedType, offset);
+            } catch (Exception e) {
                 throw new LayoutInitializationException("Failed to dispatch interface: `" + nestedType.getName() + "` => " + e.getMessage(), e);
             }
-        } else {
-            result = StructDecoder.decode(nestedType, data, offset);
         }
-
-        field.setAccessible(true);
-        field.set(instance, result.getValue());
-
-        return consumed + result.getSize();
+        return nestedType;
     }
 
 
@@ -2,8 +2,8 @@ package net.deanly.structlayout.codec.decode.handler;
 
 import net.deanly.structlayout.Field;
 import net.deanly.structlayout.annotation.OptionalEncoding;
-import net.deanly.structlayout.annotation.StructSequenceField;
-import net.deanly.structlayout.codec.helpers.TypeConverterHelper;
+import net.deanly.structlayout.codec.decode.DecodeContext;
+import net.deanly.structlayout.codec.helpers.FieldDescriptor;
 import net.deanly.structlayout.exception.InvalidSequenceTypeException;
 import net.deanly.structlayout.exception.LayoutInitializationException;
 import net.deanly.structlayout.type.DynamicSpanField;
@@ -17,16 +17,12 @@ public class StructSequenceFieldHandler extends BaseFieldHandler {
 
     @SuppressWarnings("unchecked")
     @Override
-    public <T> int handleField(T instance, java.lang.reflect.Field field, byte[] data, int offset) throws IllegalAccessException {
+    public <T> int handleField(T instance, FieldDescriptor descriptor, byte[] data, int offset) throws IllegalAccessException {
         // 1. 어노테이션 확인
-        StructSequenceField annotation = field.getAnnotation(StructSequenceField.class);
-        if (annotation == null) {
-            throw new IllegalArgumentException(
-                    String.format("Field '%s' is not annotated with @SequenceField", field.getName())
-            );
-        }
+        requireKind(descriptor, FieldDescriptor.Kind.SEQUENCE, "StructSequenceField");
+        java.lang.reflect.Field field = descriptor.getField();
 
-        OptionalEncoding optionalEncoding = annotation.optional();
+        OptionalEncoding optionalEncoding = descriptor.getOptional();
         int consumed = 0;
 
         // OptionalEncoding.BORSH 체크
@@ -35,8 +31,7 @@ public class StructSequenceFieldHandler extends BaseFieldHandler {
             consumed += 1;
 
             if (!isPresent) {
-                field.setAccessible(true);
-                field.set(instance, null);
+                setFieldValue(instance, field, null);
                 return consumed;
             }
 
@@ -44,8 +39,8 @@ public class StructSequenceFieldHandler extends BaseFieldHandler {
         }
 
         // 2. Layout 인스턴스 가져오기
-        Field<?> lengthField = resolveLayout(annotation.lengthType()); // 길이 타입 Layout
-        Class<? extends Field<?>> elementFieldClass = annotation.elementType();
+        Field<?> lengthField = resolveLayout(descriptor.getLengthType(), descriptor.getByteOrder()); // 길이 타입 Layout
+        Class<? extends Field<?>> elementFieldClass = descriptor.getElementType();
 
         // 3. 길이 정보 디코딩
         int length;
@@ -54,7 +49,7 @@ public class StructSequenceFieldHandler extends BaseFieldHandler {
             length = -1;
         } else {
             Object rawLengthValue = lengthField.decode(data, offset);
-            length = (int) TypeConverterHelper.convertToType(rawLengthValue, Integer.class);
+            length = (int) descriptor.getLengthDecodeConverter().convert(rawLengthValue);
         }
         int currentOffset = offset + ((lengthField instanceof DynamicSpanField) ?
                 ((DynamicSpanField) lengthField).calculateSpan(data, offset) :
@@ -62,31 +57,45 @@ public class StructSequenceFieldHandler extends BaseFieldHandler {
 
         // 4. 배열 또는 컬렉션 타입 확인
         Class<?> fieldType = field.getType();
-        Object result;
         Class<?> elementType;
 
         if (fieldType.isArray()) {
-            // 배열인 경우
             elementType = fieldType.getComponentType();
-            result = !unsafeMode ? Array.newInstance(elementType, length) : new ArrayList<>();
         } else if (Collection.class.isAssignableFrom(fieldType)) {
-            // 컬렉션인 경우
             elementType = resolveCollectionElementType(field);
-            result = createCollectionInstance(fieldType);
         } else {
             throw new InvalidSequenceTypeException(fieldType.getName(), fieldType, "Only Array or Collection types are allowed.");
         }
 
-        // 5. 개별 요소 디코드
         Field<Object> elementField;
         try {
-            Field<?> elementFieldWildcard = elementFieldClass.getDeclaredConstructor().newInstance();
-            elementField = (Field<Object>) elementFieldWildcard;
+            elementField = resolveLayout(elementFieldClass, descriptor.getByteOrder());
         } catch (Exception ex) {
             throw new LayoutInitializationException("Failed to initialize Field for elementType", ex);
         }
+
+        // 5. 할당 전에 길이 검증 (남은 바이트 수 및 DecodeLimits)
+        DecodeContext context = DecodeContext.current();
+        if (!unsafeMode) {
+            int minElementSpan = elementField instanceof DynamicSpanField ? 1 : elementField.getSpan();
+            context.checkSequenceLength(field.getName(), length, data.length - currentOffset, minElementSpan);
+            context.allocate(field.getName(), (long) length * DecodeContext.elementBytes(elementType));
+        }
+
+        Object result;
+        if (fieldType.isArray()) {
+            result = !unsafeMode ? Array.newInstance(elementType, length) : new ArrayList<>();
+        } else {
+            result = createCollectionInstance(fieldType);
+        }
+
+        // 6. 개별 요소 디코드
         int elementCount = 0;
         while ((unsafeMode && currentOffset < data.length) || (!unsafeMode && elementCount < length)) {
+            if (unsafeMode) {
+                context.checkElementCount(field.getName(), elementCount + 1);
+            }
+            checkPayloadLength(field.getName(), elementField, data, currentOffset);
             Object rawElement = elementField.decode(data, currentOffset);
 
             int expectedSpan;
@@ -110,7 +119,7 @@ public class StructSequenceFieldHandler extends BaseFieldHandler {
             currentOffset += expectedSpan;
 
             if (rawElement != null) {
-                Object convertedElement = TypeConverterHelper.convertToType(rawElement, elementType);
+                Object convertedElement = descriptor.getDecodeConverter().convert(rawElement);
 
                 if (fieldType.isArray() && !unsafeMode) {
                     Array.set(result, elementCount, convertedElement);
@@ -121,17 +130,17 @@ public class StructSequenceFieldHandler extends BaseFieldHandler {
             elementCount++;
         }
 
-        // 6. 필드 값 설정
-        field.setAccessible(true);
+        // 7. 필드 값 설정
         if (unsafeMode && fieldType.isArray()) {
+            context.allocate(field.getName(), (long) elementCount * DecodeContext.elementBytes(elementType));
             Object arrayResult = Array.newInstance(elementType, elementCount);
             List<?> tempList = (List<?>) result;
             for (int i = 0; i < elementCount; i++) {
                 Array.set(arrayResult, i, tempList.get(i));
             }
-            field.set(instance, arrayResult);
+            setFieldValue(instance, field, arrayResult);
         } else {
-            field.set(instance, result);
+            setFieldValue(instance, field, result);
         }
 
         return consumed + (currentOffset - offset);
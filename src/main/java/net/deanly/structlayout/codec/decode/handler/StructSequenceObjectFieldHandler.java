@@ -3,11 +3,12 @@ package net.deanly.structlayout.codec.decode.handler;
 import net.deanly.structlayout.Field;
 import net.deanly.structlayout.annotation.OptionalEncoding;
 import net.deanly.structlayout.annotation.StructTypeSelector;
+import net.deanly.structlayout.codec.decode.ConstructorBinding;
+import net.deanly.structlayout.codec.decode.DecodeContext;
 import net.deanly.structlayout.codec.decode.StructDecodeResult;
 import net.deanly.structlayout.codec.decode.StructDecoder;
-import net.deanly.structlayout.annotation.StructSequenceObjectField;
+import net.deanly.structlayout.codec.helpers.FieldDescriptor;
 import net.deanly.structlayout.codec.helpers.FieldHelper;
-import net.deanly.structlayout.codec.helpers.TypeConverterHelper;
 import net.deanly.structlayout.dispatcher.StructTypeResolver;
 import net.deanly.structlayout.exception.InvalidAnnotationUsageException;
 import net.deanly.structlayout.exception.InvalidSequenceTypeException;
@@ -24,40 +25,151 @@ import java.util.List;
 
 /**
  * Decoder handler for fields annotated with @StructSequenceObjectField.
+ *
+ * <p>The sequence is decoded in three steps, {@link #begin}, {@link Progress#nextElementType} /
+ * {@link Progress#add} per element, and {@link #finish}, so that {@link StructDecoder} can decode the
+ * elements on its own frame stack instead of recursing through {@link #handleField}.</p>
  */
 public class StructSequenceObjectFieldHandler extends BaseFieldHandler {
 
+    /**
+     * The state of a sequence whose elements are being decoded.
+     */
+    public static final class Progress {
+        private final java.lang.reflect.Field field;
+        private final Class<?> fieldType;
+        private final Class<?> elementOriginType;
+        private final boolean unsafeMode;
+        private final int length;
+        private final int startOffset;
+        private final Object result;
+        private Class<?> elementType;
+        private int elementCount;
+        private int currentOffset;
+
+        private Progress(java.lang.reflect.Field field, Class<?> elementOriginType, boolean unsafeMode, int length,
+                         int startOffset, int currentOffset, Object result) {
+            this.field = field;
+            this.fieldType = field.getType();
+            this.elementOriginType = elementOriginType;
+            this.elementType = elementOriginType;
+            this.unsafeMode = unsafeMode;
+            this.length = length;
+            this.startOffset = startOffset;
+            this.currentOffset = currentOffset;
+            this.result = result;
+        }
+
+        /**
+         * Returns whether another element follows.
+         */
+        public boolean hasNext(byte[] data) {
+            return unsafeMode ? currentOffset < data.length : elementCount < length;
+        }
+
+        /**
+         * The number of elements decoded so far, which is the index of the next element.
+         */
+        public int getElementCount() {
+            return elementCount;
+        }
+
+        /**
+         * The offset of the next element.
+         */
+        public int getOffset() {
+            return currentOffset;
+        }
+
+        /**
+         * The element type declared by the field, before any {@code @StructTypeSelector} dispatch.
+         */
+        public Class<?> getDeclaredElementType() {
+            return elementOriginType;
+        }
+
+        /**
+         * Resolves the concrete class of the next element, dispatching through {@code @StructTypeSelector}.
+         */
+        public Class<?> nextElementType(byte[] data) {
+            if (unsafeMode) {
+                DecodeContext.current().checkElementCount(field.getName(), elementCount + 1);
+            }
+            if (!elementType.equals(elementOriginType)) {
+                elementType = resolveElementType(field, data, elementOriginType, currentOffset);
+            }
+            return elementType;
+        }
+
+        /**
+         * Appends a decoded element of {@code size} bytes.
+         */
+        @SuppressWarnings("unchecked")
+        public void add(Object decodedValue, int decodedSize) {
+            if (decodedValue == null || decodedSize == 0) {
+                throw new IllegalStateException(
+                        String.format(
+                                "Failed to decode data at offset %d. The decoding process returned null. This indicates that parsing the given data into an instance of '%s' is not possible or the input data is corrupted.",
+                                currentOffset,
+                                elementType != null ? elementType.getCanonicalName() : "Unknown Type"
+                        )
+                );
+            }
+
+            if (fieldType.isArray() && !unsafeMode) {
+                Array.set(result, elementCount, decodedValue);
+            } else {
+                ((Collection<Object>) result).add(decodedValue);
+            }
+
+            currentOffset += decodedSize;
+            elementCount++;
+        }
+    }
 
-    @SuppressWarnings("unchecked")
     @Override
-    public <T> int handleField(T instance, java.lang.reflect.Field field, byte[] data, int offset) throws IllegalAccessException {
-        // 어노테이션 확인
-        StructSequenceObjectField annotation = field.getAnnotation(StructSequenceObjectField.class);
-        if (annotation == null) {
-            throw new IllegalArgumentException(
-                    String.format("Field '%s' is not annotated with @StructSequenceObjectField", field.getName())
-            );
+    public <T> int handleField(T instance, FieldDescriptor descriptor, byte[] data, int offset) throws IllegalAccessException {
+        Progress progress = begin(instance, descriptor, data, offset);
+        if (progress == null) {
+            // None
+            return 1;
+        }
+
+        // 개별 요소 디코드
+        while (progress.hasNext(data)) {
+            Class<?> elementType = progress.nextElementType(data);
+            StructDecodeResult<?> decodeResult = StructDecoder.decode(elementType, data, progress.getOffset());
+            progress.add(decodeResult.getValue(), decodeResult.getSize());
         }
 
-        OptionalEncoding optionalEncoding = annotation.optional();
-        int consumed = 0;
+        return finish(instance, progress);
+    }
+
+    /**
+     * Reads the optional prefix and the length, validates the element type and allocates the result.
+     *
+     * @return The progress of the sequence, or {@code null} if the BORSH prefix marks the value as absent,
+     *         in which case the field has been set to {@code null} and 1 byte was consumed.
+     */
+    public <T> Progress begin(T instance, FieldDescriptor descriptor, byte[] data, int offset) throws IllegalAccessException {
+        // 어노테이션 확인
+        requireKind(descriptor, FieldDescriptor.Kind.SEQUENCE_OBJECT, "StructSequenceObjectField");
+        java.lang.reflect.Field field = descriptor.getField();
+
+        OptionalEncoding optionalEncoding = descriptor.getOptional();
+        int startOffset = offset;
 
         // optional prefix 처리 (BORSH only)
         if (optionalEncoding == OptionalEncoding.BORSH) {
-            boolean isPresent = isValuePresent(data, offset, optionalEncoding);
-            consumed += 1;
-
-            if (!isPresent) {
-                field.setAccessible(true);
-                field.set(instance, null);
-                return consumed;
+            if (!isValuePresent(data, offset, optionalEncoding)) {
+                setFieldValue(instance, field, null);
+                return null;
             }
-
             offset += 1;
         }
 
         // Layout 인스턴스 가져오기
-        Field<?> lengthField = resolveLayout(annotation.lengthType());
+        Field<?> lengthField = resolveLayout(descriptor.getLengthType(), descriptor.getByteOrder());
         boolean unsafeMode = lengthField instanceof NoneField;
 
         // 길이 정보 디코딩
@@ -65,7 +177,7 @@ public class StructSequenceObjectFieldHandler extends BaseFieldHandler {
         int length = 0;
         if (!unsafeMode) {
             Object lengthRawValue = lengthField.decode(data, offset);
-            length = (int) TypeConverterHelper.convertToType(lengthRawValue, Integer.class);
+            length = (int) descriptor.getLengthDecodeConverter().convert(lengthRawValue);
             currentOffset += ((lengthField instanceof DynamicSpanField) ?
                     ((DynamicSpanField) lengthField).calculateSpan(data, offset) :
                     lengthField.getSpan());
@@ -79,41 +191,33 @@ public class StructSequenceObjectFieldHandler extends BaseFieldHandler {
                     "Only Array or Collection types are supported for @StructSequenceObjectField"
             );
         }
-        Class<?> elementType = fieldType.isArray() ? fieldType.getComponentType() : resolveCollectionElementType(field);
-        Class<?> elementOriginType = elementType;
+        Class<?> elementOriginType = fieldType.isArray() ? fieldType.getComponentType() : resolveCollectionElementType(field);
+
+        // 할당 전에 길이 검증 (남은 바이트 수 및 DecodeLimits), 요소는 최소 1바이트
+        DecodeContext context = DecodeContext.current();
+        if (!unsafeMode) {
+            context.checkSequenceLength(field.getName(), length, data.length - currentOffset, 1);
+            context.allocate(field.getName(), (long) length * DecodeContext.elementBytes(elementOriginType));
+        }
 
         // 배열 또는 컬렉션 타입 확인
         Object result;
         if (fieldType.isArray()) {
-            // 배열인 경우
             result = !unsafeMode ? Array.newInstance(elementOriginType, length) : new ArrayList<>();
-        } else if (Collection.class.isAssignableFrom(fieldType)) {
-            // 컬렉션인 경우
-            result = createCollectionInstance(fieldType);
         } else {
-            throw new InvalidSequenceTypeException(field.getName(), fieldType, "Only Array or Collection types are supported for @StructSequenceObjectField");
+            result = createCollectionInstance(fieldType);
         }
+        Progress progress = new Progress(field, elementOriginType, unsafeMode, length, startOffset, currentOffset, result);
 
         // 요소가 없을때 반환
-        if (!unsafeMode && length == 0) {
-            field.setAccessible(true);
-            if (fieldType.isArray()) {
-                field.set(instance, Array.newInstance(elementType, 0));
-            } else {
-                field.set(instance, result);
-            }
-            return consumed + (currentOffset - offset);
+        if (!progress.hasNext(data)) {
+            return progress;
         }
 
         // 검증
+        Class<?> elementType = elementOriginType;
         if (elementType.isAnnotationPresent(StructTypeSelector.class)) {
-            try {
-                elementType = StructTypeResolver.resolveClass(data, elementOriginType, currentOffset);
-            } catch (Exception e) {
-                throw new IllegalStateException(
-                        String.format("Failed to resolve element type for field '%s'. Type resolution error: %s", field.getName(), e.getMessage()), e
-                );
-            }
+            elementType = resolveElementType(field, data, elementOriginType, currentOffset);
         }
         if (elementType.isPrimitive() || FieldHelper.PRIMITIVE_WRAPPERS.contains(elementType)) {
             throw new InvalidAnnotationUsageException(
@@ -123,7 +227,7 @@ public class StructSequenceObjectFieldHandler extends BaseFieldHandler {
                     )
             );
         }
-        if (!hasPublicNoArgsConstructor(elementType)) {
+        if (ConstructorBinding.of(elementType) == null && !hasPublicNoArgsConstructor(elementType)) {
             throw new LayoutInitializationException(
                     String.format(
                             "The Layout class '%s' must have a public no-arguments constructor. Check field '%s'.",
@@ -131,64 +235,41 @@ public class StructSequenceObjectFieldHandler extends BaseFieldHandler {
                     )
             );
         }
+        progress.elementType = elementType;
+        return progress;
+    }
 
-        // 개별 요소 디코드
-        int elementCount = 0;
-        while (unsafeMode ? currentOffset < data.length : elementCount < length) {
-            if (!elementType.equals(elementOriginType)) {
-                try {
-                    elementType = StructTypeResolver.resolveClass(data, elementOriginType, currentOffset);
-                } catch (Exception e) {
-                    throw new IllegalStateException(
-                            String.format("Failed to resolve element type for field '%s'. Type resolution error: %s", field.getName(), e.getMessage()), e
-                    );
-                }
-            }
-
-            StructDecodeResult<?> decodeResult = StructDecoder.decode(elementType, data, currentOffset);
-            Object decodedValue = decodeResult.getValue();
-            int decodedSize = decodeResult.getSize();
-
-            if (decodedValue == null || decodedSize == 0) {
-                throw new IllegalStateException(
-                        String.format(
-                                "Failed to decode data at offset %d. The decoding process returned null. This indicates that parsing the given data (%s) into an instance of '%s' is not possible or the input data is corrupted.",
-                                currentOffset,
-                                java.util.Arrays.toString(data),
-                                elementType != null ? elementType.getCanonicalName() : "Unknown Type"
-                        )
-                );
-            }
-
-            if (fieldType.isArray()) {
-                if (unsafeMode) {
-                    // Unsafe Mode에서 리스트에 추가
-                    ((List<Object>) result).add(decodedValue);
-                } else {
-                    Array.set(result, elementCount, decodedValue);
-                }
-            } else {
-                ((Collection<Object>) result).add(decodedValue);
-            }
-
-            currentOffset += decodedSize;
-            elementCount++;
-        }
-
-        // 필드 값 설정
-        field.setAccessible(true);
-        if (unsafeMode && fieldType.isArray()) {
-            Object arrayResult = Array.newInstance(elementType, elementCount);
-            List<?> tempList = (List<?>) result;
-            for (int i = 0; i < elementCount; i++) {
+    /**
+     * Assigns the decoded sequence to the field.
+     *
+     * @return The number of bytes consumed by the field, including its prefixes.
+     */
+    public <T> int finish(T instance, Progress progress) throws IllegalAccessException {
+        java.lang.reflect.Field field = progress.field;
+        if (progress.unsafeMode && progress.fieldType.isArray()) {
+            DecodeContext.current().allocate(field.getName(),
+                    (long) progress.elementCount * DecodeContext.elementBytes(progress.elementType));
+            Object arrayResult = Array.newInstance(progress.elementType, progress.elementCount);
+            List<?> tempList = (List<?>) progress.result;
+            for (int i = 0; i < progress.elementCount; i++) {
                 Array.set(arrayResult, i, tempList.get(i));
             }
-            field.set(instance, arrayResult);
+            setFieldValue(instance, field, arrayResult);
         } else {
-            field.set(instance, result);
+            setFieldValue(instance, field, progress.result);
         }
 
-        return consumed + (currentOffset - offset);
+        return progress.currentOffset - progress.startOffset;
+    }
+
+    private static Class<?> resolveElementType(java.lang.reflect.Field field, byte[] data, Class<?> elementOriginType, int offset) {
+        try {
+            return StructTypeResolver.resolveClass(data, elementOriginType, offset);
+        } catch (Exception e) {
+            throw new IllegalStateException(
+                    String.format("Failed to resolve element type for field '%s'. Type resolution error: %s", field.getName(), e.getMessage()), e
+            );
+        }
     }
 
     private boolean hasPublicNoArgsConstructor(Class<?> clazz) {
@@ -220,4 +301,4 @@ public class StructSequenceObjectFieldHandler extends BaseFieldHandler {
             );
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,145 @@
+package net.deanly.structlayout.codec.encode;
+
+import net.deanly.structlayout.buffer.BufferPool;
+import net.deanly.structlayout.buffer.PooledBuffer;
+import net.deanly.structlayout.type.Long128Field;
+import net.deanly.structlayout.type.LongField;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The output of {@link StructEncoder#encode(Object, BufferPool)}: a buffer borrowed from the pool that the field
+ * handlers write into at its position.
+ *
+ * <p>The buffer is acquired with the size of the struct if it is fixed, and otherwise grows by acquiring a larger
+ * buffer from the pool, copying the bytes written so far and releasing the smaller one. Pooled buffers are not
+ * zeroed, so padding and default values are written explicitly.</p>
+ */
+public final class EncodeBuffer {
+
+    /** The initial capacity for structs whose size depends on the data. */
+    static final int INITIAL_CAPACITY = 256;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final BufferPool pool;
+    private ByteBuffer buffer;
+    private int position;
+    /** Used to encode 64/128-bit values when the buffer has no accessible array. */
+    private byte[] scratch;
+
+    EncodeBuffer(BufferPool pool, int capacity) {
+        this.pool = pool;
+        this.buffer = pool.acquire(capacity);
+    }
+
+    /**
+     * The number of bytes written so far.
+     */
+    public int position() {
+        return position;
+    }
+
+    public void put(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        buffer.put(position, bytes);
+        position += bytes.length;
+    }
+
+    public void putByte(int value) {
+        ensureCapacity(1);
+        buffer.put(position++, (byte) value);
+    }
+
+    public void putZeros(int count) {
+        if (count <= 0) {
+            return;
+        }
+        ensureCapacity(count);
+        for (int i = 0; i < count; i++) {
+            buffer.put(position++, (byte) 0);
+        }
+    }
+
+    /**
+     * Writes the value with {@link LongField#encodeLong(long, byte[], int)}, directly into the backing array if the
+     * buffer has one.
+     */
+    public void putLong(LongField<?> layout, long value) {
+        int span = layout.getSpan();
+        ensureCapacity(span);
+        if (buffer.hasArray()) {
+            layout.encodeLong(value, buffer.array(), buffer.arrayOffset() + position);
+        } else {
+            layout.encodeLong(value, scratch(), 0);
+            buffer.put(position, scratch, 0, span);
+        }
+        position += span;
+    }
+
+    /**
+     * Writes the value with {@link Long128Field#encodeLongs(long, long, byte[], int)}, directly into the backing
+     * array if the buffer has one.
+     */
+    public void putLongs(Long128Field<?> layout, long low, long high) {
+        int span = layout.getSpan();
+        ensureCapacity(span);
+        if (buffer.hasArray()) {
+            layout.encodeLongs(low, high, buffer.array(), buffer.arrayOffset() + position);
+        } else {
+            layout.encodeLongs(low, high, scratch(), 0);
+            buffer.put(position, scratch, 0, span);
+        }
+        position += span;
+    }
+
+    /**
+     * Encodes a nested struct at the current position. Nothing is written for {@code null}.
+     */
+    public void putStruct(Object instance) {
+        if (instance != null) {
+            StructEncoder.encodeInto(instance, this);
+        }
+    }
+
+    /**
+     * Hands the buffer over to a {@link PooledBuffer} holding the bytes written.
+     */
+    PooledBuffer finish() {
+        ByteBuffer encoded = buffer;
+        buffer = null;
+        return PooledBuffer.of(pool, encoded, position);
+    }
+
+    /**
+     * Returns the buffer to the pool after a failed encode.
+     */
+    void release() {
+        if (buffer != null) {
+            pool.release(buffer);
+            buffer = null;
+        }
+    }
+
+    private byte[] scratch() {
+        if (scratch == null) {
+            scratch = new byte[16];
+        }
+        return scratch;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (additional <= buffer.capacity() - position) {
+            return;
+        }
+        long required = (long) position + additional;
+        if (required > MAX_CAPACITY) {
+            throw new IllegalStateException("Encoded struct would exceed the maximum buffer size: " + required + " bytes.");
+        }
+        // 더 큰 buffer 를 풀에서 받아 기록한 바이트만 옮김
+        int capacity = (int) Math.min(MAX_CAPACITY, Math.max(required, 2L * buffer.capacity()));
+        ByteBuffer grown = pool.acquire(capacity);
+        grown.put(0, buffer, 0, position);
+        pool.release(buffer);
+        buffer = grown;
+    }
+}
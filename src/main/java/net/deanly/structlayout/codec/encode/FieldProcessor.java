@@ -1,108 +1,131 @@
 package net.deanly.structlayout.codec.encode;
 
 import net.deanly.structlayout.analysis.FieldDebugInfo;
-import net.deanly.structlayout.annotation.*;
 import net.deanly.structlayout.codec.encode.handler.*;
-import net.deanly.structlayout.codec.helpers.FieldHelper;
-import net.deanly.structlayout.dispatcher.StructTypeResolver;
+import net.deanly.structlayout.codec.helpers.FieldDescriptor;
 import net.deanly.structlayout.exception.FieldAccessException;
 import net.deanly.structlayout.exception.StructParsingException;
 import net.deanly.structlayout.exception.TypeConversionException;
 
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Array;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 
 public class FieldProcessor {
 
-    private static final Map<Class<? extends Annotation>, BaseFieldHandler> HANDLERS = new HashMap<>();
+    private static final BaseFieldHandler STRUCT_FIELD_HANDLER = new StructFieldHandler();
+    private static final BaseFieldHandler STRUCT_SEQUENCE_FIELD_HANDLER = new StructSequenceFieldHandler();
+    private static final BaseFieldHandler STRUCT_OBJECT_FIELD_HANDLER = new StructObjectFieldHandler();
+    private static final BaseFieldHandler STRUCT_SEQUENCE_OBJECT_FIELD_HANDLER = new StructSequenceObjectFieldHandler();
+    private static final BaseFieldHandler STRUCT_BIT_FIELD_HANDLER = new StructBitFieldHandler();
+    private static final BaseFieldHandler STRUCT_FIXED_ARRAY_FIELD_HANDLER = new StructFixedArrayFieldHandler();
 
-    static {
-        HANDLERS.put(StructField.class, new StructFieldHandler());
-        HANDLERS.put(StructSequenceField.class, new StructSequenceFieldHandler());
-        HANDLERS.put(StructObjectField.class, new StructObjectFieldHandler());
-        HANDLERS.put(StructSequenceObjectField.class, new StructSequenceObjectFieldHandler());
+    public static <T> byte[] processField(T instance, Field field) {
+        FieldDescriptor descriptor = FieldDescriptor.of(field);
+        if (descriptor == null) {
+            throw new IllegalArgumentException("No handler found for field: `" + field.getName() + "`");
+        }
+        return processField(instance, descriptor);
     }
 
-    public static <T> byte[] processField(T instance, Field field) {
-        for (Map.Entry<Class<? extends Annotation>, BaseFieldHandler> entry : HANDLERS.entrySet()) {
-            if (field.isAnnotationPresent(entry.getKey())) {
-                try {
-                    return entry.getValue().handleField(instance, field);
-                } catch (IllegalAccessException e) {
-                    throw new FieldAccessException(field.getName(), field.getClass().getSimpleName(), e);
-                } catch (IllegalArgumentException e) {
-                    throw new IllegalArgumentException("Failed to process field: `" + field.getName() + "` => " + e.getMessage(), e);
-                } catch (TypeConversionException e) {
-                    throw new TypeConversionException("Failed to process field: `" + field.getName() + "` => " + e.getMessage(), e);
-                } catch (StructParsingException e) {
-                    throw e;
-                } catch (RuntimeException | InvocationTargetException | NoSuchMethodException | InstantiationException e) {
-                    throw new StructParsingException("Failed to process field: `" + field.getName() + "` => " + e.getMessage(), e);
-                }
-            }
+    public static <T> byte[] processField(T instance, FieldDescriptor descriptor) {
+        try {
+            return handlerOf(descriptor).handleField(instance, descriptor);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw wrap(descriptor.getField(), e);
+        }
+    }
+
+    /**
+     * Encodes the field at the position of the buffer, with the same bytes and errors as
+     * {@link #processField(Object, FieldDescriptor)}.
+     */
+    public static <T> void processField(T instance, FieldDescriptor descriptor, EncodeBuffer out) {
+        try {
+            handlerOf(descriptor).handleField(instance, descriptor, out);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw wrap(descriptor.getField(), e);
+        }
+    }
+
+    private static RuntimeException wrap(Field field, Exception e) {
+        if (e instanceof IllegalAccessException) {
+            return new FieldAccessException(field.getName(), field.getClass().getSimpleName(), e);
+        } else if (e instanceof IllegalArgumentException) {
+            return new IllegalArgumentException("Failed to process field: `" + field.getName() + "` => " + e.getMessage(), e);
+        } else if (e instanceof TypeConversionException) {
+            return new TypeConversionException("Failed to process field: `" + field.getName() + "` => " + e.getMessage(), e);
+        } else if (e instanceof StructParsingException parsing) {
+            return parsing;
         }
-        throw new IllegalArgumentException("No handler found for field: `" + field.getName() + "`");
+        return new StructParsingException("Failed to process field: `" + field.getName() + "` => " + e.getMessage(), e);
     }
 
+    private static BaseFieldHandler handlerOf(FieldDescriptor descriptor) {
+        return switch (descriptor.getKind()) {
+            case FIELD -> STRUCT_FIELD_HANDLER;
+            case SEQUENCE -> STRUCT_SEQUENCE_FIELD_HANDLER;
+            case OBJECT -> STRUCT_OBJECT_FIELD_HANDLER;
+            case SEQUENCE_OBJECT -> STRUCT_SEQUENCE_OBJECT_FIELD_HANDLER;
+            case BIT -> STRUCT_BIT_FIELD_HANDLER;
+            case FIXED_ARRAY -> STRUCT_FIXED_ARRAY_FIELD_HANDLER;
+        };
+    }
+
+    /**
+     * @deprecated Re-encodes every field and reads nested structs without their superclass fields or order.
+     *             Use {@link net.deanly.structlayout.analysis.LayoutTrace}, collected by
+     *             {@link StructEncoder#encode(Object, java.util.function.Consumer)}, instead. This method will be
+     *             removed in a future release.
+     */
+    @Deprecated
     public static <T> List<FieldDebugInfo> processFieldRecursivelyWithDebug(T instance, Field field, String parentOrder) {
         List<FieldDebugInfo> debugInfos = new ArrayList<>();
 
-        for (Map.Entry<Class<? extends Annotation>, BaseFieldHandler> entry : HANDLERS.entrySet()) {
-            if (field.isAnnotationPresent(entry.getKey())) {
-                try {
-                    String order = parentOrder == null ? String.valueOf(FieldHelper.getOrderValue(field)) : parentOrder + "-" + FieldHelper.getOrderValue(field);
-
-                    if (field.isAnnotationPresent(StructObjectField.class)) {
-                        Object childInstance = field.get(instance);
+        FieldDescriptor descriptor = FieldDescriptor.of(field);
+        if (descriptor == null) {
+            return debugInfos;
+        }
 
-                        Class<?> fieldType = field.getType();
-                        if ((fieldType.isInterface() || java.lang.reflect.Modifier.isAbstract(fieldType.getModifiers()))
-                                && childInstance != null) {
-                            fieldType = childInstance.getClass();
-                        }
+        try {
+            String order = parentOrder == null ? String.valueOf(descriptor.getOrder()) : parentOrder + "-" + descriptor.getOrder();
+            BaseFieldHandler handler = handlerOf(descriptor);
 
-                        if (childInstance != null) {
-                            Field[] childFields = fieldType.getDeclaredFields();
-                            for (Field childField : childFields) {
-                                childField.setAccessible(true);
-                                debugInfos.addAll(processFieldRecursivelyWithDebug(childInstance, childField, order));
-                            }
-                        }
+            switch (descriptor.getKind()) {
+                case OBJECT -> {
+                    Object childInstance = descriptor.getField().get(instance);
 
+                    Class<?> fieldType = field.getType();
+                    if ((fieldType.isInterface() || java.lang.reflect.Modifier.isAbstract(fieldType.getModifiers()))
+                            && childInstance != null) {
+                        fieldType = childInstance.getClass();
                     }
-                    else if (field.isAnnotationPresent(StructSequenceObjectField.class)) {
-                        List<FieldDebugInfo.Builder> builders = entry.getValue().handleDebug(instance, field);
 
-                        for (FieldDebugInfo.Builder builder : builders) {
-                            builder.order(order);
-                            debugInfos.add(builder.build());
+                    if (childInstance != null) {
+                        Field[] childFields = fieldType.getDeclaredFields();
+                        for (Field childField : childFields) {
+                            debugInfos.addAll(processFieldRecursivelyWithDebug(childInstance, childField, order));
                         }
                     }
-                    else if (field.isAnnotationPresent(StructSequenceField.class)) {
-                        List<FieldDebugInfo.Builder> builders = entry.getValue().handleDebug(instance, field);
-                        for (FieldDebugInfo.Builder builder : builders) {
-                            builder.order(order);
-                            debugInfos.add(builder.build());
-                        }
-                    }
-                    else if (field.isAnnotationPresent(StructField.class))  {
-                        FieldDebugInfo.Builder builder = entry.getValue().handleDebug(instance, field).get(0);
+                }
+                case SEQUENCE_OBJECT, SEQUENCE, BIT, FIXED_ARRAY -> {
+                    List<FieldDebugInfo.Builder> builders = handler.handleDebug(instance, descriptor);
+                    for (FieldDebugInfo.Builder builder : builders) {
                         builder.order(order);
                         debugInfos.add(builder.build());
                     }
-                    return debugInfos;
-                } catch (Exception e) {
-                    throw new RuntimeException(
-                            "Failed to debug field: `" + field.getName() + "` -> " + e.getMessage(), e
-                    );
+                }
+                case FIELD -> {
+                    FieldDebugInfo.Builder builder = handler.handleDebug(instance, descriptor).get(0);
+                    builder.order(order);
+                    debugInfos.add(builder.build());
                 }
             }
+            return debugInfos;
+        } catch (Exception e) {
+            throw new RuntimeException(
+                    "Failed to debug field: `" + field.getName() + "` -> " + e.getMessage(), e
+            );
         }
-
-        return debugInfos;
     }
 
-}
\ No newline at end of file
+}
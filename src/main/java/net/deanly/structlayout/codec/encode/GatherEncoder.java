@@ -0,0 +1,246 @@
+package net.deanly.structlayout.codec.encode;
+
+import net.deanly.structlayout.Field;
+import net.deanly.structlayout.analysis.CachedLayoutProvider;
+import net.deanly.structlayout.annotation.OptionalEncoding;
+import net.deanly.structlayout.codec.helpers.FieldDescriptor;
+import net.deanly.structlayout.codec.helpers.StructAlignmentHelper;
+import net.deanly.structlayout.exception.FieldAccessException;
+import net.deanly.structlayout.type.ByteOrderField;
+import net.deanly.structlayout.type.advanced.NoneField;
+import net.deanly.structlayout.type.basic.ByteField;
+import net.deanly.structlayout.type.borsh.BorshBlobField;
+
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Encodes a struct into a gather list of {@link ByteBuffer}s, to be written with
+ * {@link java.nio.channels.GatheringByteChannel#write(ByteBuffer[])}.
+ *
+ * <p>The buffers hold the same bytes as {@link StructEncoder#encode(Object)}. Large payloads, i.e.
+ * {@link BorshBlobField} values and {@code byte[]} values of {@code @StructSequenceField}s of {@link ByteField},
+ * are wrapped instead of copied, and the bytes between them are collected into small header buffers. The payload
+ * buffers share the arrays of the instance, which must not be modified until the buffers are written.</p>
+ */
+public class GatherEncoder {
+
+    /**
+     * Payloads shorter than this are copied into the surrounding header buffer.
+     */
+    public static final int DEFAULT_MIN_REFERENCE_LENGTH = 1024;
+
+    private static final byte[] SOME = {0x01};
+
+    /**
+     * Encodes the instance, referencing payloads of at least {@link #DEFAULT_MIN_REFERENCE_LENGTH} bytes.
+     *
+     * @return The buffers, in order. Empty if the instance is {@code null}.
+     */
+    public static ByteBuffer[] encode(Object instance) {
+        return encode(instance, DEFAULT_MIN_REFERENCE_LENGTH);
+    }
+
+    /**
+     * Encodes the instance, referencing payloads of at least {@code minReferenceLength} bytes.
+     *
+     * @return The buffers, in order. Empty if the instance is {@code null}.
+     */
+    public static ByteBuffer[] encode(Object instance, int minReferenceLength) {
+        if (instance == null) {
+            return new ByteBuffer[0];
+        }
+        Segments segments = new Segments(Math.max(1, minReferenceLength));
+        encodeStruct(instance, segments);
+        return segments.finish();
+    }
+
+    private static void encodeStruct(Object instance, Segments out) {
+        int start = out.size;
+        for (FieldDescriptor descriptor : FieldDescriptor.forClass(instance.getClass())) {
+            out.appendZeros(StructAlignmentHelper.padding(out.size - start, descriptor.getAlignment()));
+            if (!encodeReferenced(instance, descriptor, out)) {
+                out.append(FieldProcessor.processField(instance, descriptor));
+            }
+        }
+        out.appendZeros(StructAlignmentHelper.padding(out.size - start, StructAlignmentHelper.structAlignment(instance.getClass())));
+    }
+
+    /**
+     * Encodes the fields whose payload or nested structs can be written without copying.
+     *
+     * @return {@code false} if the field has to be encoded by its handler.
+     */
+    private static boolean encodeReferenced(Object instance, FieldDescriptor descriptor, Segments out) {
+        Object value;
+        try {
+            value = descriptor.getField().get(instance);
+        } catch (IllegalAccessException e) {
+            throw new FieldAccessException(descriptor.getName(), instance.getClass().getSimpleName(), e);
+        }
+        // null 은 핸들러의 기본값 / None 처리를 그대로 사용
+        if (value == null) {
+            return false;
+        }
+        boolean optional = descriptor.getOptional() == OptionalEncoding.BORSH;
+
+        switch (descriptor.getKind()) {
+            case FIELD -> {
+                ByteBuffer payload = payloadOf(value);
+                Field<?> layout = payload != null ? CachedLayoutProvider.getLayout(descriptor.getType()) : null;
+                if (!(layout instanceof BorshBlobField blob)) {
+                    return false;
+                }
+                if (optional) {
+                    out.append(SOME);
+                }
+                out.append(blob.encodeLength(payload.remaining()));
+                out.reference(payload);
+                return true;
+            }
+            case SEQUENCE -> {
+                if (!(value instanceof byte[] bytes) || descriptor.getElementType() != ByteField.class) {
+                    return false;
+                }
+                if (optional) {
+                    out.append(SOME);
+                }
+                appendLength(descriptor, bytes.length, out);
+                out.reference(ByteBuffer.wrap(bytes));
+                return true;
+            }
+            case OBJECT -> {
+                if (optional) {
+                    out.append(SOME);
+                }
+                encodeStruct(value, out);
+                return true;
+            }
+            case SEQUENCE_OBJECT -> {
+                List<Object> elements = elementsOf(value);
+                if (elements == null) {
+                    return false;
+                }
+                if (optional) {
+                    out.append(SOME);
+                }
+                appendLength(descriptor, elements.size(), out);
+                for (Object element : elements) {
+                    if (element != null) {
+                        encodeStruct(element, out);
+                    }
+                }
+                return true;
+            }
+            default -> {
+                return false;
+            }
+        }
+    }
+
+    private static void appendLength(FieldDescriptor descriptor, int length, Segments out) {
+        if (NoneField.class.isAssignableFrom(descriptor.getLengthType())) {
+            return; // 길이 없이 끝까지 읽는 unsafe 모드
+        }
+        Field<Object> lengthField = ByteOrderField.ordered(CachedLayoutProvider.getLayout(descriptor.getLengthType()), descriptor.getByteOrder());
+        out.append(lengthField.encode(descriptor.getLengthEncodeConverter().convert(length)));
+    }
+
+    private static ByteBuffer payloadOf(Object value) {
+        if (value instanceof byte[] bytes) {
+            return ByteBuffer.wrap(bytes);
+        } else if (value instanceof ByteBuffer buffer) {
+            return buffer.duplicate(); // 원본 buffer 의 position 은 유지
+        }
+        return null;
+    }
+
+    private static List<Object> elementsOf(Object arrayOrList) {
+        if (arrayOrList.getClass().isArray()) {
+            int length = Array.getLength(arrayOrList);
+            List<Object> elements = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                elements.add(Array.get(arrayOrList, i));
+            }
+            return elements;
+        } else if (arrayOrList instanceof Iterable<?> iterable) {
+            List<Object> elements = new ArrayList<>();
+            iterable.forEach(elements::add);
+            return elements;
+        }
+        return null;
+    }
+
+    /**
+     * The buffers produced so far and the header bytes not yet flushed into a buffer.
+     */
+    private static final class Segments {
+        static final int HEADER_CAPACITY = 256;
+        final int minReferenceLength;
+        final List<ByteBuffer> buffers = new ArrayList<>();
+        byte[] pending = new byte[HEADER_CAPACITY];
+        int pendingLength;
+        /** The total number of bytes encoded. */
+        int size;
+
+        Segments(int minReferenceLength) {
+            this.minReferenceLength = minReferenceLength;
+        }
+
+        void append(byte[] bytes) {
+            if (bytes.length >= minReferenceLength) {
+                // 핸들러가 만든 큰 chunk 도 다시 복사하지 않음
+                reference(ByteBuffer.wrap(bytes));
+                return;
+            }
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, pending, pendingLength, bytes.length);
+            pendingLength += bytes.length;
+            size += bytes.length;
+        }
+
+        void appendZeros(int count) {
+            if (count > 0) {
+                ensureCapacity(count);
+                pendingLength += count; // flush 후 새 배열은 0 으로 초기화되어 있음
+                size += count;
+            }
+        }
+
+        void reference(ByteBuffer payload) {
+            int length = payload.remaining();
+            if (length < minReferenceLength) {
+                ensureCapacity(length);
+                payload.get(payload.position(), pending, pendingLength, length);
+                pendingLength += length;
+            } else {
+                flush();
+                buffers.add(payload.slice());
+            }
+            size += length;
+        }
+
+        ByteBuffer[] finish() {
+            flush();
+            return buffers.toArray(new ByteBuffer[0]);
+        }
+
+        private void ensureCapacity(int additional) {
+            if (pendingLength + additional > pending.length) {
+                pending = Arrays.copyOf(pending, Math.max(pending.length * 2, pendingLength + additional));
+            }
+        }
+
+        private void flush() {
+            if (pendingLength > 0) {
+                // 채워진 배열은 buffer 에 넘기고 새 배열에서 계속
+                buffers.add(ByteBuffer.wrap(pending, 0, pendingLength).slice());
+                pending = new byte[HEADER_CAPACITY];
+                pendingLength = 0;
+            }
+        }
+    }
+}
@@ -1,112 +1,251 @@
 package net.deanly.structlayout.codec.encode;
 
-import net.deanly.structlayout.analysis.FieldDebugInfo;
+import net.deanly.structlayout.analysis.LayoutTrace;
+import net.deanly.structlayout.buffer.BufferPool;
+import net.deanly.structlayout.buffer.PooledBuffer;
 import net.deanly.structlayout.codec.helpers.ByteArrayHelper;
-import net.deanly.structlayout.codec.helpers.FieldHelper;
+import net.deanly.structlayout.codec.helpers.CalculateStructureSizeHelper;
+import net.deanly.structlayout.codec.helpers.FieldDescriptor;
+import net.deanly.structlayout.codec.helpers.StructAlignmentHelper;
+import net.deanly.structlayout.jfr.StructCodecFailureEvent;
+import net.deanly.structlayout.jfr.StructEncodeEvent;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class StructEncoder {
 
+    /**
+     * The nesting, failure and layout of the top-level encode in progress, tracked only while JFR events are
+     * enabled or a {@link LayoutTrace} is requested.
+     */
+    private static final class Trace {
+        int depth;
+        int maxDepth;
+        Class<?> failedStruct;
+        Field failedField;
+        int failedOffset = -1;
+
+        // LayoutTrace 수집 시에만 사용
+        LayoutTrace.Recorder recorder;
+        /** The path and order of the struct being encoded. */
+        String path = "";
+        String order = "";
+        /** The field of the enclosing struct being encoded, and the index of its next sequence element. */
+        int fieldEntry = -1;
+        FieldDescriptor.Kind fieldKind;
+        int elementIndex;
+    }
+
+    private static final ThreadLocal<Trace> TRACE = new ThreadLocal<>();
+
     public static <T> byte[] encode(T instance) {
         if (instance == null) {
             return new byte[0]; // Null 객체는 빈 배열 반환
         }
+        if (!new StructEncodeEvent().isEnabled() && !new StructCodecFailureEvent().isEnabled() && TRACE.get() == null) {
+            return encodeStruct(instance, null);
+        }
+        return encodeTraced(instance, null);
+    }
 
-        // 1. 상속 계층 필드 가져오기
-        List<Field> allFields = getAllDeclaredFields(instance.getClass());
-
-        // 2. 필드 정렬
-        List<Field> orderedFields = FieldHelper.getOrderedFields(allFields);
+    /**
+     * Encodes the instance and passes the {@link LayoutTrace} of the encoded bytes to the tracer.
+     * The tracer is not called if encoding fails.
+     */
+    public static <T> byte[] encode(T instance, Consumer<? super LayoutTrace> tracer) {
+        if (instance == null) {
+            return new byte[0];
+        }
+        if (TRACE.get() != null) {
+            // 다른 인코딩 중 호출된 경우 해당 인코딩의 일부로 처리
+            return encodeTraced(instance, null);
+        }
+        LayoutTrace.Recorder recorder = new LayoutTrace.Recorder();
+        byte[] encoded = encodeTraced(instance, recorder);
+        tracer.accept(recorder.build(instance.getClass(), encoded, 0, encoded.length));
+        return encoded;
+    }
 
-        // 3. 필드 처리 및 병합
-        List<byte[]> fieldChunks = new ArrayList<>();
-        for (Field field : orderedFields) {
-            field.setAccessible(true);
-            byte[] chunk = FieldProcessor.processField(instance, field);
-            fieldChunks.add(chunk);
+    private static byte[] encodeTraced(Object instance, LayoutTrace.Recorder recorder) {
+        Trace trace = TRACE.get();
+        if (trace != null) {
+            return encodeNested(instance, trace);
         }
 
-        // 4. 병합된 결과 반환
-        return ByteArrayHelper.mergeChunks(fieldChunks);
+        trace = new Trace();
+        trace.depth = 1;
+        trace.maxDepth = 1;
+        trace.recorder = recorder;
+        TRACE.set(trace);
+        StructEncodeEvent event = new StructEncodeEvent();
+        event.begin();
+        try {
+            byte[] encoded = encodeStruct(instance, trace);
+            event.complete(instance.getClass(), encoded.length, trace.maxDepth);
+            return encoded;
+        } catch (RuntimeException e) {
+            StructCodecFailureEvent.record("encode", instance.getClass(), trace.failedStruct, trace.failedField, trace.failedOffset, e);
+            throw e;
+        } finally {
+            TRACE.remove();
+        }
     }
 
-    /**
-     * 상속 계층의 모든 필드를 가져오는 메서드
-     */
-    private static List<Field> getAllDeclaredFields(Class<?> clazz) {
-        List<Field> fields = new ArrayList<>();
-        while (clazz != null && clazz != Object.class) {
-            Field[] declaredFields = clazz.getDeclaredFields();
-            for (Field field : declaredFields) {
-                if (FieldHelper.isStructField(field)) { // `@Struct*` 관련 필드만 필터링
-                    fields.add(field);
-                }
+    private static byte[] encodeNested(Object instance, Trace trace) {
+        // 중첩 구조체는 최상위 이벤트의 깊이에만 반영
+        trace.maxDepth = Math.max(trace.maxDepth, ++trace.depth);
+        LayoutTrace.Recorder recorder = trace.recorder;
+        if (recorder == null || trace.fieldEntry < 0) {
+            try {
+                return encodeStruct(instance, trace);
+            } finally {
+                trace.depth--;
             }
-            clazz = clazz.getSuperclass(); // 부모 클래스로 이동
         }
-        return fields;
-    }
 
+        // 중첩 구조체의 필드는 구조체 기준 offset 으로 기록한 뒤, 부모 필드가 끝날 때 위치를 보정
+        String path = trace.path;
+        String order = trace.order;
+        int fieldEntry = trace.fieldEntry;
+        FieldDescriptor.Kind fieldKind = trace.fieldKind;
+        int elementIndex = trace.elementIndex;
+        trace.path = fieldKind == FieldDescriptor.Kind.SEQUENCE_OBJECT
+                ? recorder.pathOf(fieldEntry) + "[" + elementIndex + "]"
+                : recorder.pathOf(fieldEntry);
+        trace.order = recorder.orderOf(fieldEntry);
+        int from = recorder.size();
+        try {
+            byte[] encoded = encodeStruct(instance, trace);
+            recorder.addChild(from, encoded.length);
+            return encoded;
+        } finally {
+            trace.path = path;
+            trace.order = order;
+            trace.fieldEntry = fieldEntry;
+            trace.fieldKind = fieldKind;
+            trace.elementIndex = elementIndex + 1;
+            trace.depth--;
+        }
+    }
 
-    public static <T> void encodeWithDebug(T instance) {
+    /**
+     * Encodes the instance into a buffer acquired from the pool. The field handlers write into the buffer at its
+     * position, so neither per-field chunks nor an exactly-sized result array are allocated. Structs of fixed size
+     * acquire a buffer of exactly that size; others start with a small buffer that grows through the pool.
+     *
+     * @return The encoded bytes. Close the handle to return the buffer to the pool.
+     */
+    public static <T> PooledBuffer encode(T instance, BufferPool pool) {
         if (instance == null) {
-            return;
+            return PooledBuffer.acquire(pool, 0);
+        }
+        if (new StructEncodeEvent().isEnabled() || new StructCodecFailureEvent().isEnabled() || TRACE.get() != null) {
+            // 이벤트 / trace 수집 중에는 일반 인코딩 결과를 복사
+            byte[] encoded = encodeTraced(instance, null);
+            PooledBuffer pooled = PooledBuffer.acquire(pool, encoded.length);
+            pooled.buffer().put(0, encoded);
+            return pooled;
         }
 
-        // 1. 상속 계층 필드 가져오기
-        List<Field> allFields = getAllDeclaredFields(instance.getClass());
-
-        // 2. 필드 정렬
-        List<Field> orderedFields = FieldHelper.getOrderedFields(allFields);
+        int fixedSize = CalculateStructureSizeHelper.calculateClassSize(instance.getClass());
+        EncodeBuffer out = new EncodeBuffer(pool, fixedSize >= 0 ? fixedSize : EncodeBuffer.INITIAL_CAPACITY);
+        try {
+            encodeInto(instance, out);
+        } catch (RuntimeException e) {
+            out.release();
+            throw e;
+        }
+        return out.finish();
+    }
 
-        // 3. Debug 정보를 생성
-        List<FieldDebugInfo> debugInfos = new ArrayList<>();
-        for (Field field : orderedFields) {
-            field.setAccessible(true);
-            debugInfos.addAll(FieldProcessor.processFieldRecursivelyWithDebug(instance, field, null));
+    /**
+     * Encodes the struct at the position of the buffer, with the same bytes as {@link #encode(Object)}.
+     */
+    static void encodeInto(Object instance, EncodeBuffer out) {
+        int start = out.position();
+        for (FieldDescriptor descriptor : FieldDescriptor.forClass(instance.getClass())) {
+            out.putZeros(StructAlignmentHelper.padding(out.position() - start, descriptor.getAlignment()));
+            FieldProcessor.processField(instance, descriptor, out);
         }
+        out.putZeros(StructAlignmentHelper.padding(out.position() - start, StructAlignmentHelper.structAlignment(instance.getClass())));
+    }
 
-        // 4. Debug 출력
-        printDebugInfo(debugInfos);
+    private static byte[] encodeStruct(Object instance, Trace trace) {
+        // 4. 병합된 결과 반환
+        return ByteArrayHelper.mergeChunks(encodeChunks(instance, trace));
     }
 
-    private static void printDebugInfo(List<FieldDebugInfo> debugInfos) {
-        int offset = 0;
-        int totalBytes = 0;
+    private static List<byte[]> encodeChunks(Object instance, Trace trace) {
+        LayoutTrace.Recorder recorder = trace != null ? trace.recorder : null;
 
-        int maxOrderLength = "Order".length();
-        int maxFieldNameLength = "Field".length();
-        int maxOffsetLength = "Offset".length();
+        // 1~2. 상속 계층 필드를 order 순으로 정렬한 디스크립터 (클래스별 캐시)
+        List<FieldDescriptor> descriptors = FieldDescriptor.forClass(instance.getClass());
+
+        // 3. 필드 처리 및 병합
+        List<byte[]> fieldChunks = new ArrayList<>(descriptors.size());
+        int size = 0;
+        for (FieldDescriptor descriptor : descriptors) {
+            int padding = StructAlignmentHelper.padding(size, descriptor.getAlignment());
+            if (padding > 0) {
+                fieldChunks.add(new byte[padding]); // @StructLayoutOptions 정렬 패딩
+                size += padding;
+            }
+
+            int entry = -1;
+            int childMark = 0;
+            if (recorder != null) {
+                entry = recorder.beginField(LayoutTrace.Recorder.childPath(trace.path, descriptor.getName()),
+                        LayoutTrace.Recorder.childOrder(trace.order, descriptor.getOrder()), descriptor.getKind(), size);
+                childMark = recorder.childMark();
+                trace.fieldEntry = entry;
+                trace.fieldKind = descriptor.getKind();
+                trace.elementIndex = 0;
+            }
 
-        for (FieldDebugInfo info : debugInfos) {
-            maxOrderLength = Math.max(maxOrderLength, info.getOrderString().length());
-            maxFieldNameLength = Math.max(maxFieldNameLength, info.getFieldName().length());
-            maxOffsetLength = Math.max(maxOffsetLength, String.format("%07d", offset).length());
-            offset += info.getEncodedBytes().length;
+            byte[] chunk;
+            try {
+                chunk = FieldProcessor.processField(instance, descriptor);
+            } catch (RuntimeException e) {
+                // 가장 안쪽에서 실패한 필드만 기록
+                if (trace != null && trace.failedField == null) {
+                    trace.failedStruct = instance.getClass();
+                    trace.failedField = descriptor.getField();
+                    trace.failedOffset = size;
+                }
+                throw e;
+            }
+
+            if (recorder != null) {
+                recorder.endField(entry, chunk.length);
+                // 중첩 구조체는 chunk 끝에 연속으로 위치 (앞쪽은 optional / 길이 prefix)
+                recorder.placeChildren(childMark, size + chunk.length);
+                trace.fieldEntry = -1;
+            }
+            fieldChunks.add(chunk);
+            size += chunk.length;
         }
 
-        System.out.printf(
-                "%-" + maxOrderLength + "s %-" + maxFieldNameLength + "s %-" + maxOffsetLength + "s %s%n",
-                "Order", "Field", "Offset", "Bytes (HEX)"
-        );
-        System.out.println("=".repeat(maxOrderLength + maxFieldNameLength + maxOffsetLength + 20));
-
-        offset = 0;
-        for (FieldDebugInfo info : debugInfos) {
-            System.out.printf(
-                    "%-" + maxOrderLength + "s %-" + maxFieldNameLength + "s %0" + maxOffsetLength + "d %s%n",
-                    info.getOrderString(),
-                    info.getFieldName(),
-                    offset,
-                    info.getEncodedBytesHex()
-            );
-            offset += info.getEncodedBytes().length;
-            totalBytes += info.getEncodedBytes().length;
+        // 구조체 크기를 정렬 단위의 배수로
+        int trailing = StructAlignmentHelper.padding(size, StructAlignmentHelper.structAlignment(instance.getClass()));
+        if (trailing > 0) {
+            fieldChunks.add(new byte[trailing]);
+        }
+        return fieldChunks;
+    }
+
+    /**
+     * Encodes the instance and prints the offset and bytes of every field, including nested ones, to
+     * {@code System.out}.
+     *
+     * @see LayoutTrace
+     */
+    public static <T> void encodeWithDebug(T instance) {
+        if (instance == null) {
+            return;
         }
-        System.out.println("=".repeat(maxOrderLength + maxFieldNameLength + maxOffsetLength + 20));
-        System.out.printf("Total Bytes: %d%n", totalBytes);
+        encode(instance, trace -> trace.appendTo(System.out));
     }
-}
\ No newline at end of file
+}
@@ -3,10 +3,16 @@ package net.deanly.structlayout.codec.encode.handler;
 import net.deanly.structlayout.Field;
 import net.deanly.structlayout.analysis.CachedLayoutProvider;
 import net.deanly.structlayout.analysis.FieldDebugInfo;
+import net.deanly.structlayout.analysis.LayoutTrace;
+import net.deanly.structlayout.codec.encode.EncodeBuffer;
+import net.deanly.structlayout.codec.encode.StructEncoder;
+import net.deanly.structlayout.codec.helpers.FieldDescriptor;
 import net.deanly.structlayout.codec.helpers.TypeConverterHelper;
+import net.deanly.structlayout.type.ByteOrderField;
+import net.deanly.structlayout.type.Endianness;
 import net.deanly.structlayout.type.FieldBase;
 
-import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.List;
 
 public abstract class BaseFieldHandler {
@@ -15,7 +21,19 @@ public abstract class BaseFieldHandler {
      * Main handling logic for a field.
      * Handles common steps like validation, type conversion, and layout encoding.
      */
-    public abstract <T> byte[] handleField(T instance, java.lang.reflect.Field field) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException, InstantiationException;
+    public abstract <T> byte[] handleField(T instance, FieldDescriptor descriptor) throws IllegalAccessException;
+
+    public <T> byte[] handleField(T instance, java.lang.reflect.Field field) throws IllegalAccessException {
+        return handleField(instance, describe(field));
+    }
+
+    /**
+     * Encodes the field at the position of the buffer. Handlers override this to write their bytes in place;
+     * by default the result of {@link #handleField(Object, FieldDescriptor)} is copied into the buffer.
+     */
+    public <T> void handleField(T instance, FieldDescriptor descriptor, EncodeBuffer out) throws IllegalAccessException {
+        out.put(handleField(instance, descriptor));
+    }
 
     /**
      * Extracts the layout instance for the specified DataType.
@@ -24,12 +42,27 @@ public abstract class BaseFieldHandler {
         return CachedLayoutProvider.getLayout(basicType);
     }
 
+    /**
+     * Extracts the layout instance and, for a {@link ByteOrderField}, selects the given byte order.
+     */
+    protected Field<Object> resolveLayout(Class<? extends Field<?>> basicType, Endianness byteOrder) {
+        return ByteOrderField.ordered(resolveLayout(basicType), byteOrder);
+    }
+
     /**
      * Encodes an element into a byte array by converting it to its layout-specific type
      * and using the corresponding Field implementation to encode it.
      */
     protected byte[] encodeElement(Class<? extends Field<?>> elementFieldType, Object element) {
-        Field<Object> elementField = CachedLayoutProvider.getLayout(elementFieldType);
+        return encodeElement(elementFieldType, element, Endianness.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Encodes an element like {@link #encodeElement(Class, Object)}, in the given byte order if the
+     * element type is a {@link ByteOrderField}.
+     */
+    protected byte[] encodeElement(Class<? extends Field<?>> elementFieldType, Object element, Endianness byteOrder) {
+        Field<Object> elementField = resolveLayout(elementFieldType, byteOrder);
         Object convertedElement = TypeConverterHelper.convertToLayoutType(element, elementFieldType);
         return elementField.encode(convertedElement);
     }
@@ -70,7 +103,58 @@ public abstract class BaseFieldHandler {
      * Generates debug information for a specific field in the given instance.
      * The method collects details such as field order, encoded bytes, and metadata relevant to the field
      * for debugging purposes.
+     *
+     * @deprecated Use {@link net.deanly.structlayout.analysis.LayoutTrace}, collected by
+     *             {@link net.deanly.structlayout.codec.encode.StructEncoder#encode(Object, java.util.function.Consumer)}.
+     *             This method will be removed in a future release.
+     */
+    @Deprecated
+    public abstract <T> List<FieldDebugInfo.Builder> handleDebug(T instance, FieldDescriptor descriptor) throws IllegalAccessException;
+
+    /**
+     * @deprecated Use {@link net.deanly.structlayout.analysis.LayoutTrace}; see {@link #handleDebug(Object, FieldDescriptor)}.
      */
-    public abstract <T> List<FieldDebugInfo.Builder> handleDebug(T instance, java.lang.reflect.Field field) throws IllegalAccessException;
+    @Deprecated
+    public <T> List<FieldDebugInfo.Builder> handleDebug(T instance, java.lang.reflect.Field field) throws IllegalAccessException {
+        return handleDebug(instance, describe(field));
+    }
+
+    /**
+     * Lists the fields of a nested struct, in their encoded order, from the {@link LayoutTrace} of one encode.
+     */
+    @Deprecated
+    static List<FieldDebugInfo.Builder> traceDebug(Object struct, String orderPrefix) {
+        List<FieldDebugInfo.Builder> builders = new ArrayList<>();
+        StructEncoder.encode(struct, trace -> trace.forEach(entry -> {
+            if (!entry.isContainer()) {
+                builders.add(FieldDebugInfo.builder()
+                        .fieldName(entry.path().substring(entry.path().lastIndexOf('.') + 1))
+                        .orderSuffix(orderPrefix + "-" + entry.order())
+                        .encodedBytes(trace.bytesOf(entry)));
+            }
+        }));
+        return builders;
+    }
+
+    /**
+     * Verifies that the descriptor belongs to the annotation this handler supports.
+     */
+    protected void requireKind(FieldDescriptor descriptor, FieldDescriptor.Kind kind, String annotationName) {
+        if (descriptor.getKind() != kind) {
+            throw new IllegalArgumentException(
+                    String.format("Field '%s' is not annotated with @%s", descriptor.getName(), annotationName)
+            );
+        }
+    }
+
+    private FieldDescriptor describe(java.lang.reflect.Field field) {
+        FieldDescriptor descriptor = FieldDescriptor.of(field);
+        if (descriptor == null) {
+            throw new IllegalArgumentException(
+                    String.format("Field '%s' is not annotated with a @Struct* annotation", field.getName())
+            );
+        }
+        return descriptor;
+    }
 
 }
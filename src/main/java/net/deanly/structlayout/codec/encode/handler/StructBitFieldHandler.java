@@ -0,0 +1,46 @@
+package net.deanly.structlayout.codec.encode.handler;
+
+import net.deanly.structlayout.analysis.FieldDebugInfo;
+import net.deanly.structlayout.codec.helpers.BitFieldGroup;
+import net.deanly.structlayout.codec.helpers.FieldDescriptor;
+
+import java.util.List;
+
+/**
+ * Encoder handler for fields annotated with @StructBitField.
+ *
+ * <p>The first field of a bit group ORs the values of every field of the group into the shared word
+ * and writes it. The remaining fields of the group produce no bytes.</p>
+ */
+public class StructBitFieldHandler extends BaseFieldHandler {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    @Override
+    public <T> byte[] handleField(T instance, FieldDescriptor descriptor) throws IllegalAccessException {
+        requireKind(descriptor, FieldDescriptor.Kind.BIT, "StructBitField");
+        if (!descriptor.isBitGroupLeader()) {
+            return EMPTY; // 그룹의 첫 필드에서 이미 인코딩됨
+        }
+
+        BitFieldGroup group = descriptor.getBitGroup();
+        long word = 0;
+        for (BitFieldGroup.Member member : group.getMembers()) {
+            word |= member.insert(extractFieldValue(instance, member.getField()));
+        }
+        return group.writeWord(word);
+    }
+
+    @Override
+    @Deprecated
+    public <T> List<FieldDebugInfo.Builder> handleDebug(T instance, FieldDescriptor descriptor) throws IllegalAccessException {
+        if (!descriptor.isBitGroupLeader()) {
+            return List.of();
+        }
+        byte[] encodedBytes = this.handleField(instance, descriptor);
+        FieldDebugInfo.Builder builder = FieldDebugInfo.builder();
+        builder.fieldName(descriptor.getName());
+        builder.encodedBytes(encodedBytes);
+        return List.of(builder);
+    }
+}
@@ -3,11 +3,13 @@ package net.deanly.structlayout.codec.encode.handler;
 import net.deanly.structlayout.Field;
 import net.deanly.structlayout.analysis.FieldDebugInfo;
 import net.deanly.structlayout.annotation.OptionalEncoding;
-import net.deanly.structlayout.annotation.StructField;
-import net.deanly.structlayout.codec.helpers.FieldHelper;
-import net.deanly.structlayout.codec.helpers.TypeConverterHelper;
+import net.deanly.structlayout.codec.encode.EncodeBuffer;
+import net.deanly.structlayout.codec.helpers.FieldDescriptor;
 import net.deanly.structlayout.exception.CustomLayoutInstantiationException;
+import net.deanly.structlayout.type.ByteOrderField;
 import net.deanly.structlayout.type.DynamicSpanField;
+import net.deanly.structlayout.type.Long128Field;
+import net.deanly.structlayout.type.LongField;
 
 import java.util.List;
 
@@ -15,26 +17,43 @@ public class StructFieldHandler extends BaseFieldHandler {
 
 
     @Override
-    public <T> byte[] handleField(T instance, java.lang.reflect.Field field) throws IllegalAccessException {
-        StructField annotation = field.getAnnotation(StructField.class);
-        if (annotation == null) {
-            throw new IllegalArgumentException(
-                    String.format("Field '%s' is not annotated with @StructField", field.getName())
-            );
-        }
+    public <T> byte[] handleField(T instance, FieldDescriptor descriptor) throws IllegalAccessException {
+        requireKind(descriptor, FieldDescriptor.Kind.FIELD, "StructField");
+        java.lang.reflect.Field field = descriptor.getField();
 
         // Layout 클래스
-        Class<? extends Field<?>> layoutClass = annotation.type();
-        Field<Object> layout = createLayoutInstance(layoutClass, field.getName());
-        Object value = extractFieldValue(instance, field);
+        Class<? extends Field<?>> layoutClass = descriptor.getType();
+        Field<Object> layout = ByteOrderField.ordered(createLayoutInstance(layoutClass, field.getName()), descriptor.getByteOrder());
+        OptionalEncoding opt = descriptor.getOptional();
 
-        OptionalEncoding opt = annotation.optional();
+        // long 필드 + 64-bit Field: UnsignedLong 변환 없이 비트 그대로 기록
+        if (layout instanceof LongField<?> longLayout && field.getType() == long.class && opt == OptionalEncoding.NONE) {
+            byte[] encoded = new byte[layout.getSpan()];
+            longLayout.encodeLong(field.getLong(instance), encoded, 0);
+            return encoded;
+        }
+
+        // long[] 필드 + 128-bit Field: [0] = 하위 64비트, [1] = 상위 64비트
+        if (layout instanceof Long128Field<?> long128Layout && field.getType() == long[].class && opt == OptionalEncoding.NONE) {
+            long[] words = (long[]) field.get(instance);
+            byte[] encoded = new byte[layout.getSpan()];
+            if (words != null) {
+                if (words.length != 2) {
+                    throw new IllegalArgumentException(String.format(
+                            "Field '%s' must hold exactly 2 longs for a 128-bit value, but holds %d.", field.getName(), words.length));
+                }
+                long128Layout.encodeLongs(words[0], words[1], encoded, 0);
+            }
+            return encoded;
+        }
+
+        Object value = extractFieldValue(instance, field);
 
         if (opt == OptionalEncoding.BORSH) {
             if (value == null) {
                 return new byte[]{0x00}; // None
             } else {
-                Object converted = TypeConverterHelper.convertToLayoutType(value, layoutClass);
+                Object converted = descriptor.getEncodeConverter().convert(value);
                 byte[] encoded = layout.encode(converted);
                 byte[] result = new byte[1 + encoded.length];
                 result[0] = 0x01; // Some
@@ -51,16 +70,59 @@ public class StructFieldHandler extends BaseFieldHandler {
                 return new byte[layout.getSpan()];
             }
         } else {
-            Object converted = TypeConverterHelper.convertToLayoutType(value, layoutClass);
+            Object converted = descriptor.getEncodeConverter().convert(value);
             return layout.encode(converted);
         }
     }
 
     @Override
-    public <T> List<FieldDebugInfo.Builder> handleDebug(T instance, java.lang.reflect.Field field) throws IllegalAccessException {
-        byte[] encodedBytes = this.handleField(instance, field);
+    public <T> void handleField(T instance, FieldDescriptor descriptor, EncodeBuffer out) throws IllegalAccessException {
+        requireKind(descriptor, FieldDescriptor.Kind.FIELD, "StructField");
+        java.lang.reflect.Field field = descriptor.getField();
+        Field<Object> layout = resolveLayout(descriptor.getType(), descriptor.getByteOrder());
+        OptionalEncoding opt = descriptor.getOptional();
+
+        // 64/128-bit 값은 출력 buffer 에 바로 기록
+        if (layout instanceof LongField<?> longLayout && field.getType() == long.class && opt == OptionalEncoding.NONE) {
+            out.putLong(longLayout, field.getLong(instance));
+            return;
+        }
+        if (layout instanceof Long128Field<?> long128Layout && field.getType() == long[].class && opt == OptionalEncoding.NONE) {
+            long[] words = (long[]) field.get(instance);
+            if (words == null) {
+                out.putZeros(layout.getSpan());
+                return;
+            }
+            if (words.length != 2) {
+                throw new IllegalArgumentException(String.format(
+                        "Field '%s' must hold exactly 2 longs for a 128-bit value, but holds %d.", field.getName(), words.length));
+            }
+            out.putLongs(long128Layout, words[0], words[1]);
+            return;
+        }
+
+        Object value = extractFieldValue(instance, field);
+        if (opt == OptionalEncoding.BORSH) {
+            out.putByte(value == null ? 0x00 : 0x01); // None / Some
+            if (value != null) {
+                out.put(layout.encode(descriptor.getEncodeConverter().convert(value)));
+            }
+            return;
+        }
+
+        if (value == null) {
+            out.putZeros(layout instanceof DynamicSpanField dynamic ? dynamic.getNoDataSpan() : layout.getSpan());
+        } else {
+            out.put(layout.encode(descriptor.getEncodeConverter().convert(value)));
+        }
+    }
+
+    @Override
+    @Deprecated
+    public <T> List<FieldDebugInfo.Builder> handleDebug(T instance, FieldDescriptor descriptor) throws IllegalAccessException {
+        byte[] encodedBytes = this.handleField(instance, descriptor);
         FieldDebugInfo.Builder builder = FieldDebugInfo.builder();
-        builder.fieldName(field.getName());
+        builder.fieldName(descriptor.getName());
         builder.encodedBytes(encodedBytes);
         return List.of(builder);
     }
@@ -0,0 +1,138 @@
+package net.deanly.structlayout.codec.encode.handler;
+
+import net.deanly.structlayout.Field;
+import net.deanly.structlayout.analysis.FieldDebugInfo;
+import net.deanly.structlayout.codec.encode.EncodeBuffer;
+import net.deanly.structlayout.codec.helpers.FieldDescriptor;
+import net.deanly.structlayout.exception.InvalidSequenceTypeException;
+import net.deanly.structlayout.type.LongField;
+import net.deanly.structlayout.type.basic.ByteField;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+
+public class StructFixedArrayFieldHandler extends BaseFieldHandler {
+
+    @Override
+    public <T> byte[] handleField(T instance, FieldDescriptor descriptor) throws IllegalAccessException {
+        requireKind(descriptor, FieldDescriptor.Kind.FIXED_ARRAY, "StructFixedArray");
+        java.lang.reflect.Field field = descriptor.getField();
+
+        int length = descriptor.getLength();
+        Field<Object> elementField = resolveLayout(descriptor.getElementType(), descriptor.getByteOrder());
+        int span = elementField.getSpan();
+        Object value = extractFieldValue(instance, field);
+
+        // 크기가 고정이므로 출력 배열을 한 번만 할당하고 요소를 제자리에 기록
+        byte[] result = new byte[length * span];
+        if (value == null) {
+            return result; // null 은 0 으로 채움
+        }
+
+        requireLength(field, value, length);
+        if (value instanceof byte[] bytes && descriptor.getElementType() == ByteField.class) {
+            System.arraycopy(bytes, 0, result, 0, bytes.length);
+            return result;
+        }
+        if (value instanceof long[] values && elementField instanceof LongField<?> longElement) {
+            for (int i = 0; i < length; i++) {
+                longElement.encodeLong(values[i], result, i * span);
+            }
+            return result;
+        }
+
+        for (int i = 0; i < length; i++) {
+            byte[] encoded = encodeFixedElement(descriptor, elementAt(value, i), span);
+            System.arraycopy(encoded, 0, result, i * span, span);
+        }
+        return result;
+    }
+
+    @Override
+    public <T> void handleField(T instance, FieldDescriptor descriptor, EncodeBuffer out) throws IllegalAccessException {
+        requireKind(descriptor, FieldDescriptor.Kind.FIXED_ARRAY, "StructFixedArray");
+        java.lang.reflect.Field field = descriptor.getField();
+
+        int length = descriptor.getLength();
+        Field<Object> elementField = resolveLayout(descriptor.getElementType(), descriptor.getByteOrder());
+        int span = elementField.getSpan();
+        Object value = extractFieldValue(instance, field);
+        if (value == null) {
+            out.putZeros(length * span); // null 은 0 으로 채움
+            return;
+        }
+
+        requireLength(field, value, length);
+        if (value instanceof byte[] bytes && descriptor.getElementType() == ByteField.class) {
+            out.put(bytes);
+            return;
+        }
+        if (value instanceof long[] values && elementField instanceof LongField<?> longElement) {
+            for (long element : values) {
+                out.putLong(longElement, element);
+            }
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            out.put(encodeFixedElement(descriptor, elementAt(value, i), span));
+        }
+    }
+
+    @Override
+    @Deprecated
+    public <T> List<FieldDebugInfo.Builder> handleDebug(T instance, FieldDescriptor descriptor) throws IllegalAccessException {
+        requireKind(descriptor, FieldDescriptor.Kind.FIXED_ARRAY, "StructFixedArray");
+        java.lang.reflect.Field field = descriptor.getField();
+
+        int length = descriptor.getLength();
+        int span = resolveLayout(descriptor.getElementType()).getSpan();
+        Object value = extractFieldValue(instance, field);
+        if (value != null) {
+            requireLength(field, value, length);
+        }
+
+        List<FieldDebugInfo.Builder> builders = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            byte[] encoded = value == null
+                    ? new byte[span]
+                    : encodeFixedElement(descriptor, elementAt(value, i), span);
+            builders.add(FieldDebugInfo.builder()
+                    .fieldName(field.getName())
+                    .orderSuffix("[" + i + "]")
+                    .encodedBytes(encoded));
+        }
+        return builders;
+    }
+
+    private byte[] encodeFixedElement(FieldDescriptor descriptor, Object element, int span) {
+        Class<? extends Field<?>> elementType = descriptor.getElementType();
+        Object converted = descriptor.getEncodeConverter().convert(element);
+        byte[] encoded = resolveLayout(elementType, descriptor.getByteOrder()).encode(converted);
+        if (encoded.length != span) {
+            throw new IllegalStateException(String.format(
+                    "Element of type '%s' encoded to %d bytes, but its span is %d.",
+                    elementType.getSimpleName(), encoded.length, span));
+        }
+        return encoded;
+    }
+
+    private void requireLength(java.lang.reflect.Field field, Object value, int length) {
+        int actual;
+        if (value.getClass().isArray()) {
+            actual = Array.getLength(value);
+        } else if (value instanceof List<?> list) {
+            actual = list.size();
+        } else {
+            throw new InvalidSequenceTypeException(field.getName(), value.getClass(), "Only Array or List types are allowed.");
+        }
+        if (actual != length) {
+            throw new IllegalArgumentException(String.format(
+                    "@StructFixedArray field '%s' requires exactly %d elements, but has %d.", field.getName(), length, actual));
+        }
+    }
+
+    private Object elementAt(Object value, int index) {
+        return value instanceof List<?> list ? list.get(index) : Array.get(value, index);
+    }
+}
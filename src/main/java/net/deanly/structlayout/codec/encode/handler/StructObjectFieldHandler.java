@@ -2,35 +2,30 @@ package net.deanly.structlayout.codec.encode.handler;
 
 import net.deanly.structlayout.analysis.FieldDebugInfo;
 import net.deanly.structlayout.annotation.OptionalEncoding;
-import net.deanly.structlayout.annotation.StructObjectField;
 import net.deanly.structlayout.annotation.StructTypeSelector;
+import net.deanly.structlayout.codec.encode.EncodeBuffer;
 import net.deanly.structlayout.codec.encode.StructEncoder;
 import net.deanly.structlayout.codec.helpers.CalculateStructureSizeHelper;
+import net.deanly.structlayout.codec.helpers.FieldDescriptor;
 import net.deanly.structlayout.dispatcher.StructTypeResolver;
+import net.deanly.structlayout.exception.LayoutInitializationException;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
 
-import static net.deanly.structlayout.codec.encode.FieldProcessor.processFieldRecursivelyWithDebug;
-
 public class StructObjectFieldHandler extends BaseFieldHandler {
     @Override
-    public <T> byte[] handleField(T instance, Field field) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException, InstantiationException {
-        // 1. 필드 값 추출
-        Object fieldValue = extractFieldValue(instance, field);
+    public <T> byte[] handleField(T instance, FieldDescriptor descriptor) throws IllegalAccessException {
+        // 1. @StructObjectField 디스크립터 확인
+        requireKind(descriptor, FieldDescriptor.Kind.OBJECT, "StructObjectField");
+        Field field = descriptor.getField();
 
-        // 2. @StructObjectField 어노테이션 확인
-        StructObjectField annotation = field.getAnnotation(StructObjectField.class);
-        if (annotation == null) {
-            throw new IllegalArgumentException(
-                    String.format("Field '%s' is not annotated with @StructObjectField", field.getName())
-            );
-        }
+        // 2. 필드 값 추출
+        Object fieldValue = extractFieldValue(instance, field);
 
         // Optional 처리
-        OptionalEncoding opt = annotation.optional();
+        OptionalEncoding opt = descriptor.getOptional();
 
         if (opt == OptionalEncoding.BORSH) {
             if (fieldValue == null) {
@@ -46,13 +41,7 @@ public class StructObjectFieldHandler extends BaseFieldHandler {
 
         // Optional NONE
         if (fieldValue == null) {
-            if (field.getType().getAnnotation(StructTypeSelector.class) != null){
-                int span = StructTypeResolver.resolveNoDataSpan(field.getType());
-                return new byte[span]; // Null 처리: 빈 배열
-            } else {
-                int span = CalculateStructureSizeHelper.calculateNoDataClassSize(field.getType());
-                return new byte[span];
-            }
+            return new byte[noDataSpan(field)]; // Null 처리: 빈 배열
         }
 
         // StructEncoder를 사용하여 재귀적으로 인코딩 처리
@@ -60,10 +49,47 @@ public class StructObjectFieldHandler extends BaseFieldHandler {
     }
 
     @Override
-    public <T> List<FieldDebugInfo.Builder> handleDebug(T instance, Field field) throws IllegalAccessException {
+    public <T> void handleField(T instance, FieldDescriptor descriptor, EncodeBuffer out) throws IllegalAccessException {
+        requireKind(descriptor, FieldDescriptor.Kind.OBJECT, "StructObjectField");
+        Field field = descriptor.getField();
         Object fieldValue = extractFieldValue(instance, field);
-        StructObjectField annotation = field.getAnnotation(StructObjectField.class);
-        OptionalEncoding opt = annotation.optional();
+
+        if (descriptor.getOptional() == OptionalEncoding.BORSH) {
+            out.putByte(fieldValue == null ? 0x00 : 0x01); // None / Some
+            out.putStruct(fieldValue);
+        } else if (fieldValue == null) {
+            out.putZeros(noDataSpan(field));
+        } else {
+            // 중첩 구조체도 같은 buffer 에 이어서 기록
+            out.putStruct(fieldValue);
+        }
+    }
+
+    /**
+     * The size of the zero bytes written for a {@code null} struct.
+     */
+    private int noDataSpan(Field field) {
+        if (field.getType().getAnnotation(StructTypeSelector.class) != null) {
+            try {
+                return StructTypeResolver.resolveNoDataSpan(field.getType());
+            } catch (ReflectiveOperationException e) {
+                throw new LayoutInitializationException("Failed to dispatch interface: `" + field.getType().getName() + "` => " + e.getMessage(), e);
+            }
+        }
+        int span = CalculateStructureSizeHelper.calculateClassSize(field.getType());
+        if (span < 0) {
+            span = CalculateStructureSizeHelper.calculateNoDataClassSize(field.getType());
+        }
+        return span;
+    }
+
+    @Override
+    @Deprecated
+    public <T> List<FieldDebugInfo.Builder> handleDebug(T instance, FieldDescriptor descriptor) throws IllegalAccessException {
+        requireKind(descriptor, FieldDescriptor.Kind.OBJECT, "StructObjectField");
+        Field field = descriptor.getField();
+        Object fieldValue = extractFieldValue(instance, field);
+        OptionalEncoding opt = descriptor.getOptional();
 
         List<FieldDebugInfo.Builder> builders = new ArrayList<>();
 
@@ -82,16 +108,8 @@ public class StructObjectFieldHandler extends BaseFieldHandler {
             return builders; // optional = NONE 이면서 null인 경우 skip
         }
 
-        for (Field innerField : fieldValue.getClass().getDeclaredFields()) {
-            innerField.setAccessible(true);
-            List<FieldDebugInfo> infos = processFieldRecursivelyWithDebug(fieldValue, innerField, "");
-            for (FieldDebugInfo info : infos) {
-                builders.add(FieldDebugInfo.builder()
-                        .fieldName(info.getFieldName())
-                        .orderSuffix(info.getOrderString())
-                        .encodedBytes(info.getEncodedBytes()));
-            }
-        }
+        // 중첩 구조체는 LayoutTrace 로 한 번만 인코딩 (상속 필드와 order 포함)
+        builders.addAll(traceDebug(fieldValue, ""));
 
         return builders;
     }
@@ -3,13 +3,16 @@ package net.deanly.structlayout.codec.encode.handler;
 import net.deanly.structlayout.Field;
 import net.deanly.structlayout.analysis.FieldDebugInfo;
 import net.deanly.structlayout.annotation.OptionalEncoding;
-import net.deanly.structlayout.annotation.StructSequenceField;
+import net.deanly.structlayout.codec.encode.EncodeBuffer;
+import net.deanly.structlayout.codec.helpers.FieldDescriptor;
+import net.deanly.structlayout.codec.helpers.ValueConverter;
 import net.deanly.structlayout.exception.InvalidSequenceTypeException;
 import net.deanly.structlayout.exception.LayoutInitializationException;
 import net.deanly.structlayout.codec.helpers.ByteArrayHelper;
-import net.deanly.structlayout.codec.helpers.TypeConverterHelper;
 import net.deanly.structlayout.type.CountableField;
+import net.deanly.structlayout.type.LongField;
 import net.deanly.structlayout.type.advanced.NoneField;
+import net.deanly.structlayout.type.basic.ByteField;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
@@ -18,29 +21,27 @@ import java.util.List;
 public class StructSequenceFieldHandler extends BaseFieldHandler {
 
     @Override
-    public <T> byte[] handleField(T instance, java.lang.reflect.Field field) throws IllegalAccessException {
-        // 1. @StructSequenceField 어노테이션 가져오기
-        StructSequenceField annotation = field.getAnnotation(StructSequenceField.class);
-        if (annotation == null) {
+    public <T> byte[] handleField(T instance, FieldDescriptor descriptor) throws IllegalAccessException {
+        // 1. @StructSequenceField 디스크립터 확인
+        java.lang.reflect.Field field = descriptor.getField();
+        if (descriptor.getKind() != FieldDescriptor.Kind.SEQUENCE) {
             throw new InvalidSequenceTypeException(field.getName(), field.getType());
         }
 
-        OptionalEncoding opt = annotation.optional();
+        OptionalEncoding opt = descriptor.getOptional();
 
         // 2. 필드 값 추출
         Object arrayOrList = extractFieldValue(instance, field);
 
-        // 3. 길이 및 요소 타입 메타데이터 조회
-        Class<? extends CountableField<?>> lengthType = annotation.lengthType();
-        Class<? extends Field<?>> elementFieldType = annotation.elementType();
-        boolean unsafeMode = NoneField.class.isAssignableFrom(lengthType);
+        // 3. 길이 타입 메타데이터 조회
+        boolean unsafeMode = NoneField.class.isAssignableFrom(descriptor.getLengthType());
 
         if (opt == OptionalEncoding.BORSH) {
             if (arrayOrList == null) {
                 return new byte[]{0x00}; // None
             } else {
                 List<Object> elements = toElementList(arrayOrList);
-                byte[] encoded = encodeLengthAndElements(elements, lengthType, elementFieldType, unsafeMode);
+                byte[] encoded = encodeLengthAndElements(elements, descriptor, unsafeMode);
                 byte[] result = new byte[1 + encoded.length];
                 result[0] = 0x01;
                 System.arraycopy(encoded, 0, result, 1, encoded.length);
@@ -49,11 +50,11 @@ public class StructSequenceFieldHandler extends BaseFieldHandler {
         }
 
         if (arrayOrList == null) {
-            return encodeLengthAndElements(new ArrayList<>(), lengthType, elementFieldType, unsafeMode);
+            return encodeLengthAndElements(new ArrayList<>(), descriptor, unsafeMode);
         }
 
         List<Object> elements = toElementList(arrayOrList);
-        return encodeLengthAndElements(elements, lengthType, elementFieldType, unsafeMode);
+        return encodeLengthAndElements(elements, descriptor, unsafeMode);
     }
 
     private List<Object> toElementList(Object arrayOrList) {
@@ -78,22 +79,22 @@ public class StructSequenceFieldHandler extends BaseFieldHandler {
      */
     private byte[] encodeLengthAndElements(
             List<Object> elements,
-            Class<? extends CountableField<?>> lengthType,
-            Class<? extends Field<?>> elementFieldType,
+            FieldDescriptor descriptor,
             boolean unsafeMode
     ) {
-        List<byte[]> encodedChunks = new ArrayList<>();
+        List<byte[]> encodedChunks = new ArrayList<>(elements.size() + 1);
         try {
             if (!unsafeMode) {
                 // 길이 인코딩
-                Object convertedLength = TypeConverterHelper.convertToLayoutType(elements.size(), lengthType);
-                encodedChunks.add(encodeElement(lengthType, convertedLength));
+                Object convertedLength = descriptor.getLengthEncodeConverter().convert(elements.size());
+                encodedChunks.add(resolveLayout(descriptor.getLengthType(), descriptor.getByteOrder()).encode(convertedLength));
             }
 
-            // 요소 인코딩
+            // 요소 인코딩 (변환기와 layout 은 요소마다 다시 찾지 않음)
+            Field<Object> elementField = resolveLayout(descriptor.getElementType(), descriptor.getByteOrder());
+            ValueConverter converter = descriptor.getEncodeConverter();
             for (Object element : elements) {
-                Object convertedElement = TypeConverterHelper.convertToLayoutType(element, elementFieldType);
-                encodedChunks.add(encodeElement(elementFieldType, convertedElement));
+                encodedChunks.add(elementField.encode(converter.convert(element)));
             }
         } catch (Exception e) {
             throw new LayoutInitializationException(
@@ -105,15 +106,73 @@ public class StructSequenceFieldHandler extends BaseFieldHandler {
     }
 
     @Override
-    public <T> List<FieldDebugInfo.Builder> handleDebug(T instance, java.lang.reflect.Field field) throws IllegalAccessException {
-        StructSequenceField annotation = field.getAnnotation(StructSequenceField.class);
-        if (annotation == null) {
+    public <T> void handleField(T instance, FieldDescriptor descriptor, EncodeBuffer out) throws IllegalAccessException {
+        java.lang.reflect.Field field = descriptor.getField();
+        if (descriptor.getKind() != FieldDescriptor.Kind.SEQUENCE) {
+            throw new InvalidSequenceTypeException(field.getName(), field.getType());
+        }
+        Object arrayOrList = extractFieldValue(instance, field);
+
+        if (descriptor.getOptional() == OptionalEncoding.BORSH) {
+            out.putByte(arrayOrList == null ? 0x00 : 0x01); // None / Some
+            if (arrayOrList == null) {
+                return;
+            }
+        }
+
+        List<Object> elements = null;
+        int length;
+        if (arrayOrList == null) {
+            length = 0;
+        } else if (arrayOrList instanceof byte[] || arrayOrList instanceof long[]) {
+            length = Array.getLength(arrayOrList);
+        } else {
+            elements = toElementList(arrayOrList);
+            length = elements.size();
+        }
+
+        try {
+            if (!NoneField.class.isAssignableFrom(descriptor.getLengthType())) {
+                Object convertedLength = descriptor.getLengthEncodeConverter().convert(length);
+                out.put(resolveLayout(descriptor.getLengthType(), descriptor.getByteOrder()).encode(convertedLength));
+            }
+
+            Field<Object> elementField = resolveLayout(descriptor.getElementType(), descriptor.getByteOrder());
+            // byte[] / long[] 은 요소별 배열 없이 기록
+            if (arrayOrList instanceof byte[] bytes && descriptor.getElementType() == ByteField.class) {
+                out.put(bytes);
+                return;
+            }
+            if (arrayOrList instanceof long[] values && elementField instanceof LongField<?> longElement) {
+                for (long value : values) {
+                    out.putLong(longElement, value);
+                }
+                return;
+            }
+            if (elements == null) {
+                elements = arrayOrList == null ? List.of() : toElementList(arrayOrList);
+            }
+            ValueConverter converter = descriptor.getEncodeConverter();
+            for (Object element : elements) {
+                out.put(elementField.encode(converter.convert(element)));
+            }
+        } catch (Exception e) {
+            throw new LayoutInitializationException(
+                    "Failed to initialize layout for element or length type. Ensure that Field class is correctly defined.", e);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public <T> List<FieldDebugInfo.Builder> handleDebug(T instance, FieldDescriptor descriptor) throws IllegalAccessException {
+        java.lang.reflect.Field field = descriptor.getField();
+        if (descriptor.getKind() != FieldDescriptor.Kind.SEQUENCE) {
             throw new InvalidSequenceTypeException(field.getName(), field.getType());
         }
 
-        OptionalEncoding opt = annotation.optional();
-        Class<? extends CountableField<?>> lengthType = annotation.lengthType();
-        Class<? extends Field<?>> elementFieldType = annotation.elementType();
+        OptionalEncoding opt = descriptor.getOptional();
+        Class<? extends CountableField<?>> lengthType = descriptor.getLengthType();
+        Class<? extends Field<?>> elementFieldType = descriptor.getElementType();
         boolean unsafeMode = NoneField.class.isAssignableFrom(lengthType);
 
         Object arrayOrList = extractFieldValue(instance, field);
@@ -138,8 +197,8 @@ public class StructSequenceFieldHandler extends BaseFieldHandler {
 
         // length field (if not unsafe)
         if (!unsafeMode) {
-            Object convertedLength = TypeConverterHelper.convertToLayoutType(elements.size(), lengthType);
-            byte[] encodedLength = encodeElement(lengthType, convertedLength);
+            Object convertedLength = descriptor.getLengthEncodeConverter().convert(elements.size());
+            byte[] encodedLength = resolveLayout(lengthType, descriptor.getByteOrder()).encode(convertedLength);
             builders.add(FieldDebugInfo.builder()
                     .fieldName(field.getName())
                     .orderSuffix("[].length")
@@ -148,8 +207,8 @@ public class StructSequenceFieldHandler extends BaseFieldHandler {
 
         // element list
         for (int i = 0; i < elements.size(); i++) {
-            Object converted = TypeConverterHelper.convertToLayoutType(elements.get(i), elementFieldType);
-            byte[] encoded = encodeElement(elementFieldType, converted);
+            Object converted = descriptor.getEncodeConverter().convert(elements.get(i));
+            byte[] encoded = resolveLayout(elementFieldType, descriptor.getByteOrder()).encode(converted);
             builders.add(FieldDebugInfo.builder()
                     .fieldName(field.getName())
                     .orderSuffix("[" + i + "]")
@@ -4,33 +4,31 @@ package net.deanly.structlayout.codec.encode.handler;
 import net.deanly.structlayout.Field;
 import net.deanly.structlayout.analysis.FieldDebugInfo;
 import net.deanly.structlayout.annotation.OptionalEncoding;
-import net.deanly.structlayout.annotation.StructSequenceObjectField;
+import net.deanly.structlayout.codec.encode.EncodeBuffer;
 import net.deanly.structlayout.codec.encode.StructEncoder;
 import net.deanly.structlayout.codec.helpers.ByteArrayHelper;
-import net.deanly.structlayout.codec.helpers.TypeConverterHelper;
+import net.deanly.structlayout.codec.helpers.FieldDescriptor;
+import net.deanly.structlayout.codec.helpers.ValueConverter;
 import net.deanly.structlayout.exception.InvalidSequenceTypeException;
 import net.deanly.structlayout.exception.LayoutInitializationException;
 import net.deanly.structlayout.type.CountableField;
+import net.deanly.structlayout.type.Endianness;
 import net.deanly.structlayout.type.advanced.NoneField;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.List;
 
-import static net.deanly.structlayout.codec.encode.FieldProcessor.processFieldRecursivelyWithDebug;
-
 public class StructSequenceObjectFieldHandler extends BaseFieldHandler {
 
     @Override
-    public <T> byte[] handleField(T instance, java.lang.reflect.Field field) throws IllegalAccessException {
-        StructSequenceObjectField annotation = field.getAnnotation(StructSequenceObjectField.class);
-        if (annotation == null) {
-            throw new IllegalArgumentException("Field is not annotated with @StructSequenceObjectField");
-        }
+    public <T> byte[] handleField(T instance, FieldDescriptor descriptor) throws IllegalAccessException {
+        requireKind(descriptor, FieldDescriptor.Kind.SEQUENCE_OBJECT, "StructSequenceObjectField");
+        java.lang.reflect.Field field = descriptor.getField();
 
-        OptionalEncoding opt = annotation.optional();
+        OptionalEncoding opt = descriptor.getOptional();
         Object arrayOrList = extractFieldValue(instance, field);
-        Class<? extends CountableField<?>> lengthType = annotation.lengthType();
+        Class<? extends CountableField<?>> lengthType = descriptor.getLengthType();
         boolean unsafeMode = NoneField.class.isAssignableFrom(lengthType);
 
         if (opt == OptionalEncoding.BORSH) {
@@ -38,7 +36,7 @@ public class StructSequenceObjectFieldHandler extends BaseFieldHandler {
                 return new byte[]{0x00};
             } else {
                 List<Object> elements = toElementList(arrayOrList);
-                byte[] encoded = encodeLengthAndElements(elements, lengthType, unsafeMode);
+                byte[] encoded = encodeLengthAndElements(elements, lengthType, descriptor.getLengthEncodeConverter(), unsafeMode, descriptor.getByteOrder());
                 byte[] result = new byte[1 + encoded.length];
                 result[0] = 0x01;
                 System.arraycopy(encoded, 0, result, 1, encoded.length);
@@ -47,18 +45,20 @@ public class StructSequenceObjectFieldHandler extends BaseFieldHandler {
         }
 
         List<Object> elements = (arrayOrList == null) ? new ArrayList<>() : toElementList(arrayOrList);
-        return encodeLengthAndElements(elements, lengthType, unsafeMode);
+        return encodeLengthAndElements(elements, lengthType, descriptor.getLengthEncodeConverter(), unsafeMode, descriptor.getByteOrder());
     }
 
     @SuppressWarnings("unchecked")
     private byte[] encodeLengthAndElements(List<Object> elements,
                                            Class<? extends CountableField<?>> lengthType,
-                                           boolean unsafeMode) {
+                                           ValueConverter lengthConverter,
+                                           boolean unsafeMode,
+                                           Endianness byteOrder) {
         List<byte[]> encodedChunks = new ArrayList<>();
         try {
             if (!unsafeMode) {
-                Field<Object> lengthField = resolveLayout(lengthType);
-                Object convertedLength = TypeConverterHelper.convertToLayoutType(elements.size(), lengthType);
+                Field<Object> lengthField = resolveLayout(lengthType, byteOrder);
+                Object convertedLength = lengthConverter.convert(elements.size());
                 encodedChunks.add(lengthField.encode(convertedLength));
             }
 
@@ -74,14 +74,39 @@ public class StructSequenceObjectFieldHandler extends BaseFieldHandler {
     }
 
     @Override
-    public <T> List<FieldDebugInfo.Builder> handleDebug(T instance, java.lang.reflect.Field field) throws IllegalAccessException {
-        StructSequenceObjectField annotation = field.getAnnotation(StructSequenceObjectField.class);
-        if (annotation == null) {
-            throw new IllegalArgumentException("Field is not annotated with @StructSequenceObjectField");
+    public <T> void handleField(T instance, FieldDescriptor descriptor, EncodeBuffer out) throws IllegalAccessException {
+        requireKind(descriptor, FieldDescriptor.Kind.SEQUENCE_OBJECT, "StructSequenceObjectField");
+        Object arrayOrList = extractFieldValue(instance, descriptor.getField());
+
+        if (descriptor.getOptional() == OptionalEncoding.BORSH) {
+            out.putByte(arrayOrList == null ? 0x00 : 0x01); // None / Some
+            if (arrayOrList == null) {
+                return;
+            }
+        }
+
+        List<Object> elements = (arrayOrList == null) ? new ArrayList<>() : toElementList(arrayOrList);
+        try {
+            if (!NoneField.class.isAssignableFrom(descriptor.getLengthType())) {
+                Field<Object> lengthField = resolveLayout(descriptor.getLengthType(), descriptor.getByteOrder());
+                out.put(lengthField.encode(descriptor.getLengthEncodeConverter().convert(elements.size())));
+            }
+            for (Object element : elements) {
+                out.putStruct(element);
+            }
+        } catch (Exception e) {
+            throw new LayoutInitializationException("Failed to encode sequence object", e);
         }
+    }
+
+    @Override
+    @Deprecated
+    public <T> List<FieldDebugInfo.Builder> handleDebug(T instance, FieldDescriptor descriptor) throws IllegalAccessException {
+        requireKind(descriptor, FieldDescriptor.Kind.SEQUENCE_OBJECT, "StructSequenceObjectField");
+        java.lang.reflect.Field field = descriptor.getField();
 
-        OptionalEncoding opt = annotation.optional();
-        Class<? extends CountableField<?>> lengthType = annotation.lengthType();
+        OptionalEncoding opt = descriptor.getOptional();
+        Class<? extends CountableField<?>> lengthType = descriptor.getLengthType();
         boolean unsafeMode = NoneField.class.isAssignableFrom(lengthType);
 
         Object arrayOrList = extractFieldValue(instance, field);
@@ -101,8 +126,8 @@ public class StructSequenceObjectFieldHandler extends BaseFieldHandler {
         List<Object> elements = (arrayOrList == null) ? new ArrayList<>() : toElementList(arrayOrList);
 
         if (!unsafeMode) {
-            Field<Object> lengthField = resolveLayout(lengthType);
-            Object convertedLength = TypeConverterHelper.convertToLayoutType(elements.size(), lengthType);
+            Field<Object> lengthField = resolveLayout(lengthType, descriptor.getByteOrder());
+            Object convertedLength = descriptor.getLengthEncodeConverter().convert(elements.size());
             byte[] encodedLength = lengthField.encode(convertedLength);
             builders.add(FieldDebugInfo.builder()
                     .fieldName(field.getName())
@@ -111,19 +136,8 @@ public class StructSequenceObjectFieldHandler extends BaseFieldHandler {
         }
 
         for (int i = 0; i < elements.size(); i++) {
-            Object element = elements.get(i);
-            java.lang.reflect.Field[] declaredFields = element.getClass().getDeclaredFields();
-
-            for (java.lang.reflect.Field innerField : declaredFields) {
-                innerField.setAccessible(true);
-                List<FieldDebugInfo> subInfos = processFieldRecursivelyWithDebug(element, innerField, "");
-                for (FieldDebugInfo info : subInfos) {
-                    builders.add(FieldDebugInfo.builder()
-                            .fieldName(info.getFieldName())
-                            .orderSuffix("[" + i + "]" + info.getOrderString())
-                            .encodedBytes(info.getEncodedBytes()));
-                }
-            }
+            // 요소마다 LayoutTrace 로 한 번만 인코딩 (상속 필드와 order 포함)
+            builders.addAll(traceDebug(elements.get(i), "[" + i + "]"));
         }
 
         return builders;
@@ -0,0 +1,242 @@
+package net.deanly.structlayout.codec.helpers;
+
+import lombok.Getter;
+import net.deanly.structlayout.annotation.StructBitField;
+import net.deanly.structlayout.exception.InvalidAnnotationUsageException;
+import net.deanly.structlayout.type.Endianness;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The fields annotated with {@link StructBitField} that share one word, resolved and validated once.
+ *
+ * <p>Decoding loads the word once and extracts every member with a shift and mask; encoding ORs the
+ * members into a single word.</p>
+ */
+@Getter
+public final class BitFieldGroup {
+
+    /**
+     * A single bit field within the word.
+     */
+    @Getter
+    public static final class Member {
+        private final Field field;
+        private final int offset;
+        private final int width;
+        private final boolean signed;
+        private final long mask;
+        private final Object[] enumConstants;
+
+        private Member(Field field, StructBitField annotation) {
+            this.field = field;
+            this.offset = annotation.offset();
+            this.width = annotation.width();
+            this.signed = annotation.signed();
+            this.mask = width == 64 ? -1L : (1L << width) - 1;
+            this.enumConstants = field.getType().isEnum() ? field.getType().getEnumConstants() : null;
+        }
+
+        /**
+         * Extracts the value of this member from the word and converts it to the field type.
+         */
+        public Object extract(long word) {
+            long raw = (word >>> offset) & mask;
+            if (signed && width < 64) {
+                raw = (raw << (64 - width)) >> (64 - width); // 부호 확장
+            }
+
+            Class<?> type = field.getType();
+            if (type == boolean.class || type == Boolean.class) {
+                return raw != 0;
+            } else if (type == int.class || type == Integer.class) {
+                return (int) raw;
+            } else if (type == long.class || type == Long.class) {
+                return raw;
+            } else if (type == short.class || type == Short.class) {
+                return (short) raw;
+            } else if (type == byte.class || type == Byte.class) {
+                return (byte) raw;
+            } else if (type == char.class || type == Character.class) {
+                return (char) raw;
+            } else if (enumConstants != null) {
+                if (raw < 0 || raw >= enumConstants.length) {
+                    throw new IllegalArgumentException(String.format(
+                            "Bit field '%s' holds %d, which is not an ordinal of %s.", field.getName(), raw, type.getName()));
+                }
+                return enumConstants[(int) raw];
+            }
+            throw new IllegalArgumentException("Unsupported bit field type: " + type.getName());
+        }
+
+        /**
+         * Converts the field value to its bits, positioned within the word.
+         *
+         * @throws IllegalArgumentException If the value does not fit in the bit width.
+         */
+        public long insert(Object value) {
+            long raw;
+            if (value == null) {
+                raw = 0;
+            } else if (value instanceof Boolean) {
+                raw = (Boolean) value ? 1 : 0;
+            } else if (value instanceof Number) {
+                raw = ((Number) value).longValue();
+                if (!signed) {
+                    // 타입 폭을 모두 쓰는 unsigned 값은 디코딩 시 음수가 되므로 타입 폭으로 되돌림 (0xFF -> -1 -> 0xFF)
+                    if (value instanceof Byte) {
+                        raw &= 0xFF;
+                    } else if (value instanceof Short) {
+                        raw &= 0xFFFF;
+                    } else if (value instanceof Integer) {
+                        raw &= 0xFFFFFFFFL;
+                    }
+                }
+            } else if (value instanceof Character) {
+                raw = (Character) value;
+            } else if (value instanceof Enum<?>) {
+                raw = ((Enum<?>) value).ordinal();
+            } else {
+                throw new IllegalArgumentException("Unsupported bit field value type: " + value.getClass().getName());
+            }
+
+            if (width < 64) {
+                long min = signed ? -(1L << (width - 1)) : 0;
+                long max = signed ? (1L << (width - 1)) - 1 : mask;
+                if (raw < min || raw > max) {
+                    throw new IllegalArgumentException(String.format(
+                            "Value %d of bit field '%s' does not fit in %d %s bits.",
+                            raw, field.getName(), width, signed ? "signed" : "unsigned"));
+                }
+            }
+            return (raw & mask) << offset;
+        }
+    }
+
+    private final int bytes;
+    private final Endianness endianness;
+    private final List<Member> members;
+
+    private BitFieldGroup(int bytes, Endianness endianness, List<Member> members) {
+        this.bytes = bytes;
+        this.endianness = endianness;
+        this.members = members;
+    }
+
+    /**
+     * Creates and validates the group of the given fields, which must all declare the same order.
+     *
+     * @throws InvalidAnnotationUsageException If the bit fields of the word are inconsistent.
+     */
+    public static BitFieldGroup of(List<Field> fields) {
+        StructBitField first = fields.get(0).getAnnotation(StructBitField.class);
+        int bytes = first.bytes();
+        Endianness endianness = first.endianness();
+        if (bytes != 1 && bytes != 2 && bytes != 4 && bytes != 8) {
+            throw new InvalidAnnotationUsageException(String.format(
+                    "Bit field word of order %d must be 1, 2, 4 or 8 bytes, but is %d.", first.order(), bytes));
+        }
+
+        List<Member> members = new ArrayList<>(fields.size());
+        long usedBits = 0;
+        for (Field field : fields) {
+            StructBitField annotation = field.getAnnotation(StructBitField.class);
+            if (annotation.bytes() != bytes || annotation.endianness() != endianness) {
+                throw new InvalidAnnotationUsageException(String.format(
+                        "Bit field '%s' must declare the same bytes and endianness as the other fields of order %d.",
+                        field.getName(), first.order()));
+            }
+            if (annotation.width() < 1 || annotation.offset() < 0 || annotation.offset() + annotation.width() > bytes * 8) {
+                throw new InvalidAnnotationUsageException(String.format(
+                        "Bit field '%s' (offset %d, width %d) does not fit in a %d-byte word.",
+                        field.getName(), annotation.offset(), annotation.width(), bytes));
+            }
+            Class<?> type = field.getType();
+            if ((type == boolean.class || type == Boolean.class) && annotation.width() != 1) {
+                throw new InvalidAnnotationUsageException(String.format(
+                        "Boolean bit field '%s' must have a width of 1.", field.getName()));
+            }
+            if (!isSupportedType(type)) {
+                throw new InvalidAnnotationUsageException(String.format(
+                        "Bit field '%s' has unsupported type '%s'.", field.getName(), type.getName()));
+            }
+            if (annotation.width() > bitsOf(type)) {
+                throw new InvalidAnnotationUsageException(String.format(
+                        "Bit field '%s' has a width of %d, but its type '%s' holds only %d bits.",
+                        field.getName(), annotation.width(), type.getName(), bitsOf(type)));
+            }
+
+            Member member = new Member(field, annotation);
+            long bits = member.mask << member.offset;
+            if ((usedBits & bits) != 0) {
+                throw new InvalidAnnotationUsageException(String.format(
+                        "Bit field '%s' overlaps another bit field of order %d.", field.getName(), first.order()));
+            }
+            usedBits |= bits;
+            members.add(member);
+        }
+        return new BitFieldGroup(bytes, endianness, Collections.unmodifiableList(members));
+    }
+
+    /**
+     * Reads the word at the given offset.
+     */
+    public long readWord(byte[] data, int offset) {
+        if (offset < 0 || offset + bytes > data.length) {
+            throw new IllegalArgumentException(String.format(
+                    "Insufficient data for a %d-byte bit field word. offset=%d, data.length=%d", bytes, offset, data.length));
+        }
+        long word = 0;
+        if (endianness == Endianness.LITTLE_ENDIAN) {
+            for (int i = bytes - 1; i >= 0; i--) {
+                word = (word << 8) | (data[offset + i] & 0xFF);
+            }
+        } else {
+            for (int i = 0; i < bytes; i++) {
+                word = (word << 8) | (data[offset + i] & 0xFF);
+            }
+        }
+        return word;
+    }
+
+    /**
+     * Writes the word as {@link #getBytes()} bytes.
+     */
+    public byte[] writeWord(long word) {
+        byte[] result = new byte[bytes];
+        for (int i = 0; i < bytes; i++) {
+            int index = endianness == Endianness.LITTLE_ENDIAN ? i : bytes - 1 - i;
+            result[index] = (byte) (word >>> (8 * i));
+        }
+        return result;
+    }
+
+    /**
+     * The number of bits the field type can hold; enums are bound by their {@code int} ordinal.
+     */
+    private static int bitsOf(Class<?> type) {
+        if (type == boolean.class || type == Boolean.class) {
+            return 1;
+        } else if (type == byte.class || type == Byte.class) {
+            return 8;
+        } else if (type == short.class || type == Short.class || type == char.class || type == Character.class) {
+            return 16;
+        } else if (type == long.class || type == Long.class) {
+            return 64;
+        }
+        return 32; // int, enum
+    }
+
+    private static boolean isSupportedType(Class<?> type) {
+        return type.isEnum()
+                || type == boolean.class || type == Boolean.class
+                || type == byte.class || type == Byte.class
+                || type == short.class || type == Short.class
+                || type == int.class || type == Integer.class
+                || type == long.class || type == Long.class
+                || type == char.class || type == Character.class;
+    }
+}
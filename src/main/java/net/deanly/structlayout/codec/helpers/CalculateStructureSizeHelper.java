@@ -4,6 +4,7 @@ import net.deanly.structlayout.Field;
 import net.deanly.structlayout.StructLayout;
 import net.deanly.structlayout.annotation.*;
 import net.deanly.structlayout.dispatcher.StructTypeResolver;
+import net.deanly.structlayout.factory.ClassFactory;
 import net.deanly.structlayout.type.CountableField;
 import net.deanly.structlayout.type.DynamicSpanField;
 
@@ -22,18 +23,60 @@ public class CalculateStructureSizeHelper {
     }
 
     /**
-     * Calculates the size of a class or structure in bytes.
-     * The calculation is typically based on the memory layout of the class.
+     * Calculates the encoded size of a struct class in bytes, if every instance has the same size.
+     *
+     * <p>A struct has a fixed size when it consists only of fixed span {@code @StructField}s,
+     * {@code @StructBitField}s, {@code @StructFixedArray}s and nested objects of concrete fixed size
+     * classes, none of them optional. Such structs can be stored back to back with a constant stride.
+     * Alignment padding from {@code @StructLayoutOptions} is included. The result is cached per class.</p>
      *
      * @param type The class whose size needs to be calculated.
-     * @return The size of the class in bytes.
+     * @return The size of the class in bytes, or {@code -1} if the size depends on the data.
      */
     public static int calculateClassSize(Class<?> type) {
-        // TODO: impl
-        return 0;
+        return FIXED_SIZES.get(type);
     }
+
+    private static final ClassValue<Integer> FIXED_SIZES = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return computeFixedSize(type, new java.util.HashSet<>());
+        }
+    };
+
+    private static int computeFixedSize(Class<?> type, java.util.Set<Class<?>> visiting) {
+        if (type.isInterface() || java.lang.reflect.Modifier.isAbstract(type.getModifiers()) || !visiting.add(type)) {
+            return -1; // 구현체가 데이터에 따라 결정되거나 자기 자신을 포함하는 구조
+        }
+
+        int totalSize = 0;
+        for (FieldDescriptor descriptor : FieldDescriptor.forClass(type)) {
+            if (descriptor.getOptional() != OptionalEncoding.NONE) {
+                return -1;
+            }
+            int size = switch (descriptor.getKind()) {
+                case FIELD -> {
+                    Field<?> fieldInstance = ClassFactory.createFieldInstance(descriptor.getType());
+                    yield fieldInstance instanceof DynamicSpanField ? -1 : fieldInstance.getSpan();
+                }
+                case BIT -> descriptor.isBitGroupLeader() ? descriptor.getBitGroup().getBytes() : 0;
+                case FIXED_ARRAY -> descriptor.getLength()
+                        * ClassFactory.createFieldInstance(descriptor.getElementType()).getSpan();
+                case OBJECT -> computeFixedSize(descriptor.getField().getType(), visiting);
+                case SEQUENCE, SEQUENCE_OBJECT -> -1;
+            };
+            if (size < 0) {
+                return -1;
+            }
+            totalSize += StructAlignmentHelper.padding(totalSize, descriptor.getAlignment()) + size;
+        }
+        visiting.remove(type);
+        return totalSize + StructAlignmentHelper.padding(totalSize, StructAlignmentHelper.structAlignment(type));
+    }
+
     public static int calculateNoDataClassSize(Class<?> type) {
         int totalSize = 0;
+        java.util.Set<Integer> bitWordOrders = new java.util.HashSet<>();
 
         // 클래스에 선언된 모든 필드 순회
         for (java.lang.reflect.Field field : type.getDeclaredFields()) {
@@ -54,6 +97,18 @@ public class CalculateStructureSizeHelper {
             } else if (field.isAnnotationPresent(StructSequenceObjectField.class)) {
                 // StructSequenceObjectField 어노테이션 처리
                 totalSize += calculateStructSequenceObjectFieldNoDataSize(field);
+
+            } else if (field.isAnnotationPresent(StructBitField.class)) {
+                // StructBitField 어노테이션 처리 - 같은 order 의 필드는 하나의 word 를 공유
+                StructBitField annotation = field.getAnnotation(StructBitField.class);
+                if (bitWordOrders.add(annotation.order())) {
+                    totalSize += annotation.bytes();
+                }
+
+            } else if (field.isAnnotationPresent(StructFixedArray.class)) {
+                // StructFixedArray 어노테이션 처리 - 길이 접두사 없이 length 개의 요소
+                StructFixedArray annotation = field.getAnnotation(StructFixedArray.class);
+                totalSize += annotation.length() * ClassFactory.createFieldInstance(annotation.elementType()).getSpan();
             }
         }
 
@@ -67,7 +122,7 @@ public class CalculateStructureSizeHelper {
             Class<? extends Field<?>> fieldType = annotation.type();
 
             // Field 타입 가져오기
-            Field<?> fieldInstance = fieldType.getDeclaredConstructor().newInstance();
+            Field<?> fieldInstance = ClassFactory.createFieldInstance(fieldType);
 
             if (fieldInstance instanceof DynamicSpanField) {
                 // DynamicSpanField의 경우 NoDataSpan 사용
@@ -100,8 +155,10 @@ public class CalculateStructureSizeHelper {
 
             // 시퀀스의 길이 타입 크기 계산
             Class<? extends Field<?>> lengthType = annotation.lengthType();
-            Field<?> lengthFieldInstance = lengthType.getDeclaredConstructor().newInstance();
-            int lengthTypeSize = lengthFieldInstance.getSpan();
+            Field<?> lengthFieldInstance = ClassFactory.createFieldInstance(lengthType);
+            int lengthTypeSize = lengthFieldInstance instanceof DynamicSpanField
+                    ? ((DynamicSpanField) lengthFieldInstance).getNoDataSpan()
+                    : lengthFieldInstance.getSpan();
 
             // 시퀀스 크기에 기본적으로 0개의 요소 처리
             return lengthTypeSize;
@@ -116,8 +173,10 @@ public class CalculateStructureSizeHelper {
 
             // 시퀀스의 길이 타입 크기 계산
             Class<? extends CountableField<?>> lengthType = annotation.lengthType();
-            Field<?> lengthFieldInstance = lengthType.getDeclaredConstructor().newInstance();
-            int lengthTypeSize = lengthFieldInstance.getSpan();
+            Field<?> lengthFieldInstance = ClassFactory.createFieldInstance(lengthType);
+            int lengthTypeSize = lengthFieldInstance instanceof DynamicSpanField
+                    ? ((DynamicSpanField) lengthFieldInstance).getNoDataSpan()
+                    : lengthFieldInstance.getSpan();
 
             // 시퀀스 크기에 기본적으로 0개의 요소 처리
             return lengthTypeSize;
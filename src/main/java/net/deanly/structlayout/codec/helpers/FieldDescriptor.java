@@ -0,0 +1,269 @@
+package net.deanly.structlayout.codec.helpers;
+
+import lombok.Getter;
+import net.deanly.structlayout.Field;
+import net.deanly.structlayout.annotation.*;
+import net.deanly.structlayout.exception.InvalidAnnotationUsageException;
+import net.deanly.structlayout.factory.ClassFactory;
+import net.deanly.structlayout.jfr.StructLayoutCompileEvent;
+import net.deanly.structlayout.type.CountableField;
+import net.deanly.structlayout.type.DynamicSpanField;
+import net.deanly.structlayout.type.Endianness;
+import net.deanly.structlayout.type.FieldBase;
+
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable description of a struct field, resolved once from its {@code @Struct*} annotation.
+ *
+ * <p>The encoder and decoder dispatch on {@link #getKind()} and read the annotation attributes from the
+ * descriptor, so no annotation reflection happens while encoding or decoding a message. Descriptors are
+ * cached per class; {@link #forClass(Class)} returns the struct fields of a class hierarchy sorted by
+ * {@code order}.</p>
+ */
+@Getter
+public final class FieldDescriptor {
+
+    /**
+     * The struct annotation a field is declared with.
+     */
+    public enum Kind {
+        /** {@link StructField} */
+        FIELD,
+        /** {@link StructSequenceField} */
+        SEQUENCE,
+        /** {@link StructObjectField} */
+        OBJECT,
+        /** {@link StructSequenceObjectField} */
+        SEQUENCE_OBJECT,
+        /** {@link StructBitField} */
+        BIT,
+        /** {@link StructFixedArray} */
+        FIXED_ARRAY
+    }
+
+    private static final ClassValue<List<FieldDescriptor>> DESCRIPTORS = new ClassValue<>() {
+        @Override
+        protected List<FieldDescriptor> computeValue(Class<?> type) {
+            StructLayoutCompileEvent event = new StructLayoutCompileEvent();
+            event.begin();
+            List<FieldDescriptor> descriptors = compile(type);
+            event.complete(type, descriptors.size());
+            return descriptors;
+        }
+    };
+
+    private static List<FieldDescriptor> compile(Class<?> type) {
+        List<java.lang.reflect.Field> orderedFields =
+                FieldHelper.getOrderedFields(FieldHelper.getAllDeclaredFieldsIncludingSuperclasses(type));
+        List<FieldDescriptor> descriptors = new ArrayList<>(orderedFields.size());
+        for (int i = 0; i < orderedFields.size(); i++) {
+            java.lang.reflect.Field field = orderedFields.get(i);
+            StructBitField bitField = field.getAnnotation(StructBitField.class);
+            if (bitField == null || FieldHelper.getOrderValue(field) != bitField.order()) {
+                descriptors.add(resolve(field));
+                continue;
+            }
+
+            // 같은 order 의 연속된 @StructBitField 는 하나의 word 를 공유
+            int end = i + 1;
+            while (end < orderedFields.size()
+                    && orderedFields.get(end).isAnnotationPresent(StructBitField.class)
+                    && FieldHelper.getOrderValue(orderedFields.get(end)) == bitField.order()) {
+                end++;
+            }
+            List<java.lang.reflect.Field> members = orderedFields.subList(i, end);
+            BitFieldGroup group = BitFieldGroup.of(members);
+            for (int m = 0; m < members.size(); m++) {
+                java.lang.reflect.Field member = members.get(m);
+                member.setAccessible(true);
+                descriptors.add(new FieldDescriptor(member, Kind.BIT, bitField.order(), OptionalEncoding.NONE,
+                        null, null, null, group, m == 0, 0));
+            }
+            i = end - 1;
+        }
+
+        // @StructLayoutOptions: 필드별 정렬값 계산 (packed 클래스는 모두 1)
+        int maxAlignment = StructAlignmentHelper.maxAlignmentOf(type);
+        if (maxAlignment > 1) {
+            descriptors.replaceAll(descriptor ->
+                    descriptor.withAlignment(Math.min(StructAlignmentHelper.naturalAlignment(descriptor), maxAlignment)));
+        }
+        return Collections.unmodifiableList(descriptors);
+    }
+
+    private final java.lang.reflect.Field field;
+    private final Kind kind;
+    private final int order;
+    private final OptionalEncoding optional;
+    /** Layout type of a {@link Kind#FIELD} field, otherwise {@code null}. */
+    private final Class<? extends Field<?>> type;
+    /** Length prefix type of a sequence field, otherwise {@code null}. */
+    private final Class<? extends CountableField<?>> lengthType;
+    /** Element layout type of a {@link Kind#SEQUENCE} or {@link Kind#FIXED_ARRAY} field, otherwise {@code null}. */
+    private final Class<? extends Field<?>> elementType;
+    /** The shared word of a {@link Kind#BIT} field, otherwise {@code null}. */
+    private final BitFieldGroup bitGroup;
+    /** Whether this is the first field of its bit group, which reads and writes the whole word. */
+    private final boolean bitGroupLeader;
+    /** Element count of a {@link Kind#FIXED_ARRAY} field, otherwise {@code 0}. */
+    private final int length;
+    /** Byte order of {@link net.deanly.structlayout.type.ByteOrderField}s, from the declaring class. */
+    private final Endianness byteOrder;
+    /** Byte boundary, relative to the start of the struct, that this field starts at. {@code 1} unless aligned. */
+    private final int alignment;
+    /**
+     * Converts a decoded layout value to the Java type of a {@link Kind#FIELD} field, or of an element of a
+     * {@link Kind#SEQUENCE} or {@link Kind#FIXED_ARRAY} field; otherwise {@code null}.
+     */
+    private final ValueConverter decodeConverter;
+    /** Converts a field or element value to the value type of its layout, like {@link #decodeConverter} in reverse. */
+    private final ValueConverter encodeConverter;
+    /** Converts a decoded length prefix to an {@code Integer}, for sequence fields; otherwise {@code null}. */
+    private final ValueConverter lengthDecodeConverter;
+    /** Converts an element count to the value type of the length prefix, for sequence fields; otherwise {@code null}. */
+    private final ValueConverter lengthEncodeConverter;
+
+    private FieldDescriptor(java.lang.reflect.Field field, Kind kind, int order, OptionalEncoding optional,
+                            Class<? extends Field<?>> type,
+                            Class<? extends CountableField<?>> lengthType,
+                            Class<? extends Field<?>> elementType,
+                            BitFieldGroup bitGroup, boolean bitGroupLeader, int length) {
+        this(field, kind, order, optional, type, lengthType, elementType, bitGroup, bitGroupLeader, length,
+                LayoutOptionsHelper.byteOrderOf(field.getDeclaringClass()), 1);
+    }
+
+    private FieldDescriptor(java.lang.reflect.Field field, Kind kind, int order, OptionalEncoding optional,
+                            Class<? extends Field<?>> type,
+                            Class<? extends CountableField<?>> lengthType,
+                            Class<? extends Field<?>> elementType,
+                            BitFieldGroup bitGroup, boolean bitGroupLeader, int length,
+                            Endianness byteOrder, int alignment) {
+        this.field = field;
+        this.kind = kind;
+        this.order = order;
+        this.optional = optional;
+        this.type = type;
+        this.lengthType = lengthType;
+        this.elementType = elementType;
+        this.bitGroup = bitGroup;
+        this.bitGroupLeader = bitGroupLeader;
+        this.length = length;
+        this.byteOrder = byteOrder;
+        this.alignment = alignment;
+
+        // 값 변환기는 (Java 타입, layout 값 타입) 쌍마다 한 번만 해석
+        Class<? extends Field<?>> valueLayout = type != null ? type : elementType;
+        if (valueLayout != null) {
+            Class<?> valueType = type != null ? field.getType() : sequenceElementType(field);
+            this.decodeConverter = TypeConverterHelper.converterFor(FieldBase.getGenericTypeAsObject(valueLayout), valueType);
+            this.encodeConverter = TypeConverterHelper.layoutConverterFor(valueType, valueLayout);
+        } else {
+            this.decodeConverter = null;
+            this.encodeConverter = null;
+        }
+        if (lengthType != null) {
+            this.lengthDecodeConverter = TypeConverterHelper.converterFor(FieldBase.getGenericTypeAsObject(lengthType), Integer.class);
+            this.lengthEncodeConverter = TypeConverterHelper.layoutConverterFor(Integer.class, lengthType);
+        } else {
+            this.lengthDecodeConverter = null;
+            this.lengthEncodeConverter = null;
+        }
+    }
+
+    private static Class<?> sequenceElementType(java.lang.reflect.Field field) {
+        if (field.getType().isArray()) {
+            return field.getType().getComponentType();
+        }
+        if (field.getGenericType() instanceof ParameterizedType parameterizedType
+                && parameterizedType.getActualTypeArguments()[0] instanceof Class<?> elementType) {
+            return elementType;
+        }
+        return Object.class;
+    }
+
+    private FieldDescriptor withAlignment(int alignment) {
+        return new FieldDescriptor(field, kind, order, optional, type, lengthType, elementType,
+                bitGroup, bitGroupLeader, length, byteOrder, alignment);
+    }
+
+    /**
+     * Returns the descriptors of all struct fields declared in the given class and its superclasses,
+     * sorted by {@code order}.
+     *
+     * @param type The struct class.
+     * @return An unmodifiable, cached list of descriptors.
+     */
+    public static List<FieldDescriptor> forClass(Class<?> type) {
+        return DESCRIPTORS.get(type);
+    }
+
+    /**
+     * Returns the descriptor of the given field.
+     *
+     * @param field The field to describe.
+     * @return The cached descriptor, or {@code null} if the field is not annotated with a {@code @Struct*} annotation.
+     */
+    public static FieldDescriptor of(java.lang.reflect.Field field) {
+        for (FieldDescriptor descriptor : forClass(field.getDeclaringClass())) {
+            if (descriptor.field.equals(field)) {
+                return descriptor;
+            }
+        }
+        return null;
+    }
+
+    public String getName() {
+        return field.getName();
+    }
+
+    private static FieldDescriptor resolve(java.lang.reflect.Field field) {
+        field.setAccessible(true);
+
+        StructField structField = field.getAnnotation(StructField.class);
+        StructSequenceField sequenceField = field.getAnnotation(StructSequenceField.class);
+        StructObjectField objectField = field.getAnnotation(StructObjectField.class);
+        StructSequenceObjectField sequenceObjectField = field.getAnnotation(StructSequenceObjectField.class);
+        StructFixedArray fixedArray = field.getAnnotation(StructFixedArray.class);
+
+        // FieldHelper.getOrderValue 와 동일한 우선순위
+        if (sequenceField != null) {
+            return new FieldDescriptor(field, Kind.SEQUENCE, sequenceField.order(), sequenceField.optional(),
+                    null, sequenceField.lengthType(), sequenceField.elementType(), null, false, 0);
+        } else if (objectField != null) {
+            return new FieldDescriptor(field, Kind.OBJECT, objectField.order(), objectField.optional(),
+                    null, null, null, null, false, 0);
+        } else if (structField != null) {
+            return new FieldDescriptor(field, Kind.FIELD, structField.order(), structField.optional(),
+                    structField.type(), null, null, null, false, 0);
+        } else if (fixedArray != null) {
+            validateFixedArray(field, fixedArray);
+            return new FieldDescriptor(field, Kind.FIXED_ARRAY, fixedArray.order(), OptionalEncoding.NONE,
+                    null, null, fixedArray.elementType(), null, false, fixedArray.length());
+        } else {
+            return new FieldDescriptor(field, Kind.SEQUENCE_OBJECT, sequenceObjectField.order(), sequenceObjectField.optional(),
+                    null, sequenceObjectField.lengthType(), null, null, false, 0);
+        }
+    }
+
+    private static void validateFixedArray(java.lang.reflect.Field field, StructFixedArray annotation) {
+        Class<?> fieldType = field.getType();
+        if (!fieldType.isArray() && !List.class.isAssignableFrom(fieldType)) {
+            throw new InvalidAnnotationUsageException(String.format(
+                    "@StructFixedArray field '%s' must be an array or a List, but is '%s'.", field.getName(), fieldType.getName()));
+        }
+        if (annotation.length() < 0) {
+            throw new InvalidAnnotationUsageException(String.format(
+                    "@StructFixedArray field '%s' has a negative length %d.", field.getName(), annotation.length()));
+        }
+        Field<?> element = ClassFactory.createFieldInstance(annotation.elementType());
+        if (element instanceof DynamicSpanField || element.getSpan() <= 0) {
+            throw new InvalidAnnotationUsageException(String.format(
+                    "@StructFixedArray field '%s' requires an element type with a fixed span, but '%s' is dynamic.",
+                    field.getName(), annotation.elementType().getSimpleName()));
+        }
+    }
+}
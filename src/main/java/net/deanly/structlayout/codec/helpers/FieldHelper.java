@@ -1,6 +1,8 @@
 package net.deanly.structlayout.codec.helpers;
 
+import net.deanly.structlayout.annotation.StructBitField;
 import net.deanly.structlayout.annotation.StructField;
+import net.deanly.structlayout.annotation.StructFixedArray;
 import net.deanly.structlayout.annotation.StructSequenceField;
 import net.deanly.structlayout.annotation.StructObjectField;
 import net.deanly.structlayout.annotation.StructSequenceObjectField;
@@ -37,10 +39,7 @@ public class FieldHelper {
     public static List<Field> getOrderedFields(Field[] fields) {
         List<Field> orderedFields = new ArrayList<>();
         for (Field field : fields) {
-            if (field.isAnnotationPresent(StructSequenceField.class) ||
-                    field.isAnnotationPresent(StructObjectField.class) ||
-                    field.isAnnotationPresent(StructField.class) ||
-                    field.isAnnotationPresent(StructSequenceObjectField.class)) {
+            if (isStructField(field)) {
                 orderedFields.add(field);
             }
         }
@@ -64,10 +63,7 @@ public class FieldHelper {
     public static List<Field> getOrderedFields(List<Field> fields) {
         List<Field> orderedFields = new ArrayList<>();
         for (Field field : fields) {
-            if (field.isAnnotationPresent(StructSequenceField.class) ||
-                    field.isAnnotationPresent(StructObjectField.class) ||
-                    field.isAnnotationPresent(StructField.class) ||
-                    field.isAnnotationPresent(StructSequenceObjectField.class)) {
+            if (isStructField(field)) {
                 orderedFields.add(field);
             }
         }
@@ -78,10 +74,7 @@ public class FieldHelper {
     public static List<Tuple2<Field, Integer>> getOrderedFieldsWithOrder(List<Field> fields) {
         List<Tuple2<Field, Integer>> orderedFields = new ArrayList<>();
         for (Field field : fields) {
-            if (field.isAnnotationPresent(StructSequenceField.class) ||
-                    field.isAnnotationPresent(StructObjectField.class) ||
-                    field.isAnnotationPresent(StructField.class) ||
-                    field.isAnnotationPresent(StructSequenceObjectField.class)) {
+            if (isStructField(field)) {
                 int order = getOrderValue(field);
                 orderedFields.add(Tuple2.of(field, order));
             }
@@ -97,6 +90,8 @@ public class FieldHelper {
      * - SequenceField
      * - StructObjectField
      * - CustomLayoutField
+     * - StructBitField
+     * - StructFixedArray
      *
      * If none of these annotations are present, a {@code FieldOrderException} is thrown.
      *
@@ -113,6 +108,10 @@ public class FieldHelper {
             return field.getAnnotation(StructField.class).order();
         } else if (field.isAnnotationPresent(StructSequenceObjectField.class)) {
             return field.getAnnotation(StructSequenceObjectField.class).order();
+        } else if (field.isAnnotationPresent(StructBitField.class)) {
+            return field.getAnnotation(StructBitField.class).order();
+        } else if (field.isAnnotationPresent(StructFixedArray.class)) {
+            return field.getAnnotation(StructFixedArray.class).order();
         }
         throw new FieldOrderException(field.getName());
     }
@@ -120,7 +119,8 @@ public class FieldHelper {
     /**
      * Checks if the given {@code Field} is annotated with any of the supported
      * struct-related annotations: {@code StructField}, {@code StructSequenceField},
-     * {@code StructObjectField}, or {@code StructSequenceObjectField}.
+     * {@code StructObjectField}, {@code StructSequenceObjectField}, {@code StructBitField},
+     * or {@code StructFixedArray}.
      *
      * @param field the {@code Field} to be checked for struct-related annotations
      * @return {@code true} if the field is annotated with one of the supported
@@ -130,7 +130,9 @@ public class FieldHelper {
         return field.isAnnotationPresent(StructField.class)
                 || field.isAnnotationPresent(StructSequenceField.class)
                 || field.isAnnotationPresent(StructObjectField.class)
-                || field.isAnnotationPresent(StructSequenceObjectField.class);
+                || field.isAnnotationPresent(StructSequenceObjectField.class)
+                || field.isAnnotationPresent(StructBitField.class)
+                || field.isAnnotationPresent(StructFixedArray.class);
     }
 
     /**
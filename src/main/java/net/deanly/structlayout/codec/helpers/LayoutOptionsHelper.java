@@ -0,0 +1,32 @@
+package net.deanly.structlayout.codec.helpers;
+
+import net.deanly.structlayout.annotation.StructLayoutOptions;
+import net.deanly.structlayout.type.Endianness;
+
+/**
+ * Resolves the {@link StructLayoutOptions} that apply to a struct class.
+ */
+public class LayoutOptionsHelper {
+
+    /**
+     * Returns the options declared on the class (or inherited from a superclass), falling back to
+     * the options declared on its package.
+     *
+     * @return The options, or {@code null} if neither the class nor its package declares any.
+     */
+    public static StructLayoutOptions optionsOf(Class<?> type) {
+        StructLayoutOptions options = type.getAnnotation(StructLayoutOptions.class);
+        if (options == null && type.getPackage() != null) {
+            options = type.getPackage().getAnnotation(StructLayoutOptions.class);
+        }
+        return options;
+    }
+
+    /**
+     * Returns the default byte order of the fields declared in the given class.
+     */
+    public static Endianness byteOrderOf(Class<?> type) {
+        StructLayoutOptions options = optionsOf(type);
+        return options == null ? Endianness.LITTLE_ENDIAN : options.byteOrder();
+    }
+}
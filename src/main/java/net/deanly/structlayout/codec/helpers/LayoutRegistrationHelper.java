@@ -0,0 +1,273 @@
+package net.deanly.structlayout.codec.helpers;
+
+import net.deanly.structlayout.Field;
+import net.deanly.structlayout.analysis.CachedLayoutProvider;
+import net.deanly.structlayout.annotation.StructTypeSelector;
+import net.deanly.structlayout.codec.decode.ConstructorBinding;
+import net.deanly.structlayout.codec.decode.StructDecoder;
+import net.deanly.structlayout.codec.encode.StructEncoder;
+import net.deanly.structlayout.exception.LayoutInitializationException;
+import net.deanly.structlayout.factory.ClassFactory;
+import net.deanly.structlayout.type.FieldBase;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Resolves, validates and caches struct layouts ahead of the first encode or decode.
+ *
+ * <p>Registering a class resolves its {@link FieldDescriptor}s, constructor, layout instances, size and
+ * alignment, and follows nested {@code @StructObjectField} and {@code @StructSequenceObjectField} types.
+ * Every problem found is reported together in a single {@link LayoutInitializationException}.
+ * Implementations behind a {@code @StructTypeSelector} interface are not discoverable from the
+ * interface and must be registered themselves.</p>
+ */
+public class LayoutRegistrationHelper {
+
+    private static final Set<Class<?>> REGISTERED = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Validates and caches the layouts of the given struct classes and the structs nested in them.
+     *
+     * @return The registered classes, including nested ones, in the order they were reached.
+     * @throws LayoutInitializationException If any class has an invalid layout. All problems are listed in
+     *                                       the message; the first is the cause, the rest are suppressed.
+     */
+    public static Set<Class<?>> register(Class<?>... types) {
+        Set<Class<?>> visited = new LinkedHashSet<>();
+        Map<String, RuntimeException> errors = new LinkedHashMap<>();
+        for (Class<?> type : types) {
+            visit(type, visited, errors);
+        }
+
+        if (!errors.isEmpty()) {
+            StringBuilder message = new StringBuilder("Failed to register ")
+                    .append(errors.size()).append(" struct layout(s):");
+            errors.forEach((location, error) -> message.append("\n  - ").append(location).append(": ").append(error.getMessage()));
+            Iterator<RuntimeException> causes = errors.values().iterator();
+            LayoutInitializationException exception = new LayoutInitializationException(message.toString(), causes.next());
+            causes.forEachRemaining(exception::addSuppressed);
+            throw exception;
+        }
+        REGISTERED.addAll(visited);
+        return visited;
+    }
+
+    /**
+     * Returns whether the class was registered successfully.
+     */
+    public static boolean isRegistered(Class<?> type) {
+        return REGISTERED.contains(type);
+    }
+
+    /**
+     * Encodes and decodes a default instance of the struct the given number of times, so that the codec paths
+     * of the class are loaded and compiled before real traffic. A default instance is created with the
+     * no-arguments constructor, or with default constructor arguments for records and
+     * {@code @StructConstructor} classes.
+     *
+     * @return {@code false} if the default instance cannot be encoded and decoded back, in which case the
+     *         warm-up of this class is skipped.
+     */
+    public static boolean warmUp(Class<?> type, int iterations) {
+        try {
+            ConstructorBinding binding = ConstructorBinding.of(type);
+            Object sample = binding != null ? binding.newArguments().newInstance() : ClassFactory.createNoArgumentsInstance(type);
+            for (int i = 0; i < iterations; i++) {
+                byte[] encoded = StructEncoder.encode(sample);
+                StructDecoder.decode(type, encoded, 0);
+            }
+            return true;
+        } catch (RuntimeException e) {
+            // 기본값 인스턴스로 왕복할 수 없는 구조체 (필수 값, dispatcher 등)
+            return false;
+        }
+    }
+
+    /**
+     * Finds the concrete classes of the given package and its subpackages that declare {@code @Struct*} fields.
+     * Directories and jar files on the class path are scanned; classes that fail to load are skipped.
+     *
+     * @return The struct classes, sorted by name.
+     * @throws LayoutInitializationException If the class path cannot be read.
+     */
+    public static List<Class<?>> findStructClasses(String packageName, ClassLoader classLoader) {
+        String path = packageName.replace('.', '/');
+        SortedSet<String> classNames = new TreeSet<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(path);
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                if ("file".equals(url.getProtocol())) {
+                    collectFromDirectory(Paths.get(url.toURI()), packageName, classNames);
+                } else if ("jar".equals(url.getProtocol())) {
+                    collectFromJar((JarURLConnection) url.openConnection(), path, classNames);
+                }
+            }
+        } catch (IOException | URISyntaxException e) {
+            throw new LayoutInitializationException("Failed to scan package '" + packageName + "' for struct classes.", e);
+        }
+
+        List<Class<?>> structClasses = new ArrayList<>();
+        for (String className : classNames) {
+            Class<?> type;
+            try {
+                type = Class.forName(className, false, classLoader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                continue;
+            }
+            if (isStructClass(type)) {
+                structClasses.add(type);
+            }
+        }
+        return structClasses;
+    }
+
+    private static void visit(Class<?> type, Set<Class<?>> visited, Map<String, RuntimeException> errors) {
+        if (!visited.add(type)) {
+            return;
+        }
+
+        List<FieldDescriptor> descriptors;
+        try {
+            descriptors = FieldDescriptor.forClass(type);
+            if (descriptors.isEmpty()) {
+                throw new LayoutInitializationException("Class '" + type.getName() + "' declares no @Struct* fields.");
+            }
+            if (ConstructorBinding.of(type) == null) {
+                ClassFactory.createNoArgumentsInstance(type);
+            }
+        } catch (RuntimeException e) {
+            errors.put(type.getName(), e);
+            return;
+        }
+
+        for (FieldDescriptor descriptor : descriptors) {
+            try {
+                switch (descriptor.getKind()) {
+                    case FIELD -> prepareLayout(descriptor.getType());
+                    case SEQUENCE -> {
+                        requireSequenceType(descriptor);
+                        prepareLayout(descriptor.getLengthType());
+                        prepareLayout(descriptor.getElementType());
+                    }
+                    case FIXED_ARRAY -> prepareLayout(descriptor.getElementType());
+                    case OBJECT -> visitNested(descriptor.getField().getType(), visited, errors);
+                    case SEQUENCE_OBJECT -> {
+                        requireSequenceType(descriptor);
+                        prepareLayout(descriptor.getLengthType());
+                        visitNested(sequenceElementType(descriptor.getField()), visited, errors);
+                    }
+                    case BIT -> {
+                        // FieldDescriptor 생성 시 검증 완료
+                    }
+                }
+            } catch (RuntimeException e) {
+                errors.put(type.getName() + "." + descriptor.getName(), e);
+            }
+        }
+
+        try {
+            CalculateStructureSizeHelper.calculateClassSize(type);
+            StructAlignmentHelper.structAlignment(type);
+        } catch (RuntimeException e) {
+            errors.put(type.getName(), e);
+        }
+    }
+
+    private static void visitNested(Class<?> nestedType, Set<Class<?>> visited, Map<String, RuntimeException> errors) {
+        if (nestedType.isAnnotationPresent(StructTypeSelector.class)) {
+            return; // 구현 클래스는 별도로 등록
+        }
+        if (nestedType.isInterface()) {
+            throw new LayoutInitializationException("Interface '" + nestedType.getName() + "' is not annotated with @StructTypeSelector.");
+        }
+        visit(nestedType, visited, errors);
+    }
+
+    private static void prepareLayout(Class<? extends Field<?>> layoutClass) {
+        // 생성자 캐시, 제네릭 타입 해석, 고정 span Field 인스턴스 캐시
+        ClassFactory.createFieldInstance(layoutClass);
+        if (FieldBase.class.isAssignableFrom(layoutClass)) {
+            CachedLayoutProvider.getLayout(layoutClass);
+            FieldBase.getGenericTypeAsObject(layoutClass);
+        }
+    }
+
+    private static void requireSequenceType(FieldDescriptor descriptor) {
+        Class<?> fieldType = descriptor.getField().getType();
+        if (!fieldType.isArray() && !Collection.class.isAssignableFrom(fieldType)) {
+            throw new LayoutInitializationException("Field '" + descriptor.getName()
+                    + "' must be an array or a Collection, but is '" + fieldType.getName() + "'.");
+        }
+    }
+
+    private static Class<?> sequenceElementType(java.lang.reflect.Field field) {
+        if (field.getType().isArray()) {
+            return field.getType().getComponentType();
+        }
+        if (field.getGenericType() instanceof ParameterizedType parameterizedType
+                && parameterizedType.getActualTypeArguments()[0] instanceof Class<?> elementType) {
+            return elementType;
+        }
+        throw new LayoutInitializationException("Cannot resolve the element type of field '" + field.getName() + "'.");
+    }
+
+    private static boolean isStructClass(Class<?> type) {
+        if (type.isInterface() || type.isEnum() || type.isAnnotation() || type.isAnonymousClass() || type.isLocalClass()
+                || Modifier.isAbstract(type.getModifiers())) {
+            return false;
+        }
+        if (type.isMemberClass() && !Modifier.isStatic(type.getModifiers())) {
+            return false;
+        }
+        try {
+            return !FieldHelper.getAllDeclaredFieldsIncludingSuperclasses(type).isEmpty();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    private static void collectFromDirectory(Path directory, String packageName, Set<String> classNames) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.filter(file -> file.toString().endsWith(".class")).forEach(file -> {
+                String relative = directory.relativize(file).toString().replace(file.getFileSystem().getSeparator(), ".");
+                addClassName(packageName + "." + relative.substring(0, relative.length() - ".class".length()), classNames);
+            });
+        }
+    }
+
+    private static void collectFromJar(JarURLConnection connection, String path, Set<String> classNames) throws IOException {
+        connection.setUseCaches(false);
+        try (JarFile jar = connection.getJarFile()) {
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                String name = entries.nextElement().getName();
+                if (name.startsWith(path + "/") && name.endsWith(".class")) {
+                    addClassName(name.substring(0, name.length() - ".class".length()).replace('/', '.'), classNames);
+                }
+            }
+        }
+    }
+
+    private static void addClassName(String className, Set<String> classNames) {
+        if (!className.endsWith("module-info") && !className.endsWith("package-info")) {
+            classNames.add(className);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package net.deanly.structlayout.codec.helpers;
+
+import net.deanly.structlayout.Field;
+import net.deanly.structlayout.annotation.OptionalEncoding;
+import net.deanly.structlayout.annotation.StructLayoutOptions;
+import net.deanly.structlayout.exception.InvalidAnnotationUsageException;
+import net.deanly.structlayout.factory.ClassFactory;
+import net.deanly.structlayout.type.DynamicSpanField;
+import net.deanly.structlayout.type.FieldBase;
+
+import java.lang.reflect.Modifier;
+
+/**
+ * Computes field and struct alignment for classes annotated with {@link StructLayoutOptions}.
+ *
+ * <p>The alignment of each field is resolved once into its {@link FieldDescriptor}; the encoder and
+ * decoder only add {@link #padding(int, int)} bytes at run time.</p>
+ */
+public class StructAlignmentHelper {
+
+    private static final ClassValue<Integer> STRUCT_ALIGNMENTS = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            int alignment = 1;
+            for (FieldDescriptor descriptor : FieldDescriptor.forClass(type)) {
+                alignment = Math.max(alignment, descriptor.getAlignment());
+            }
+            return alignment;
+        }
+    };
+
+    /**
+     * Returns the maximum alignment of the given class, as declared by {@link StructLayoutOptions}.
+     *
+     * @return {@link Integer#MAX_VALUE} for {@link StructLayoutOptions#NATURAL}, {@code 1} for packed classes.
+     * @throws InvalidAnnotationUsageException If the alignment is neither {@code NATURAL} nor a power of two.
+     */
+    public static int maxAlignmentOf(Class<?> type) {
+        StructLayoutOptions options = LayoutOptionsHelper.optionsOf(type);
+        if (options == null) {
+            return StructLayoutOptions.PACKED;
+        }
+        int alignment = options.alignment();
+        if (alignment == StructLayoutOptions.NATURAL) {
+            return Integer.MAX_VALUE;
+        }
+        if (alignment < 0 || Integer.bitCount(alignment) != 1) {
+            throw new InvalidAnnotationUsageException(String.format(
+                    "@StructLayoutOptions alignment of '%s' must be NATURAL or a power of two, but is %d.",
+                    type.getName(), alignment));
+        }
+        return alignment;
+    }
+
+    /**
+     * Returns the alignment of the given struct class: the largest alignment of its fields, at least {@code 1}.
+     * The size of an aligned struct is a multiple of this value.
+     */
+    public static int structAlignment(Class<?> type) {
+        return STRUCT_ALIGNMENTS.get(type);
+    }
+
+    /**
+     * Returns the natural alignment of the field, before it is capped by the alignment of its class.
+     */
+    static int naturalAlignment(FieldDescriptor descriptor) {
+        if (descriptor.getOptional() != OptionalEncoding.NONE) {
+            return 1; // Optional 태그(1 byte)가 앞에 오므로 정렬하지 않음
+        }
+        return switch (descriptor.getKind()) {
+            case FIELD -> fieldAlignment(descriptor.getType());
+            case FIXED_ARRAY -> fieldAlignment(descriptor.getElementType());
+            case SEQUENCE, SEQUENCE_OBJECT -> fieldAlignment(descriptor.getLengthType());
+            case BIT -> descriptor.isBitGroupLeader() ? descriptor.getBitGroup().getBytes() : 1;
+            case OBJECT -> {
+                Class<?> nestedType = descriptor.getField().getType();
+                yield nestedType.isInterface() || Modifier.isAbstract(nestedType.getModifiers())
+                        ? 1
+                        : structAlignment(nestedType);
+            }
+        };
+    }
+
+    /**
+     * Returns the number of zero bytes needed to move {@code relativeOffset} to a multiple of {@code alignment}.
+     *
+     * @param relativeOffset The offset from the start of the struct.
+     * @param alignment      A power of two.
+     */
+    public static int padding(int relativeOffset, int alignment) {
+        return -relativeOffset & (alignment - 1);
+    }
+
+    private static int fieldAlignment(Class<? extends Field<?>> fieldType) {
+        Field<?> field = ClassFactory.createFieldInstance(fieldType);
+        if (field instanceof DynamicSpanField) {
+            return 1;
+        }
+        int span = field.getSpan();
+        boolean power = span == 2 || span == 4 || span == 8 || span == 16;
+        return power && FieldBase.isNumericType(fieldType) ? span : 1;
+    }
+}
@@ -3,14 +3,158 @@ package net.deanly.structlayout.codec.helpers;
 import net.deanly.structlayout.Field;
 import net.deanly.structlayout.exception.TypeConversionException;
 import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.Int128;
+import net.deanly.structlayout.type.UInt128;
 import net.deanly.structlayout.type.guava.UnsignedLong;
 
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Utility class for converting values of one type to another while supporting validation,
  * handling special cases, and dealing with primitive types, null values, and exceptions.
  */
 public class TypeConverterHelper {
 
+    // target 타입별 (source 타입 -> converter) 캐시
+    private static final ClassValue<Map<Class<?>, ValueConverter>> CONVERTERS = new ClassValue<>() {
+        @Override
+        protected Map<Class<?>, ValueConverter> computeValue(Class<?> targetType) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Returns a converter from values of {@code sourceType} to {@code targetType}, resolved once and cached.
+     *
+     * <p>When the source type matches the target, the converter returns the value as is; between integral
+     * types it widens or range-checks directly. Any other value, including one whose runtime class is not
+     * exactly {@code sourceType}, goes through {@link #convertToType(Object, Class)}, so the result is
+     * always the same as converting dynamically.</p>
+     *
+     * @param sourceType The declared type of the values, or {@code null} if unknown.
+     * @param targetType The type to convert to.
+     */
+    public static ValueConverter converterFor(Class<?> sourceType, Class<?> targetType) {
+        Class<?> key = sourceType != null ? sourceType : Object.class;
+        Map<Class<?>, ValueConverter> converters = CONVERTERS.get(targetType);
+        ValueConverter converter = converters.get(key);
+        if (converter == null) {
+            converter = converters.computeIfAbsent(key, source -> specialize(source, targetType));
+        }
+        return converter;
+    }
+
+    /**
+     * Returns a converter from values of {@code sourceType} to the value type of the given layout, with the
+     * same results as {@link #convertToLayoutType(Object, Class)}.
+     */
+    public static ValueConverter layoutConverterFor(Class<?> sourceType, Class<? extends Field<?>> layoutType) {
+        Class<?> valueType = FieldBase.getGenericTypeAsObject(layoutType);
+        if (valueType == null) {
+            return value -> convertToLayoutType(value, layoutType);
+        }
+        // layout 값 타입은 참조형이므로 null 은 그대로 null (convertToLayoutType 과 동일)
+        return converterFor(sourceType, valueType);
+    }
+
+    private static ValueConverter specialize(Class<?> sourceType, Class<?> targetType) {
+        ValueConverter dynamic = value -> convertToType(value, targetType);
+        Class<?> source = box(sourceType);
+        Class<?> target = box(targetType);
+
+        // 실행 시 타입이 선언 타입과 정확히 같을 때만 특수화된 경로 사용
+        if (source == target && (source == Float.class || source == Double.class)) {
+            // NaN / Infinity 는 기존 규칙으로 처리
+            return source == Float.class
+                    ? value -> value != null && value.getClass() == Float.class && Float.isFinite((Float) value) ? value : dynamic.convert(value)
+                    : value -> value != null && value.getClass() == Double.class && Double.isFinite((Double) value) ? value : dynamic.convert(value);
+        }
+        if (source == target && source != Object.class && isIdentityType(source)) {
+            return value -> value != null && value.getClass() == source ? value : dynamic.convert(value);
+        }
+
+        int sourceRank = integralRank(source);
+        int targetRank = integralRank(target);
+        if (sourceRank > 0 && targetRank > 0) {
+            ValueConverter integral = integralConverter(target, targetType, sourceRank <= targetRank);
+            return value -> value != null && value.getClass() == source ? integral.convert(value) : dynamic.convert(value);
+        }
+        return dynamic;
+    }
+
+    private static boolean isIdentityType(Class<?> type) {
+        // convertToType 가 같은 값을 그대로 (또는 동일한 값으로) 반환하는 타입
+        return integralRank(type) > 0 || type == String.class || type == Boolean.class || type == Character.class
+                || type == UnsignedLong.class || type == UInt128.class || type == Int128.class
+                || type == java.math.BigInteger.class;
+    }
+
+    private static int integralRank(Class<?> type) {
+        if (type == Byte.class) {
+            return 1;
+        } else if (type == Short.class) {
+            return 2;
+        } else if (type == Integer.class) {
+            return 3;
+        } else if (type == Long.class) {
+            return 4;
+        }
+        return 0;
+    }
+
+    private static ValueConverter integralConverter(Class<?> target, Class<?> targetType, boolean widening) {
+        if (target == Byte.class) {
+            return value -> {
+                long v = ((Number) value).longValue();
+                checkRange(v, Byte.MIN_VALUE, Byte.MAX_VALUE, targetType);
+                return (byte) v;
+            };
+        } else if (target == Short.class) {
+            return widening
+                    ? value -> ((Number) value).shortValue()
+                    : value -> {
+                        long v = ((Number) value).longValue();
+                        checkRange(v, Short.MIN_VALUE, Short.MAX_VALUE, targetType);
+                        return (short) v;
+                    };
+        } else if (target == Integer.class) {
+            return widening
+                    ? value -> ((Number) value).intValue()
+                    : value -> {
+                        long v = ((Number) value).longValue();
+                        checkRange(v, Integer.MIN_VALUE, Integer.MAX_VALUE, targetType);
+                        return (int) v;
+                    };
+        }
+        return value -> ((Number) value).longValue();
+    }
+
+    private static Class<?> box(Class<?> type) {
+        if (type == null || !type.isPrimitive()) {
+            return type == null ? Object.class : type;
+        }
+        if (type == int.class) {
+            return Integer.class;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == short.class) {
+            return Short.class;
+        } else if (type == byte.class) {
+            return Byte.class;
+        } else if (type == float.class) {
+            return Float.class;
+        } else if (type == double.class) {
+            return Double.class;
+        } else if (type == boolean.class) {
+            return Boolean.class;
+        } else if (type == char.class) {
+            return Character.class;
+        }
+        return type;
+    }
+
     /**
      * Converts a value to the specified target type and validates the converted value
      * using the provided validator predicate. If the value is valid, it returns the
@@ -156,15 +300,82 @@ public class TypeConverterHelper {
             return value.doubleValue();
         }
         if (targetClass == UnsignedLong.class) {
-            return UnsignedLong.valueOf(value.toString());
+            return toUnsignedLong(value);
+        }
+        if (targetClass == UInt128.class) {
+            return toUInt128(value);
+        }
+        if (targetClass == Int128.class) {
+            return toInt128(value);
         }
         if (targetClass == java.math.BigInteger.class) {
+            if (value instanceof UInt128) {
+                return ((UInt128) value).toBigInteger();
+            }
+            if (value instanceof Int128) {
+                return ((Int128) value).toBigInteger();
+            }
             return new java.math.BigInteger(value.toString());
         }
 
         throw new TypeConversionException("Unsupported number conversion to type: " + targetClass);
     }
 
+    private static UnsignedLong toUnsignedLong(Number value) {
+        if (value instanceof UnsignedLong) {
+            return (UnsignedLong) value;
+        }
+        if (value instanceof Long) {
+            // long 은 unsigned 64-bit 비트 패턴으로 해석 (2^63 이상은 음수로 저장됨)
+            return UnsignedLong.fromLongBits(value.longValue());
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            checkRange(value.longValue(), 0, Long.MAX_VALUE, UnsignedLong.class);
+            return UnsignedLong.fromLongBits(value.longValue());
+        }
+        try {
+            return UnsignedLong.valueOf(value.toString());
+        } catch (NumberFormatException e) {
+            throw new TypeConversionException("Value " + value + " is out of range for type: UnsignedLong", e);
+        }
+    }
+
+    private static UInt128 toUInt128(Number value) {
+        if (value instanceof UInt128) {
+            return (UInt128) value;
+        }
+        if (value instanceof UnsignedLong) {
+            return UInt128.fromLongBits(0L, value.longValue());
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            checkRange(value.longValue(), 0, Long.MAX_VALUE, UInt128.class);
+            return UInt128.valueOf(value.longValue());
+        }
+        try {
+            return value instanceof java.math.BigInteger
+                    ? UInt128.valueOf((java.math.BigInteger) value)
+                    : UInt128.valueOf(value.toString());
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            throw new TypeConversionException("Value " + value + " is out of range for type: UInt128", e);
+        }
+    }
+
+    private static Int128 toInt128(Number value) {
+        if (value instanceof Int128) {
+            return (Int128) value;
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return Int128.valueOf(value.longValue());
+        }
+        try {
+            return value instanceof java.math.BigInteger
+                    ? Int128.valueOf((java.math.BigInteger) value)
+                    : Int128.valueOf(value.toString());
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            throw new TypeConversionException("Value " + value + " is out of range for type: Int128", e);
+        }
+    }
+
     private static void checkRange(long value, long min, long max, Class<?> targetClass) {
         if (value < min || value > max) {
             throw new TypeConversionException("Value " + value + " is out of range for type: " + targetClass.getSimpleName());
@@ -203,6 +414,12 @@ public class TypeConverterHelper {
             if (targetClass == java.math.BigInteger.class) {
                 return new java.math.BigInteger(value);
             }
+            if (targetClass == UInt128.class) {
+                return UInt128.valueOf(value);
+            }
+            if (targetClass == Int128.class) {
+                return Int128.valueOf(value);
+            }
             if (targetClass == java.math.BigDecimal.class) {
                 return new java.math.BigDecimal(value); // 추가된 BigDecimal 처리
             }
@@ -215,7 +432,7 @@ public class TypeConverterHelper {
                 }
                 return value.charAt(0); // Character 처리 추가
             }
-        } catch (NumberFormatException e) {
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
             throw new TypeConversionException("Cannot convert String to " + targetClass + ": " + value, e);
         }
 
@@ -224,6 +441,15 @@ public class TypeConverterHelper {
 
     @SuppressWarnings("unchecked")
     private static Object convertToSpecialTypes(Object value, Class<?> targetClass) {
+        if (targetClass == byte[].class && value instanceof ByteBuffer buffer) {
+            // 남은 바이트를 복사 (position 은 변경하지 않음)
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(buffer.position(), bytes);
+            return bytes;
+        }
+        if (targetClass == ByteBuffer.class && value instanceof byte[] bytes) {
+            return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+        }
         if (targetClass == java.math.BigDecimal.class) {
             return new java.math.BigDecimal(value.toString());
         }
@@ -0,0 +1,19 @@
+package net.deanly.structlayout.codec.helpers;
+
+/**
+ * Converts a value between the Java type of a struct field and the value type of its layout.
+ *
+ * <p>Converters are resolved once per (source type, target type) pair by
+ * {@link TypeConverterHelper#converterFor(Class, Class)} and held by the {@link FieldDescriptor}, so
+ * converting a value is a single call instead of a walk through the conversion rules.</p>
+ */
+@FunctionalInterface
+public interface ValueConverter {
+
+    /**
+     * Converts the value, with the same result and exceptions as {@link TypeConverterHelper#convertToType}.
+     *
+     * @throws net.deanly.structlayout.exception.TypeConversionException If the value cannot be converted.
+     */
+    Object convert(Object value);
+}
@@ -21,4 +21,14 @@ public interface StructTypeDispatcher {
      * @return the span representing the "no data" section, as an integer
      */
     int getNoDataSpan();
+
+    /**
+     * Retrieves the number of bytes from the start offset that {@link #dispatch(byte[], int)} reads to
+     * determine the class. The incremental decoder waits until these bytes have arrived before dispatching.
+     *
+     * @return the number of bytes the dispatch depends on, 1 by default for a single tag byte
+     */
+    default int getDispatchSpan() {
+        return 1;
+    }
 }
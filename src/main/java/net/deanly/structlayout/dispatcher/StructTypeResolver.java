@@ -68,4 +68,25 @@ public class StructTypeResolver {
         // Retrieve the no-data span value from the dispatcher
         return dispatcher.getNoDataSpan();
     }
+
+    /**
+     * Retrieves the number of bytes the dispatcher of the given base type reads to resolve the class.
+     *
+     * @param baseType The base type annotated with @StructTypeSelector.
+     * @return The dispatch span as returned by the dispatcher.
+     * @throws NoSuchMethodException if the dispatcher constructor is missing.
+     * @throws InvocationTargetException if the dispatcher instantiation throws an exception.
+     * @throws InstantiationException if the dispatcher instantiation fails.
+     * @throws IllegalAccessException if the dispatcher constructor is not accessible.
+     */
+    public static int resolveDispatchSpan(Class<?> baseType)
+            throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
+        StructTypeSelector selector = baseType.getAnnotation(StructTypeSelector.class);
+        if (selector == null) {
+            throw new IllegalArgumentException("Missing @StructTypeSelector on " + baseType.getName());
+        }
+
+        StructTypeDispatcher dispatcher = selector.dispatcher().getDeclaredConstructor().newInstance();
+        return dispatcher.getDispatchSpan();
+    }
 }
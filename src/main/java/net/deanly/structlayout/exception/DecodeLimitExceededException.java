@@ -0,0 +1,8 @@
+package net.deanly.structlayout.exception;
+
+// 디코딩 한도(DecodeLimits) 초과: 손상되었거나 악의적인 길이 값
+public class DecodeLimitExceededException extends StructParsingException {
+    public DecodeLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -2,17 +2,16 @@ package net.deanly.structlayout.exception;
 
 import lombok.Getter;
 import net.deanly.structlayout.analysis.DecodedFieldInfo;
+import net.deanly.structlayout.analysis.HexDumpUtil;
 
 import java.lang.reflect.Field;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
+@Getter
 public class StructDecodingException extends RuntimeException {
     private final Class<?> targetType;
     private final Field failedField;
     private final int failedOffset;
-    @Getter
     private final List<DecodedFieldInfo> decodedFields;
 
     public StructDecodingException(Class<?> targetType, Field failedField, int failedOffset, List<DecodedFieldInfo> decodedFields, Throwable cause) {
@@ -79,8 +78,6 @@ public class StructDecodingException extends RuntimeException {
 
     private String bytesToHex(byte[] bytes) {
         if (bytes == null || bytes.length == 0) return "(empty)";
-        return IntStream.range(0, bytes.length)
-                .mapToObj(i -> String.format("%02X", bytes[i] & 0xFF))
-                .collect(Collectors.joining(" "));
+        return HexDumpUtil.toHex(bytes);
     }
 }
\ No newline at end of file
@@ -6,12 +6,45 @@ import net.deanly.structlayout.exception.LayoutInitializationException;
 import net.deanly.structlayout.exception.NoDefaultConstructorException;
 import net.deanly.structlayout.type.basic.BasicType;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
+import java.util.function.Supplier;
 
+/**
+ * Creates instances of struct classes and {@link Field} layout classes.
+ *
+ * <p>Each class is validated once, the first time it is requested. A {@link Supplier} bound to its
+ * no-arguments constructor is then cached per class. The supplier is spun through
+ * {@link LambdaMetafactory} when the constructor is reachable from a full-privilege lookup, and falls
+ * back to a cached {@link MethodHandle} otherwise, so repeated decodes of nested objects and sequence
+ * elements no longer go through {@link Constructor#newInstance(Object...)}.</p>
+ */
 public class ClassFactory {
 
+    private static final MethodType SUPPLIER_FACTORY_TYPE = MethodType.methodType(Supplier.class);
+    private static final MethodType SUPPLIER_GET_TYPE = MethodType.methodType(Object.class);
+
+    // 구조체 클래스별 생성자 캐시 (검증은 최초 1회만 수행)
+    private static final ClassValue<Supplier<?>> NO_ARGUMENTS_FACTORIES = new ClassValue<>() {
+        @Override
+        protected Supplier<?> computeValue(Class<?> type) {
+            return buildNoArgumentsFactory(type);
+        }
+    };
+
+    // Field 클래스별 생성자 캐시
+    private static final ClassValue<Supplier<?>> LAYOUT_FACTORIES = new ClassValue<>() {
+        @Override
+        protected Supplier<?> computeValue(Class<?> layoutClass) {
+            return buildLayoutFactory(layoutClass);
+        }
+    };
+
     @SuppressWarnings("unchecked")
     public static FieldBase<?> createInstance(BasicType basicType) {
         if (!(basicType instanceof FieldBase<?>)) {
@@ -21,104 +54,170 @@ public class ClassFactory {
         return ClassFactory.createLayoutInstance(fieldClass);
     }
 
+    @SuppressWarnings("unchecked")
     public static <T> T createNoArgumentsInstance(Class<T> type) {
+        Supplier<?> factory = NO_ARGUMENTS_FACTORIES.get(type);
         try {
-            // 비정적 내부 클래스 조건 확인
-            if (type.isMemberClass() && !Modifier.isStatic(type.getModifiers())) {
-                throw new NoDefaultConstructorException(
-                        "Class '" + type.getName() + "' is a non-static inner class and cannot be instantiated. Make it static or use another design."
-                );
-            }
-            // 함수 내부 정의 클래스 조건 확인
-            if (type.isLocalClass()) {
-                throw new LayoutInitializationException(
-                        "Class '" + type.getName() + "' is a local class defined inside a method. " +
-                                "Local classes cannot be instantiated reflectively. Consider refactoring it to a static nested class or a top-level class."
-                );
-            }
+            return (T) factory.get();
+        } catch (Exception e) {
+            throw new LayoutInitializationException("Exception occurred while initializing Layout class: "
+                    + type.getName() + ". Check the constructor logic.", e);
+        }
+    }
 
-            // 기본 생성자 호출
-            return type.getDeclaredConstructor().newInstance();
+    @SuppressWarnings("unchecked")
+    public static <T> FieldBase<T> createLayoutInstance(Class<? extends Field<?>> layoutClass) {
+        Field<T> field = createFieldInstance(layoutClass);
+        if (!(field instanceof FieldBase<?>)) {
+            throw new LayoutInitializationException("Failed to instantiate Field class: "
+                    + layoutClass.getName() + ". The class does not extend FieldBase.");
+        }
+        return (FieldBase<T>) field;
+    }
 
-        } catch (NoDefaultConstructorException e) {
-            throw e;
+    /**
+     * Creates a new instance of the given {@link Field} class through its cached constructor.
+     * Unlike {@link #createLayoutInstance(Class)}, the class is not required to extend {@link FieldBase}.
+     *
+     * @param layoutClass The {@code Field} implementation to instantiate.
+     * @param <T>         The value type of the field.
+     * @return A new field instance.
+     * @throws LayoutInitializationException If the class cannot be instantiated.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Field<T> createFieldInstance(Class<? extends Field<?>> layoutClass) {
+        Supplier<?> factory = LAYOUT_FACTORIES.get(layoutClass);
+        try {
+            return (Field<T>) factory.get();
+        } catch (Exception e) {
+            throw new LayoutInitializationException("Exception occurred while initializing Field class: "
+                    + layoutClass.getName() + ". Check the constructor logic.", e);
+        }
+    }
+
+    private static Supplier<?> buildNoArgumentsFactory(Class<?> type) {
+        // 비정적 내부 클래스 조건 확인
+        if (type.isMemberClass() && !Modifier.isStatic(type.getModifiers())) {
+            throw new NoDefaultConstructorException(
+                    "Class '" + type.getName() + "' is a non-static inner class and cannot be instantiated. Make it static or use another design."
+            );
+        }
+        // 함수 내부 정의 클래스 조건 확인
+        if (type.isLocalClass()) {
+            throw new LayoutInitializationException(
+                    "Class '" + type.getName() + "' is a local class defined inside a method. " +
+                            "Local classes cannot be instantiated reflectively. Consider refactoring it to a static nested class or a top-level class."
+            );
+        }
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            throw new LayoutInitializationException("Cannot instantiate Layout class: " + type.getName());
+        }
+
+        Constructor<?> constructor;
+        try {
+            constructor = type.getDeclaredConstructor();
         } catch (NoSuchMethodException e) {
             throw new LayoutInitializationException("The Layout class '"
                     + type.getName()
                     + "' must have a public no-arguments constructor.", e);
-        } catch (IllegalAccessException e) {
-            throw new LayoutInitializationException("Cannot access the constructor of Layout class: "
-                    + type.getName(), e);
-        } catch (InstantiationException e) {
-            throw new LayoutInitializationException("Cannot instantiate Layout class: "
-                    + type.getName(), e);
-        } catch (InvocationTargetException e) {
-            throw new LayoutInitializationException("Exception occurred while initializing Layout class: "
-                    + type.getName() + ". Check the constructor logic.", e.getCause());
-        } catch (Exception e) {
-            throw new LayoutInitializationException("Failed to instantiate Layout class: "
-                    + type.getName(), e);
         }
+        // 기존 리플렉션 호출과 동일한 접근 규칙 유지
+        if (!constructor.canAccess(null)) {
+            throw new LayoutInitializationException("Cannot access the constructor of Layout class: " + type.getName());
+        }
+
+        return buildFactory(type, constructor);
     }
 
-    @SuppressWarnings("unchecked")
-    public static <T> FieldBase<T> createLayoutInstance(Class<? extends Field<?>> layoutClass) {
+    private static Supplier<?> buildLayoutFactory(Class<?> layoutClass) {
+        // 비정적(non-static) 내부 클래스인지 검증
+        if (layoutClass.isMemberClass() && !Modifier.isStatic(layoutClass.getModifiers())) {
+            throw new LayoutInitializationException("The Field class '"
+                    + layoutClass.getName()
+                    + "' is a non-static inner class. Make it static or redesign it properly.");
+        }
+        // 함수 내부 정의 클래스 조건 확인
+        if (layoutClass.isLocalClass()) {
+            throw new LayoutInitializationException(
+                    "Class '" + layoutClass.getName() + "' is a local class defined inside a method. " +
+                            "Local classes cannot be instantiated reflectively. Consider refactoring it to a static nested class or a top-level class."
+            );
+        }
+        if (layoutClass.isInterface() || Modifier.isAbstract(layoutClass.getModifiers())) {
+            throw new LayoutInitializationException("Cannot instantiate Field class: " + layoutClass.getName());
+        }
+
+        Constructor<?> constructor;
         try {
-            // 비정적(non-static) 내부 클래스인지 검증
-            if (layoutClass.isMemberClass() && !Modifier.isStatic(layoutClass.getModifiers())) {
-                throw new LayoutInitializationException("The Field class '"
-                        + layoutClass.getName()
-                        + "' is a non-static inner class. Make it static or redesign it properly.");
-            }
-            // 함수 내부 정의 클래스 조건 확인
-            if (layoutClass.isLocalClass()) {
-                throw new LayoutInitializationException(
-                        "Class '" + layoutClass.getName() + "' is a local class defined inside a method. " +
-                                "Local classes cannot be instantiated reflectively. Consider refactoring it to a static nested class or a top-level class."
-                );
-            }
+            constructor = layoutClass.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new LayoutInitializationException("The Field class '"
+                    + layoutClass.getName()
+                    + "' does not have a valid no-arguments constructor. " +
+                    "If it is a non-static inner class, make it 'static' or define its constructor properly.", e);
+        }
 
-            // 생성자 가져오기
-            Constructor<? extends FieldBase<?>>[] constructors =
-                    (Constructor<? extends FieldBase<?>>[]) layoutClass.getDeclaredConstructors();
+        return buildFactory(layoutClass, constructor);
+    }
 
-            boolean hasNoArgConstructor = false;
-            for (Constructor<?> constructor : constructors) {
-                if (constructor.getParameterCount() == 0) {
-                    hasNoArgConstructor = true;
-                    break;
-                }
+    /**
+     * Binds the given no-arguments constructor to a {@link Supplier}, preferring a
+     * {@link LambdaMetafactory}-generated implementation and falling back to a cached {@link MethodHandle}.
+     */
+    private static Supplier<?> buildFactory(Class<?> type, Constructor<?> constructor) {
+        MethodHandles.Lookup lookup;
+        MethodHandle handle;
+        try {
+            lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            handle = lookup.unreflectConstructor(constructor);
+        } catch (IllegalAccessException | RuntimeException e) {
+            // 모듈 경계 등으로 private lookup 이 불가능한 경우 리플렉션 핸들로 대체
+            try {
+                constructor.setAccessible(true);
+                lookup = null;
+                handle = MethodHandles.lookup().unreflectConstructor(constructor);
+            } catch (IllegalAccessException | RuntimeException ex) {
+                throw new LayoutInitializationException("Cannot access the constructor of class: " + type.getName(), ex);
             }
+        }
 
-            if (!hasNoArgConstructor) {
-                throw new LayoutInitializationException("The Field class '"
-                        + layoutClass.getName()
-                        + "' does not have a valid no-arguments constructor. " +
-                        "If it is a non-static inner class, make it 'static' or define its constructor properly.");
+        if (lookup != null && lookup.hasFullPrivilegeAccess()) {
+            try {
+                CallSite site = LambdaMetafactory.metafactory(
+                        lookup,
+                        "get",
+                        SUPPLIER_FACTORY_TYPE,
+                        SUPPLIER_GET_TYPE,
+                        handle,
+                        MethodType.methodType(type));
+                return (Supplier<?>) site.getTarget().invoke();
+            } catch (Throwable ignored) {
+                // LambdaMetafactory 를 사용할 수 없는 경우 MethodHandle 로 대체
             }
+        }
+        return new MethodHandleSupplier(handle.asType(SUPPLIER_GET_TYPE));
+    }
 
-            var constructor = layoutClass.getDeclaredConstructor();
-            constructor.setAccessible(true);
-            return (FieldBase<T>) constructor.newInstance();
+    private static final class MethodHandleSupplier implements Supplier<Object> {
+        private final MethodHandle constructor;
 
-        } catch (LayoutInitializationException e) {
-            throw e;
-        } catch (NoSuchMethodException e) {
-            throw new LayoutInitializationException("The Field class '"
-                    + layoutClass.getName()
-                    + "' must have a public no-arguments constructor.", e);
-        } catch (IllegalAccessException e) {
-            throw new LayoutInitializationException("Cannot access the constructor of Field class: "
-                    + layoutClass.getName(), e);
-        } catch (InstantiationException e) {
-            throw new LayoutInitializationException("Cannot instantiate Field class: "
-                    + layoutClass.getName(), e);
-        } catch (InvocationTargetException e) {
-            throw new LayoutInitializationException("Exception occurred while initializing Field class: "
-                    + layoutClass.getName() + ". Check the constructor logic.", e.getCause());
-        } catch (Exception e) {
-            throw new LayoutInitializationException("Failed to instantiate Field class: "
-                    + layoutClass.getName(), e);
+        private MethodHandleSupplier(MethodHandle constructor) {
+            this.constructor = constructor;
+        }
+
+        @Override
+        public Object get() {
+            try {
+                return constructor.invokeExact();
+            } catch (Throwable e) {
+                // 생성자에서 발생한 예외를 그대로 전달 (LambdaMetafactory 경로와 동일한 동작)
+                throw ClassFactory.<RuntimeException>sneakyThrow(e);
+            }
         }
     }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> E sneakyThrow(Throwable e) throws E {
+        throw (E) e;
+    }
 }
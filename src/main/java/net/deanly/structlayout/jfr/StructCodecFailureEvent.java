@@ -0,0 +1,61 @@
+package net.deanly.structlayout.jfr;
+
+import jdk.jfr.*;
+
+import java.lang.reflect.Field;
+
+/**
+ * A top-level encode or decode that threw. Recorded regardless of duration.
+ */
+@Name("net.deanly.structlayout.CodecFailure")
+@Label("Struct Codec Failure")
+@Category({"Struct Layout", "Codec"})
+@Description("An encode or decode of a top-level struct that failed")
+public final class StructCodecFailureEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Struct Class")
+    Class<?> structClass;
+
+    @Label("Failed Struct")
+    @Description("The innermost struct whose field failed")
+    Class<?> failedStruct;
+
+    @Label("Failed Field")
+    String failedField;
+
+    @Label("Failed Offset")
+    @Description("The offset of the failed field, in the input for decoding and in the failed struct for encoding")
+    int failedOffset;
+
+    @Label("Exception")
+    Class<?> exceptionClass;
+
+    @Label("Message")
+    String message;
+
+    /**
+     * Records a failure if the event is enabled.
+     *
+     * @param failedStruct The innermost struct whose field failed, or {@code null} if unknown.
+     * @param failedField  The field that failed, or {@code null} if unknown.
+     * @param failedOffset The offset of the failed field, or {@code -1} if unknown.
+     */
+    public static void record(String operation, Class<?> structClass, Class<?> failedStruct, Field failedField,
+                              int failedOffset, Throwable error) {
+        StructCodecFailureEvent event = new StructCodecFailureEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.operation = operation;
+        event.structClass = structClass;
+        event.failedStruct = failedStruct;
+        event.failedField = failedField != null ? failedField.getName() : null;
+        event.failedOffset = failedOffset;
+        event.exceptionClass = error.getClass();
+        event.message = error.getMessage();
+        event.commit();
+    }
+}
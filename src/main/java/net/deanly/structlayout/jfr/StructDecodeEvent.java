@@ -0,0 +1,45 @@
+package net.deanly.structlayout.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * A top-level decode that took at least the threshold, 1 ms by default.
+ */
+@Name("net.deanly.structlayout.Decode")
+@Label("Struct Decode")
+@Category({"Struct Layout", "Codec"})
+@Description("Decoding of a top-level struct, including its nested structs")
+@Threshold("1 ms")
+@StackTrace(false)
+public final class StructDecodeEvent extends Event {
+
+    @Label("Struct Class")
+    Class<?> structClass;
+
+    @Label("Bytes")
+    @DataAmount
+    int bytes;
+
+    @Label("Depth")
+    @Description("The deepest struct nesting reached, 1 for a struct without nested structs")
+    int depth;
+
+    @Label("Allocated")
+    @Description("The bytes accounted against DecodeLimits for sequences and arrays")
+    @DataAmount
+    long allocated;
+
+    /**
+     * Ends the event and commits it if it passes the threshold.
+     */
+    public void complete(Class<?> structClass, int bytes, int depth, long allocated) {
+        end();
+        if (shouldCommit()) {
+            this.structClass = structClass;
+            this.bytes = bytes;
+            this.depth = depth;
+            this.allocated = allocated;
+            commit();
+        }
+    }
+}
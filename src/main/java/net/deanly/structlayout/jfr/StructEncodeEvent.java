@@ -0,0 +1,39 @@
+package net.deanly.structlayout.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * A top-level encode that took at least the threshold, 1 ms by default.
+ */
+@Name("net.deanly.structlayout.Encode")
+@Label("Struct Encode")
+@Category({"Struct Layout", "Codec"})
+@Description("Encoding of a top-level struct, including its nested structs")
+@Threshold("1 ms")
+@StackTrace(false)
+public final class StructEncodeEvent extends Event {
+
+    @Label("Struct Class")
+    Class<?> structClass;
+
+    @Label("Bytes")
+    @DataAmount
+    int bytes;
+
+    @Label("Depth")
+    @Description("The deepest struct nesting reached, 1 for a struct without nested structs")
+    int depth;
+
+    /**
+     * Ends the event and commits it if it passes the threshold.
+     */
+    public void complete(Class<?> structClass, int bytes, int depth) {
+        end();
+        if (shouldCommit()) {
+            this.structClass = structClass;
+            this.bytes = bytes;
+            this.depth = depth;
+            commit();
+        }
+    }
+}
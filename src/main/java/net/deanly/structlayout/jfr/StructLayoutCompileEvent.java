@@ -0,0 +1,32 @@
+package net.deanly.structlayout.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * The resolution of the field descriptors of a struct class, which happens once per class.
+ */
+@Name("net.deanly.structlayout.LayoutCompile")
+@Label("Struct Layout Compile")
+@Category({"Struct Layout", "Layout"})
+@Description("Resolution and caching of the field layout of a struct class")
+@StackTrace(false)
+public final class StructLayoutCompileEvent extends Event {
+
+    @Label("Struct Class")
+    Class<?> structClass;
+
+    @Label("Fields")
+    int fieldCount;
+
+    /**
+     * Ends the event and commits it if it passes the threshold.
+     */
+    public void complete(Class<?> structClass, int fieldCount) {
+        end();
+        if (shouldCommit()) {
+            this.structClass = structClass;
+            this.fieldCount = fieldCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package net.deanly.structlayout.metrics;
+
+/**
+ * Receives the outcome of every top-level encode and decode performed through
+ * {@link net.deanly.structlayout.StructLayout}.
+ *
+ * <p>Install an implementation with {@link net.deanly.structlayout.StructLayout#setMetrics(CodecMetrics)}.
+ * No timing is taken while no metrics are installed. Implementations are called on the encoding or
+ * decoding thread and must be thread-safe and cheap; {@link StructMetrics} is the built-in one.</p>
+ */
+public interface CodecMetrics {
+
+    enum Operation {
+        ENCODE,
+        DECODE
+    }
+
+    /**
+     * Records a completed operation.
+     *
+     * @param type      The struct class.
+     * @param operation Whether the struct was encoded or decoded.
+     * @param bytes     The number of bytes written or consumed.
+     * @param nanos     The elapsed time in nanoseconds.
+     */
+    void recordSuccess(Class<?> type, Operation operation, int bytes, long nanos);
+
+    /**
+     * Records an operation that threw.
+     *
+     * @param type      The struct class.
+     * @param operation Whether the struct was encoded or decoded.
+     * @param error     The exception thrown to the caller.
+     * @param nanos     The elapsed time in nanoseconds until the failure.
+     */
+    void recordFailure(Class<?> type, Operation operation, Throwable error, long nanos);
+}
@@ -0,0 +1,93 @@
+package net.deanly.structlayout.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of non-negative values with power-of-two buckets.
+ *
+ * <p>Bucket {@code i} counts the values in {@code [2^(i-1), 2^i)}, and bucket 0 counts zero. Recording is
+ * a single striped {@link LongAdder} increment, so concurrent writers do not contend; percentiles are
+ * accurate to within a factor of two, which is enough to tell microseconds from milliseconds.</p>
+ */
+public final class LogHistogram {
+
+    static final int BUCKETS = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public LogHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a value. Negative values are recorded as zero.
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        buckets[bucketOf(value)].increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            count += counts[i];
+        }
+        return new Snapshot(count, sum.sum(), max.get(), counts);
+    }
+
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        sum.reset();
+        max.reset();
+    }
+
+    static int bucketOf(long value) {
+        // 0 -> 0, 1 -> 1, 2~3 -> 2, 4~7 -> 3, ... (2^62 이상은 마지막 버킷)
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value));
+    }
+
+    /**
+     * An immutable copy of the histogram. The values are read without a lock, so a snapshot taken while
+     * values are being recorded may be off by the values recorded meanwhile.
+     */
+    public record Snapshot(long count, long sum, long max, long[] buckets) {
+
+        public double mean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        /**
+         * Returns the upper bound of the bucket holding the given percentile, capped at {@link #max()}.
+         *
+         * @param percentile A value between 0 and 100.
+         */
+        public long percentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(count * Math.min(100, Math.max(0, percentile)) / 100.0);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= Math.max(1, rank)) {
+                    long upper = i == 0 ? 0 : (i >= 63 ? Long.MAX_VALUE : (1L << i) - 1);
+                    return Math.min(upper, max);
+                }
+            }
+            return max;
+        }
+    }
+}
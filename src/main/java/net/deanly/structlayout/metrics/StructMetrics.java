@@ -0,0 +1,237 @@
+package net.deanly.structlayout.metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The built-in {@link CodecMetrics}: per struct class and operation, the number of messages and bytes,
+ * the failures by exception type, and a latency {@link LogHistogram}.
+ *
+ * <p>Every counter is a {@link LongAdder}, so recording from many threads does not contend. Read the
+ * values with {@link #snapshot()} or through JMX after {@link #registerMBean()}.</p>
+ *
+ * <p>Recorded struct classes are held strongly until {@link #reset()}, which is the only way to drop them. An
+ * application that loads struct classes dynamically, e.g. per plugin class loader, must reset the metrics
+ * before unloading such a loader, or its classes stay reachable.</p>
+ *
+ * <pre>{@code
+ * StructMetrics metrics = new StructMetrics();
+ * StructLayout.setMetrics(metrics);
+ * metrics.registerMBean();
+ * }</pre>
+ */
+public class StructMetrics implements CodecMetrics {
+
+    public static final String DEFAULT_OBJECT_NAME = "net.deanly.structlayout:type=StructMetrics";
+
+    private final Map<Class<?>, TypeMetrics> types = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordSuccess(Class<?> type, Operation operation, int bytes, long nanos) {
+        OperationMetrics metrics = metricsOf(type, operation);
+        metrics.messages.increment();
+        metrics.bytes.add(bytes);
+        metrics.latency.record(nanos);
+    }
+
+    @Override
+    public void recordFailure(Class<?> type, Operation operation, Throwable error, long nanos) {
+        OperationMetrics metrics = metricsOf(type, operation);
+        metrics.failures.computeIfAbsent(error.getClass().getName(), name -> new LongAdder()).increment();
+        metrics.latency.record(nanos);
+    }
+
+    /**
+     * Returns the current values of every struct class recorded so far, keyed by class.
+     */
+    public Map<Class<?>, TypeSnapshot> snapshot() {
+        Map<Class<?>, TypeSnapshot> snapshot = new LinkedHashMap<>();
+        types.forEach((type, metrics) -> snapshot.put(type,
+                new TypeSnapshot(type, metrics.encode.snapshot(), metrics.decode.snapshot())));
+        return snapshot;
+    }
+
+    /**
+     * Returns the current values of the given struct class, or {@code null} if nothing was recorded for it.
+     */
+    public TypeSnapshot snapshot(Class<?> type) {
+        TypeMetrics metrics = types.get(type);
+        return metrics == null ? null : new TypeSnapshot(type, metrics.encode.snapshot(), metrics.decode.snapshot());
+    }
+
+    /**
+     * Clears all values and releases the recorded struct classes. Values recorded concurrently with the reset
+     * may be kept or lost.
+     */
+    public void reset() {
+        types.clear();
+    }
+
+    /**
+     * Registers a {@link StructMetricsMXBean} for these metrics with the platform MBean server under
+     * {@value #DEFAULT_OBJECT_NAME}, replacing a previously registered one.
+     *
+     * @return The name the MBean was registered under.
+     * @throws IllegalStateException If the MBean cannot be registered.
+     */
+    public ObjectName registerMBean() {
+        return registerMBean(DEFAULT_OBJECT_NAME);
+    }
+
+    /**
+     * Registers a {@link StructMetricsMXBean} for these metrics with the platform MBean server under the
+     * given name, replacing a previously registered one.
+     *
+     * @throws IllegalStateException If the name is malformed or the MBean cannot be registered.
+     */
+    public ObjectName registerMBean(String objectName) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(objectName);
+            StructMetricsMXBean bean = new MXBean(this);
+            try {
+                server.registerMBean(bean, name);
+            } catch (InstanceAlreadyExistsException e) {
+                server.unregisterMBean(name);
+                server.registerMBean(bean, name);
+            }
+            return name;
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to register MBean '" + objectName + "'.", e);
+        }
+    }
+
+    private OperationMetrics metricsOf(Class<?> type, Operation operation) {
+        TypeMetrics metrics = types.get(type);
+        if (metrics == null) {
+            metrics = types.computeIfAbsent(type, key -> new TypeMetrics());
+        }
+        return operation == Operation.ENCODE ? metrics.encode : metrics.decode;
+    }
+
+    private static final class TypeMetrics {
+        final OperationMetrics encode = new OperationMetrics();
+        final OperationMetrics decode = new OperationMetrics();
+    }
+
+    private static final class OperationMetrics {
+        final LongAdder messages = new LongAdder();
+        final LongAdder bytes = new LongAdder();
+        final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+        final LogHistogram latency = new LogHistogram();
+
+        OperationSnapshot snapshot() {
+            Map<String, Long> failureCounts = new TreeMap<>();
+            failures.forEach((name, count) -> failureCounts.put(name, count.sum()));
+            return new OperationSnapshot(messages.sum(), bytes.sum(), Map.copyOf(failureCounts), latency.snapshot());
+        }
+    }
+
+    /**
+     * The values of one struct class.
+     */
+    public record TypeSnapshot(Class<?> type, OperationSnapshot encode, OperationSnapshot decode) {
+    }
+
+    /**
+     * The values of one operation on one struct class. Failed operations are counted in {@link #failures()}
+     * only, but their latency is part of {@link #latency()}.
+     *
+     * @param messages The number of successful operations.
+     * @param bytes    The bytes written or consumed by the successful operations.
+     * @param failures The number of failed operations by the fully qualified name of the exception class.
+     * @param latency  The latency in nanoseconds of every operation.
+     */
+    public record OperationSnapshot(long messages, long bytes, Map<String, Long> failures, LogHistogram.Snapshot latency) {
+
+        public long failureCount() {
+            long count = 0;
+            for (long value : failures.values()) {
+                count += value;
+            }
+            return count;
+        }
+    }
+
+    private static final class MXBean implements StructMetricsMXBean {
+        private final StructMetrics metrics;
+
+        MXBean(StructMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override
+        public long getEncodeCount() {
+            return sum(Operation.ENCODE, OperationSnapshot::messages);
+        }
+
+        @Override
+        public long getDecodeCount() {
+            return sum(Operation.DECODE, OperationSnapshot::messages);
+        }
+
+        @Override
+        public long getEncodedBytes() {
+            return sum(Operation.ENCODE, OperationSnapshot::bytes);
+        }
+
+        @Override
+        public long getDecodedBytes() {
+            return sum(Operation.DECODE, OperationSnapshot::bytes);
+        }
+
+        @Override
+        public long getFailureCount() {
+            return sum(Operation.ENCODE, OperationSnapshot::failureCount) + sum(Operation.DECODE, OperationSnapshot::failureCount);
+        }
+
+        @Override
+        public String[] getStructTypes() {
+            return metrics.snapshot().keySet().stream().map(Class::getName).sorted().toArray(String[]::new);
+        }
+
+        @Override
+        public Map<String, Long> getCounters() {
+            Map<String, Long> counters = new TreeMap<>();
+            metrics.snapshot().forEach((type, snapshot) -> {
+                putCounters(counters, type.getName() + ".encode.", snapshot.encode());
+                putCounters(counters, type.getName() + ".decode.", snapshot.decode());
+            });
+            return counters;
+        }
+
+        @Override
+        public void reset() {
+            metrics.reset();
+        }
+
+        private long sum(Operation operation, java.util.function.ToLongFunction<OperationSnapshot> value) {
+            long sum = 0;
+            for (TypeSnapshot snapshot : metrics.snapshot().values()) {
+                sum += value.applyAsLong(operation == Operation.ENCODE ? snapshot.encode() : snapshot.decode());
+            }
+            return sum;
+        }
+
+        private static void putCounters(Map<String, Long> counters, String prefix, OperationSnapshot snapshot) {
+            if (snapshot.messages() == 0 && snapshot.failures().isEmpty()) {
+                return;
+            }
+            counters.put(prefix + "messages", snapshot.messages());
+            counters.put(prefix + "bytes", snapshot.bytes());
+            snapshot.failures().forEach((name, count) -> counters.put(prefix + "failures." + name, count));
+            LogHistogram.Snapshot latency = snapshot.latency();
+            counters.put(prefix + "latency.p50Nanos", latency.percentile(50));
+            counters.put(prefix + "latency.p99Nanos", latency.percentile(99));
+            counters.put(prefix + "latency.maxNanos", latency.max());
+        }
+    }
+}
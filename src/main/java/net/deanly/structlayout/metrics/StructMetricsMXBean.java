@@ -0,0 +1,34 @@
+package net.deanly.structlayout.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of a {@link StructMetrics}, registered with {@link StructMetrics#registerMBean()}.
+ */
+public interface StructMetricsMXBean {
+
+    long getEncodeCount();
+
+    long getDecodeCount();
+
+    long getEncodedBytes();
+
+    long getDecodedBytes();
+
+    long getFailureCount();
+
+    /**
+     * The names of the struct classes recorded so far.
+     */
+    String[] getStructTypes();
+
+    /**
+     * Every value per struct class, keyed {@code <class>.<encode|decode>.<counter>}, e.g.
+     * {@code com.example.Order.decode.messages} or
+     * {@code com.example.Order.decode.failures.net.deanly.structlayout.exception.StructDecodingException}.
+     * Latencies are the {@code p50Nanos}, {@code p99Nanos} and {@code maxNanos} counters.
+     */
+    Map<String, Long> getCounters();
+
+    void reset();
+}
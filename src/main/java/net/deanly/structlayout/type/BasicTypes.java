@@ -181,6 +181,18 @@ public final class BasicTypes {
      */
     public static final Class<UInt64BEField> UINT64_BE = UInt64BEField.class; // Unsigned 64-bit (BE)
 
+    // 128비트 정수 (128-bit Integer Types)
+    /**
+     * Represents a signed 128-bit integer in little-endian byte order, such as a Rust/Borsh {@code i128}.
+     * Decodes into {@link net.deanly.structlayout.type.Int128} without allocating a {@code BigInteger}.
+     */
+    public static final Class<Int128LEField> INT128_LE = Int128LEField.class; // Signed 128-bit (LE)
+    /**
+     * Represents an unsigned 128-bit integer in little-endian byte order, such as a Rust/Borsh {@code u128}.
+     * Decodes into {@link net.deanly.structlayout.type.UInt128} without allocating a {@code BigInteger}.
+     */
+    public static final Class<UInt128LEField> UINT128_LE = UInt128LEField.class; // Unsigned 128-bit (LE)
+
     // 부동소수점 타입 (Floating-Point Types)
     /**
      * Represents a 32-bit floating-point number with little-endian byte order.
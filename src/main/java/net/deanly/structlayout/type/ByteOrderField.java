@@ -0,0 +1,32 @@
+package net.deanly.structlayout.type;
+
+import net.deanly.structlayout.Field;
+
+/**
+ * A field whose byte order is not fixed by its type, such as {@code Int32Field} as opposed to
+ * {@code Int32LEField}.
+ *
+ * <p>The struct codecs replace the field with the instance for the byte order of the enclosing class,
+ * declared by {@code @StructLayoutOptions(byteOrder = ...)} on the class or its package
+ * (little-endian by default).</p>
+ */
+public interface ByteOrderField<T> extends Field<T> {
+
+    Endianness getEndianness();
+
+    /**
+     * Returns a field of the same type that uses the given byte order.
+     */
+    ByteOrderField<T> withEndianness(Endianness endianness);
+
+    /**
+     * Returns the field for the given byte order if it is a {@code ByteOrderField}, otherwise the field itself.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Field<T> ordered(Field<T> field, Endianness endianness) {
+        if (field instanceof ByteOrderField<?> ordered && ordered.getEndianness() != endianness) {
+            return (Field<T>) ordered.withEndianness(endianness);
+        }
+        return field;
+    }
+}
@@ -1,5 +1,7 @@
 package net.deanly.structlayout.type;
 
+import java.util.Arrays;
+
 public interface DynamicSpanField {
     /**
      * Calculates the span dynamically based on provided data.
@@ -17,4 +19,30 @@ public interface DynamicSpanField {
      */
     int getNoDataSpan();
 
+    /**
+     * Determines the span from the bytes received so far, {@code data[offset, limit)}, without throwing when
+     * they are incomplete. Used by the incremental decoder to wait for a whole value before decoding it.
+     *
+     * <p>The returned span may extend past {@code limit}, e.g. when a length prefix declares more bytes than
+     * have arrived. If the span cannot be determined yet, returns the negative of the number of bytes from
+     * {@code offset} needed to determine it. Malformed bytes return a span within the limit, so that decoding
+     * reports the error.</p>
+     *
+     * <p>The default implementation calls {@link #calculateSpan(byte[], int)} on a copy that ends at the limit
+     * and asks for one more byte if it throws. Fields that read to the end of the data must override it.</p>
+     *
+     * @param data   The input data, valid up to {@code limit}.
+     * @param offset The starting offset.
+     * @param limit  The end of the bytes received so far.
+     * @return The span, or the negative of the number of bytes needed to determine it.
+     */
+    default int spanWithin(byte[] data, int offset, int limit) {
+        byte[] received = limit == data.length ? data : Arrays.copyOf(data, limit);
+        try {
+            return calculateSpan(received, offset);
+        } catch (RuntimeException e) {
+            return -(limit - offset + 1);
+        }
+    }
+
 }
@@ -1,10 +1,18 @@
 package net.deanly.structlayout.type;
 
+import java.nio.ByteOrder;
 
 /**
  * Defines Endianness for structured data.
  */
 public enum Endianness {
     LITTLE_ENDIAN,
-    BIG_ENDIAN
-}
\ No newline at end of file
+    BIG_ENDIAN;
+
+    /**
+     * Returns the equivalent {@link ByteOrder}.
+     */
+    public ByteOrder toByteOrder() {
+        return this == LITTLE_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+    }
+}
@@ -3,9 +3,10 @@ package net.deanly.structlayout.type;
 import lombok.Getter;
 import lombok.Value;
 import net.deanly.structlayout.Field;
+import net.deanly.structlayout.analysis.HexDumpUtil;
+import net.deanly.structlayout.type.helpers.FieldValueType;
 
 import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
 
 /**
  * Abstract base class for defining the structure and behavior of fields that
@@ -77,8 +78,12 @@ public abstract class FieldBase<T> implements Field<T> {
      */
     @SuppressWarnings("unchecked")
     public FieldBase(int span) {
-        ParameterizedType parameterizedType = (ParameterizedType) this.getClass().getGenericSuperclass();
-        Class<T> clazz = (Class<T>) parameterizedType.getActualTypeArguments()[0];
+        Class<T> clazz = (Class<T>) FieldValueType.of(this.getClass()).getValueType();
+        if (clazz == null) {
+            // 해석할 수 없는 제네릭 타입은 기존과 같이 ClassCastException
+            ParameterizedType parameterizedType = (ParameterizedType) this.getClass().getGenericSuperclass();
+            clazz = (Class<T>) parameterizedType.getActualTypeArguments()[0];
+        }
         this.span = span;
         this.valueType = clazz;
     }
@@ -120,15 +125,7 @@ public abstract class FieldBase<T> implements Field<T> {
             return "Empty or null data";
         }
 
-        StringBuilder hexBuilder = new StringBuilder(data.length * 2); // Each byte = 2 HEX chars
-        for (int i = 0; i < data.length; i++) {
-            // Convert each byte to HEX and append to StringBuilder
-            hexBuilder.append(String.format("%02X", data[i]));
-            if (i < data.length - 1) {
-                hexBuilder.append(" "); // Optional: Space between HEX values
-            }
-        }
-        return hexBuilder.toString();
+        return HexDumpUtil.toHex(data);
     }
 
     /**
@@ -148,15 +145,7 @@ public abstract class FieldBase<T> implements Field<T> {
                             ", offset: " + offset + ", length: " + getSpan());
         }
 
-        StringBuilder hexBuilder = new StringBuilder(getSpan() * 2); // Each byte = 2 HEX chars
-        for (int i = 0; i < getSpan(); i++) {
-            // Convert each byte to HEX and append to StringBuilder
-            hexBuilder.append(String.format("%02X", data[offset + i]));
-            if (i < getSpan() - 1) {
-                hexBuilder.append(" "); // Optional: Adds space between HEX values for readability
-            }
-        }
-        return hexBuilder.toString();
+        return HexDumpUtil.toHex(data, offset, getSpan());
     }
 
     /**
@@ -169,11 +158,7 @@ public abstract class FieldBase<T> implements Field<T> {
      */
     @SuppressWarnings("unchecked")
     public Class<T> getGenericType() {
-        Type superClass = this.getClass().getGenericSuperclass();
-        if (superClass instanceof ParameterizedType parameterized) {
-            return (Class<T>) parameterized.getActualTypeArguments()[0];
-        }
-        return null;
+        return (Class<T>) FieldValueType.of(this.getClass()).getValueType();
     }
 
     /**
@@ -187,58 +172,19 @@ public abstract class FieldBase<T> implements Field<T> {
      */
     @SuppressWarnings("unchecked")
     public static <T> Class<T> getGenericType(Class<? extends Field<T>> fieldClass) {
-        Type superClass = fieldClass.getGenericSuperclass();
-        if (superClass instanceof ParameterizedType parameterizedType) {
-            Type typeArgument = parameterizedType.getActualTypeArguments()[0];
-
-            if (typeArgument instanceof Class<?>) {
-                return (Class<T>) typeArgument;
-            }
-        }
-        return null;
+        return (Class<T>) FieldValueType.of(fieldClass).getValueType();
     }
 
     /**
      * Extracts and returns the generic type of the first parameterized type argument
-     * used in the specified class that extends {@code Field<?>}.
+     * used in the specified class that extends {@code Field<?>}. The result is cached per class.
      *
      * @param fieldClass The class that extends {@code Field<?>}, for which the first generic type is to be determined.
      * @return The {@code Class<?>} object representing the first generic type,
      *         or {@code null} if the generic type is not available or cannot be resolved.
      */
     public static Class<?> getGenericTypeAsObject(Class<? extends Field<?>> fieldClass) {
-        Type superClass = fieldClass.getGenericSuperclass();
-        if (superClass instanceof ParameterizedType parameterizedType) {
-            Type typeArgument = parameterizedType.getActualTypeArguments()[0];
-            if (typeArgument instanceof Class<?>) {
-                return (Class<?>) typeArgument;
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Determines whether a given class represents a numeric type.
-     * Numeric types include subclasses of {@link Number} or primitive types such as
-     * byte, short, int, long, float, and double.
-     *
-     * @param type The class to be checked.
-     * @return {@code true} if the specified class is a numeric type; otherwise {@code false}.
-     */
-    private static boolean isNumericClass(Class<?> type) {
-        return Number.class.isAssignableFrom(type) || type.isPrimitive() && (
-                type == byte.class || type == short.class || type == int.class ||
-                        type == long.class || type == float.class || type == double.class);
-    }
-
-    /**
-     * Determines if a given class is of type {@code String}.
-     *
-     * @param type The class to be evaluated.
-     * @return {@code true} if the specified class is {@code String}; {@code false} otherwise.
-     */
-    private static boolean isStringClass(Class<?> type) {
-        return type == String.class;
+        return FieldValueType.of(fieldClass).getValueType();
     }
 
     /**
@@ -248,9 +194,7 @@ public abstract class FieldBase<T> implements Field<T> {
      * @return true if the field type is a numeric type; otherwise, false.
      */
     public static boolean isNumericType(Class<? extends Field<?>> fieldClass) {
-        // Field 클래스의 제네릭 타입 가져오기
-        Class<?> genericType = getGenericTypeAsObject(fieldClass);
-        return genericType != null && isNumericClass(genericType);
+        return FieldValueType.of(fieldClass).isNumeric();
     }
 
     /**
@@ -260,8 +204,7 @@ public abstract class FieldBase<T> implements Field<T> {
      * @return True if the field is of a string type, otherwise false.
      */
     public static boolean isStringType(Class<? extends Field<?>> fieldClass) {
-        Class<?> genericType = getGenericTypeAsObject(fieldClass);
-        return genericType != null && isStringClass(genericType);
+        return FieldValueType.of(fieldClass).getCategory() == FieldValueType.Category.STRING;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,149 @@
+package net.deanly.structlayout.type;
+
+import java.math.BigInteger;
+
+/**
+ * A signed (two's complement) 128-bit integer held as two {@code long}s.
+ *
+ * @see UInt128
+ */
+public final class Int128 extends Number implements Comparable<Int128> {
+
+    private static final BigInteger MASK_64 = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+    public static final Int128 ZERO = new Int128(0L, 0L);
+    public static final Int128 ONE = new Int128(0L, 1L);
+    public static final Int128 MIN_VALUE = new Int128(Long.MIN_VALUE, 0L);
+    public static final Int128 MAX_VALUE = new Int128(Long.MAX_VALUE, -1L);
+
+    private final long high;
+    private final long low;
+
+    private Int128(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Returns the value whose upper and lower 64 bits are the given bit patterns.
+     */
+    public static Int128 fromLongBits(long high, long low) {
+        if (high == 0 && low == 0) {
+            return ZERO;
+        }
+        return new Int128(high, low);
+    }
+
+    /**
+     * Returns the value of the given {@code long}, sign-extended to 128 bits.
+     */
+    public static Int128 valueOf(long value) {
+        return fromLongBits(value >> 63, value);
+    }
+
+    /**
+     * Returns the value of the given {@code BigInteger}.
+     *
+     * @throws IllegalArgumentException If the value is not within {@code -2^127 ~ 2^127-1}.
+     */
+    public static Int128 valueOf(BigInteger value) {
+        if (value.bitLength() > 127) {
+            throw new IllegalArgumentException("Value is out of range for Int128. value=" + value);
+        }
+        return fromLongBits(value.shiftRight(64).longValue(), value.longValue());
+    }
+
+    /**
+     * Parses a decimal string.
+     *
+     * @throws NumberFormatException    If the string is not a number.
+     * @throws IllegalArgumentException If the value is not within {@code -2^127 ~ 2^127-1}.
+     */
+    public static Int128 valueOf(String value) {
+        return valueOf(new BigInteger(value));
+    }
+
+    /**
+     * Upper 64 bits, including the sign bit.
+     */
+    public long getHigh() {
+        return high;
+    }
+
+    /**
+     * Lower 64 bits.
+     */
+    public long getLow() {
+        return low;
+    }
+
+    public int signum() {
+        if (high != 0) {
+            return high < 0 ? -1 : 1;
+        }
+        return low == 0 ? 0 : 1;
+    }
+
+    public BigInteger toBigInteger() {
+        if (high == low >> 63) {
+            return BigInteger.valueOf(low); // long 범위
+        }
+        return BigInteger.valueOf(high).shiftLeft(64).or(BigInteger.valueOf(low).and(MASK_64));
+    }
+
+    @Override
+    public int intValue() {
+        return (int) low;
+    }
+
+    @Override
+    public long longValue() {
+        return low;
+    }
+
+    @Override
+    public float floatValue() {
+        return (float) doubleValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        // BigInteger 할당 없이 근사값 계산 (음수는 절대값으로 계산해 상쇄 오차를 피함)
+        if (high == low >> 63) {
+            return low;
+        }
+        if (high < 0) {
+            long negatedLow = -low;
+            long negatedHigh = ~high + (low == 0 ? 1 : 0);
+            return -(UInt128.unsignedToDouble(negatedHigh) * 0x1p64 + UInt128.unsignedToDouble(negatedLow));
+        }
+        return high * 0x1p64 + UInt128.unsignedToDouble(low);
+    }
+
+    @Override
+    public int compareTo(Int128 other) {
+        int result = Long.compare(high, other.high);
+        return result != 0 ? result : Long.compareUnsigned(low, other.low);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj instanceof Int128 other && high == other.high && low == other.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(high) * 31 + Long.hashCode(low);
+    }
+
+    @Override
+    public String toString() {
+        if (high == low >> 63) {
+            return Long.toString(low);
+        }
+        return toBigInteger().toString();
+    }
+}
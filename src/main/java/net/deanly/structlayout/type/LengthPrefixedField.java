@@ -0,0 +1,19 @@
+package net.deanly.structlayout.type;
+
+import net.deanly.structlayout.Field;
+
+/**
+ * A field whose payload is preceded by its own length, such as a Borsh string or blob.
+ *
+ * <p>The decoder reads the declared length through {@link #payloadLength(byte[], int)} and validates it
+ * against {@link net.deanly.structlayout.codec.decode.DecodeLimits} before the payload is copied.</p>
+ */
+public interface LengthPrefixedField<T> extends Field<T> {
+
+    /**
+     * Reads the payload length declared by the prefix at the given offset, without decoding the payload.
+     *
+     * @throws IllegalArgumentException If the prefix itself is incomplete.
+     */
+    int payloadLength(byte[] data, int offset);
+}
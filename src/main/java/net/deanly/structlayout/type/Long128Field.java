@@ -0,0 +1,30 @@
+package net.deanly.structlayout.type;
+
+import net.deanly.structlayout.Field;
+
+/**
+ * A 128-bit field that can be read and written as a pair of {@code long}s without allocating a value object.
+ *
+ * <p>When a {@code long[]} struct field is mapped to a {@code Long128Field}, the codecs bind it directly:
+ * index {@code 0} holds the lower 64 bits and index {@code 1} the upper 64 bits. On decode, an existing
+ * {@code long[2]} in the field is filled in place.</p>
+ *
+ * <pre>{@code
+ * @StructField(order = 1, type = UInt128LEField.class)
+ * private long[] amount = new long[2];
+ * }</pre>
+ */
+public interface Long128Field<T> extends Field<T> {
+
+    /**
+     * Decodes the 16 bytes at the given offset into {@code dest[0]} (lower 64 bits) and {@code dest[1]} (upper 64 bits).
+     *
+     * @throws IllegalArgumentException If the data is insufficient.
+     */
+    void decodeLongs(byte[] data, int offset, long[] dest);
+
+    /**
+     * Writes the value as 16 bytes into {@code dest} starting at {@code offset}.
+     */
+    void encodeLongs(long low, long high, byte[] dest, int offset);
+}
@@ -0,0 +1,34 @@
+package net.deanly.structlayout.type;
+
+import net.deanly.structlayout.Field;
+
+/**
+ * A 64-bit field that can be read and written as a primitive {@code long} without boxing.
+ *
+ * <p>When a {@code long} struct field is mapped to a {@code LongField}, the codecs bind it directly
+ * instead of going through the boxed value type. Unsigned fields such as {@code UInt64LEField} store
+ * the raw bits, so values of {@code 2^63} and above appear as negative {@code long}s; use
+ * {@link net.deanly.structlayout.type.guava.UnsignedLongs} to compare, divide or format them:</p>
+ *
+ * <pre>{@code
+ * @StructField(order = 1, type = UInt64LEField.class)
+ * private long lamports;
+ *
+ * UnsignedLongs.toString(lamports);
+ * UnsignedLongs.compare(lamports, other) > 0;
+ * }</pre>
+ */
+public interface LongField<T> extends Field<T> {
+
+    /**
+     * Decodes the 8 bytes at the given offset as a {@code long}.
+     *
+     * @throws IllegalArgumentException If the data is insufficient.
+     */
+    long decodeLong(byte[] data, int offset);
+
+    /**
+     * Writes the value as 8 bytes into {@code dest} starting at {@code offset}.
+     */
+    void encodeLong(long value, byte[] dest, int offset);
+}
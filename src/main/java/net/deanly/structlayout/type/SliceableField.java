@@ -0,0 +1,30 @@
+package net.deanly.structlayout.type;
+
+import net.deanly.structlayout.Field;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A field whose value is a range of the message bytes, such as a blob or a fixed-size byte string.
+ *
+ * <p>A struct field declared as {@link ByteBuffer} instead of {@code byte[]} is decoded through
+ * {@link #decodeSlice(byte[], int)}: it receives a read-only view of the source array rather than a copy, so
+ * decoding a message with a large embedded blob does not copy the blob. The view shares the source array
+ * and sees any later change to it. When encoding, the remaining bytes of the buffer are written and its
+ * position is left unchanged.</p>
+ */
+public interface SliceableField extends Field<byte[]> {
+
+    /**
+     * Decodes the value at the given offset as a read-only view of {@code data}, with the same validation as
+     * {@link #decode(byte[], int)}.
+     */
+    ByteBuffer decodeSlice(byte[] data, int offset);
+
+    /**
+     * Returns a read-only buffer over {@code data[offset, offset + length)} whose position is 0.
+     */
+    static ByteBuffer slice(byte[] data, int offset, int length) {
+        return ByteBuffer.wrap(data, offset, length).slice().asReadOnlyBuffer();
+    }
+}
@@ -0,0 +1,149 @@
+package net.deanly.structlayout.type;
+
+import java.math.BigInteger;
+
+/**
+ * An unsigned 128-bit integer held as two {@code long}s.
+ *
+ * <p>Decoding a {@code u128} into this class costs a single small object instead of a
+ * {@link BigInteger} and its backing array. Use {@link #toBigInteger()} only where arbitrary-precision
+ * arithmetic is actually needed.</p>
+ */
+public final class UInt128 extends Number implements Comparable<UInt128> {
+
+    private static final BigInteger MASK_64 = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+    private static final BigInteger MASK_128 = BigInteger.ONE.shiftLeft(128).subtract(BigInteger.ONE);
+
+    public static final UInt128 ZERO = new UInt128(0L, 0L);
+    public static final UInt128 ONE = new UInt128(0L, 1L);
+    public static final UInt128 MAX_VALUE = new UInt128(-1L, -1L);
+
+    private final long high;
+    private final long low;
+
+    private UInt128(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Returns the value whose upper and lower 64 bits are the given bit patterns.
+     */
+    public static UInt128 fromLongBits(long high, long low) {
+        if (high == 0 && low == 0) {
+            return ZERO;
+        }
+        return new UInt128(high, low);
+    }
+
+    /**
+     * Returns the value of the given non-negative {@code long}.
+     *
+     * @throws IllegalArgumentException If the value is negative.
+     */
+    public static UInt128 valueOf(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value must be non-negative. value=" + value);
+        }
+        return fromLongBits(0L, value);
+    }
+
+    /**
+     * Returns the value of the given {@code BigInteger}.
+     *
+     * @throws IllegalArgumentException If the value is not within {@code 0 ~ 2^128-1}.
+     */
+    public static UInt128 valueOf(BigInteger value) {
+        if (value.signum() < 0 || value.bitLength() > 128) {
+            throw new IllegalArgumentException("Value is out of range for UInt128. value=" + value);
+        }
+        return fromLongBits(value.shiftRight(64).longValue(), value.longValue());
+    }
+
+    /**
+     * Parses a decimal string.
+     *
+     * @throws NumberFormatException    If the string is not a number.
+     * @throws IllegalArgumentException If the value is not within {@code 0 ~ 2^128-1}.
+     */
+    public static UInt128 valueOf(String value) {
+        return valueOf(new BigInteger(value));
+    }
+
+    /**
+     * Upper 64 bits.
+     */
+    public long getHigh() {
+        return high;
+    }
+
+    /**
+     * Lower 64 bits.
+     */
+    public long getLow() {
+        return low;
+    }
+
+    public BigInteger toBigInteger() {
+        if (high == 0 && low >= 0) {
+            return BigInteger.valueOf(low);
+        }
+        return BigInteger.valueOf(high).shiftLeft(64).or(BigInteger.valueOf(low).and(MASK_64)).and(MASK_128);
+    }
+
+    @Override
+    public int intValue() {
+        return (int) low;
+    }
+
+    @Override
+    public long longValue() {
+        return low;
+    }
+
+    @Override
+    public float floatValue() {
+        return (float) doubleValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        // BigInteger 할당 없이 근사값 계산
+        return unsignedToDouble(high) * 0x1p64 + unsignedToDouble(low);
+    }
+
+    @Override
+    public int compareTo(UInt128 other) {
+        int result = Long.compareUnsigned(high, other.high);
+        return result != 0 ? result : Long.compareUnsigned(low, other.low);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj instanceof UInt128 other && high == other.high && low == other.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(high) * 31 + Long.hashCode(low);
+    }
+
+    @Override
+    public String toString() {
+        if (high == 0) {
+            return Long.toUnsignedString(low);
+        }
+        return toBigInteger().toString();
+    }
+
+    static double unsignedToDouble(long value) {
+        if (value >= 0) {
+            return value;
+        }
+        // 최하위 비트를 보존해 반올림 오차를 줄임
+        return ((value >>> 1) | (value & 1)) * 2.0;
+    }
+}
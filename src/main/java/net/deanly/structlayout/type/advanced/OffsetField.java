@@ -26,6 +26,20 @@ public class OffsetField<T> extends FieldBase<T> implements DynamicSpanField {
                 : field.getSpan();
     }
 
+    @Override
+    public int spanWithin(byte[] data, int currentOffset, int limit) {
+        int target = currentOffset + offset;
+        int span = field instanceof DynamicSpanField dynamic
+                ? dynamic.spanWithin(data, target, limit)
+                : field.getSpan();
+        // 참조 위치의 값이 모두 도착해야 함 (현재 위치 기준의 필요 바이트 수)
+        int needed = offset + Math.abs(span);
+        if (span >= 0 && needed <= limit - currentOffset) {
+            return span;
+        }
+        return -Math.max(1, needed);
+    }
+
     @Override
     public int getNoDataSpan() {
         return 0;
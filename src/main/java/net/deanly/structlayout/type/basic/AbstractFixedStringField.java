@@ -1,6 +1,7 @@
 package net.deanly.structlayout.type.basic;
 
 import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.helpers.StringEncodingHelper;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
@@ -34,18 +35,16 @@ public abstract class AbstractFixedStringField extends FieldBase<String> {
         if (value == null) {
             throw new IllegalArgumentException("Value cannot be null.");
         }
-        byte[] stringBytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = StringEncodingHelper.utf8Length(value);
 
-        if (stringBytes.length > getSpan()) {
+        if (length > getSpan()) {
             throw new IllegalArgumentException("String length exceeds fixed span of " + getSpan() + " bytes.");
         }
 
-        // Create byte array with fixed span and copy the string bytes into it
+        // Create byte array with fixed span and encode the string directly into it.
+        // The rest of the array stays zero-filled as padding (0x00).
         byte[] fixedBytes = new byte[getSpan()];
-        System.arraycopy(stringBytes, 0, fixedBytes, 0, stringBytes.length);
-
-        // If necessary, fill the rest of the array with padding (e.g., 0x00)
-        Arrays.fill(fixedBytes, stringBytes.length, getSpan(), (byte) 0);
+        StringEncodingHelper.encodeUtf8(value, fixedBytes, 0);
         return fixedBytes;
     }
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package net.deanly.structlayout.type.basic;
 
 import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.SliceableField;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 /**
@@ -9,7 +11,7 @@ import java.util.Arrays;
  * This class provides methods to encode and decode 2-byte arrays, ensuring the
  * input and output values conform to the expected fixed-length 2 bytes.
  */
-public class Bytes2Field extends FieldBase<byte[]> {
+public class Bytes2Field extends FieldBase<byte[]> implements SliceableField {
     public Bytes2Field() {
         super(2, byte[].class); // 2 바이트 처리
     }
@@ -20,6 +22,12 @@ public class Bytes2Field extends FieldBase<byte[]> {
         return Arrays.copyOfRange(data, offset, offset + 2);
     }
 
+    @Override
+    public ByteBuffer decodeSlice(byte[] data, int offset) {
+        validateLength(data, offset);
+        return SliceableField.slice(data, offset, 2);
+    }
+
     @Override
     public byte[] encode(byte[] value) {
         if (value == null || value.length != 2) {
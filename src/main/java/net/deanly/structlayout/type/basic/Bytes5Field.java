@@ -1,7 +1,9 @@
 package net.deanly.structlayout.type.basic;
 
 import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.SliceableField;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 /**
@@ -9,7 +11,7 @@ import java.util.Arrays;
  * This class ensures that the data being processed is exactly 5 bytes in length.
  * It extends the functionality of the FieldBase class for specialized handling of 5-byte fields.
  */
-public class Bytes5Field extends FieldBase<byte[]> {
+public class Bytes5Field extends FieldBase<byte[]> implements SliceableField {
     public Bytes5Field() {
         super(5, byte[].class); // 5 바이트 처리
     }
@@ -20,6 +22,12 @@ public class Bytes5Field extends FieldBase<byte[]> {
         return Arrays.copyOfRange(data, offset, offset + 5);
     }
 
+    @Override
+    public ByteBuffer decodeSlice(byte[] data, int offset) {
+        validateLength(data, offset);
+        return SliceableField.slice(data, offset, 5);
+    }
+
     @Override
     public byte[] encode(byte[] value) {
         if (value == null || value.length != 5) {
@@ -1,7 +1,9 @@
 package net.deanly.structlayout.type.basic;
 
 import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.SliceableField;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 /**
@@ -9,7 +11,7 @@ import java.util.Arrays;
  * It provides methods to decode and encode byte array values specifically constrained to 6 bytes.
  * This class extends FieldBase to enforce the behavior of binary data handling.
  */
-public class Bytes6Field extends FieldBase<byte[]> {
+public class Bytes6Field extends FieldBase<byte[]> implements SliceableField {
     public Bytes6Field() {
         super(6, byte[].class); // 6 바이트 처리
     }
@@ -20,6 +22,12 @@ public class Bytes6Field extends FieldBase<byte[]> {
         return Arrays.copyOfRange(data, offset, offset + 6);
     }
 
+    @Override
+    public ByteBuffer decodeSlice(byte[] data, int offset) {
+        validateLength(data, offset);
+        return SliceableField.slice(data, offset, 6);
+    }
+
     @Override
     public byte[] encode(byte[] value) {
         if (value == null || value.length != 6) {
@@ -1,7 +1,9 @@
 package net.deanly.structlayout.type.basic;
 
 import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.SliceableField;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 /**
@@ -9,7 +11,7 @@ import java.util.Arrays;
  * This class provides methods to encode and decode 7-byte arrays, ensuring the
  * input and output values conform to the expected fixed-length 7 bytes.
  */
-public class Bytes7Field extends FieldBase<byte[]> {
+public class Bytes7Field extends FieldBase<byte[]> implements SliceableField {
     public Bytes7Field() {
         super(7, byte[].class); // 7 바이트 처리
     }
@@ -20,6 +22,12 @@ public class Bytes7Field extends FieldBase<byte[]> {
         return Arrays.copyOfRange(data, offset, offset + 7);
     }
 
+    @Override
+    public ByteBuffer decodeSlice(byte[] data, int offset) {
+        validateLength(data, offset);
+        return SliceableField.slice(data, offset, 7);
+    }
+
     @Override
     public byte[] encode(byte[] value) {
         if (value == null || value.length != 7) {
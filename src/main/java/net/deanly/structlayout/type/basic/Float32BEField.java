@@ -1,6 +1,8 @@
 package net.deanly.structlayout.type.basic;
 
+import net.deanly.structlayout.type.Endianness;
 import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.helpers.ByteArrayAccess;
 
 public class Float32BEField extends FieldBase<Float> implements BasicType {
 
@@ -27,15 +29,7 @@ public class Float32BEField extends FieldBase<Float> implements BasicType {
             throw new IllegalArgumentException("Invalid offset or insufficient data length.");
         }
 
-        // Combine the bytes in big-endian order to create an integer representation of the float
-        int intBits =
-                ((data[offset] & 0xFF) << 24) |
-                        ((data[offset + 1] & 0xFF) << 16) |
-                        ((data[offset + 2] & 0xFF) << 8) |
-                        (data[offset + 3] & 0xFF);
-
-        // Convert the integer bits to a float
-        return Float.intBitsToFloat(intBits);
+        return ByteArrayAccess.getFloat(data, offset, Endianness.BIG_ENDIAN);
     }
 
     /**
@@ -57,16 +51,7 @@ public class Float32BEField extends FieldBase<Float> implements BasicType {
         }
 
         byte[] data = new byte[4];
-
-        // Convert the float to its raw integer bits
-        int intBits = Float.floatToIntBits(value);
-
-        // Write the integer bits into the byte array in big-endian order
-        data[0] = (byte) ((intBits >> 24) & 0xFF);
-        data[1] = (byte) ((intBits >> 16) & 0xFF);
-        data[2] = (byte) ((intBits >> 8) & 0xFF);
-        data[3] = (byte) (intBits & 0xFF);
-
+        ByteArrayAccess.putFloat(data, 0, value, Endianness.BIG_ENDIAN);
         return data;
     }
 
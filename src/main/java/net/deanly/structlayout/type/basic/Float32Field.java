@@ -0,0 +1,63 @@
+package net.deanly.structlayout.type.basic;
+
+import net.deanly.structlayout.type.ByteOrderField;
+import net.deanly.structlayout.type.Endianness;
+import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.helpers.ByteArrayAccess;
+
+/**
+ * A 32-bit floating-point number in the byte order of the enclosing struct.
+ *
+ * <p>Unlike {@link Float32LEField} and {@link Float32BEField}, the byte order is taken from
+ * {@code @StructLayoutOptions(byteOrder = ...)} of the class that declares the field, and defaults to
+ * little-endian.</p>
+ */
+public class Float32Field extends FieldBase<Float> implements BasicType, ByteOrderField<Float> {
+
+    private static final Float32Field LITTLE = new Float32Field(Endianness.LITTLE_ENDIAN);
+    private static final Float32Field BIG = new Float32Field(Endianness.BIG_ENDIAN);
+
+    private final Endianness endianness;
+
+    public Float32Field() {
+        this(Endianness.LITTLE_ENDIAN);
+    }
+
+    public Float32Field(Endianness endianness) {
+        super(4, Float.class); // 4 bytes
+        this.endianness = endianness;
+    }
+
+    @Override
+    public Float decode(byte[] data, int offset) {
+        validateLength(data, offset);
+        return ByteArrayAccess.getFloat(data, offset, endianness);
+    }
+
+    @Override
+    public byte[] encode(Float value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+        if (value > Float.MAX_VALUE || value < -Float.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    String.format("Value %s exceeds the range of Float32 (Valid range: [%s, %s])",
+                            value, -Float.MAX_VALUE, Float.MAX_VALUE)
+            );
+        }
+
+        byte[] data = new byte[4];
+        ByteArrayAccess.putFloat(data, 0, value, endianness);
+        return data;
+    }
+
+    @Override
+    public Endianness getEndianness() {
+        return endianness;
+    }
+
+    @Override
+    public Float32Field withEndianness(Endianness endianness) {
+        return endianness == Endianness.LITTLE_ENDIAN ? LITTLE : BIG;
+    }
+}
@@ -1,6 +1,8 @@
 package net.deanly.structlayout.type.basic;
 
+import net.deanly.structlayout.type.Endianness;
 import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.helpers.ByteArrayAccess;
 
 public class Float32LEField extends FieldBase<Float> implements BasicType {
 
@@ -22,15 +24,7 @@ public class Float32LEField extends FieldBase<Float> implements BasicType {
     public Float decode(byte[] data, int offset) {
         validateLength(data, offset);
 
-        // Combine the bytes in little-endian order to create an integer representation of the float
-        int intBits =
-                (data[offset] & 0xFF) |
-                        ((data[offset + 1] & 0xFF) << 8) |
-                        ((data[offset + 2] & 0xFF) << 16) |
-                        ((data[offset + 3] & 0xFF) << 24);
-
-        // Convert the integer bits to a float
-        return Float.intBitsToFloat(intBits);
+        return ByteArrayAccess.getFloat(data, offset, Endianness.LITTLE_ENDIAN);
     }
 
     /**
@@ -52,16 +46,7 @@ public class Float32LEField extends FieldBase<Float> implements BasicType {
         }
 
         byte[] data = new byte[4];
-
-        // Convert the float to its raw integer bits
-        int intBits = Float.floatToIntBits(value);
-
-        // Write the integer bits into the byte array in little-endian order
-        data[0] = (byte) (intBits & 0xFF);
-        data[1] = (byte) ((intBits >> 8) & 0xFF);
-        data[2] = (byte) ((intBits >> 16) & 0xFF);
-        data[3] = (byte) ((intBits >> 24) & 0xFF);
-
+        ByteArrayAccess.putFloat(data, 0, value, Endianness.LITTLE_ENDIAN);
         return data;
     }
 
@@ -1,6 +1,8 @@
 package net.deanly.structlayout.type.basic;
 
+import net.deanly.structlayout.type.Endianness;
 import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.helpers.ByteArrayAccess;
 
 public class Float64BEField extends FieldBase<Double> implements BasicType {
 
@@ -27,19 +29,7 @@ public class Float64BEField extends FieldBase<Double> implements BasicType {
             throw new IllegalArgumentException("Invalid offset or insufficient data length.");
         }
 
-        // Combine the bytes in big-endian order to create a long representation of the double
-        long longBits =
-                ((long) (data[offset] & 0xFF) << 56) |
-                        ((long) (data[offset + 1] & 0xFF) << 48) |
-                        ((long) (data[offset + 2] & 0xFF) << 40) |
-                        ((long) (data[offset + 3] & 0xFF) << 32) |
-                        ((long) (data[offset + 4] & 0xFF) << 24) |
-                        ((long) (data[offset + 5] & 0xFF) << 16) |
-                        ((long) (data[offset + 6] & 0xFF) << 8) |
-                        ((long) (data[offset + 7] & 0xFF));
-
-        // Convert the long bits to a double
-        return Double.longBitsToDouble(longBits);
+        return ByteArrayAccess.getDouble(data, offset, Endianness.BIG_ENDIAN);
     }
 
     /**
@@ -54,17 +44,8 @@ public class Float64BEField extends FieldBase<Double> implements BasicType {
             throw new IllegalArgumentException("Value cannot be null.");
         }
 
-        byte[] data = new byte[8]; // Allocate 8 bytes for the 64-bit double.
-
-        // Convert the double to its raw long bits.
-        long longBits = Double.doubleToLongBits(value);
-
-        // Write each byte of the long into the array in big-endian order.
-        for (int i = 7; i >= 0; i--) {
-            data[i] = (byte) (longBits & 0xFF); // Extract the least significant byte.
-            longBits >>= 8;                     // Shift the bits for the next byte.
-        }
-
+        byte[] data = new byte[8];
+        ByteArrayAccess.putDouble(data, 0, value, Endianness.BIG_ENDIAN);
         return data;
     }
 
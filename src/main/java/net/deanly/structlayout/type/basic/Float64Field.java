@@ -0,0 +1,56 @@
+package net.deanly.structlayout.type.basic;
+
+import net.deanly.structlayout.type.ByteOrderField;
+import net.deanly.structlayout.type.Endianness;
+import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.helpers.ByteArrayAccess;
+
+/**
+ * A 64-bit floating-point number in the byte order of the enclosing struct.
+ *
+ * <p>Unlike {@link Float64LEField} and {@link Float64BEField}, the byte order is taken from
+ * {@code @StructLayoutOptions(byteOrder = ...)} of the class that declares the field, and defaults to
+ * little-endian.</p>
+ */
+public class Float64Field extends FieldBase<Double> implements BasicType, ByteOrderField<Double> {
+
+    private static final Float64Field LITTLE = new Float64Field(Endianness.LITTLE_ENDIAN);
+    private static final Float64Field BIG = new Float64Field(Endianness.BIG_ENDIAN);
+
+    private final Endianness endianness;
+
+    public Float64Field() {
+        this(Endianness.LITTLE_ENDIAN);
+    }
+
+    public Float64Field(Endianness endianness) {
+        super(8, Double.class); // 8 bytes
+        this.endianness = endianness;
+    }
+
+    @Override
+    public Double decode(byte[] data, int offset) {
+        validateLength(data, offset);
+        return ByteArrayAccess.getDouble(data, offset, endianness);
+    }
+
+    @Override
+    public byte[] encode(Double value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+        byte[] data = new byte[8];
+        ByteArrayAccess.putDouble(data, 0, value, endianness);
+        return data;
+    }
+
+    @Override
+    public Endianness getEndianness() {
+        return endianness;
+    }
+
+    @Override
+    public Float64Field withEndianness(Endianness endianness) {
+        return endianness == Endianness.LITTLE_ENDIAN ? LITTLE : BIG;
+    }
+}
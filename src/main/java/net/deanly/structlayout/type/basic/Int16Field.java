@@ -0,0 +1,57 @@
+package net.deanly.structlayout.type.basic;
+
+import net.deanly.structlayout.type.ByteOrderField;
+import net.deanly.structlayout.type.CountableField;
+import net.deanly.structlayout.type.Endianness;
+import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.helpers.ByteArrayAccess;
+
+/**
+ * A signed 16-bit integer in the byte order of the enclosing struct.
+ *
+ * <p>Unlike {@link Int16LEField} and {@link Int16BEField}, the byte order is taken from
+ * {@code @StructLayoutOptions(byteOrder = ...)} of the class that declares the field, and defaults to
+ * little-endian.</p>
+ */
+public class Int16Field extends FieldBase<Short> implements CountableField<Short>, ByteOrderField<Short> {
+
+    private static final Int16Field LITTLE = new Int16Field(Endianness.LITTLE_ENDIAN);
+    private static final Int16Field BIG = new Int16Field(Endianness.BIG_ENDIAN);
+
+    private final Endianness endianness;
+
+    public Int16Field() {
+        this(Endianness.LITTLE_ENDIAN);
+    }
+
+    public Int16Field(Endianness endianness) {
+        super(2, Short.class); // 2 bytes
+        this.endianness = endianness;
+    }
+
+    @Override
+    public Short decode(byte[] data, int offset) {
+        validateLength(data, offset);
+        return ByteArrayAccess.getShort(data, offset, endianness);
+    }
+
+    @Override
+    public byte[] encode(Short value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+        byte[] data = new byte[2];
+        ByteArrayAccess.putShort(data, 0, value, endianness);
+        return data;
+    }
+
+    @Override
+    public Endianness getEndianness() {
+        return endianness;
+    }
+
+    @Override
+    public Int16Field withEndianness(Endianness endianness) {
+        return endianness == Endianness.LITTLE_ENDIAN ? LITTLE : BIG;
+    }
+}
@@ -1,6 +1,8 @@
 package net.deanly.structlayout.type.basic;
 
+import net.deanly.structlayout.type.Endianness;
 import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.helpers.ByteArrayAccess;
 import net.deanly.structlayout.type.CountableField;
 
 public class Int16LEField extends FieldBase<Short> implements CountableField<Short> {
@@ -14,7 +16,8 @@ public class Int16LEField extends FieldBase<Short> implements CountableField<Sho
         if (data == null || offset + getSpan() > data.length) {
             throw new IllegalArgumentException("Data is invalid or offset exceeds length.");
         }
-        return (short) ((data[offset] & 0xFF) | ((data[offset + 1] & 0xFF) << 8)); // Little-endian
+
+        return ByteArrayAccess.getShort(data, offset, Endianness.LITTLE_ENDIAN);
     }
 
     @Override
@@ -22,10 +25,10 @@ public class Int16LEField extends FieldBase<Short> implements CountableField<Sho
         if (value == null) {
             throw new IllegalArgumentException("Value cannot be null.");
         }
-        return new byte[]{
-                (byte) (value & 0xFF),
-                (byte) ((value >> 8) & 0xFF)
-        }; // Little-endian
+
+        byte[] data = new byte[2];
+        ByteArrayAccess.putShort(data, 0, value, Endianness.LITTLE_ENDIAN);
+        return data;
     }
 
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package net.deanly.structlayout.type.basic;
 
+import net.deanly.structlayout.type.Endianness;
 import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.helpers.ByteArrayAccess;
 import net.deanly.structlayout.type.CountableField;
 
 public class Int32BEField extends FieldBase<Integer> implements CountableField<Integer> {
@@ -23,11 +25,7 @@ public class Int32BEField extends FieldBase<Integer> implements CountableField<I
             );
         }
 
-        int result = 0;
-        for (int i = 0; i < getSpan(); i++) {
-            result = (result << 8) | (data[offset + i] & 0xFF); // Big-Endian 처리
-        }
-        return result;
+        return ByteArrayAccess.getInt(data, offset, Endianness.BIG_ENDIAN);
     }
 
     /**
@@ -42,12 +40,8 @@ public class Int32BEField extends FieldBase<Integer> implements CountableField<I
             throw new IllegalArgumentException("Value cannot be null.");
         }
 
-        byte[] data = new byte[getSpan()]; // Enforces size of 4 bytes for 32-bit integer.
-
-        for (int i = getSpan() - 1; i >= 0; i--) {
-            data[i] = (byte) (value & 0xFF); // Write each byte in big-endian order.
-            value >>= 8;                     // Shift value by 8 bits for the next byte.
-        }
+        byte[] data = new byte[4];
+        ByteArrayAccess.putInt(data, 0, value, Endianness.BIG_ENDIAN);
         return data;
     }
 
@@ -0,0 +1,57 @@
+package net.deanly.structlayout.type.basic;
+
+import net.deanly.structlayout.type.ByteOrderField;
+import net.deanly.structlayout.type.CountableField;
+import net.deanly.structlayout.type.Endianness;
+import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.helpers.ByteArrayAccess;
+
+/**
+ * A signed 32-bit integer in the byte order of the enclosing struct.
+ *
+ * <p>Unlike {@link Int32LEField} and {@link Int32BEField}, the byte order is taken from
+ * {@code @StructLayoutOptions(byteOrder = ...)} of the class that declares the field, and defaults to
+ * little-endian.</p>
+ */
+public class Int32Field extends FieldBase<Integer> implements CountableField<Integer>, ByteOrderField<Integer> {
+
+    private static final Int32Field LITTLE = new Int32Field(Endianness.LITTLE_ENDIAN);
+    private static final Int32Field BIG = new Int32Field(Endianness.BIG_ENDIAN);
+
+    private final Endianness endianness;
+
+    public Int32Field() {
+        this(Endianness.LITTLE_ENDIAN);
+    }
+
+    public Int32Field(Endianness endianness) {
+        super(4, Integer.class); // 4 bytes
+        this.endianness = endianness;
+    }
+
+    @Override
+    public Integer decode(byte[] data, int offset) {
+        validateLength(data, offset);
+        return ByteArrayAccess.getInt(data, offset, endianness);
+    }
+
+    @Override
+    public byte[] encode(Integer value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+        byte[] data = new byte[4];
+        ByteArrayAccess.putInt(data, 0, value, endianness);
+        return data;
+    }
+
+    @Override
+    public Endianness getEndianness() {
+        return endianness;
+    }
+
+    @Override
+    public Int32Field withEndianness(Endianness endianness) {
+        return endianness == Endianness.LITTLE_ENDIAN ? LITTLE : BIG;
+    }
+}
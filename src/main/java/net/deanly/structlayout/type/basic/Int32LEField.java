@@ -1,6 +1,8 @@
 package net.deanly.structlayout.type.basic;
 
+import net.deanly.structlayout.type.Endianness;
 import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.helpers.ByteArrayAccess;
 import net.deanly.structlayout.type.CountableField;
 
 public class Int32LEField extends FieldBase<Integer> implements CountableField<Integer> {
@@ -23,11 +25,7 @@ public class Int32LEField extends FieldBase<Integer> implements CountableField<I
             );
         }
 
-        int result = 0;
-        for (int i = 0; i < getSpan(); i++) {
-            result |= (data[offset + i] & 0xFF) << (8 * i); // Little-Endian 처리
-        }
-        return result;
+        return ByteArrayAccess.getInt(data, offset, Endianness.LITTLE_ENDIAN);
     }
 
     /**
@@ -42,11 +40,8 @@ public class Int32LEField extends FieldBase<Integer> implements CountableField<I
             throw new IllegalArgumentException("Value cannot be null.");
         }
 
-        byte[] data = new byte[getSpan()];
-
-        for (int i = 0; i < getSpan(); i++) {
-            data[i] = (byte) ((value >> (8 * i)) & 0xFF); // Little-endian 처리
-        }
+        byte[] data = new byte[4];
+        ByteArrayAccess.putInt(data, 0, value, Endianness.LITTLE_ENDIAN);
         return data;
     }
 
@@ -1,9 +1,12 @@
 package net.deanly.structlayout.type.basic;
 
+import net.deanly.structlayout.type.Endianness;
 import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.helpers.ByteArrayAccess;
 import net.deanly.structlayout.type.CountableField;
+import net.deanly.structlayout.type.LongField;
 
-public class Int64BEField extends FieldBase<Long> implements CountableField<Long> {
+public class Int64BEField extends FieldBase<Long> implements CountableField<Long>, LongField<Long> {
 
     /**
      * Constructs a Int64BE layout for signed 64-bit integers in big-endian format.
@@ -28,21 +31,7 @@ public class Int64BEField extends FieldBase<Long> implements CountableField<Long
             throw new IllegalArgumentException("Invalid offset or insufficient data length.");
         }
 
-        // Combine the higher 32 bits and lower 32 bits in big-endian order
-        int hi32 =
-                ((data[offset] & 0xFF) << 24) |
-                        ((data[offset + 1] & 0xFF) << 16) |
-                        ((data[offset + 2] & 0xFF) << 8) |
-                        (data[offset + 3] & 0xFF); // High 32 bits (signed)
-
-        long lo32 =
-                ((long)(data[offset + 4] & 0xFF) << 24) |
-                        ((long)(data[offset + 5] & 0xFF) << 16) |
-                        ((long)(data[offset + 6] & 0xFF) << 8) |
-                        (long)(data[offset + 7] & 0xFF); // Low 32 bits (unsigned)
-
-        // Combine high and low bits into a signed 64-bit integer
-        return ((long) hi32 << 32) | lo32;
+        return ByteArrayAccess.getLong(data, offset, Endianness.BIG_ENDIAN);
     }
 
     /**
@@ -57,15 +46,20 @@ public class Int64BEField extends FieldBase<Long> implements CountableField<Long
             throw new IllegalArgumentException("Value cannot be null.");
         }
 
-        byte[] data = new byte[8]; // Allocate 8 bytes for the integer.
+        byte[] data = new byte[8];
+        ByteArrayAccess.putLong(data, 0, value, Endianness.BIG_ENDIAN);
+        return data;
+    }
 
-        // Write bytes in big-endian order
-        for (int i = 7; i >= 0; i--) {
-            data[i] = (byte) (value & 0xFF);
-            value >>= 8;
-        }
+    @Override
+    public long decodeLong(byte[] data, int offset) {
+        validateLength(data, offset);
+        return ByteArrayAccess.getLong(data, offset, Endianness.BIG_ENDIAN);
+    }
 
-        return data;
+    @Override
+    public void encodeLong(long value, byte[] dest, int offset) {
+        ByteArrayAccess.putLong(dest, offset, value, Endianness.BIG_ENDIAN);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,69 @@
+package net.deanly.structlayout.type.basic;
+
+import net.deanly.structlayout.type.ByteOrderField;
+import net.deanly.structlayout.type.CountableField;
+import net.deanly.structlayout.type.Endianness;
+import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.LongField;
+import net.deanly.structlayout.type.helpers.ByteArrayAccess;
+
+/**
+ * A signed 64-bit integer in the byte order of the enclosing struct.
+ *
+ * <p>Unlike {@link Int64LEField} and {@link Int64BEField}, the byte order is taken from
+ * {@code @StructLayoutOptions(byteOrder = ...)} of the class that declares the field, and defaults to
+ * little-endian.</p>
+ */
+public class Int64Field extends FieldBase<Long> implements CountableField<Long>, LongField<Long>, ByteOrderField<Long> {
+
+    private static final Int64Field LITTLE = new Int64Field(Endianness.LITTLE_ENDIAN);
+    private static final Int64Field BIG = new Int64Field(Endianness.BIG_ENDIAN);
+
+    private final Endianness endianness;
+
+    public Int64Field() {
+        this(Endianness.LITTLE_ENDIAN);
+    }
+
+    public Int64Field(Endianness endianness) {
+        super(8, Long.class); // 8 bytes
+        this.endianness = endianness;
+    }
+
+    @Override
+    public Long decode(byte[] data, int offset) {
+        validateLength(data, offset);
+        return ByteArrayAccess.getLong(data, offset, endianness);
+    }
+
+    @Override
+    public byte[] encode(Long value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+        byte[] data = new byte[8];
+        ByteArrayAccess.putLong(data, 0, value, endianness);
+        return data;
+    }
+
+    @Override
+    public long decodeLong(byte[] data, int offset) {
+        validateLength(data, offset);
+        return ByteArrayAccess.getLong(data, offset, endianness);
+    }
+
+    @Override
+    public void encodeLong(long value, byte[] dest, int offset) {
+        ByteArrayAccess.putLong(dest, offset, value, endianness);
+    }
+
+    @Override
+    public Endianness getEndianness() {
+        return endianness;
+    }
+
+    @Override
+    public Int64Field withEndianness(Endianness endianness) {
+        return endianness == Endianness.LITTLE_ENDIAN ? LITTLE : BIG;
+    }
+}
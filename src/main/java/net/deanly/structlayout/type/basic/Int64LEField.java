@@ -1,9 +1,12 @@
 package net.deanly.structlayout.type.basic;
 
+import net.deanly.structlayout.type.Endianness;
 import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.helpers.ByteArrayAccess;
 import net.deanly.structlayout.type.CountableField;
+import net.deanly.structlayout.type.LongField;
 
-public class Int64LEField extends FieldBase<Long> implements CountableField<Long> {
+public class Int64LEField extends FieldBase<Long> implements CountableField<Long>, LongField<Long> {
 
     /**
      * Constructs a Int64 layout for signed 64-bit integers in little-endian format.
@@ -28,21 +31,7 @@ public class Int64LEField extends FieldBase<Long> implements CountableField<Long
             throw new IllegalArgumentException("Invalid offset or insufficient data length.");
         }
 
-        // Combine the lower 32 bits and upper 32 bits in little-endian order
-        long lo32 =
-                ((long)(data[offset] & 0xFF)) |
-                        ((long)(data[offset + 1] & 0xFF) << 8) |
-                        ((long)(data[offset + 2] & 0xFF) << 16) |
-                        ((long)(data[offset + 3] & 0xFF) << 24); // Low 32 bits (unsigned)
-
-        long hi32 =
-                ((long)(data[offset + 4] & 0xFF)) |
-                        ((long)(data[offset + 5] & 0xFF) << 8) |
-                        ((long)(data[offset + 6] & 0xFF) << 16) |
-                        ((long)(data[offset + 7] & 0xFF) << 24); // High 32 bits (signed)
-
-        // Combine into a signed 64-bit integer
-        return (hi32 << 32) | lo32;
+        return ByteArrayAccess.getLong(data, offset, Endianness.LITTLE_ENDIAN);
     }
 
     /**
@@ -57,14 +46,20 @@ public class Int64LEField extends FieldBase<Long> implements CountableField<Long
             throw new IllegalArgumentException("Value cannot be null.");
         }
 
-        byte[] data = new byte[8]; // Allocate 8 bytes for the integer.
+        byte[] data = new byte[8];
+        ByteArrayAccess.putLong(data, 0, value, Endianness.LITTLE_ENDIAN);
+        return data;
+    }
 
-        // Write the lower 32 bits into the byte array in little-endian order
-        for (int i = 0; i < 8; i++) {
-            data[i] = (byte) ((value >> (8 * i)) & 0xFF);
-        }
+    @Override
+    public long decodeLong(byte[] data, int offset) {
+        validateLength(data, offset);
+        return ByteArrayAccess.getLong(data, offset, Endianness.LITTLE_ENDIAN);
+    }
 
-        return data;
+    @Override
+    public void encodeLong(long value, byte[] dest, int offset) {
+        ByteArrayAccess.putLong(dest, offset, value, Endianness.LITTLE_ENDIAN);
     }
 
-}
\ No newline at end of file
+}
@@ -1,12 +1,14 @@
 package net.deanly.structlayout.type.basic;
 
 import lombok.extern.slf4j.Slf4j;
+import net.deanly.structlayout.analysis.HexDumpUtil;
 import net.deanly.structlayout.type.FieldBase;
 import net.deanly.structlayout.type.DynamicSpanField;
+import net.deanly.structlayout.type.helpers.StringCache;
+import net.deanly.structlayout.type.helpers.StringEncodingHelper;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 
 /**
  * The `StringCLayout` class is a layout implementation for handling C-style strings.
@@ -50,6 +52,7 @@ import java.util.ArrayList;
 public class StringCField extends FieldBase<String> implements DynamicSpanField, BasicType {
 
     private final Charset charset; // 문자열 인코딩 방식
+    private final StringCache cache; // 반복되는 문자열 재사용 (선택)
     private int span;
 
     /**
@@ -72,8 +75,20 @@ public class StringCField extends FieldBase<String> implements DynamicSpanField,
      */
     // 특정 인코딩을 사용하는 C 문자열 처리
     public StringCField(Charset charset) {
+        this(charset, null);
+    }
+
+    /**
+     * Constructs a new instance of StringCLayout that decodes repeated strings to shared instances
+     * taken from the given cache.
+     *
+     * @param charset The character set to be used for encoding and decoding C-style strings.
+     * @param cache   The cache of decoded strings, or {@code null} to always create a new string.
+     */
+    public StringCField(Charset charset, StringCache cache) {
         super(-1, String.class); // 문자열 길이를 결정할 수 없으므로 Span은 동적으로 처리.
         this.charset = charset;
+        this.cache = cache;
     }
 
     @Override
@@ -82,13 +97,19 @@ public class StringCField extends FieldBase<String> implements DynamicSpanField,
             return new byte[0];
         }
 
-        // 문자열을 바이트 배열로 변환
-        byte[] stringBytes = value.getBytes(charset);
-
-        // 마지막에 널 종료 문자를 추가
-        byte[] result = new byte[stringBytes.length + 1];
-        System.arraycopy(stringBytes, 0, result, 0, stringBytes.length);
-        result[stringBytes.length] = 0;
+        byte[] result;
+        if (StringEncodingHelper.isSupported(charset)) {
+            // 결과 배열에 바로 인코딩 (마지막 바이트는 널 종료 문자)
+            result = new byte[StringEncodingHelper.encodedLength(value, charset) + 1];
+            StringEncodingHelper.encode(value, charset, result, 0);
+        } else {
+            // 문자열을 바이트 배열로 변환
+            byte[] stringBytes = value.getBytes(charset);
+
+            // 마지막에 널 종료 문자를 추가
+            result = new byte[stringBytes.length + 1];
+            System.arraycopy(stringBytes, 0, result, 0, stringBytes.length);
+        }
 
         setSpan(result.length);
 
@@ -97,26 +118,15 @@ public class StringCField extends FieldBase<String> implements DynamicSpanField,
 
     @Override
     public String decode(byte[] bytes, int offset) {
+        // 종료 문자(`\0`)를 한 번만 탐색하고, 원본 배열에서 바로 문자열 생성
         int length = calculateSpan(bytes, offset);
         setSpan(length);
 
-        ArrayList<Byte> resultBytes = new ArrayList<>();
-
-        // 바이트 배열을 탐색하며 종료 문자인 `\0`을 찾음
-        for (int i = offset; i < bytes.length; i++) {
-            if (bytes[i] == 0) {
-                break;
-            }
-            resultBytes.add(bytes[i]);
-        }
-
-        // 결과 바이트 값을 문자열로 변환
-        byte[] stringBytes = new byte[resultBytes.size()];
-        for (int i = 0; i < resultBytes.size(); i++) {
-            stringBytes[i] = resultBytes.get(i);
+        int stringLength = length - 1;
+        if (cache != null) {
+            return cache.get(bytes, offset, stringLength, charset);
         }
-
-        return new String(stringBytes, charset);
+        return new String(bytes, offset, stringLength, charset);
     }
 
     @Override
@@ -129,6 +139,16 @@ public class StringCField extends FieldBase<String> implements DynamicSpanField,
         throw new IllegalArgumentException("Null-terminated character not found");
     }
 
+    @Override
+    public int spanWithin(byte[] data, int offset, int limit) {
+        for (int i = offset; i < limit; i++) {
+            if (data[i] == 0) {
+                return i - offset + 1;
+            }
+        }
+        return -(limit - offset + 1); // 종료 문자가 아직 도착하지 않음
+    }
+
     @Override
     public int getNoDataSpan() {
         return 1; // 0x00
@@ -148,22 +168,18 @@ public class StringCField extends FieldBase<String> implements DynamicSpanField,
             throw new IllegalArgumentException("Cannot convert null or empty data to hex.");
         }
 
-        StringBuilder hexBuilder = new StringBuilder();
-
-        for (int i = offset; i < bytes.length; i++) {
-            hexBuilder.append(String.format("%02X", bytes[i]));
-            hexBuilder.append(" ");
+        if (offset >= bytes.length) {
+            return "";
+        }
 
-            if (bytes[i] == 0) {
+        // null terminator 까지 (포함)
+        int end = offset;
+        while (end < bytes.length) {
+            if (bytes[end++] == 0) {
                 break;
             }
         }
-
-        if (!hexBuilder.isEmpty()) {
-            hexBuilder.setLength(hexBuilder.length() - 1);
-        }
-
-        return hexBuilder.toString();
+        return HexDumpUtil.toHex(bytes, offset, Math.max(0, end - offset));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package net.deanly.structlayout.type.basic;
+
+import net.deanly.structlayout.type.Endianness;
+import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.UInt128;
+import net.deanly.structlayout.type.Long128Field;
+import net.deanly.structlayout.type.helpers.ByteArrayAccess;
+
+/**
+ * Field for an unsigned 128-bit integer in little-endian format, such as a Borsh/Rust {@code u128}.
+ *
+ * <p>Decodes into {@link UInt128}, which holds the value as two {@code long}s. Struct fields of type
+ * {@code java.math.BigInteger} are converted, and {@code long[]} fields are bound directly through
+ * {@link Long128Field}.</p>
+ */
+public class UInt128LEField extends FieldBase<UInt128> implements BasicType, Long128Field<UInt128> {
+
+    public UInt128LEField() {
+        super(16, UInt128.class);
+    }
+
+    @Override
+    public UInt128 decode(byte[] data, int offset) {
+        validateLength(data, offset);
+        long low = ByteArrayAccess.getLong(data, offset, Endianness.LITTLE_ENDIAN);
+        long high = ByteArrayAccess.getLong(data, offset + 8, Endianness.LITTLE_ENDIAN);
+        return UInt128.fromLongBits(high, low);
+    }
+
+    @Override
+    public byte[] encode(UInt128 value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+
+        byte[] data = new byte[16];
+        encodeLongs(value.getLow(), value.getHigh(), data, 0);
+        return data;
+    }
+
+    @Override
+    public void decodeLongs(byte[] data, int offset, long[] dest) {
+        validateLength(data, offset);
+        dest[0] = ByteArrayAccess.getLong(data, offset, Endianness.LITTLE_ENDIAN);
+        dest[1] = ByteArrayAccess.getLong(data, offset + 8, Endianness.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public void encodeLongs(long low, long high, byte[] dest, int offset) {
+        ByteArrayAccess.putLong(dest, offset, low, Endianness.LITTLE_ENDIAN);
+        ByteArrayAccess.putLong(dest, offset + 8, high, Endianness.LITTLE_ENDIAN);
+    }
+}
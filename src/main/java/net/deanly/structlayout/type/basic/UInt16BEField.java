@@ -1,6 +1,8 @@
 package net.deanly.structlayout.type.basic;
 
+import net.deanly.structlayout.type.Endianness;
 import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.helpers.ByteArrayAccess;
 import net.deanly.structlayout.type.CountableField;
 
 public class UInt16BEField extends FieldBase<Integer> implements CountableField<Integer> {
@@ -14,7 +16,8 @@ public class UInt16BEField extends FieldBase<Integer> implements CountableField<
         if (data == null || offset + getSpan() > data.length) {
             throw new IllegalArgumentException("Data is invalid or offset exceeds length.");
         }
-        return ((data[offset] & 0xFF) << 8) | (data[offset + 1] & 0xFF); // Big-endian
+
+        return ByteArrayAccess.getShort(data, offset, Endianness.BIG_ENDIAN) & 0xFFFF;
     }
 
     @Override
@@ -22,10 +25,10 @@ public class UInt16BEField extends FieldBase<Integer> implements CountableField<
         if (value == null || value < 0 || value > 65535) {
             throw new IllegalArgumentException("Value must be in range 0 to 65535.");
         }
-        return new byte[]{
-                (byte) ((value >> 8) & 0xFF),
-                (byte) (value & 0xFF)
-        };
+
+        byte[] data = new byte[2];
+        ByteArrayAccess.putShort(data, 0, (short) (int) value, Endianness.BIG_ENDIAN);
+        return data;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package net.deanly.structlayout.type.basic;
+
+import net.deanly.structlayout.type.ByteOrderField;
+import net.deanly.structlayout.type.CountableField;
+import net.deanly.structlayout.type.Endianness;
+import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.helpers.ByteArrayAccess;
+
+/**
+ * An unsigned 16-bit integer in the byte order of the enclosing struct.
+ *
+ * <p>Unlike {@link UInt16LEField} and {@link UInt16BEField}, the byte order is taken from
+ * {@code @StructLayoutOptions(byteOrder = ...)} of the class that declares the field, and defaults to
+ * little-endian.</p>
+ */
+public class UInt16Field extends FieldBase<Integer> implements CountableField<Integer>, ByteOrderField<Integer> {
+
+    private static final UInt16Field LITTLE = new UInt16Field(Endianness.LITTLE_ENDIAN);
+    private static final UInt16Field BIG = new UInt16Field(Endianness.BIG_ENDIAN);
+
+    private final Endianness endianness;
+
+    public UInt16Field() {
+        this(Endianness.LITTLE_ENDIAN);
+    }
+
+    public UInt16Field(Endianness endianness) {
+        super(2, Integer.class); // 2 bytes
+        this.endianness = endianness;
+    }
+
+    @Override
+    public Integer decode(byte[] data, int offset) {
+        validateLength(data, offset);
+        return ByteArrayAccess.getShort(data, offset, endianness) & 0xFFFF;
+    }
+
+    @Override
+    public byte[] encode(Integer value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+        if (value < 0 || value > 65535) {
+            throw new IllegalArgumentException("Value must be in range 0 to 65535.");
+        }
+
+        byte[] data = new byte[2];
+        ByteArrayAccess.putShort(data, 0, (short) (int) value, endianness);
+        return data;
+    }
+
+    @Override
+    public Endianness getEndianness() {
+        return endianness;
+    }
+
+    @Override
+    public UInt16Field withEndianness(Endianness endianness) {
+        return endianness == Endianness.LITTLE_ENDIAN ? LITTLE : BIG;
+    }
+}
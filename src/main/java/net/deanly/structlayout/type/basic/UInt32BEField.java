@@ -1,6 +1,8 @@
 package net.deanly.structlayout.type.basic;
 
+import net.deanly.structlayout.type.Endianness;
 import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.helpers.ByteArrayAccess;
 import net.deanly.structlayout.type.CountableField;
 
 public class UInt32BEField extends FieldBase<Long> implements CountableField<Long> {
@@ -25,17 +27,7 @@ public class UInt32BEField extends FieldBase<Long> implements CountableField<Lon
             throw new IllegalArgumentException("Invalid offset or insufficient data length.");
         }
 
-        // Combine bytes in big-endian order
-        long result = 0;
-        for (int i = 0; i < getSpan(); i++) {
-            result = (result << 8) | (data[offset + i] & 0xFF);
-        }
-
-        if (result > 0xFFFFFFFFL) {
-            throw new IllegalArgumentException("Decoded value exceeds allowed range for UInt32.");
-        }
-
-        return result;
+        return ByteArrayAccess.getInt(data, offset, Endianness.BIG_ENDIAN) & 0xFFFFFFFFL;
     }
 
     /**
@@ -50,14 +42,8 @@ public class UInt32BEField extends FieldBase<Long> implements CountableField<Lon
             throw new IllegalArgumentException("Cannot encode negative values for UInt32.");
         }
 
-        byte[] data = new byte[getSpan()]; // Allocate memory for 4 bytes.
-
-        // Write bytes in big-endian order
-        for (int i = getSpan() - 1; i >= 0; i--) {
-            data[i] = (byte) (value & 0xFF);
-            value >>>= 8;
-        }
-
+        byte[] data = new byte[4];
+        ByteArrayAccess.putInt(data, 0, (int) (long) value, Endianness.BIG_ENDIAN);
         return data;
     }
 
@@ -0,0 +1,61 @@
+package net.deanly.structlayout.type.basic;
+
+import net.deanly.structlayout.type.ByteOrderField;
+import net.deanly.structlayout.type.CountableField;
+import net.deanly.structlayout.type.Endianness;
+import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.helpers.ByteArrayAccess;
+
+/**
+ * An unsigned 32-bit integer in the byte order of the enclosing struct.
+ *
+ * <p>Unlike {@link UInt32LEField} and {@link UInt32BEField}, the byte order is taken from
+ * {@code @StructLayoutOptions(byteOrder = ...)} of the class that declares the field, and defaults to
+ * little-endian.</p>
+ */
+public class UInt32Field extends FieldBase<Long> implements CountableField<Long>, ByteOrderField<Long> {
+
+    private static final UInt32Field LITTLE = new UInt32Field(Endianness.LITTLE_ENDIAN);
+    private static final UInt32Field BIG = new UInt32Field(Endianness.BIG_ENDIAN);
+
+    private final Endianness endianness;
+
+    public UInt32Field() {
+        this(Endianness.LITTLE_ENDIAN);
+    }
+
+    public UInt32Field(Endianness endianness) {
+        super(4, Long.class); // 4 bytes
+        this.endianness = endianness;
+    }
+
+    @Override
+    public Long decode(byte[] data, int offset) {
+        validateLength(data, offset);
+        return ByteArrayAccess.getInt(data, offset, endianness) & 0xFFFFFFFFL;
+    }
+
+    @Override
+    public byte[] encode(Long value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+        if (value < 0 || value > 0xFFFFFFFFL) {
+            throw new IllegalArgumentException("Value must be in range 0 to 4294967295.");
+        }
+
+        byte[] data = new byte[4];
+        ByteArrayAccess.putInt(data, 0, (int) (long) value, endianness);
+        return data;
+    }
+
+    @Override
+    public Endianness getEndianness() {
+        return endianness;
+    }
+
+    @Override
+    public UInt32Field withEndianness(Endianness endianness) {
+        return endianness == Endianness.LITTLE_ENDIAN ? LITTLE : BIG;
+    }
+}
@@ -1,6 +1,8 @@
 package net.deanly.structlayout.type.basic;
 
+import net.deanly.structlayout.type.Endianness;
 import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.helpers.ByteArrayAccess;
 import net.deanly.structlayout.type.CountableField;
 
 public class UInt32LEField extends FieldBase<Long> implements CountableField<Long> {
@@ -25,17 +27,7 @@ public class UInt32LEField extends FieldBase<Long> implements CountableField<Lon
             throw new IllegalArgumentException("Invalid offset or insufficient data length.");
         }
 
-        // Combine bytes in little-endian order
-        long result = 0;
-        for (int i = 0; i < getSpan(); i++) {
-            result |= (long) (data[offset + i] & 0xFF) << (8 * i);
-        }
-
-        if (result > 0xFFFFFFFFL) {
-            throw new IllegalArgumentException("Decoded value exceeds allowed range for UInt32.");
-        }
-
-        return result;
+        return ByteArrayAccess.getInt(data, offset, Endianness.LITTLE_ENDIAN) & 0xFFFFFFFFL;
     }
 
     /**
@@ -53,13 +45,8 @@ public class UInt32LEField extends FieldBase<Long> implements CountableField<Lon
             throw new IllegalArgumentException("Value must be in range 0 to 4294967295.");
         }
 
-        byte[] data = new byte[getSpan()]; // Allocate memory for 4 bytes.
-
-        // Write bytes in little-endian order
-        for (int i = 0; i < getSpan(); i++) {
-            data[i] = (byte) ((value >> (8 * i)) & 0xFF);
-        }
-
+        byte[] data = new byte[4];
+        ByteArrayAccess.putInt(data, 0, (int) (long) value, Endianness.LITTLE_ENDIAN);
         return data;
     }
 
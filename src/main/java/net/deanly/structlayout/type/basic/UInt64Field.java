@@ -0,0 +1,71 @@
+package net.deanly.structlayout.type.basic;
+
+import net.deanly.structlayout.type.ByteOrderField;
+import net.deanly.structlayout.type.CountableField;
+import net.deanly.structlayout.type.Endianness;
+import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.LongField;
+import net.deanly.structlayout.type.guava.UnsignedLong;
+import net.deanly.structlayout.type.helpers.ByteArrayAccess;
+
+/**
+ * An unsigned 64-bit integer in the byte order of the enclosing struct.
+ *
+ * <p>Unlike {@link UInt64LEField} and {@link UInt64BEField}, the byte order is taken from
+ * {@code @StructLayoutOptions(byteOrder = ...)} of the class that declares the field, and defaults to
+ * little-endian.</p>
+ */
+public class UInt64Field extends FieldBase<UnsignedLong>
+        implements CountableField<UnsignedLong>, LongField<UnsignedLong>, ByteOrderField<UnsignedLong> {
+
+    private static final UInt64Field LITTLE = new UInt64Field(Endianness.LITTLE_ENDIAN);
+    private static final UInt64Field BIG = new UInt64Field(Endianness.BIG_ENDIAN);
+
+    private final Endianness endianness;
+
+    public UInt64Field() {
+        this(Endianness.LITTLE_ENDIAN);
+    }
+
+    public UInt64Field(Endianness endianness) {
+        super(8, UnsignedLong.class); // 8 bytes
+        this.endianness = endianness;
+    }
+
+    @Override
+    public UnsignedLong decode(byte[] data, int offset) {
+        validateLength(data, offset);
+        return UnsignedLong.fromLongBits(ByteArrayAccess.getLong(data, offset, endianness));
+    }
+
+    @Override
+    public byte[] encode(UnsignedLong value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+        byte[] data = new byte[8];
+        ByteArrayAccess.putLong(data, 0, value.longValue(), endianness);
+        return data;
+    }
+
+    @Override
+    public long decodeLong(byte[] data, int offset) {
+        validateLength(data, offset);
+        return ByteArrayAccess.getLong(data, offset, endianness);
+    }
+
+    @Override
+    public void encodeLong(long value, byte[] dest, int offset) {
+        ByteArrayAccess.putLong(dest, offset, value, endianness);
+    }
+
+    @Override
+    public Endianness getEndianness() {
+        return endianness;
+    }
+
+    @Override
+    public UInt64Field withEndianness(Endianness endianness) {
+        return endianness == Endianness.LITTLE_ENDIAN ? LITTLE : BIG;
+    }
+}
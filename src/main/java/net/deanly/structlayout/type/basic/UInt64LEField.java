@@ -1,11 +1,14 @@
 package net.deanly.structlayout.type.basic;
 
+import net.deanly.structlayout.type.Endianness;
 import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.helpers.ByteArrayAccess;
 import net.deanly.structlayout.type.CountableField;
+import net.deanly.structlayout.type.LongField;
 
 import net.deanly.structlayout.type.guava.UnsignedLong;
 
-public class UInt64LEField extends FieldBase<UnsignedLong> implements CountableField<UnsignedLong> {
+public class UInt64LEField extends FieldBase<UnsignedLong> implements CountableField<UnsignedLong>, LongField<UnsignedLong> {
 
     public static final UnsignedLong UINT64_MAX = UnsignedLong.MAX_VALUE;
 
@@ -22,27 +25,30 @@ public class UInt64LEField extends FieldBase<UnsignedLong> implements CountableF
             throw new IllegalArgumentException("Invalid offset or insufficient data length.");
         }
 
-        long result = 0;
-        for (int i = 0; i < 8; i++) {
-            result |= (long) (data[offset + i] & 0xFF) << (i * 8);
-        }
-
-        return UnsignedLong.fromLongBits(result);
+        return UnsignedLong.fromLongBits(ByteArrayAccess.getLong(data, offset, Endianness.LITTLE_ENDIAN));
     }
 
     @Override
     public byte[] encode(UnsignedLong value) {
-        if (value == null || value.compareTo(UnsignedLong.ZERO) < 0 || value.compareTo(UINT64_MAX) > 0) {
-            throw new IllegalArgumentException("Value must not be negative or exceed unsigned 64-bit integer range. " + value);
+        // UnsignedLong 은 항상 0 ~ 2^64-1 범위이므로 null 만 검사
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
         }
 
         byte[] data = new byte[8];
-        long temp = value.longValue();
-        for (int i = 0; i < 8; i++) {
-            data[i] = (byte) (temp & 0xFF);
-            temp >>= 8;
-        }
-
+        ByteArrayAccess.putLong(data, 0, value.longValue(), Endianness.LITTLE_ENDIAN);
         return data;
     }
+
+    @Override
+    public long decodeLong(byte[] data, int offset) {
+        validateLength(data, offset);
+        return ByteArrayAccess.getLong(data, offset, Endianness.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public void encodeLong(long value, byte[] dest, int offset) {
+        ByteArrayAccess.putLong(dest, offset, value, Endianness.LITTLE_ENDIAN);
+    }
+
 }
@@ -191,6 +191,14 @@ public abstract class AbstractBorshOptionField<T, F extends FieldBase<T>> extend
         }
     }
 
+    @Override
+    public int spanWithin(byte[] data, int offset, int limit) {
+        if (offset >= limit) {
+            return -1;
+        }
+        return data[offset] == 1 ? 1 + fieldInstance.getSpan() : 1; // 잘못된 tag 는 디코딩에서 오류 처리
+    }
+
     @Override
     public int getSpan() {
         throw new UnsupportedOperationException("Borsh Option has variable span.");
@@ -2,9 +2,13 @@ package net.deanly.structlayout.type.borsh;
 
 import net.deanly.structlayout.type.DynamicSpanField;
 import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.LengthPrefixedField;
+import net.deanly.structlayout.type.SliceableField;
 import net.deanly.structlayout.type.basic.BasicType;
 
-public class BorshBlobField extends FieldBase<byte[]> implements BasicType, DynamicSpanField {
+import java.nio.ByteBuffer;
+
+public class BorshBlobField extends FieldBase<byte[]> implements BasicType, DynamicSpanField, LengthPrefixedField<byte[]>, SliceableField {
 
     public BorshBlobField() {
         super(-1, byte[].class);
@@ -21,10 +25,7 @@ public class BorshBlobField extends FieldBase<byte[]> implements BasicType, Dyna
         byte[] result = new byte[length + 4]; // 4 bytes for length (VarInt)
 
         // Length를 먼저 기록 (Big-endian)
-        result[0] = (byte) (length >> 24);
-        result[1] = (byte) (length >> 16);
-        result[2] = (byte) (length >> 8);
-        result[3] = (byte) length;
+        writeLength(length, result);
 
         // Value 복사
         System.arraycopy(value, 0, result, 4, length);
@@ -32,21 +33,26 @@ public class BorshBlobField extends FieldBase<byte[]> implements BasicType, Dyna
         return result;
     }
 
+    /**
+     * Encodes only the length prefix of a value of the given length, so that the value itself can be written
+     * without copying it.
+     */
+    public byte[] encodeLength(int length) {
+        byte[] prefix = new byte[4];
+        writeLength(length, prefix);
+        return prefix;
+    }
+
+    private static void writeLength(int length, byte[] target) {
+        target[0] = (byte) (length >> 24);
+        target[1] = (byte) (length >> 16);
+        target[2] = (byte) (length >> 8);
+        target[3] = (byte) length;
+    }
+
     @Override
     public byte[] decode(byte[] bytes, int offset) {
-        if (bytes == null || bytes.length < offset + 4) {
-            throw new IllegalArgumentException("Invalid TLV structure: insufficient data");
-        }
-        // Length 읽기 (Big-endian)
-        var length = ((bytes[offset] & 0xFF) << 24) |
-                ((bytes[offset + 1] & 0xFF) << 16) |
-                ((bytes[offset + 2] & 0xFF) << 8) |
-                (bytes[offset + 3] & 0xFF);
-
-        // Value 데이터가 충분한지 확인
-        if (bytes.length < offset + 4 + length) {
-            throw new IllegalArgumentException("Invalid TLV structure: insufficient data for value");
-        }
+        var length = validatedLength(bytes, offset);
 
         // 빈 데이터 처리
         if (bytes.length == offset + 4 && length == 0) {
@@ -60,9 +66,53 @@ public class BorshBlobField extends FieldBase<byte[]> implements BasicType, Dyna
         return value;
     }
 
+    @Override
+    public ByteBuffer decodeSlice(byte[] bytes, int offset) {
+        // Value 는 복사하지 않고 원본 배열의 view 로 반환
+        return SliceableField.slice(bytes, offset + 4, validatedLength(bytes, offset));
+    }
+
+    private static int validatedLength(byte[] bytes, int offset) {
+        if (bytes == null || bytes.length < offset + 4) {
+            throw new IllegalArgumentException("Invalid TLV structure: insufficient data");
+        }
+        // Length 읽기 (Big-endian)
+        var length = readLength(bytes, offset);
+
+        // Value 데이터가 충분한지 확인 (음수 길이 및 오버플로 포함)
+        if (length < 0 || length > bytes.length - offset - 4) {
+            throw new IllegalArgumentException("Invalid TLV structure: insufficient data for value");
+        }
+        return length;
+    }
+
     @Override
     public int calculateSpan(byte[] data, int offset) {
-        return data.length - offset;
+        return 4 + validatedLength(data, offset);
+    }
+
+    @Override
+    public int spanWithin(byte[] data, int offset, int limit) {
+        if (limit - offset < 4) {
+            return -4;
+        }
+        int length = readLength(data, offset);
+        return length < 0 ? 4 : (int) Math.min(Integer.MAX_VALUE, 4L + length); // 음수 길이는 디코딩에서 오류 처리
+    }
+
+    @Override
+    public int payloadLength(byte[] data, int offset) {
+        if (data == null || offset < 0 || data.length < offset + 4) {
+            throw new IllegalArgumentException("Invalid TLV structure: insufficient data");
+        }
+        return readLength(data, offset);
+    }
+
+    private static int readLength(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xFF) << 24) |
+                ((bytes[offset + 1] & 0xFF) << 16) |
+                ((bytes[offset + 2] & 0xFF) << 8) |
+                (bytes[offset + 3] & 0xFF);
     }
 
     @Override
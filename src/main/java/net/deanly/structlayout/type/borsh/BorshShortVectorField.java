@@ -99,6 +99,16 @@ public class BorshShortVectorField extends FieldBase<Integer> implements Dynamic
         return calculateEncodedLength(data, offset);
     }
 
+    @Override
+    public int spanWithin(byte[] data, int offset, int limit) {
+        for (int i = offset; i < limit; i++) {
+            if ((data[i] & 0x80) == 0) {
+                return i - offset + 1;
+            }
+        }
+        return -(limit - offset + 1); // 마지막 바이트가 아직 도착하지 않음
+    }
+
     /**
      * Returns the span (in bytes) of the encoded length when no data is provided.
      *
@@ -2,6 +2,9 @@ package net.deanly.structlayout.type.borsh;
 
 import net.deanly.structlayout.type.DynamicSpanField;
 import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.LengthPrefixedField;
+import net.deanly.structlayout.type.helpers.StringCache;
+import net.deanly.structlayout.type.helpers.StringEncodingHelper;
 
 import java.nio.charset.StandardCharsets;
 
@@ -21,9 +24,22 @@ import java.nio.charset.StandardCharsets;
  * and provides methods to encode strings into byte data and decode byte data back into strings.
  * It also supports calculating the variable span (length) of the encoded string.
  */
-public class BorshStringField extends FieldBase<String> implements DynamicSpanField {
+public class BorshStringField extends FieldBase<String> implements DynamicSpanField, LengthPrefixedField<String> {
+
+    private final StringCache cache; // 반복되는 문자열 재사용 (선택)
+
     public BorshStringField() {
+        this(null);
+    }
+
+    /**
+     * Creates a field that decodes repeated strings to shared instances taken from the given cache.
+     *
+     * @param cache The cache of decoded strings, or {@code null} to always create a new string.
+     */
+    public BorshStringField(StringCache cache) {
         super(-1, String.class);
+        this.cache = cache;
     }
 
     @Override
@@ -36,8 +52,7 @@ public class BorshStringField extends FieldBase<String> implements DynamicSpanFi
         }
 
         // 문자열 길이 읽기 (Little-Endian u32)
-        int length = ((data[offset] & 0xFF) | ((data[offset + 1] & 0xFF) << 8) |
-                ((data[offset + 2] & 0xFF) << 16) | ((data[offset + 3] & 0xFF) << 24));
+        int length = readLength(data, offset);
         offset += 4;
 
         if (length < 0 || length > data.length - offset) {
@@ -47,12 +62,19 @@ public class BorshStringField extends FieldBase<String> implements DynamicSpanFi
             ));
         }
 
+        // 문자열 끝의 NUL 패딩 제외 (UTF-8 에서 0x00 은 항상 U+0000)
+        while (length > 0 && data[offset + length - 1] == 0) {
+            length--;
+        }
+
         // 문자열 데이터 읽기
         if (length == 0) {
             return "";
         }
-
-        return new String(data, offset, length, StandardCharsets.UTF_8).replaceAll("\u0000+$", "");
+        if (cache != null) {
+            return cache.get(data, offset, length, StandardCharsets.UTF_8);
+        }
+        return new String(data, offset, length, StandardCharsets.UTF_8);
     }
 
     @Override
@@ -61,8 +83,7 @@ public class BorshStringField extends FieldBase<String> implements DynamicSpanFi
             throw new IllegalArgumentException("String value cannot be null");
         }
 
-        byte[] stringBytes = value.getBytes(StandardCharsets.UTF_8);
-        int length = stringBytes.length;
+        int length = StringEncodingHelper.utf8Length(value);
 
         byte[] result = new byte[4 + length];
 
@@ -72,8 +93,8 @@ public class BorshStringField extends FieldBase<String> implements DynamicSpanFi
         result[2] = (byte) ((length >> 16) & 0xFF);
         result[3] = (byte) ((length >> 24) & 0xFF);
 
-        // 문자열 데이터 기록
-        System.arraycopy(stringBytes, 0, result, 4, length);
+        // 문자열 데이터 기록 (결과 배열에 바로 인코딩)
+        StringEncodingHelper.encodeUtf8(value, result, 4);
 
         return result;
     }
@@ -86,10 +107,29 @@ public class BorshStringField extends FieldBase<String> implements DynamicSpanFi
 
     @Override
     public int calculateSpan(byte[] data, int offset) {
-        // 문자열 길이 읽기 (Little-Endian u32)
-        int length = ((data[offset] & 0xFF) | ((data[offset + 1] & 0xFF) << 8) |
-                ((data[offset + 2] & 0xFF) << 16) | ((data[offset + 3] & 0xFF) << 24));
-        return 4 + length; // 길이 필드(4 bytes) + 문자열 데이터 길이
+        return 4 + readLength(data, offset); // 길이 필드(4 bytes) + 문자열 데이터 길이
+    }
+
+    @Override
+    public int spanWithin(byte[] data, int offset, int limit) {
+        if (limit - offset < 4) {
+            return -4;
+        }
+        int length = readLength(data, offset);
+        return length < 0 ? 4 : (int) Math.min(Integer.MAX_VALUE, 4L + length); // 음수 길이는 디코딩에서 오류 처리
+    }
+
+    @Override
+    public int payloadLength(byte[] data, int offset) {
+        if (data == null || offset < 0 || offset + 4 > data.length) {
+            throw new IllegalArgumentException("Offset out of bounds for the string length prefix. offset=" + offset);
+        }
+        return readLength(data, offset);
+    }
+
+    private static int readLength(byte[] data, int offset) {
+        return (data[offset] & 0xFF) | ((data[offset + 1] & 0xFF) << 8) |
+                ((data[offset + 2] & 0xFF) << 16) | ((data[offset + 3] & 0xFF) << 24);
     }
 
     @Override
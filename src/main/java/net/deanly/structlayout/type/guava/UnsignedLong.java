@@ -35,7 +35,11 @@ public final class UnsignedLong extends Number implements Comparable<UnsignedLon
 
     private static final long UNSIGNED_MASK = 0x7fffffffffffffffL;
 
-    private static final int CACHE_SIZE = 2048;
+    /**
+     * Values {@code 0 <= v < CACHE_SIZE} are shared instances, so decoding small amounts, counters and
+     * lengths does not allocate. Tunable with the {@code structlayout.unsignedLong.cacheSize} system property.
+     */
+    private static final int CACHE_SIZE = Math.max(2, Integer.getInteger("structlayout.unsignedLong.cacheSize", 2048));
     private static final UnsignedLong[] CACHE = new UnsignedLong[CACHE_SIZE];
     public static final UnsignedLong ZERO;
     public static final UnsignedLong ONE;
@@ -66,6 +70,8 @@ public final class UnsignedLong extends Number implements Comparable<UnsignedLon
      * <p>To represent decimal constants less than {@code 2^63}, consider {@link #valueOf(long)}
      * instead.
      *
+     * <p>Small values are returned from a shared cache.
+     *
      * @since 14.0
      */
     public static UnsignedLong fromLongBits(long bits) {
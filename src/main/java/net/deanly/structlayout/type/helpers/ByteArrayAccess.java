@@ -0,0 +1,86 @@
+package net.deanly.structlayout.type.helpers;
+
+import net.deanly.structlayout.type.Endianness;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Reads and writes fixed-width numbers in a byte array in either byte order.
+ *
+ * <p>Access goes through {@link MethodHandles#byteArrayViewVarHandle(Class, ByteOrder)}, which the JIT
+ * compiles to a single (unaligned) load or store, plus a byte swap when the byte order differs from
+ * {@link ByteOrder#nativeOrder()}. Callers validate the offset; an out of range access throws
+ * {@link IndexOutOfBoundsException}.</p>
+ */
+public final class ByteArrayAccess {
+
+    private static final VarHandle SHORT_LE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle SHORT_BE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_BE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_BE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private ByteArrayAccess() {
+    }
+
+    public static short getShort(byte[] data, int offset, Endianness endianness) {
+        return endianness == Endianness.LITTLE_ENDIAN
+                ? (short) SHORT_LE.get(data, offset)
+                : (short) SHORT_BE.get(data, offset);
+    }
+
+    public static void putShort(byte[] data, int offset, short value, Endianness endianness) {
+        if (endianness == Endianness.LITTLE_ENDIAN) {
+            SHORT_LE.set(data, offset, value);
+        } else {
+            SHORT_BE.set(data, offset, value);
+        }
+    }
+
+    public static int getInt(byte[] data, int offset, Endianness endianness) {
+        return endianness == Endianness.LITTLE_ENDIAN
+                ? (int) INT_LE.get(data, offset)
+                : (int) INT_BE.get(data, offset);
+    }
+
+    public static void putInt(byte[] data, int offset, int value, Endianness endianness) {
+        if (endianness == Endianness.LITTLE_ENDIAN) {
+            INT_LE.set(data, offset, value);
+        } else {
+            INT_BE.set(data, offset, value);
+        }
+    }
+
+    public static long getLong(byte[] data, int offset, Endianness endianness) {
+        return endianness == Endianness.LITTLE_ENDIAN
+                ? (long) LONG_LE.get(data, offset)
+                : (long) LONG_BE.get(data, offset);
+    }
+
+    public static void putLong(byte[] data, int offset, long value, Endianness endianness) {
+        if (endianness == Endianness.LITTLE_ENDIAN) {
+            LONG_LE.set(data, offset, value);
+        } else {
+            LONG_BE.set(data, offset, value);
+        }
+    }
+
+    public static float getFloat(byte[] data, int offset, Endianness endianness) {
+        return Float.intBitsToFloat(getInt(data, offset, endianness));
+    }
+
+    public static void putFloat(byte[] data, int offset, float value, Endianness endianness) {
+        putInt(data, offset, Float.floatToIntBits(value), endianness);
+    }
+
+    public static double getDouble(byte[] data, int offset, Endianness endianness) {
+        return Double.longBitsToDouble(getLong(data, offset, endianness));
+    }
+
+    public static void putDouble(byte[] data, int offset, double value, Endianness endianness) {
+        putLong(data, offset, Double.doubleToLongBits(value), endianness);
+    }
+}
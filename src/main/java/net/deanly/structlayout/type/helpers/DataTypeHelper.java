@@ -1,28 +1,24 @@
 package net.deanly.structlayout.type.helpers;
 
 import net.deanly.structlayout.Field;
-import net.deanly.structlayout.type.FieldBase;
 
 import java.util.Objects;
 
 public class DataTypeHelper {
 
     public static boolean isIntegerType(Class<? extends Field<?>> fieldType) {
-        Class<?> type = FieldBase.getGenericTypeAsObject(fieldType);
-        return type == Integer.class || type == Short.class || type == Byte.class || type == Long.class;
+        return FieldValueType.of(fieldType).getCategory() == FieldValueType.Category.INTEGER;
     }
 
     public static boolean isFloatType(Class<? extends Field<?>> fieldType) {
-        Class<?> type = FieldBase.getGenericTypeAsObject(fieldType);
-        return type == Float.class || type == Double.class;
+        return FieldValueType.of(fieldType).getCategory() == FieldValueType.Category.FLOAT;
     }
 
     public static boolean isStringType(Class<? extends Field<?>> fieldType) {
-        Class<?> type = FieldBase.getGenericTypeAsObject(fieldType);
-        return type == String.class;
+        return FieldValueType.of(fieldType).getCategory() == FieldValueType.Category.STRING;
     }
 
     public static boolean matches(Class<? extends Field<?>> fieldType, Class<?> targetType) {
-        return Objects.requireNonNull(FieldBase.getGenericTypeAsObject(fieldType)).isAssignableFrom(targetType);
+        return Objects.requireNonNull(FieldValueType.of(fieldType).getValueType()).isAssignableFrom(targetType);
     }
-}
\ No newline at end of file
+}
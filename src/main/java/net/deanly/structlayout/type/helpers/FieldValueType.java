@@ -0,0 +1,90 @@
+package net.deanly.structlayout.type.helpers;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+/**
+ * The value type of a {@link net.deanly.structlayout.Field} class, i.e. the type argument of its generic
+ * superclass, and the category of that type.
+ *
+ * <p>The generic superclass is parsed once per {@code Field} class and cached, so that
+ * {@link net.deanly.structlayout.type.FieldBase#getGenericTypeAsObject(Class)} and the
+ * {@link DataTypeHelper} checks do no reflection while encoding or decoding.</p>
+ */
+public final class FieldValueType {
+
+    /**
+     * The kind of value a {@code Field} class encodes.
+     */
+    public enum Category {
+        /** {@code Byte}, {@code Short}, {@code Integer} or {@code Long}. */
+        INTEGER,
+        /** {@code Float} or {@code Double}. */
+        FLOAT,
+        /** Any other {@link Number}, e.g. {@code UnsignedLong} or {@code BigInteger}. */
+        OTHER_NUMBER,
+        STRING,
+        OTHER,
+        /** The generic superclass has no {@code Class} type argument. */
+        UNRESOLVED
+    }
+
+    private static final ClassValue<FieldValueType> CACHE = new ClassValue<>() {
+        @Override
+        protected FieldValueType computeValue(Class<?> fieldClass) {
+            return resolve(fieldClass);
+        }
+    };
+
+    private final Class<?> valueType;
+    private final Category category;
+
+    private FieldValueType(Class<?> valueType, Category category) {
+        this.valueType = valueType;
+        this.category = category;
+    }
+
+    /**
+     * Returns the cached value type of the given {@code Field} class.
+     */
+    public static FieldValueType of(Class<?> fieldClass) {
+        return CACHE.get(fieldClass);
+    }
+
+    /**
+     * The type argument of the generic superclass, or {@code null} if it cannot be resolved.
+     */
+    public Class<?> getValueType() {
+        return valueType;
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+
+    public boolean isNumeric() {
+        return category == Category.INTEGER || category == Category.FLOAT || category == Category.OTHER_NUMBER;
+    }
+
+    private static FieldValueType resolve(Class<?> fieldClass) {
+        Type superClass = fieldClass.getGenericSuperclass();
+        if (superClass instanceof ParameterizedType parameterizedType
+                && parameterizedType.getActualTypeArguments()[0] instanceof Class<?> type) {
+            return new FieldValueType(type, categoryOf(type));
+        }
+        return new FieldValueType(null, Category.UNRESOLVED);
+    }
+
+    private static Category categoryOf(Class<?> type) {
+        if (type == Integer.class || type == Short.class || type == Byte.class || type == Long.class) {
+            return Category.INTEGER;
+        } else if (type == Float.class || type == Double.class) {
+            return Category.FLOAT;
+        } else if (Number.class.isAssignableFrom(type)) {
+            return Category.OTHER_NUMBER;
+        } else if (type == String.class) {
+            return Category.STRING;
+        }
+        return Category.OTHER;
+    }
+}
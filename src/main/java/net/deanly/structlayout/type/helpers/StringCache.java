@@ -0,0 +1,124 @@
+package net.deanly.structlayout.type.helpers;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * A small, bounded cache that maps encoded string bytes to a shared {@link String} instance.
+ *
+ * <p>Repeated values such as symbols or account identifiers decode to the same {@code String}
+ * without allocating a new one. The cache is direct-mapped: each byte sequence hashes to a single
+ * slot, and a colliding value simply replaces the previous entry. Only strings of at most
+ * {@code maxLength} bytes are cached.</p>
+ *
+ * <p>The cache is safe for concurrent use; entries are immutable and a lost update only results in
+ * a cache miss. String fields usually hold a cache in a static field of a custom field class:</p>
+ *
+ * <pre>{@code
+ * public class SymbolField extends BorshStringField {
+ *     private static final StringCache CACHE = new StringCache(1024);
+ *
+ *     public SymbolField() {
+ *         super(CACHE);
+ *     }
+ * }
+ * }</pre>
+ */
+public final class StringCache {
+
+    private static final int DEFAULT_MAX_LENGTH = 64;
+
+    private static final class Entry {
+        final byte[] bytes;
+        final Charset charset;
+        final String value;
+
+        Entry(byte[] bytes, Charset charset, String value) {
+            this.bytes = bytes;
+            this.charset = charset;
+            this.value = value;
+        }
+    }
+
+    private final Entry[] entries;
+    private final int mask;
+    private final int maxLength;
+
+    /**
+     * Creates a cache with the given number of slots, caching strings of up to 64 bytes.
+     *
+     * @param capacity The number of slots, rounded up to a power of two.
+     */
+    public StringCache(int capacity) {
+        this(capacity, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Creates a cache with the given number of slots.
+     *
+     * @param capacity  The number of slots, rounded up to a power of two.
+     * @param maxLength The maximum encoded length, in bytes, of a cached string.
+     */
+    public StringCache(int capacity, int maxLength) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30. capacity=" + capacity);
+        }
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("Max length cannot be negative. maxLength=" + maxLength);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.entries = new Entry[size];
+        this.mask = size - 1;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Returns the string decoded from {@code data[offset, offset + length)}, reusing a cached instance
+     * when the same bytes were decoded before with the same charset.
+     *
+     * @param data    The source byte array.
+     * @param offset  The start of the encoded string.
+     * @param length  The number of encoded bytes.
+     * @param charset The charset used to decode the bytes.
+     * @return The decoded string.
+     */
+    public String get(byte[] data, int offset, int length, Charset charset) {
+        if (length == 0) {
+            return "";
+        }
+        if (length > maxLength) {
+            return new String(data, offset, length, charset);
+        }
+
+        int hash = 1;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            hash = 31 * hash + data[i];
+        }
+        int index = (hash ^ (hash >>> 16)) & mask;
+
+        Entry entry = entries[index];
+        if (entry != null && entry.charset.equals(charset)
+                && Arrays.equals(entry.bytes, 0, entry.bytes.length, data, offset, offset + length)) {
+            return entry.value;
+        }
+
+        byte[] bytes = Arrays.copyOfRange(data, offset, offset + length);
+        String value = new String(bytes, charset);
+        entries[index] = new Entry(bytes, charset, value);
+        return value;
+    }
+
+    /**
+     * Removes all cached strings.
+     */
+    public void clear() {
+        Arrays.fill(entries, null);
+    }
+
+    public int capacity() {
+        return entries.length;
+    }
+}
@@ -0,0 +1,157 @@
+package net.deanly.structlayout.type.helpers;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes strings directly into a destination byte array.
+ *
+ * <p>The encoded length is computed first so that the caller can allocate its output once, and the
+ * characters are then written in place instead of going through {@link String#getBytes(Charset)} and
+ * an intermediate copy. Pure ASCII strings take a fast path. The output is identical to
+ * {@code getBytes}: unpaired surrogates are written as {@code '?'} in UTF-8, and unmappable characters
+ * as {@code '?'} in US-ASCII and ISO-8859-1.</p>
+ */
+public class StringEncodingHelper {
+
+    private static final byte REPLACEMENT = (byte) '?';
+
+    /**
+     * Returns whether strings in the given charset can be encoded by this helper.
+     */
+    public static boolean isSupported(Charset charset) {
+        return charset.equals(StandardCharsets.UTF_8)
+                || charset.equals(StandardCharsets.US_ASCII)
+                || charset.equals(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Returns the number of bytes of the string encoded in the given charset.
+     *
+     * @throws IllegalArgumentException If the charset is not {@linkplain #isSupported(Charset) supported}.
+     */
+    public static int encodedLength(String value, Charset charset) {
+        if (charset.equals(StandardCharsets.UTF_8)) {
+            return utf8Length(value);
+        }
+        requireSingleByte(charset);
+        // 단일 바이트 문자셋: 서로게이트 쌍은 '?' 하나로 인코딩
+        int length = value.length();
+        int count = length;
+        for (int i = 0; i < length - 1; i++) {
+            if (Character.isHighSurrogate(value.charAt(i)) && Character.isLowSurrogate(value.charAt(i + 1))) {
+                count--;
+                i++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes the string encoded in the given charset into {@code dest} starting at {@code offset}.
+     * The destination must have room for {@link #encodedLength(String, Charset)} bytes.
+     *
+     * @return The number of bytes written.
+     * @throws IllegalArgumentException If the charset is not {@linkplain #isSupported(Charset) supported}.
+     */
+    public static int encode(String value, Charset charset, byte[] dest, int offset) {
+        if (charset.equals(StandardCharsets.UTF_8)) {
+            return encodeUtf8(value, dest, offset);
+        }
+        requireSingleByte(charset);
+        int limit = charset.equals(StandardCharsets.US_ASCII) ? 0x80 : 0x100;
+        int length = value.length();
+        int position = offset;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < limit) {
+                dest[position++] = (byte) c;
+            } else {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    i++;
+                }
+                dest[position++] = REPLACEMENT;
+            }
+        }
+        return position - offset;
+    }
+
+    /**
+     * Returns the number of bytes of the string encoded in UTF-8.
+     */
+    public static int utf8Length(String value) {
+        int length = value.length();
+        int count = length;
+        int i = 0;
+
+        // ASCII 구간은 문자 수 == 바이트 수
+        while (i < length && value.charAt(i) < 0x80) {
+            i++;
+        }
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                count += 1;
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    count += 2; // 서로게이트 쌍(2 chars) -> 4 bytes
+                    i++;
+                }
+                // 짝이 없는 서로게이트는 '?' (1 byte)
+            } else {
+                count += 2;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes the string encoded in UTF-8 into {@code dest} starting at {@code offset}.
+     *
+     * @return The number of bytes written.
+     */
+    public static int encodeUtf8(String value, byte[] dest, int offset) {
+        int length = value.length();
+        int position = offset;
+        int i = 0;
+
+        // ASCII fast path
+        for (char c; i < length && (c = value.charAt(i)) < 0x80; i++) {
+            dest[position++] = (byte) c;
+        }
+
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                dest[position++] = (byte) c;
+            } else if (c < 0x800) {
+                dest[position++] = (byte) (0xC0 | (c >> 6));
+                dest[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    dest[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    dest[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    dest[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    dest[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    dest[position++] = REPLACEMENT;
+                }
+            } else {
+                dest[position++] = (byte) (0xE0 | (c >> 12));
+                dest[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                dest[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return position - offset;
+    }
+
+    private static void requireSingleByte(Charset charset) {
+        if (!charset.equals(StandardCharsets.US_ASCII) && !charset.equals(StandardCharsets.ISO_8859_1)) {
+            throw new IllegalArgumentException("Unsupported charset for direct encoding: " + charset.name());
+        }
+    }
+}
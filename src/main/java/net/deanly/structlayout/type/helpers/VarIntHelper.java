@@ -0,0 +1,165 @@
+package net.deanly.structlayout.type.helpers;
+
+/**
+ * Unsigned LEB128 (varint) and ZigZag primitives shared by the varint field types.
+ *
+ * <p>Each byte carries 7 bits of the value, least significant group first, and the high bit is set on
+ * every byte except the last. A 32-bit value occupies 1 to 5 bytes and a 64-bit value 1 to 10 bytes.
+ * ZigZag maps signed values to unsigned ones so that small negative numbers stay short
+ * ({@code 0 -> 0, -1 -> 1, 1 -> 2, -2 -> 3, ...}).</p>
+ */
+public class VarIntHelper {
+
+    public static final int MAX_VARINT32_BYTES = 5;
+    public static final int MAX_VARINT64_BYTES = 10;
+
+    /**
+     * Returns the number of bytes needed to encode the value as an unsigned 32-bit varint.
+     */
+    public static int sizeOfUnsigned32(int value) {
+        // 유효 비트 수 / 7 (올림), 0 은 1 byte
+        return (38 - Integer.numberOfLeadingZeros(value | 1)) / 7;
+    }
+
+    /**
+     * Returns the number of bytes needed to encode the value as an unsigned 64-bit varint.
+     */
+    public static int sizeOfUnsigned64(long value) {
+        return (70 - Long.numberOfLeadingZeros(value | 1)) / 7;
+    }
+
+    /**
+     * Writes the value as an unsigned 32-bit varint into {@code dest} starting at {@code offset}.
+     *
+     * @return The number of bytes written.
+     */
+    public static int writeUnsigned32(int value, byte[] dest, int offset) {
+        int position = offset;
+        while ((value & ~0x7F) != 0) {
+            dest[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        dest[position++] = (byte) value;
+        return position - offset;
+    }
+
+    /**
+     * Writes the value as an unsigned 64-bit varint into {@code dest} starting at {@code offset}.
+     *
+     * @return The number of bytes written.
+     */
+    public static int writeUnsigned64(long value, byte[] dest, int offset) {
+        int position = offset;
+        while ((value & ~0x7FL) != 0) {
+            dest[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        dest[position++] = (byte) value;
+        return position - offset;
+    }
+
+    /**
+     * Reads an unsigned 32-bit varint starting at {@code offset}.
+     *
+     * @throws IllegalArgumentException If the varint is truncated or does not fit in 32 bits.
+     */
+    public static int readUnsigned32(byte[] data, int offset) {
+        checkOffset(data, offset);
+        int b = data[offset];
+        if (b >= 0) {
+            return b; // 1 byte fast path
+        }
+
+        int end = Math.min(data.length, offset + MAX_VARINT32_BYTES);
+        int result = b & 0x7F;
+        int shift = 7;
+        for (int i = offset + 1; i < end; i++, shift += 7) {
+            b = data[i];
+            result |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (shift == 28 && b > 0x0F) {
+                    throw new IllegalArgumentException("Varint exceeds 32 bits at offset " + offset + ".");
+                }
+                return result;
+            }
+        }
+        throw malformed(data, offset, MAX_VARINT32_BYTES);
+    }
+
+    /**
+     * Reads an unsigned 64-bit varint starting at {@code offset}.
+     *
+     * @throws IllegalArgumentException If the varint is truncated or does not fit in 64 bits.
+     */
+    public static long readUnsigned64(byte[] data, int offset) {
+        checkOffset(data, offset);
+        long b = data[offset];
+        if (b >= 0) {
+            return b; // 1 byte fast path
+        }
+
+        int end = Math.min(data.length, offset + MAX_VARINT64_BYTES);
+        long result = b & 0x7F;
+        int shift = 7;
+        for (int i = offset + 1; i < end; i++, shift += 7) {
+            b = data[i];
+            result |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (shift == 63 && b > 0x01) {
+                    throw new IllegalArgumentException("Varint exceeds 64 bits at offset " + offset + ".");
+                }
+                return result;
+            }
+        }
+        throw malformed(data, offset, MAX_VARINT64_BYTES);
+    }
+
+    /**
+     * Returns the number of bytes occupied by the varint starting at {@code offset}.
+     *
+     * @param maxBytes The maximum length of a valid varint (5 for 32-bit, 10 for 64-bit values).
+     * @throws IllegalArgumentException If no terminating byte is found within {@code maxBytes}.
+     */
+    public static int spanOf(byte[] data, int offset, int maxBytes) {
+        checkOffset(data, offset);
+        int end = Math.min(data.length, offset + maxBytes);
+        for (int i = offset; i < end; i++) {
+            if (data[i] >= 0) {
+                return i - offset + 1;
+            }
+        }
+        throw malformed(data, offset, maxBytes);
+    }
+
+    public static int encodeZigZag32(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    public static int decodeZigZag32(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public static long encodeZigZag64(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    public static long decodeZigZag64(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void checkOffset(byte[] data, int offset) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null.");
+        }
+        if (offset < 0 || offset >= data.length) {
+            throw new IllegalArgumentException("Invalid offset for varint decoding. offset=" + offset + ", data.length=" + data.length);
+        }
+    }
+
+    private static IllegalArgumentException malformed(byte[] data, int offset, int maxBytes) {
+        if (offset + maxBytes > data.length) {
+            return new IllegalArgumentException("Truncated varint at offset " + offset + ", data.length=" + data.length + ".");
+        }
+        return new IllegalArgumentException("Varint at offset " + offset + " is longer than " + maxBytes + " bytes.");
+    }
+}
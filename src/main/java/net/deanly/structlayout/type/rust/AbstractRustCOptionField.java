@@ -85,6 +85,11 @@ public abstract class AbstractRustCOptionField<T, F extends FieldBase<T>> extend
         return 4 + fieldInstance.getSpan();
     }
 
+    @Override
+    public int spanWithin(byte[] data, int offset, int limit) {
+        return 4 + fieldInstance.getSpan(); // None 도 같은 크기
+    }
+
     @Override
     public int getSpan() {
         return 4 + fieldInstance.getSpan();
@@ -0,0 +1,56 @@
+package net.deanly.structlayout.type.varint;
+
+import net.deanly.structlayout.type.CountableField;
+import net.deanly.structlayout.type.DynamicSpanField;
+import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.helpers.VarIntHelper;
+
+/**
+ * Base class for variable-length (LEB128) integer fields.
+ *
+ * <p>The span of a varint depends on its value, so it is always determined from the data through
+ * {@link #calculateSpan(byte[], int)}. Varint fields implement {@link CountableField} and can be used
+ * both as {@code @StructField} types and as the {@code lengthType} of a sequence.</p>
+ *
+ * @param <T> The Java type of the decoded value.
+ */
+public abstract class AbstractVarIntField<T> extends FieldBase<T> implements DynamicSpanField, CountableField<T> {
+
+    private final int maxBytes;
+
+    /**
+     * @param maxBytes  The maximum encoded length (5 for 32-bit, 10 for 64-bit values).
+     * @param valueType The Java type of the decoded value.
+     */
+    protected AbstractVarIntField(int maxBytes, Class<T> valueType) {
+        super(-1, valueType); // 값에 따라 길이가 달라지므로 Span 은 동적으로 처리
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public int calculateSpan(byte[] data, int offset) {
+        return VarIntHelper.spanOf(data, offset, maxBytes);
+    }
+
+    @Override
+    public int spanWithin(byte[] data, int offset, int limit) {
+        int end = Math.min(limit, offset + maxBytes);
+        for (int i = offset; i < end; i++) {
+            if (data[i] >= 0) {
+                return i - offset + 1;
+            }
+        }
+        // maxBytes 를 넘는 varint 는 디코딩에서 오류 처리
+        return end - offset == maxBytes ? maxBytes : -(limit - offset + 1);
+    }
+
+    @Override
+    public int getNoDataSpan() {
+        return 1; // 0x00
+    }
+
+    @Override
+    public int getSpan() {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " requires data to calculate span.");
+    }
+}
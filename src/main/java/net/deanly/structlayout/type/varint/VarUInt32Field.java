@@ -0,0 +1,31 @@
+package net.deanly.structlayout.type.varint;
+
+import net.deanly.structlayout.type.helpers.VarIntHelper;
+
+/**
+ * An unsigned 32-bit integer encoded as an unsigned LEB128 varint (1 to 5 bytes).
+ *
+ * <p>Values below 128 take a single byte. Negative {@code Integer} values are treated as their
+ * unsigned 32-bit representation, so {@code -1} is encoded as {@code 0xFFFFFFFF} in 5 bytes.</p>
+ */
+public class VarUInt32Field extends AbstractVarIntField<Integer> {
+
+    public VarUInt32Field() {
+        super(VarIntHelper.MAX_VARINT32_BYTES, Integer.class);
+    }
+
+    @Override
+    public Integer decode(byte[] data, int offset) {
+        return VarIntHelper.readUnsigned32(data, offset);
+    }
+
+    @Override
+    public byte[] encode(Integer value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+        byte[] result = new byte[VarIntHelper.sizeOfUnsigned32(value)];
+        VarIntHelper.writeUnsigned32(value, result, 0);
+        return result;
+    }
+}
@@ -0,0 +1,31 @@
+package net.deanly.structlayout.type.varint;
+
+import net.deanly.structlayout.type.helpers.VarIntHelper;
+
+/**
+ * An unsigned 64-bit integer encoded as an unsigned LEB128 varint (1 to 10 bytes).
+ *
+ * <p>Values below 128 take a single byte. Negative {@code Long} values are treated as their
+ * unsigned 64-bit representation.</p>
+ */
+public class VarUInt64Field extends AbstractVarIntField<Long> {
+
+    public VarUInt64Field() {
+        super(VarIntHelper.MAX_VARINT64_BYTES, Long.class);
+    }
+
+    @Override
+    public Long decode(byte[] data, int offset) {
+        return VarIntHelper.readUnsigned64(data, offset);
+    }
+
+    @Override
+    public byte[] encode(Long value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+        byte[] result = new byte[VarIntHelper.sizeOfUnsigned64(value)];
+        VarIntHelper.writeUnsigned64(value, result, 0);
+        return result;
+    }
+}
@@ -0,0 +1,31 @@
+package net.deanly.structlayout.type.varint;
+
+import net.deanly.structlayout.type.helpers.VarIntHelper;
+
+/**
+ * A signed 32-bit integer encoded with ZigZag and then as an unsigned LEB128 varint (1 to 5 bytes).
+ *
+ * <p>Values between -64 and 63 take a single byte.</p>
+ */
+public class ZigZagVarInt32Field extends AbstractVarIntField<Integer> {
+
+    public ZigZagVarInt32Field() {
+        super(VarIntHelper.MAX_VARINT32_BYTES, Integer.class);
+    }
+
+    @Override
+    public Integer decode(byte[] data, int offset) {
+        return VarIntHelper.decodeZigZag32(VarIntHelper.readUnsigned32(data, offset));
+    }
+
+    @Override
+    public byte[] encode(Integer value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+        int zigZag = VarIntHelper.encodeZigZag32(value);
+        byte[] result = new byte[VarIntHelper.sizeOfUnsigned32(zigZag)];
+        VarIntHelper.writeUnsigned32(zigZag, result, 0);
+        return result;
+    }
+}
@@ -0,0 +1,31 @@
+package net.deanly.structlayout.type.varint;
+
+import net.deanly.structlayout.type.helpers.VarIntHelper;
+
+/**
+ * A signed 64-bit integer encoded with ZigZag and then as an unsigned LEB128 varint (1 to 10 bytes).
+ *
+ * <p>Values between -64 and 63 take a single byte.</p>
+ */
+public class ZigZagVarInt64Field extends AbstractVarIntField<Long> {
+
+    public ZigZagVarInt64Field() {
+        super(VarIntHelper.MAX_VARINT64_BYTES, Long.class);
+    }
+
+    @Override
+    public Long decode(byte[] data, int offset) {
+        return VarIntHelper.decodeZigZag64(VarIntHelper.readUnsigned64(data, offset));
+    }
+
+    @Override
+    public byte[] encode(Long value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+        long zigZag = VarIntHelper.encodeZigZag64(value);
+        byte[] result = new byte[VarIntHelper.sizeOfUnsigned64(zigZag)];
+        VarIntHelper.writeUnsigned64(zigZag, result, 0);
+        return result;
+    }
+}
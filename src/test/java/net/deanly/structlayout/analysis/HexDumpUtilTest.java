@@ -0,0 +1,112 @@
+package net.deanly.structlayout.analysis;
+
+import net.deanly.structlayout.StructLayout;
+import net.deanly.structlayout.annotation.StructField;
+import net.deanly.structlayout.type.basic.Int32LEField;
+import net.deanly.structlayout.type.borsh.BorshStringField;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HexDumpUtilTest {
+
+    public static class Message {
+        @StructField(order = 1, type = Int32LEField.class)
+        public int id;
+
+        @StructField(order = 2, type = BorshStringField.class)
+        public String text;
+    }
+
+    /**
+     * The String.format based implementation the table-driven one replaces.
+     */
+    private static String formatDump(byte[] data) {
+        StringBuilder hexDump = new StringBuilder();
+        for (int offset = 0; offset < data.length; offset += 16) {
+            if (offset != 0) {
+                hexDump.append(System.lineSeparator());
+            }
+            hexDump.append(String.format("%08x: ", offset));
+            for (int i = 0; i < 16; i++) {
+                hexDump.append(offset + i < data.length ? String.format("%02x ", data[offset + i]) : "   ");
+            }
+            hexDump.append("  ");
+            for (int i = 0; i < 16 && offset + i < data.length; i++) {
+                char c = (char) data[offset + i];
+                hexDump.append(c >= 32 && c <= 126 ? c : '.');
+            }
+        }
+        return hexDump.toString();
+    }
+
+    @Test
+    void testDumpMatchesPreviousFormat() {
+        Random random = new Random(42);
+        for (int length : new int[]{0, 1, 15, 16, 17, 100}) {
+            byte[] data = new byte[length];
+            random.nextBytes(data);
+            assertEquals(formatDump(data), HexDumpUtil.toHexDump(data), "length " + length);
+        }
+    }
+
+    @Test
+    void testDumpRoundTrip() {
+        byte[] data = new byte[1000];
+        new Random(7).nextBytes(data);
+
+        StringWriter writer = new StringWriter();
+        HexDumpUtil.appendHexDump(writer, data, 0, data.length);
+        assertArrayEquals(data, HexDumpUtil.parseHexDump(writer.toString()));
+    }
+
+    @Test
+    void testDumpByteBufferKeepsPosition() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(20);
+        for (int i = 0; i < 20; i++) {
+            buffer.put((byte) i);
+        }
+        buffer.position(4);
+
+        StringBuilder out = new StringBuilder();
+        HexDumpUtil.appendHexDump(out, buffer);
+
+        assertEquals(4, buffer.position());
+        assertTrue(out.toString().startsWith("00000000: 04 05 06"), out.toString());
+    }
+
+    @Test
+    void testInlineHex() {
+        byte[] data = {0x0A, (byte) 0xFF, 0x00, 0x7F};
+        assertEquals("0A FF 00 7F", HexDumpUtil.toHex(data));
+        assertEquals("FF 00", HexDumpUtil.toHex(data, 1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> HexDumpUtil.toHex(data, 3, 2));
+    }
+
+    @Test
+    void testParseXxdAndPlainHex() {
+        String xxd = "00000000: 0102 0304 6869  ....hi\n";
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 'h', 'i'}, HexDumpUtil.parseHexDump(xxd));
+        assertArrayEquals(new byte[]{0x0A, 0x1B, 0x2C}, HexDumpUtil.parseHexDump("0A 1B\r\n2c"));
+
+        assertThrows(IllegalArgumentException.class, () -> HexDumpUtil.parseHexDump("0A 1"));
+        assertThrows(IllegalArgumentException.class, () -> HexDumpUtil.parseHexDump("0A zz"));
+        assertThrows(IllegalArgumentException.class, () -> HexDumpUtil.parseHexDump("00000010: 01 02"));
+    }
+
+    @Test
+    void testCapturedDumpDecodes() {
+        Message message = new Message();
+        message.id = 300;
+        message.text = "captured";
+        String dump = HexDumpUtil.toHexDump(StructLayout.encode(message));
+
+        Message decoded = StructLayout.decode(HexDumpUtil.parseHexDump(dump), Message.class);
+        assertEquals(300, decoded.id);
+        assertEquals("captured", decoded.text);
+    }
+}
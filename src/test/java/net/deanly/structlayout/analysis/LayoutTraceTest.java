@@ -0,0 +1,116 @@
+package net.deanly.structlayout.analysis;
+
+import net.deanly.structlayout.StructLayout;
+import net.deanly.structlayout.annotation.OptionalEncoding;
+import net.deanly.structlayout.annotation.StructField;
+import net.deanly.structlayout.annotation.StructObjectField;
+import net.deanly.structlayout.annotation.StructSequenceObjectField;
+import net.deanly.structlayout.codec.helpers.FieldDescriptor;
+import net.deanly.structlayout.type.basic.Int32LEField;
+import net.deanly.structlayout.type.basic.UInt8Field;
+import net.deanly.structlayout.type.borsh.BorshStringField;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LayoutTraceTest {
+
+    public static class Base {
+        @StructField(order = 1, type = Int32LEField.class)
+        public int id;
+    }
+
+    public static class Item {
+        @StructField(order = 1, type = UInt8Field.class)
+        public short code;
+
+        @StructField(order = 2, type = BorshStringField.class)
+        public String name;
+    }
+
+    public static class Order extends Base {
+        @StructObjectField(order = 2, optional = OptionalEncoding.BORSH)
+        public Item main;
+
+        @StructSequenceObjectField(order = 3, lengthType = UInt8Field.class)
+        public List<Item> items = new ArrayList<>();
+    }
+
+    private static Item item(int code, String name) {
+        Item item = new Item();
+        item.code = (short) code;
+        item.name = name;
+        return item;
+    }
+
+    @Test
+    void testEncodeTrace() {
+        Order order = new Order();
+        order.id = 7;
+        order.main = item(1, "a");
+        order.items.add(item(2, "bc"));
+        order.items.add(item(3, "d"));
+
+        AtomicReference<LayoutTrace> captured = new AtomicReference<>();
+        byte[] encoded = StructLayout.encode(order, captured::set);
+        LayoutTrace trace = captured.get();
+
+        assertEquals(encoded.length, trace.getSize());
+        List<String> rows = trace.getEntries().stream()
+                .map(entry -> entry.order() + " " + entry.path() + " " + entry.offset() + "+" + entry.length())
+                .toList();
+        assertEquals(List.of(
+                "1 id 0+4",
+                "2 main 4+7",
+                "2-1 main.code 5+1",
+                "2-2 main.name 6+5",
+                "3 items 11+14",
+                "3-1 items[0].code 12+1",
+                "3-2 items[0].name 13+6",
+                "3-1 items[1].code 19+1",
+                "3-2 items[1].name 20+5"
+        ), rows);
+
+        LayoutTrace.Entry name = trace.getEntries().get(3);
+        assertArrayEquals(new byte[]{1, 0, 0, 0, 'a'}, trace.bytesOf(name));
+        assertEquals(FieldDescriptor.Kind.OBJECT, trace.getEntries().get(1).kind());
+    }
+
+    @Test
+    void testDecodeTraceMatchesEncodeTrace() {
+        Order order = new Order();
+        order.id = 1;
+        order.items.add(item(9, "xyz"));
+
+        AtomicReference<LayoutTrace> encodeTrace = new AtomicReference<>();
+        byte[] encoded = StructLayout.encode(order, encodeTrace::set);
+
+        AtomicReference<LayoutTrace> decodeTrace = new AtomicReference<>();
+        Order decoded = StructLayout.decode(encoded, Order.class, decodeTrace::set);
+
+        assertNull(decoded.main);
+        assertEquals(encodeTrace.get().getEntries(), decodeTrace.get().getEntries());
+        assertEquals("2 main 4+1", describe(decodeTrace.get().getEntries().get(1)));
+    }
+
+    @Test
+    void testAppendTo() {
+        Order order = new Order();
+        order.id = 0x01020304;
+
+        StringBuilder out = new StringBuilder();
+        StructLayout.debug(order, out);
+
+        String text = out.toString();
+        assertTrue(text.contains("1     id    0000000       4 04 03 02 01"), text);
+        assertTrue(text.contains("Total Bytes: 6"), text);
+    }
+
+    private static String describe(LayoutTrace.Entry entry) {
+        return entry.order() + " " + entry.path() + " " + entry.offset() + "+" + entry.length();
+    }
+}
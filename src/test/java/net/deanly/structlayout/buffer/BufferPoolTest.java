@@ -0,0 +1,230 @@
+package net.deanly.structlayout.buffer;
+
+import net.deanly.structlayout.StructLayout;
+import net.deanly.structlayout.annotation.OptionalEncoding;
+import net.deanly.structlayout.annotation.StructField;
+import net.deanly.structlayout.annotation.StructFixedArray;
+import net.deanly.structlayout.annotation.StructObjectField;
+import net.deanly.structlayout.annotation.StructSequenceField;
+import net.deanly.structlayout.annotation.StructSequenceObjectField;
+import net.deanly.structlayout.type.basic.ByteField;
+import net.deanly.structlayout.type.basic.Int32LEField;
+import net.deanly.structlayout.type.basic.Int64LEField;
+import net.deanly.structlayout.type.basic.UInt128LEField;
+import net.deanly.structlayout.type.basic.UInt64Field;
+import net.deanly.structlayout.type.basic.UInt8Field;
+import net.deanly.structlayout.type.borsh.BorshStringField;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BufferPoolTest {
+
+    public static class Message {
+        @StructField(order = 1, type = Int32LEField.class)
+        private int id;
+        @StructField(order = 2, type = BorshStringField.class)
+        private String text;
+
+        Message() {
+        }
+
+        Message(int id, String text) {
+            this.id = id;
+            this.text = text;
+        }
+    }
+
+    @Test
+    void testSizeClassesAndReuse() {
+        SizeClassedBufferPool pool = new SizeClassedBufferPool(false, 4096, 2);
+
+        ByteBuffer small = pool.acquire(10);
+        assertEquals(SizeClassedBufferPool.MIN_CAPACITY, small.capacity());
+        ByteBuffer medium = pool.acquire(100);
+        assertEquals(128, medium.capacity());
+        assertEquals(2, pool.getAllocationCount());
+
+        pool.release(medium);
+        assertSame(medium, pool.acquire(65)); // 같은 크기 클래스는 재사용
+        assertEquals(2, pool.getAllocationCount());
+
+        ByteBuffer large = pool.acquire(5000);
+        assertEquals(5000, large.capacity()); // 최대 크기 초과는 정확한 크기로 할당
+        pool.release(large);
+        assertNotSame(large, pool.acquire(5000));
+    }
+
+    @Test
+    void testDirectPool() {
+        SizeClassedBufferPool pool = SizeClassedBufferPool.direct();
+        ByteBuffer buffer = pool.acquire(1000);
+        assertTrue(buffer.isDirect());
+        assertEquals(1024, buffer.capacity());
+        pool.release(buffer);
+        assertSame(buffer, pool.acquire(1000));
+    }
+
+    @Test
+    void testEncodePooledMatchesEncode() throws Exception {
+        SizeClassedBufferPool pool = SizeClassedBufferPool.heap();
+        Message message = new Message(42, "pooled");
+        byte[] expected = StructLayout.encode(message);
+
+        ByteBuffer first;
+        try (PooledBuffer encoded = StructLayout.encodePooled(message, pool)) {
+            assertEquals(expected.length, encoded.size());
+            assertArrayEquals(expected, encoded.toByteArray());
+            assertEquals(0, encoded.buffer().position());
+            assertEquals(expected.length, encoded.buffer().remaining());
+
+            ByteArrayOutputStream sink = new ByteArrayOutputStream();
+            assertEquals(expected.length, encoded.writeTo(Channels.newChannel(sink)));
+            assertFalse(encoded.hasRemaining());
+            assertArrayEquals(expected, sink.toByteArray());
+            first = encoded.buffer();
+        }
+
+        try (PooledBuffer encoded = StructLayout.encodePooled(new Message(1, "x"), pool)) {
+            assertSame(first, encoded.buffer());
+            assertArrayEquals(StructLayout.encode(new Message(1, "x")), encoded.toByteArray());
+        }
+    }
+
+    @Test
+    void testWriteToNonBlockingChannelWritesOnce() throws Exception {
+        Message message = new Message(7, "partial");
+        byte[] expected = StructLayout.encode(message);
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        int[] calls = {0};
+        // 호출마다 번갈아 0 바이트, 최대 3 바이트만 쓰는 non-blocking channel
+        WritableByteChannel channel = new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer src) {
+                if (calls[0]++ % 2 == 0) {
+                    return 0;
+                }
+                int count = Math.min(3, src.remaining());
+                for (int i = 0; i < count; i++) {
+                    sink.write(src.get());
+                }
+                return count;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        try (PooledBuffer encoded = StructLayout.encodePooled(message, SizeClassedBufferPool.heap())) {
+            assertEquals(0, encoded.writeTo(channel));
+            assertEquals(1, calls[0]);
+            int total = 0;
+            while (encoded.hasRemaining()) {
+                total += encoded.writeTo(channel);
+            }
+            assertEquals(expected.length, total);
+        }
+        assertArrayEquals(expected, sink.toByteArray());
+    }
+
+    public static class Fixed {
+        @StructField(order = 1, type = UInt8Field.class)
+        public int tag;
+        @StructField(order = 2, type = Int64LEField.class)
+        public long nonce;
+        @StructField(order = 3, type = UInt128LEField.class)
+        public long[] amount = new long[2];
+        @StructFixedArray(order = 4, length = 2, elementType = UInt64Field.class)
+        public long[] words = new long[2];
+    }
+
+    public static class Nested {
+        @StructObjectField(order = 1)
+        public Fixed header;
+        @StructObjectField(order = 2, optional = OptionalEncoding.BORSH)
+        public Message extra;
+        @StructSequenceObjectField(order = 3, lengthType = UInt8Field.class)
+        public List<Message> messages;
+        @StructSequenceField(order = 4, lengthType = UInt8Field.class, elementType = UInt64Field.class)
+        public long[] values;
+        @StructSequenceField(order = 5, lengthType = Int32LEField.class, elementType = ByteField.class)
+        public byte[] payload;
+        @StructField(order = 6, type = BorshStringField.class, optional = OptionalEncoding.BORSH)
+        public String note;
+    }
+
+    private static Fixed fixed(int tag) {
+        Fixed fixed = new Fixed();
+        fixed.tag = tag;
+        fixed.nonce = -tag;
+        fixed.amount = new long[]{tag, -1L};
+        fixed.words = new long[]{Long.MIN_VALUE, tag};
+        return fixed;
+    }
+
+    @Test
+    void testEncodePooledWritesInPlace() {
+        for (SizeClassedBufferPool pool : List.of(new SizeClassedBufferPool(false, 4096, 2), new SizeClassedBufferPool(true, 4096, 2))) {
+            // 고정 크기 구조체는 정확한 크기로 한 번만 빌림
+            Fixed fixed = fixed(7);
+            try (PooledBuffer encoded = StructLayout.encodePooled(fixed, pool)) {
+                assertArrayEquals(StructLayout.encode(fixed), encoded.toByteArray());
+                assertEquals(1, pool.getAllocationCount());
+            }
+
+            Nested nested = new Nested();
+            nested.header = fixed(1);
+            nested.extra = new Message(3, "extra");
+            nested.messages = List.of(new Message(1, "a"), new Message(2, "b".repeat(300)));
+            nested.values = new long[]{1, -1, 42};
+            nested.payload = new byte[500];
+            Arrays.fill(nested.payload, (byte) 0x5A);
+            try (PooledBuffer encoded = StructLayout.encodePooled(nested, pool)) {
+                // 초기 buffer 보다 커서 풀을 통해 확장
+                assertTrue(encoded.size() > 256);
+                assertArrayEquals(StructLayout.encode(nested), encoded.toByteArray());
+            }
+
+            // 재사용된 buffer 의 이전 내용이 남지 않음
+            Nested empty = new Nested();
+            try (PooledBuffer encoded = StructLayout.encodePooled(empty, pool)) {
+                assertArrayEquals(StructLayout.encode(empty), encoded.toByteArray());
+            }
+        }
+    }
+
+    @Test
+    void testLeakDetection() {
+        LeakDetectingBufferPool pool = new LeakDetectingBufferPool(SizeClassedBufferPool.heap());
+
+        PooledBuffer released = StructLayout.encodePooled(new Message(1, "a"), pool);
+        released.close();
+        released.close(); // 두 번째 close 는 무시
+        assertThrows(IllegalStateException.class, released::buffer);
+        pool.checkNoLeaks();
+
+        PooledBuffer leaked = StructLayout.encodePooled(new Message(2, "b"), pool);
+        assertEquals(1, pool.getOutstandingCount());
+        IllegalStateException error = assertThrows(IllegalStateException.class, pool::checkNoLeaks);
+        assertTrue(error.getMessage().startsWith("1 pooled buffer"));
+        assertNotNull(error.getCause());
+
+        ByteBuffer buffer = leaked.buffer();
+        leaked.close();
+        assertThrows(IllegalStateException.class, () -> pool.release(buffer));
+        pool.checkNoLeaks();
+    }
+}
@@ -0,0 +1,97 @@
+package net.deanly.structlayout.codec;
+
+import net.deanly.structlayout.StructLayout;
+import net.deanly.structlayout.annotation.OptionalEncoding;
+import net.deanly.structlayout.annotation.StructField;
+import net.deanly.structlayout.exception.TypeConversionException;
+import net.deanly.structlayout.type.Int128;
+import net.deanly.structlayout.type.UInt128;
+import net.deanly.structlayout.type.basic.Int128LEField;
+import net.deanly.structlayout.type.basic.UInt128LEField;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Int128BindingTest {
+
+    public static class Pool {
+        @StructField(order = 1, type = UInt128LEField.class)
+        public UInt128 liquidity;
+
+        @StructField(order = 2, type = UInt128LEField.class)
+        public long[] sqrtPrice = new long[2];
+
+        @StructField(order = 3, type = Int128LEField.class)
+        public BigInteger fees;
+
+        @StructField(order = 4, type = Int128LEField.class, optional = OptionalEncoding.BORSH)
+        public Int128 reward;
+    }
+
+    public record Position(
+            @StructField(order = 1, type = UInt128LEField.class) long[] amount
+    ) {
+    }
+
+    public static class Counter {
+        @StructField(order = 1, type = UInt128LEField.class)
+        public long value;
+    }
+
+    @Test
+    void testRoundTrip() {
+        Pool pool = new Pool();
+        pool.liquidity = UInt128.MAX_VALUE;
+        pool.sqrtPrice = new long[]{-1L, 5L};
+        pool.fees = new BigInteger("-170141183460469231731687303715884105728"); // -2^127
+        pool.reward = Int128.valueOf(-3);
+
+        byte[] encoded = StructLayout.encode(pool);
+        assertEquals(16 * 4 + 1, encoded.length);
+        assertEquals((byte) 0x05, encoded[16 + 8]);
+
+        Pool decoded = StructLayout.decode(encoded, Pool.class);
+        assertEquals(UInt128.MAX_VALUE, decoded.liquidity);
+        assertArrayEquals(new long[]{-1L, 5L}, decoded.sqrtPrice);
+        assertEquals(pool.fees, decoded.fees);
+        assertEquals(Int128.valueOf(-3), decoded.reward);
+    }
+
+    @Test
+    void testNullValuesEncodeAsZero() {
+        Pool pool = new Pool();
+        pool.sqrtPrice = null;
+
+        byte[] encoded = StructLayout.encode(pool);
+        assertEquals(16 * 3 + 1, encoded.length);
+
+        Pool decoded = StructLayout.decode(encoded, Pool.class);
+        assertEquals(UInt128.ZERO, decoded.liquidity);
+        assertArrayEquals(new long[2], decoded.sqrtPrice);
+        assertEquals(BigInteger.ZERO, decoded.fees);
+        assertNull(decoded.reward);
+    }
+
+    @Test
+    void testConstructorBoundLongArray() {
+        byte[] encoded = StructLayout.encode(new Position(new long[]{1L, 2L}));
+        assertArrayEquals(new long[]{1L, 2L}, StructLayout.decode(encoded, Position.class).amount());
+    }
+
+    @Test
+    void testInvalidValues() {
+        Pool pool = new Pool();
+        pool.sqrtPrice = new long[3];
+        assertThrows(IllegalArgumentException.class, () -> StructLayout.encode(pool));
+
+        Pool overflow = new Pool();
+        overflow.fees = BigInteger.ONE.shiftLeft(127);
+        assertThrows(TypeConversionException.class, () -> StructLayout.encode(overflow));
+
+        Counter counter = new Counter();
+        counter.value = -1L;
+        assertThrows(TypeConversionException.class, () -> StructLayout.encode(counter));
+    }
+}
@@ -0,0 +1,85 @@
+package net.deanly.structlayout.codec;
+
+import net.deanly.structlayout.StructLayout;
+import net.deanly.structlayout.annotation.StructField;
+import net.deanly.structlayout.annotation.StructFixedArray;
+import net.deanly.structlayout.type.basic.Int64BEField;
+import net.deanly.structlayout.type.basic.UInt64BEField;
+import net.deanly.structlayout.type.basic.UInt64Field;
+import net.deanly.structlayout.type.basic.UInt64LEField;
+import net.deanly.structlayout.type.guava.UnsignedLong;
+import net.deanly.structlayout.type.guava.UnsignedLongs;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongFieldBindingTest {
+
+    public static class Account {
+        @StructField(order = 1, type = UInt64LEField.class)
+        public long lamports;
+
+        @StructField(order = 2, type = UInt64BEField.class)
+        public long slot;
+
+        @StructField(order = 3, type = Int64BEField.class)
+        public long delta;
+
+        @StructField(order = 4, type = UInt64LEField.class)
+        public Long boxed;
+
+        @StructFixedArray(order = 5, length = 2, elementType = UInt64Field.class)
+        public long[] history;
+    }
+
+    public record Balance(
+            @StructField(order = 1, type = UInt64LEField.class) long amount
+    ) {
+    }
+
+    @Test
+    void testUnsignedValuesAboveLongMaxRoundTrip() {
+        Account account = new Account();
+        account.lamports = -1L; // 2^64 - 1
+        account.slot = Long.MIN_VALUE; // 2^63
+        account.delta = -42L;
+        account.boxed = -2L; // 2^64 - 2
+        account.history = new long[]{1L, -1L};
+
+        byte[] encoded = StructLayout.encode(account);
+        assertEquals(48, encoded.length);
+        assertEquals((byte) 0x80, encoded[8]);
+
+        Account decoded = StructLayout.decode(encoded, Account.class);
+        assertEquals(-1L, decoded.lamports);
+        assertEquals("18446744073709551615", UnsignedLongs.toString(decoded.lamports));
+        assertEquals(Long.MIN_VALUE, decoded.slot);
+        assertEquals(-42L, decoded.delta);
+        assertEquals(-2L, decoded.boxed);
+        assertArrayEquals(new long[]{1L, -1L}, decoded.history);
+    }
+
+    @Test
+    void testLongBindingMatchesUnsignedLongEncoding() {
+        Account account = new Account();
+        account.lamports = 1_000_000_000L;
+        account.boxed = 0L;
+        account.history = new long[2];
+
+        byte[] encoded = StructLayout.encode(account);
+        assertArrayEquals(new UInt64LEField().encode(UnsignedLong.valueOf(1_000_000_000L)),
+                java.util.Arrays.copyOfRange(encoded, 0, 8));
+    }
+
+    @Test
+    void testRecordComponent() {
+        Balance balance = StructLayout.decode(StructLayout.encode(new Balance(-3L)), Balance.class);
+        assertEquals(-3L, balance.amount());
+    }
+
+    @Test
+    void testSmallValuesAreCached() {
+        assertSame(UnsignedLong.fromLongBits(100), new UInt64LEField().decode(new byte[]{100, 0, 0, 0, 0, 0, 0, 0}, 0));
+        assertNotSame(UnsignedLong.fromLongBits(1L << 40), UnsignedLong.fromLongBits(1L << 40));
+    }
+}
@@ -0,0 +1,174 @@
+package net.deanly.structlayout.codec;
+
+import net.deanly.structlayout.StructLayout;
+import net.deanly.structlayout.annotation.StructBitField;
+import net.deanly.structlayout.annotation.StructField;
+import net.deanly.structlayout.exception.InvalidAnnotationUsageException;
+import net.deanly.structlayout.type.Endianness;
+import net.deanly.structlayout.type.basic.UInt8Field;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StructBitFieldTest {
+
+    public enum Mode {
+        IDLE, RUNNING, STOPPED, FAILED
+    }
+
+    public static class Header {
+        @StructField(order = 1, type = UInt8Field.class)
+        public short version;
+
+        @StructBitField(order = 2, offset = 0, width = 1)
+        public boolean active;
+
+        @StructBitField(order = 2, offset = 1, width = 2)
+        public Mode mode;
+
+        @StructBitField(order = 2, offset = 4, width = 4, signed = true)
+        public int adjustment;
+
+        @StructBitField(order = 3, offset = 0, width = 12, bytes = 2, endianness = Endianness.BIG_ENDIAN)
+        public int length;
+
+        @StructBitField(order = 3, offset = 12, width = 4, bytes = 2, endianness = Endianness.BIG_ENDIAN)
+        public byte flags;
+
+        @StructField(order = 4, type = UInt8Field.class)
+        public short trailer;
+    }
+
+    public static class Overlapping {
+        @StructBitField(order = 1, offset = 0, width = 4)
+        public int low;
+
+        @StructBitField(order = 1, offset = 3, width = 2)
+        public int middle;
+    }
+
+    public static class TooWide {
+        @StructBitField(order = 1, offset = 4, width = 5)
+        public int value;
+    }
+
+    public static class Wide {
+        @StructBitField(order = 1, offset = 0, width = 64, bytes = 8)
+        public long value;
+    }
+
+    public static class FullWidth {
+        @StructBitField(order = 1, offset = 0, width = 8, bytes = 8)
+        public byte low;
+
+        @StructBitField(order = 1, offset = 8, width = 16, bytes = 8)
+        public short middle;
+
+        @StructBitField(order = 1, offset = 24, width = 32, bytes = 8)
+        public int high;
+    }
+
+    public static class WiderThanType {
+        @StructBitField(order = 1, offset = 0, width = 40, bytes = 8)
+        public int value;
+    }
+
+    public record Flags(
+            @StructBitField(order = 1, offset = 0, width = 1) boolean first,
+            @StructBitField(order = 1, offset = 7, width = 1) boolean last) {
+    }
+
+    private static Header sampleHeader() {
+        Header header = new Header();
+        header.version = 2;
+        header.active = true;
+        header.mode = Mode.STOPPED;
+        header.adjustment = -3;
+        header.length = 0xABC;
+        header.flags = 0x5;
+        header.trailer = 0xEE;
+        return header;
+    }
+
+    @Test
+    void testFieldsShareOneWord() {
+        byte[] encoded = StructLayout.encode(sampleHeader());
+
+        // version | active(1) + mode(10b << 1) + adjustment(-3 -> 1101b << 4) | BIG 0x5ABC | trailer
+        assertArrayEquals(new byte[]{0x02, (byte) 0xD5, 0x5A, (byte) 0xBC, (byte) 0xEE}, encoded);
+    }
+
+    @Test
+    void testRoundTrip() {
+        byte[] encoded = StructLayout.encode(sampleHeader());
+        Header decoded = StructLayout.decode(encoded, Header.class);
+
+        assertEquals(2, decoded.version);
+        assertTrue(decoded.active);
+        assertEquals(Mode.STOPPED, decoded.mode);
+        assertEquals(-3, decoded.adjustment);
+        assertEquals(0xABC, decoded.length);
+        assertEquals(0x5, decoded.flags);
+        assertEquals(0xEE, decoded.trailer);
+    }
+
+    @Test
+    void testValueOutOfRange() {
+        Header header = sampleHeader();
+        header.adjustment = 8; // 4비트 signed 범위(-8 ~ 7) 초과
+
+        assertThrows(IllegalArgumentException.class, () -> StructLayout.encode(header));
+    }
+
+    @Test
+    void testEnumDecodedByOrdinal() {
+        byte[] data = {0x01, 0x06, 0x00, 0x00, 0x00}; // 0x06 -> active = false, mode = 3
+        Header decoded = StructLayout.decode(data, Header.class);
+
+        assertFalse(decoded.active);
+        assertEquals(Mode.FAILED, decoded.mode);
+    }
+
+    @Test
+    void testInvalidDeclarations() {
+        assertThrows(InvalidAnnotationUsageException.class, () -> StructLayout.encode(new Overlapping()));
+        assertThrows(InvalidAnnotationUsageException.class, () -> StructLayout.encode(new TooWide()));
+        assertThrows(InvalidAnnotationUsageException.class, () -> StructLayout.encode(new WiderThanType()));
+        assertThrows(InvalidAnnotationUsageException.class, () -> StructLayout.decode(new byte[8], WiderThanType.class));
+    }
+
+    @Test
+    void testUnsignedFullTypeWidthRoundTrip() {
+        byte[] data = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x00, 0x00};
+        FullWidth decoded = StructLayout.decode(data, FullWidth.class);
+
+        // 타입 폭을 모두 쓰는 unsigned 값은 음수로 디코딩되지만 같은 비트로 다시 인코딩
+        assertEquals(-1, decoded.low);
+        assertEquals(-1, decoded.middle);
+        assertEquals(0x00FFFFFF, decoded.high);
+        assertArrayEquals(data, StructLayout.encode(decoded));
+
+        decoded.high = -1;
+        byte[] encoded = StructLayout.encode(decoded);
+        assertArrayEquals(new byte[]{-1, -1, -1, -1, -1, -1, -1, 0}, encoded);
+        assertEquals(-1, StructLayout.decode(encoded, FullWidth.class).high);
+    }
+
+    @Test
+    void testFullWidthWord() {
+        Wide wide = new Wide();
+        wide.value = Long.MIN_VALUE + 1;
+
+        byte[] encoded = StructLayout.encode(wide);
+        assertEquals(8, encoded.length);
+        assertEquals(Long.MIN_VALUE + 1, StructLayout.decode(encoded, Wide.class).value);
+    }
+
+    @Test
+    void testRecordComponents() {
+        byte[] encoded = StructLayout.encode(new Flags(false, true));
+
+        assertArrayEquals(new byte[]{(byte) 0x80}, encoded);
+        assertEquals(new Flags(false, true), StructLayout.decode(encoded, Flags.class));
+    }
+}
@@ -0,0 +1,81 @@
+package net.deanly.structlayout.codec;
+
+import net.deanly.structlayout.StructLayout;
+import net.deanly.structlayout.annotation.StructField;
+import net.deanly.structlayout.annotation.StructFixedArray;
+import net.deanly.structlayout.annotation.StructLayoutOptions;
+import net.deanly.structlayout.annotation.StructSequenceField;
+import net.deanly.structlayout.codec.byteorder.NetworkHeader;
+import net.deanly.structlayout.type.Endianness;
+import net.deanly.structlayout.type.basic.Int16Field;
+import net.deanly.structlayout.type.basic.Int16LEField;
+import net.deanly.structlayout.type.basic.Int32Field;
+import net.deanly.structlayout.type.basic.UInt16Field;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StructByteOrderTest {
+
+    @StructLayoutOptions(byteOrder = Endianness.BIG_ENDIAN)
+    public static class BigEndian {
+        @StructField(order = 1, type = Int32Field.class)
+        public int value;
+
+        @StructField(order = 2, type = Int16LEField.class)
+        public short explicit;
+
+        @StructSequenceField(order = 3, lengthType = UInt16Field.class, elementType = Int16Field.class)
+        public short[] items;
+
+        @StructFixedArray(order = 4, length = 2, elementType = Int16Field.class)
+        public short[] pair;
+    }
+
+    public static class DefaultOrder {
+        @StructField(order = 1, type = Int32Field.class)
+        public int value;
+    }
+
+    @Test
+    void testClassByteOrderAppliesToNeutralFields() {
+        BigEndian value = new BigEndian();
+        value.value = 0x01020304;
+        value.explicit = 0x0506;
+        value.items = new short[]{0x0708};
+        value.pair = new short[]{0x090A, 0x0B0C};
+
+        byte[] encoded = StructLayout.encode(value);
+        assertArrayEquals(new byte[]{
+                1, 2, 3, 4,
+                6, 5,
+                0, 1, 7, 8,
+                9, 10, 11, 12
+        }, encoded);
+
+        BigEndian decoded = StructLayout.decode(encoded, BigEndian.class);
+        assertEquals(0x01020304, decoded.value);
+        assertEquals(0x0506, decoded.explicit);
+        assertArrayEquals(new short[]{0x0708}, decoded.items);
+        assertArrayEquals(new short[]{0x090A, 0x0B0C}, decoded.pair);
+    }
+
+    @Test
+    void testDefaultByteOrderIsLittleEndian() {
+        DefaultOrder value = new DefaultOrder();
+        value.value = 0x01020304;
+
+        assertArrayEquals(new byte[]{4, 3, 2, 1}, StructLayout.encode(value));
+    }
+
+    @Test
+    void testPackageByteOrder() {
+        NetworkHeader header = new NetworkHeader();
+        header.port = 443;
+        header.address = 0xC0A80001L;
+
+        byte[] encoded = StructLayout.encode(header);
+        assertArrayEquals(new byte[]{1, (byte) 0xBB, (byte) 0xC0, (byte) 0xA8, 0, 1}, encoded);
+        assertEquals(0xC0A80001L, StructLayout.decode(encoded, NetworkHeader.class).address);
+    }
+}
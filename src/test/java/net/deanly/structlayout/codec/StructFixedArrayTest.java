@@ -0,0 +1,136 @@
+package net.deanly.structlayout.codec;
+
+import net.deanly.structlayout.StructLayout;
+import net.deanly.structlayout.annotation.StructBitField;
+import net.deanly.structlayout.annotation.StructField;
+import net.deanly.structlayout.annotation.StructFixedArray;
+import net.deanly.structlayout.annotation.StructObjectField;
+import net.deanly.structlayout.annotation.StructSequenceField;
+import net.deanly.structlayout.exception.InvalidAnnotationUsageException;
+import net.deanly.structlayout.type.basic.ByteField;
+import net.deanly.structlayout.type.basic.Int32LEField;
+import net.deanly.structlayout.type.basic.StringCField;
+import net.deanly.structlayout.type.basic.UInt16LEField;
+import net.deanly.structlayout.type.basic.UInt8Field;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StructFixedArrayTest {
+
+    public static class Account {
+        @StructField(order = 1, type = UInt8Field.class)
+        public int version;
+
+        @StructFixedArray(order = 2, length = 4, elementType = ByteField.class)
+        public byte[] key;
+
+        @StructFixedArray(order = 3, length = 3, elementType = Int32LEField.class)
+        public int[] values;
+
+        @StructFixedArray(order = 4, length = 2, elementType = UInt16LEField.class)
+        public List<Integer> ports;
+    }
+
+    public static class Wrapper {
+        @StructObjectField(order = 1)
+        public Account account;
+
+        @StructBitField(order = 2, offset = 0, width = 1)
+        public boolean active;
+    }
+
+    public static class Variable {
+        @StructSequenceField(order = 1, lengthType = UInt8Field.class, elementType = ByteField.class)
+        public byte[] data;
+    }
+
+    public static class DynamicElement {
+        @StructFixedArray(order = 1, length = 2, elementType = StringCField.class)
+        public String[] names;
+    }
+
+    private static Account account(int version) {
+        Account account = new Account();
+        account.version = version;
+        account.key = new byte[]{1, 2, 3, 4};
+        account.values = new int[]{-1, 0, version};
+        account.ports = List.of(80, 0xFFFF);
+        return account;
+    }
+
+    @Test
+    void testEncodeWritesNoLengthPrefix() {
+        byte[] encoded = StructLayout.encode(account(7));
+
+        assertArrayEquals(new byte[]{
+                7,
+                1, 2, 3, 4,
+                -1, -1, -1, -1, 0, 0, 0, 0, 7, 0, 0, 0,
+                80, 0, -1, -1
+        }, encoded);
+    }
+
+    @Test
+    void testRoundTrip() {
+        Account decoded = StructLayout.decode(StructLayout.encode(account(9)), Account.class);
+
+        assertEquals(9, decoded.version);
+        assertArrayEquals(new byte[]{1, 2, 3, 4}, decoded.key);
+        assertArrayEquals(new int[]{-1, 0, 9}, decoded.values);
+        assertEquals(List.of(80, 0xFFFF), decoded.ports);
+    }
+
+    @Test
+    void testNullIsEncodedAsZeros() {
+        Account account = account(1);
+        account.key = null;
+
+        byte[] encoded = StructLayout.encode(account);
+        assertEquals(21, encoded.length);
+        assertArrayEquals(new byte[4], java.util.Arrays.copyOfRange(encoded, 1, 5));
+    }
+
+    @Test
+    void testWrongElementCountIsRejected() {
+        Account account = account(1);
+        account.values = new int[]{1, 2};
+
+        assertThrows(IllegalArgumentException.class, () -> StructLayout.encode(account));
+    }
+
+    @Test
+    void testTruncatedDataIsRejected() {
+        byte[] encoded = StructLayout.encode(account(1));
+
+        assertThrows(RuntimeException.class,
+                () -> StructLayout.decode(java.util.Arrays.copyOf(encoded, 10), Account.class));
+    }
+
+    @Test
+    void testDynamicElementTypeIsRejected() {
+        assertThrows(InvalidAnnotationUsageException.class, () -> StructLayout.encode(new DynamicElement()));
+    }
+
+    @Test
+    void testFixedSize() {
+        assertEquals(21, StructLayout.fixedSize(Account.class));
+        assertEquals(22, StructLayout.fixedSize(Wrapper.class));
+        assertEquals(-1, StructLayout.fixedSize(Variable.class));
+    }
+
+    @Test
+    void testDecodeAtUsesFixedStride() {
+        byte[] first = StructLayout.encode(account(1));
+        byte[] second = StructLayout.encode(account(2));
+        byte[] data = new byte[first.length + second.length];
+        System.arraycopy(first, 0, data, 0, first.length);
+        System.arraycopy(second, 0, data, first.length, second.length);
+
+        assertEquals(2, StructLayout.decodeAt(data, 1, Account.class).version);
+        assertEquals(1, StructLayout.decodeAt(data, 0, Account.class).version);
+        assertThrows(IllegalArgumentException.class, () -> StructLayout.decodeAt(data, 0, Variable.class));
+    }
+}
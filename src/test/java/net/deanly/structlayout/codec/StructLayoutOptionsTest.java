@@ -0,0 +1,150 @@
+package net.deanly.structlayout.codec;
+
+import net.deanly.structlayout.StructLayout;
+import net.deanly.structlayout.annotation.StructBitField;
+import net.deanly.structlayout.annotation.StructField;
+import net.deanly.structlayout.annotation.StructFixedArray;
+import net.deanly.structlayout.annotation.StructLayoutOptions;
+import net.deanly.structlayout.annotation.StructObjectField;
+import net.deanly.structlayout.exception.InvalidAnnotationUsageException;
+import net.deanly.structlayout.type.basic.Bytes4Field;
+import net.deanly.structlayout.type.basic.Int16LEField;
+import net.deanly.structlayout.type.basic.Int32LEField;
+import net.deanly.structlayout.type.basic.Int64LEField;
+import net.deanly.structlayout.type.basic.UInt8Field;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StructLayoutOptionsTest {
+
+    // struct { uint8_t tag; int32_t value; int16_t port; } -> 12 bytes
+    @StructLayoutOptions(alignment = StructLayoutOptions.NATURAL)
+    public static class Natural {
+        @StructField(order = 1, type = UInt8Field.class)
+        public int tag;
+
+        @StructField(order = 2, type = Int32LEField.class)
+        public int value;
+
+        @StructField(order = 3, type = Int16LEField.class)
+        public short port;
+    }
+
+    public static class Packed {
+        @StructField(order = 1, type = UInt8Field.class)
+        public int tag;
+
+        @StructField(order = 2, type = Int32LEField.class)
+        public int value;
+
+        @StructField(order = 3, type = Int16LEField.class)
+        public short port;
+    }
+
+    // #pragma pack(2)
+    @StructLayoutOptions(alignment = 2)
+    public static class PackTwo {
+        @StructField(order = 1, type = UInt8Field.class)
+        public int tag;
+
+        @StructField(order = 2, type = Int64LEField.class)
+        public long value;
+    }
+
+    @StructLayoutOptions(alignment = StructLayoutOptions.NATURAL)
+    public static class Outer {
+        @StructField(order = 1, type = UInt8Field.class)
+        public int tag;
+
+        @StructObjectField(order = 2)
+        public Natural inner;
+
+        @StructFixedArray(order = 3, length = 3, elementType = UInt8Field.class)
+        public int[] bytes;
+
+        @StructBitField(order = 4, offset = 0, width = 3, bytes = 2)
+        public int flags;
+
+        @StructField(order = 5, type = Bytes4Field.class)
+        public byte[] raw;
+    }
+
+    @StructLayoutOptions(alignment = 3)
+    public static class Invalid {
+        @StructField(order = 1, type = UInt8Field.class)
+        public int tag;
+    }
+
+    private static Natural natural() {
+        Natural natural = new Natural();
+        natural.tag = 1;
+        natural.value = 0x04030201;
+        natural.port = 0x0605;
+        return natural;
+    }
+
+    @Test
+    void testNaturalAlignmentInsertsPadding() {
+        byte[] encoded = StructLayout.encode(natural());
+
+        assertArrayEquals(new byte[]{
+                1, 0, 0, 0,
+                1, 2, 3, 4,
+                5, 6, 0, 0
+        }, encoded);
+        assertEquals(12, StructLayout.fixedSize(Natural.class));
+        assertEquals(7, StructLayout.fixedSize(Packed.class));
+    }
+
+    @Test
+    void testNaturalAlignmentRoundTrip() {
+        Natural decoded = StructLayout.decode(StructLayout.encode(natural()), Natural.class);
+
+        assertEquals(1, decoded.tag);
+        assertEquals(0x04030201, decoded.value);
+        assertEquals(0x0605, decoded.port);
+    }
+
+    @Test
+    void testPackCapsAlignment() {
+        PackTwo value = new PackTwo();
+        value.tag = 9;
+        value.value = -1L;
+
+        byte[] encoded = StructLayout.encode(value);
+        assertEquals(10, encoded.length);
+        assertEquals(0, encoded[1]);
+        assertEquals(10, StructLayout.fixedSize(PackTwo.class));
+        assertEquals(-1L, StructLayout.decode(encoded, PackTwo.class).value);
+    }
+
+    @Test
+    void testNestedStructAndMixedFields() {
+        Outer outer = new Outer();
+        outer.tag = 7;
+        outer.inner = natural();
+        outer.bytes = new int[]{1, 2, 3};
+        outer.flags = 5;
+        outer.raw = new byte[]{9, 9, 9, 9};
+
+        // tag(1) + pad(3) + inner(12) + bytes(3) + pad(1) + flags(2) + raw(4) + pad(2) = 28
+        byte[] encoded = StructLayout.encode(outer);
+        assertEquals(28, encoded.length);
+        assertEquals(28, StructLayout.fixedSize(Outer.class));
+        assertEquals(5, encoded[20]);
+        assertEquals(9, encoded[22]);
+
+        Outer decoded = StructLayout.decode(encoded, Outer.class);
+        assertEquals(7, decoded.tag);
+        assertEquals(0x04030201, decoded.inner.value);
+        assertArrayEquals(new int[]{1, 2, 3}, decoded.bytes);
+        assertEquals(5, decoded.flags);
+        assertArrayEquals(new byte[]{9, 9, 9, 9}, decoded.raw);
+    }
+
+    @Test
+    void testInvalidAlignmentIsRejected() {
+        assertThrows(InvalidAnnotationUsageException.class, () -> StructLayout.encode(new Invalid()));
+    }
+}
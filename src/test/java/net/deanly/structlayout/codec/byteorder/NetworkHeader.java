@@ -0,0 +1,13 @@
+package net.deanly.structlayout.codec.byteorder;
+
+import net.deanly.structlayout.annotation.StructField;
+import net.deanly.structlayout.type.basic.UInt16Field;
+import net.deanly.structlayout.type.basic.UInt32Field;
+
+public class NetworkHeader {
+    @StructField(order = 1, type = UInt16Field.class)
+    public int port;
+
+    @StructField(order = 2, type = UInt32Field.class)
+    public long address;
+}
@@ -0,0 +1,5 @@
+@StructLayoutOptions(byteOrder = Endianness.BIG_ENDIAN)
+package net.deanly.structlayout.codec.byteorder;
+
+import net.deanly.structlayout.annotation.StructLayoutOptions;
+import net.deanly.structlayout.type.Endianness;
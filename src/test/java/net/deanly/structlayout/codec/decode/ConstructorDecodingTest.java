@@ -0,0 +1,122 @@
+package net.deanly.structlayout.codec.decode;
+
+import net.deanly.structlayout.StructLayout;
+import net.deanly.structlayout.annotation.*;
+import net.deanly.structlayout.exception.LayoutInitializationException;
+import net.deanly.structlayout.type.basic.Int16LEField;
+import net.deanly.structlayout.type.basic.Int32LEField;
+import net.deanly.structlayout.type.basic.StringCField;
+import net.deanly.structlayout.type.basic.UInt8Field;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConstructorDecodingTest {
+
+    public record Point(
+            @StructField(order = 1, type = Int32LEField.class) int x,
+            @StructField(order = 2, type = Int32LEField.class) int y) {
+    }
+
+    public record Shape(
+            @StructField(order = 1, type = StringCField.class) String name,
+            @StructObjectField(order = 2) Point origin,
+            @StructSequenceObjectField(order = 3, lengthType = UInt8Field.class) List<Point> vertices,
+            @StructSequenceField(order = 4, lengthType = UInt8Field.class, elementType = Int16LEField.class) short[] weights,
+            @StructField(order = 5, type = Int32LEField.class, optional = OptionalEncoding.BORSH) int tag) {
+    }
+
+    public static class ImmutableStruct {
+        @StructField(order = 2, type = Int32LEField.class)
+        private final int second;
+
+        @StructField(order = 1, type = StringCField.class)
+        private final String first;
+
+        @StructConstructor
+        public ImmutableStruct(String first, int second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        public String getFirst() {
+            return first;
+        }
+
+        public int getSecond() {
+            return second;
+        }
+    }
+
+    public static class MismatchedConstructorStruct {
+        @StructField(order = 1, type = Int32LEField.class)
+        private final int value;
+
+        @StructConstructor
+        public MismatchedConstructorStruct(int value, int extra) {
+            this.value = value + extra;
+        }
+    }
+
+    @Test
+    void testRecordRoundTrip() {
+        Point point = new Point(10, -20);
+
+        byte[] encoded = StructLayout.encode(point);
+        Point decoded = StructLayout.decode(encoded, Point.class);
+
+        assertEquals(point, decoded);
+    }
+
+    @Test
+    void testNestedRecordRoundTrip() {
+        Shape shape = new Shape("triangle", new Point(1, 2),
+                List.of(new Point(0, 0), new Point(5, 0), new Point(0, 5)),
+                new short[]{3, 4, 5}, 9);
+
+        byte[] encoded = StructLayout.encode(shape);
+        Shape decoded = StructLayout.decode(encoded, Shape.class);
+
+        assertEquals("triangle", decoded.name());
+        assertEquals(new Point(1, 2), decoded.origin());
+        assertEquals(shape.vertices(), decoded.vertices());
+        assertArrayEquals(new short[]{3, 4, 5}, decoded.weights());
+        assertEquals(9, decoded.tag());
+    }
+
+    @Test
+    void testAbsentOptionalPrimitiveComponentUsesDefault() {
+        byte[] data = {
+                'a', 0x00,                          // name
+                0x01, 0x00, 0x00, 0x00,             // origin.x
+                0x02, 0x00, 0x00, 0x00,             // origin.y
+                0x00,                               // vertices (length 0)
+                0x00,                               // weights (length 0)
+                0x00                                // tag: None
+        };
+
+        Shape decoded = StructLayout.decode(data, Shape.class);
+
+        assertEquals("a", decoded.name());
+        assertEquals(0, decoded.tag());
+    }
+
+    @Test
+    void testAnnotatedConstructorUsesFieldOrder() {
+        ImmutableStruct struct = new ImmutableStruct("hello", 42);
+
+        byte[] encoded = StructLayout.encode(struct);
+        ImmutableStruct decoded = StructLayout.decode(encoded, ImmutableStruct.class);
+
+        assertEquals("hello", decoded.getFirst());
+        assertEquals(42, decoded.getSecond());
+    }
+
+    @Test
+    void testAnnotatedConstructorParameterCountIsValidated() {
+        assertThrows(LayoutInitializationException.class,
+                () -> StructLayout.decode(new byte[]{1, 0, 0, 0}, MismatchedConstructorStruct.class));
+    }
+}
@@ -0,0 +1,136 @@
+package net.deanly.structlayout.codec.decode;
+
+import net.deanly.structlayout.StructLayout;
+import net.deanly.structlayout.annotation.StructField;
+import net.deanly.structlayout.annotation.StructObjectField;
+import net.deanly.structlayout.annotation.StructSequenceField;
+import net.deanly.structlayout.annotation.StructSequenceObjectField;
+import net.deanly.structlayout.exception.DecodeLimitExceededException;
+import net.deanly.structlayout.type.basic.Int32LEField;
+import net.deanly.structlayout.type.basic.UInt32LEField;
+import net.deanly.structlayout.type.basic.UInt8Field;
+import net.deanly.structlayout.type.borsh.BorshStringField;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecodeLimitsTest {
+
+    public static class Values {
+        @StructSequenceField(order = 1, lengthType = UInt32LEField.class, elementType = Int32LEField.class)
+        public int[] values;
+    }
+
+    public static class Named {
+        @StructField(order = 1, type = BorshStringField.class)
+        public String name;
+    }
+
+    public static class Item {
+        @StructField(order = 1, type = UInt8Field.class)
+        public int id;
+    }
+
+    public static class Items {
+        @StructSequenceObjectField(order = 1, lengthType = UInt32LEField.class)
+        public List<Item> items;
+    }
+
+    public static class Inner {
+        @StructObjectField(order = 1)
+        public Item item = new Item();
+    }
+
+    public static class Outer {
+        @StructObjectField(order = 1)
+        public Inner inner = new Inner();
+    }
+
+    @Test
+    void testHostileSequenceLengthIsRejectedBeforeAllocation() {
+        // 길이 0x7FFFFFFF, 실제 데이터는 4바이트
+        byte[] data = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x7F, 1, 2, 3, 4};
+
+        Exception ex = assertThrows(Exception.class, () -> StructLayout.decode(data, Values.class));
+        DecodeLimitExceededException cause = findCause(ex);
+        assertTrue(cause.getMessage().contains("only 4 bytes remain"), cause.getMessage());
+
+        byte[] objects = {(byte) 0xFF, (byte) 0xFF, 0, 0, 1};
+        assertNotNull(findCause(assertThrows(Exception.class, () -> StructLayout.decode(objects, Items.class))));
+    }
+
+    @Test
+    void testMaxSequenceElements() {
+        Values values = new Values();
+        values.values = new int[]{1, 2, 3};
+        byte[] encoded = StructLayout.encode(values);
+
+        DecodeLimits limits = DecodeLimits.builder().maxSequenceElements(2).build();
+        assertNotNull(findCause(assertThrows(Exception.class, () -> StructLayout.decode(encoded, Values.class, limits))));
+
+        DecodeLimits enough = DecodeLimits.builder().maxSequenceElements(3).build();
+        assertArrayEquals(new int[]{1, 2, 3}, StructLayout.decode(encoded, Values.class, enough).values);
+    }
+
+    @Test
+    void testMaxByteLength() {
+        Named named = new Named();
+        named.name = "hello world";
+        byte[] encoded = StructLayout.encode(named);
+
+        DecodeLimits limits = DecodeLimits.builder().maxByteLength(8).build();
+        assertNotNull(findCause(assertThrows(Exception.class, () -> StructLayout.decode(encoded, Named.class, limits))));
+        assertEquals("hello world", StructLayout.decode(encoded, Named.class).name);
+    }
+
+    @Test
+    void testMaxDepth() {
+        byte[] encoded = StructLayout.encode(new Outer());
+
+        DecodeLimits limits = DecodeLimits.builder().maxDepth(2).build();
+        DecodeLimitExceededException cause = findCause(
+                assertThrows(Exception.class, () -> StructLayout.decode(encoded, Outer.class, limits)));
+        assertTrue(cause.getMessage().contains("Item"), cause.getMessage());
+
+        assertNotNull(StructLayout.decode(encoded, Outer.class, DecodeLimits.builder().maxDepth(3).build()).inner.item);
+    }
+
+    @Test
+    void testMaxTotalAllocationCoversWholeMessage() {
+        Values values = new Values();
+        values.values = new int[16]; // 64 bytes
+        byte[] encoded = StructLayout.encode(values);
+
+        DecodeLimits limits = DecodeLimits.builder().maxTotalAllocation(63).build();
+        assertNotNull(findCause(assertThrows(Exception.class, () -> StructLayout.decode(encoded, Values.class, limits))));
+
+        DecodeLimits enough = DecodeLimits.builder().maxTotalAllocation(64).build();
+        assertEquals(16, StructLayout.decode(encoded, Values.class, enough).values.length);
+    }
+
+    @Test
+    void testContextIsReleasedAfterDecode() {
+        Values values = new Values();
+        values.values = new int[]{1, 2, 3};
+        byte[] encoded = StructLayout.encode(values);
+
+        DecodeLimits limits = DecodeLimits.builder().maxSequenceElements(1).build();
+        assertThrows(Exception.class, () -> StructLayout.decode(encoded, Values.class, limits));
+
+        // 이전 디코딩의 한도가 남아 있지 않아야 함
+        assertNull(DecodeContext.bound());
+        assertEquals(3, StructLayout.decode(encoded, Values.class).values.length);
+    }
+
+    private static DecodeLimitExceededException findCause(Throwable throwable) {
+        for (Throwable t = throwable; t != null; t = t.getCause()) {
+            if (t instanceof DecodeLimitExceededException limitExceeded) {
+                return limitExceeded;
+            }
+        }
+        fail("DecodeLimitExceededException not found in the cause chain of " + throwable);
+        return null;
+    }
+}
@@ -0,0 +1,239 @@
+package net.deanly.structlayout.codec.decode;
+
+import net.deanly.structlayout.StructLayout;
+import net.deanly.structlayout.annotation.OptionalEncoding;
+import net.deanly.structlayout.annotation.StructField;
+import net.deanly.structlayout.annotation.StructObjectField;
+import net.deanly.structlayout.annotation.StructSequenceField;
+import net.deanly.structlayout.annotation.StructSequenceObjectField;
+import net.deanly.structlayout.exception.DecodeLimitExceededException;
+import net.deanly.structlayout.exception.StructDecodingException;
+import net.deanly.structlayout.type.advanced.NoneField;
+import net.deanly.structlayout.type.basic.Int32LEField;
+import net.deanly.structlayout.type.basic.StringCField;
+import net.deanly.structlayout.type.basic.UInt16LEField;
+import net.deanly.structlayout.type.basic.UInt8Field;
+import net.deanly.structlayout.type.borsh.BorshBlobField;
+import net.deanly.structlayout.type.borsh.BorshStringField;
+import net.deanly.structlayout.type.varint.VarUInt32Field;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalDecoderTest {
+
+    public static class Item {
+        @StructField(order = 1, type = UInt16LEField.class)
+        public int value;
+
+        @StructField(order = 2, type = BorshStringField.class)
+        public String label;
+    }
+
+    public static class Message {
+        @StructField(order = 1, type = UInt8Field.class)
+        public int id;
+
+        @StructField(order = 2, type = BorshStringField.class)
+        public String name;
+
+        @StructField(order = 3, type = VarUInt32Field.class)
+        public int sequence;
+
+        @StructSequenceField(order = 4, lengthType = VarUInt32Field.class, elementType = StringCField.class)
+        public List<String> tags;
+
+        @StructSequenceObjectField(order = 5, lengthType = UInt8Field.class)
+        public List<Item> items;
+
+        @StructObjectField(order = 6, optional = OptionalEncoding.BORSH)
+        public Item extra;
+
+        @StructField(order = 7, type = BorshBlobField.class)
+        public byte[] payload;
+    }
+
+    public static class Unprefixed {
+        @StructField(order = 1, type = UInt8Field.class)
+        public int id;
+
+        @StructSequenceField(order = 2, lengthType = NoneField.class, elementType = UInt8Field.class)
+        public int[] rest;
+    }
+
+    public static class Pair {
+        @StructField(order = 1, type = Int32LEField.class)
+        public int first;
+
+        @StructField(order = 2, type = Int32LEField.class)
+        public int second;
+    }
+
+    private static Item item(int value, String label) {
+        Item item = new Item();
+        item.value = value;
+        item.label = label;
+        return item;
+    }
+
+    private static Message message(int id) {
+        Message message = new Message();
+        message.id = id;
+        message.name = "message-" + id;
+        message.sequence = 300 + id;
+        message.tags = List.of("a", "bc", "");
+        message.items = List.of(item(1, "one"), item(2, "two"));
+        message.extra = id % 2 == 0 ? item(3, "three") : null;
+        message.payload = new byte[]{1, 2, 3, (byte) id};
+        return message;
+    }
+
+    private static void assertMessage(Message expected, Message actual) {
+        assertEquals(expected.id, actual.id);
+        assertEquals(expected.name, actual.name);
+        assertEquals(expected.sequence, actual.sequence);
+        assertEquals(expected.tags, actual.tags);
+        assertEquals(expected.items.size(), actual.items.size());
+        for (int i = 0; i < expected.items.size(); i++) {
+            assertEquals(expected.items.get(i).value, actual.items.get(i).value);
+            assertEquals(expected.items.get(i).label, actual.items.get(i).label);
+        }
+        assertEquals(expected.extra == null, actual.extra == null);
+        if (expected.extra != null) {
+            assertEquals(expected.extra.label, actual.extra.label);
+        }
+        assertArrayEquals(expected.payload, actual.payload);
+    }
+
+    @Test
+    void testByteByByteMatchesFullDecode() {
+        for (int id = 1; id <= 2; id++) {
+            Message expected = message(id);
+            byte[] data = StructLayout.encode(expected);
+            IncrementalDecoder<Message> decoder = new IncrementalDecoder<>(Message.class);
+
+            for (int i = 0; i < data.length - 1; i++) {
+                IncrementalDecodeResult<Message> result = decoder.feed(data, i, 1);
+                assertEquals(IncrementalDecodeResult.Status.NEED_MORE_DATA, result.getStatus(), "byte " + i);
+                assertEquals(i + 1, result.getSize());
+                assertTrue(result.getBytesNeeded() > 0);
+            }
+            IncrementalDecodeResult<Message> result = decoder.feed(data, data.length - 1, 1);
+
+            assertTrue(result.isDone());
+            assertEquals(data.length, result.getSize());
+            assertMessage(expected, result.getValue());
+            assertMessage(StructLayout.decode(data, Message.class), result.getValue());
+            assertEquals(0, decoder.getBuffered());
+        }
+    }
+
+    @Test
+    void testReportsPendingFieldAndBytesNeeded() {
+        byte[] data = StructLayout.encode(message(1));
+        IncrementalDecoder<Message> decoder = new IncrementalDecoder<>(Message.class);
+
+        // id + name 의 길이 prefix 까지
+        IncrementalDecodeResult<Message> result = decoder.feed(data, 0, 5);
+        assertEquals("name", result.getPendingPath());
+        assertEquals("message-1".length(), result.getBytesNeeded());
+
+        // 두 번째 item 의 label 길이 prefix 중간까지
+        int secondItem = 1 + (4 + 9) + 2 + (1 + 6) + 1 + (2 + 4 + 3);
+        result = decoder.feed(data, 5, secondItem + 2 + 1 - 5);
+        assertEquals("items[1].label", result.getPendingPath());
+        assertEquals(3, result.getBytesNeeded());
+
+        result = decoder.feed(data, secondItem + 3, data.length - secondItem - 3);
+        assertTrue(result.isDone());
+        assertMessage(message(1), result.getValue());
+    }
+
+    @Test
+    void testDecodesMessagesBackToBack() {
+        byte[] first = StructLayout.encode(message(1));
+        byte[] second = StructLayout.encode(message(2));
+        byte[] third = StructLayout.encode(message(3));
+        ByteBuffer stream = ByteBuffer.allocate(first.length + second.length + third.length)
+                .put(first).put(second).put(third).flip();
+        IncrementalDecoder<Message> decoder = new IncrementalDecoder<>(Message.class);
+
+        stream.limit(first.length + second.length + 7);
+        IncrementalDecodeResult<Message> result = decoder.feed(stream);
+        assertFalse(stream.hasRemaining());
+        assertMessage(message(1), result.getValue());
+        assertEquals(second.length + 7, decoder.getBuffered());
+
+        result = decoder.poll();
+        assertMessage(message(2), result.getValue());
+        result = decoder.poll();
+        assertEquals(IncrementalDecodeResult.Status.NEED_MORE_DATA, result.getStatus());
+        assertEquals(7, result.getSize());
+
+        stream.limit(stream.capacity());
+        result = decoder.feed(stream);
+        assertMessage(message(3), result.getValue());
+        assertEquals(IncrementalDecodeResult.Status.NEED_MORE_DATA, decoder.poll().getStatus());
+        assertEquals("", decoder.poll().getPendingPath());
+    }
+
+    @Test
+    void testSteadyStreamKeepsBufferBounded() {
+        // 5 바이트 조각이 8 바이트 메시지의 경계를 계속 가로지름
+        ByteBuffer stream = ByteBuffer.allocate(200_000 * 5).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; stream.remaining() >= 8; i++) {
+            stream.putInt(i).putInt(-i);
+        }
+        byte[] data = stream.array();
+        IncrementalDecoder<Pair> decoder = new IncrementalDecoder<>(Pair.class);
+
+        int done = 0;
+        for (int offset = 0; offset < data.length; offset += 5) {
+            IncrementalDecodeResult<Pair> result = decoder.feed(data, offset, 5);
+            while (result.isDone()) {
+                assertEquals(done, result.getValue().first);
+                assertEquals(-done, result.getValue().second);
+                done++;
+                result = decoder.poll();
+            }
+            assertTrue(decoder.capacity() <= 1024, () -> "capacity " + decoder.capacity());
+        }
+        assertEquals(125_000, done);
+        assertEquals(0, decoder.getBuffered());
+    }
+
+    @Test
+    void testDeclaredLengthIsCheckedBeforeWaiting() {
+        DecodeLimits limits = DecodeLimits.builder().maxByteLength(16).build();
+        IncrementalDecoder<Message> decoder = new IncrementalDecoder<>(Message.class, limits);
+
+        // name 이 1000 바이트를 선언: payload 를 기다리지 않고 실패
+        StructDecodingException ex = assertThrows(StructDecodingException.class,
+                () -> decoder.feed(new byte[]{1, (byte) 0xE8, 0x03, 0, 0}));
+        assertInstanceOf(DecodeLimitExceededException.class, rootCause(ex));
+        assertEquals(0, decoder.getBuffered());
+
+        // 실패 후에는 새 메시지부터 디코딩
+        byte[] data = StructLayout.encode(message(2));
+        assertMessage(message(2), decoder.feed(data).getValue());
+    }
+
+    @Test
+    void testSequenceWithoutLengthPrefixIsUnsupported() {
+        IncrementalDecoder<Unprefixed> decoder = new IncrementalDecoder<>(Unprefixed.class);
+
+        StructDecodingException ex = assertThrows(StructDecodingException.class, () -> decoder.feed(new byte[]{1, 2, 3}));
+        assertInstanceOf(UnsupportedOperationException.class, rootCause(ex));
+    }
+
+    private static Throwable rootCause(Throwable error) {
+        while (error.getCause() != null && error.getCause() != error) {
+            error = error.getCause();
+        }
+        return error;
+    }
+}
@@ -0,0 +1,130 @@
+package net.deanly.structlayout.codec.decode;
+
+import net.deanly.structlayout.StructLayout;
+import net.deanly.structlayout.annotation.OptionalEncoding;
+import net.deanly.structlayout.annotation.StructField;
+import net.deanly.structlayout.annotation.StructObjectField;
+import net.deanly.structlayout.annotation.StructSequenceObjectField;
+import net.deanly.structlayout.exception.StructDecodingException;
+import net.deanly.structlayout.type.basic.UInt8Field;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IterativeDecodeTest {
+
+    public static class Node {
+        @StructField(order = 1, type = UInt8Field.class)
+        public int value;
+
+        @StructObjectField(order = 2, optional = OptionalEncoding.BORSH)
+        public Node next;
+    }
+
+    public static class Tree {
+        @StructField(order = 1, type = UInt8Field.class)
+        public int value;
+
+        @StructSequenceObjectField(order = 2, lengthType = UInt8Field.class)
+        public List<Tree> children;
+    }
+
+    private static byte[] chain(int depth) {
+        // [value, 0x01(Some)] * (depth - 1) + [value, 0x00(None)]
+        byte[] data = new byte[depth * 2];
+        for (int i = 0; i < depth; i++) {
+            data[i * 2] = (byte) i;
+            data[i * 2 + 1] = (byte) (i < depth - 1 ? 1 : 0);
+        }
+        return data;
+    }
+
+    @Test
+    void testDeepNestingOnSmallStack() throws InterruptedException {
+        int depth = 20_000;
+        byte[] data = chain(depth);
+
+        AtomicReference<Object> result = new AtomicReference<>();
+        // 재귀 디코더라면 128KB 스택에서 StackOverflowError (기본 한도는 깊이 제한 없음)
+        Thread thread = new Thread(null, () -> {
+            try {
+                result.set(StructLayout.decode(data, Node.class));
+            } catch (Throwable t) {
+                result.set(t);
+            }
+        }, "small-stack", 128 * 1024);
+        thread.start();
+        thread.join();
+
+        assertInstanceOf(Node.class, result.get(), () -> String.valueOf(result.get()));
+        Node node = (Node) result.get();
+        int count = 1;
+        while (node.next != null) {
+            node = node.next;
+            count++;
+        }
+        assertEquals(depth, count);
+        assertEquals((depth - 1) & 0xFF, node.value);
+    }
+
+    @Test
+    void testNestedSequencesOfObjects() {
+        // root(1) -> [a(2) -> [c(4)], b(3) -> []]
+        byte[] data = {1, 2, 2, 1, 4, 0, 3, 0};
+
+        Tree root = StructLayout.decode(data, Tree.class);
+        assertEquals(1, root.value);
+        assertEquals(2, root.children.size());
+        assertEquals(2, root.children.get(0).value);
+        assertEquals(4, root.children.get(0).children.get(0).value);
+        assertTrue(root.children.get(0).children.get(0).children.isEmpty());
+        assertEquals(3, root.children.get(1).value);
+        assertTrue(root.children.get(1).children.isEmpty());
+    }
+
+    @Test
+    void testNestedFailureKeepsStructChain() {
+        // 세 번째 노드가 Some 을 가리키지만 데이터가 끝남
+        byte[] data = {1, 1, 2, 1, 3, 1};
+
+        StructDecodingException ex = assertThrows(StructDecodingException.class, () -> StructLayout.decode(data, Node.class));
+        int structs = 0;
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof StructDecodingException) {
+                structs++;
+            }
+        }
+        assertEquals(3, structs);
+        assertEquals(1, ex.getDecodedFields().size());
+    }
+
+    @Test
+    void testTopLevelDecodesReuseFramesPerThread() {
+        StructLayout.decode(chain(3), Node.class);
+        DecodeContext context = DecodeContext.acquire(DecodeLimits.DEFAULT);
+        StructDecoder.Frame frame = context.pushFrame();
+        context.popFrame();
+        DecodeContext.release(context);
+
+        // 실패한 디코딩 후에도 같은 context / 프레임을 사용하고, 디코딩된 객체는 남지 않음
+        assertThrows(StructDecodingException.class, () -> StructLayout.decode(new byte[]{1, 1, 2, 1}, Node.class));
+        assertEquals(2, StructLayout.decode(chain(3), Node.class, DecodeLimits.builder().maxDepth(3).build()).next.next.value);
+
+        DecodeContext reused = DecodeContext.acquire(DecodeLimits.DEFAULT);
+        assertSame(context, reused);
+        assertEquals(0, reused.frameCount());
+        assertEquals(0, reused.getAllocated());
+        assertSame(frame, reused.frameAt(0));
+        assertNull(frame.target);
+        assertNull(frame.descriptors);
+
+        // 사용 중인 동안의 최상위 디코딩은 별도 context 사용
+        DecodeContext nested = DecodeContext.acquire(DecodeLimits.DEFAULT);
+        assertNotSame(reused, nested);
+        DecodeContext.release(nested);
+        DecodeContext.release(reused);
+    }
+}
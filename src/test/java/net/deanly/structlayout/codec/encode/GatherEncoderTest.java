@@ -0,0 +1,128 @@
+package net.deanly.structlayout.codec.encode;
+
+import net.deanly.structlayout.StructLayout;
+import net.deanly.structlayout.annotation.*;
+import net.deanly.structlayout.type.basic.ByteField;
+import net.deanly.structlayout.type.basic.Int16LEField;
+import net.deanly.structlayout.type.basic.Int32LEField;
+import net.deanly.structlayout.type.basic.Int8Field;
+import net.deanly.structlayout.type.basic.UInt32LEField;
+import net.deanly.structlayout.type.basic.UInt8Field;
+import net.deanly.structlayout.type.borsh.BorshBlobField;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GatherEncoderTest {
+
+    public static class Item {
+        @StructField(order = 1, type = Int16LEField.class)
+        private short id;
+
+        Item() {
+        }
+
+        Item(int id) {
+            this.id = (short) id;
+        }
+    }
+
+    @StructLayoutOptions(alignment = StructLayoutOptions.NATURAL)
+    public static class Header {
+        @StructField(order = 1, type = Int8Field.class)
+        private byte version = 3;
+        @StructField(order = 2, type = Int32LEField.class)
+        private int flags = 0x01020304;
+    }
+
+    public static class Message {
+        @StructField(order = 1, type = Int32LEField.class)
+        private int id;
+        @StructObjectField(order = 2)
+        private Header header = new Header();
+        @StructField(order = 3, type = BorshBlobField.class)
+        private byte[] blob;
+        @StructSequenceField(order = 4, lengthType = UInt32LEField.class, elementType = ByteField.class)
+        private byte[] data;
+        @StructSequenceObjectField(order = 5, lengthType = UInt8Field.class)
+        private List<Item> items = List.of(new Item(1), new Item(2));
+        @StructField(order = 6, type = BorshBlobField.class, optional = OptionalEncoding.BORSH)
+        private byte[] extra;
+    }
+
+    private static byte[] concat(ByteBuffer[] buffers) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (ByteBuffer buffer : buffers) {
+            ByteBuffer copy = buffer.duplicate();
+            byte[] bytes = new byte[copy.remaining()];
+            copy.get(bytes);
+            out.writeBytes(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    void testLargePayloadsAreReferencedNotCopied() {
+        Message message = new Message();
+        message.id = 7;
+        message.blob = new byte[4096];
+        message.data = new byte[2048];
+        message.blob[0] = 1;
+        message.data[0] = 2;
+
+        ByteBuffer[] buffers = StructLayout.encodeGather(message);
+
+        assertArrayEquals(StructLayout.encode(message), concat(buffers));
+        // [header][blob][length][data][items + extra]
+        assertEquals(5, buffers.length);
+        assertSame(message.blob, buffers[1].array());
+        assertSame(message.data, buffers[3].array());
+        assertEquals(4096, buffers[1].remaining());
+    }
+
+    @Test
+    void testSmallPayloadsAreCoalesced() {
+        Message message = new Message();
+        message.blob = new byte[]{1, 2, 3};
+        message.data = new byte[]{4, 5};
+        message.extra = new byte[]{6};
+
+        ByteBuffer[] buffers = GatherEncoder.encode(message);
+
+        assertEquals(1, buffers.length);
+        assertArrayEquals(StructLayout.encode(message), concat(buffers));
+    }
+
+    @Test
+    void testMinReferenceLengthAndChannelWrite() throws Exception {
+        Message message = new Message();
+        message.data = new byte[16];
+        message.extra = new byte[32];
+
+        ByteBuffer[] buffers = GatherEncoder.encode(message, 16);
+        // [header][data][items + tag + length][extra]
+        assertEquals(4, buffers.length);
+        assertSame(message.data, buffers[1].array());
+        assertSame(message.extra, buffers[3].array());
+
+        // GatheringByteChannel 에 그대로 기록 가능
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        try (WritableByteChannel channel = Channels.newChannel(sink)) {
+            for (ByteBuffer buffer : buffers) {
+                channel.write(buffer);
+            }
+        }
+        assertArrayEquals(StructLayout.encode(message), sink.toByteArray());
+    }
+
+    @Test
+    void testNullInstance() {
+        assertEquals(0, GatherEncoder.encode(null).length);
+    }
+}
@@ -0,0 +1,80 @@
+package net.deanly.structlayout.codec.helpers;
+
+import net.deanly.structlayout.annotation.*;
+import net.deanly.structlayout.type.basic.Int16LEField;
+import net.deanly.structlayout.type.basic.Int32LEField;
+import net.deanly.structlayout.type.basic.UInt32LEField;
+import net.deanly.structlayout.type.basic.UInt8Field;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldDescriptorTest {
+
+    public static class Nested {
+        @StructField(order = 1, type = UInt8Field.class)
+        public int value;
+    }
+
+    public static class Parent {
+        @StructField(order = 1, type = Int32LEField.class, optional = OptionalEncoding.BORSH)
+        public Integer id;
+    }
+
+    public static class Child extends Parent {
+        @StructSequenceObjectField(order = 5, lengthType = UInt32LEField.class)
+        public List<Nested> items;
+
+        @StructObjectField(order = 3)
+        public Nested nested;
+
+        @StructSequenceField(order = 2, lengthType = UInt8Field.class, elementType = Int16LEField.class)
+        public short[] values;
+
+        public String ignored;
+    }
+
+    @Test
+    void testForClassResolvesKindsInOrder() {
+        List<FieldDescriptor> descriptors = FieldDescriptor.forClass(Child.class);
+
+        assertEquals(4, descriptors.size());
+
+        FieldDescriptor id = descriptors.get(0);
+        assertEquals("id", id.getName());
+        assertEquals(FieldDescriptor.Kind.FIELD, id.getKind());
+        assertEquals(Int32LEField.class, id.getType());
+        assertEquals(OptionalEncoding.BORSH, id.getOptional());
+
+        FieldDescriptor values = descriptors.get(1);
+        assertEquals(FieldDescriptor.Kind.SEQUENCE, values.getKind());
+        assertEquals(UInt8Field.class, values.getLengthType());
+        assertEquals(Int16LEField.class, values.getElementType());
+
+        FieldDescriptor nested = descriptors.get(2);
+        assertEquals(FieldDescriptor.Kind.OBJECT, nested.getKind());
+        assertEquals(3, nested.getOrder());
+
+        FieldDescriptor items = descriptors.get(3);
+        assertEquals(FieldDescriptor.Kind.SEQUENCE_OBJECT, items.getKind());
+        assertEquals(UInt32LEField.class, items.getLengthType());
+        assertEquals(OptionalEncoding.NONE, items.getOptional());
+    }
+
+    @Test
+    void testForClassIsCached() {
+        assertSame(FieldDescriptor.forClass(Child.class), FieldDescriptor.forClass(Child.class));
+        assertThrows(UnsupportedOperationException.class, () -> FieldDescriptor.forClass(Child.class).clear());
+    }
+
+    @Test
+    void testOfField() throws NoSuchFieldException {
+        FieldDescriptor descriptor = FieldDescriptor.of(Child.class.getField("nested"));
+        assertNotNull(descriptor);
+        assertSame(FieldDescriptor.forClass(Child.class).get(2), descriptor);
+
+        assertNull(FieldDescriptor.of(Child.class.getField("ignored")));
+    }
+}
@@ -0,0 +1,103 @@
+package net.deanly.structlayout.codec.helpers;
+
+import net.deanly.structlayout.StructLayout;
+import net.deanly.structlayout.annotation.StructField;
+import net.deanly.structlayout.annotation.StructObjectField;
+import net.deanly.structlayout.annotation.StructSequenceField;
+import net.deanly.structlayout.annotation.StructSequenceObjectField;
+import net.deanly.structlayout.codec.byteorder.NetworkHeader;
+import net.deanly.structlayout.exception.LayoutInitializationException;
+import net.deanly.structlayout.type.basic.Int32LEField;
+import net.deanly.structlayout.type.basic.UInt8Field;
+import net.deanly.structlayout.type.borsh.BorshStringField;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LayoutRegistrationHelperTest {
+
+    public static class Item {
+        @StructField(order = 1, type = Int32LEField.class)
+        public int id;
+    }
+
+    public static class Order {
+        @StructField(order = 1, type = BorshStringField.class)
+        public String name;
+
+        @StructObjectField(order = 2)
+        public Item first = new Item();
+
+        @StructSequenceObjectField(order = 3, lengthType = UInt8Field.class)
+        public List<Item> items;
+    }
+
+    public record Point(
+            @StructField(order = 1, type = Int32LEField.class) int x,
+            @StructField(order = 2, type = Int32LEField.class) int y
+    ) {
+    }
+
+    public interface Shape {
+    }
+
+    public static class Broken {
+        @StructSequenceField(order = 1, lengthType = UInt8Field.class, elementType = UInt8Field.class)
+        public int notAnArray;
+
+        @StructObjectField(order = 2)
+        public Shape shape;
+    }
+
+    public static class NoConstructor {
+        @StructField(order = 1, type = UInt8Field.class)
+        public int value;
+
+        public NoConstructor(int value) {
+            this.value = value;
+        }
+    }
+
+    @Test
+    void testRegisterFollowsNestedStructs() {
+        Set<Class<?>> registered = LayoutRegistrationHelper.register(Order.class, Point.class);
+
+        assertEquals(List.of(Order.class, Item.class, Point.class), List.copyOf(registered));
+        assertTrue(LayoutRegistrationHelper.isRegistered(Item.class));
+        assertFalse(LayoutRegistrationHelper.isRegistered(Broken.class));
+    }
+
+    @Test
+    void testRegisterReportsAllErrorsAtOnce() {
+        LayoutInitializationException ex = assertThrows(LayoutInitializationException.class,
+                () -> StructLayout.register(Broken.class, NoConstructor.class));
+
+        String message = ex.getMessage();
+        assertTrue(message.contains("Failed to register 3 struct layout(s)"), message);
+        assertTrue(message.contains(Broken.class.getName() + ".notAnArray"), message);
+        assertTrue(message.contains(Broken.class.getName() + ".shape"), message);
+        assertTrue(message.contains(NoConstructor.class.getName()), message);
+        assertEquals(2, ex.getSuppressed().length);
+        assertFalse(LayoutRegistrationHelper.isRegistered(Broken.class));
+    }
+
+    @Test
+    void testFindStructClassesInPackage() {
+        List<Class<?>> types = LayoutRegistrationHelper.findStructClasses(
+                "net.deanly.structlayout.codec.byteorder", getClass().getClassLoader());
+        assertEquals(List.of(NetworkHeader.class), types);
+
+        assertEquals(List.of(NetworkHeader.class), StructLayout.registerPackage("net.deanly.structlayout.codec.byteorder"));
+        assertTrue(LayoutRegistrationHelper.isRegistered(NetworkHeader.class));
+    }
+
+    @Test
+    void testWarmUp() {
+        assertTrue(LayoutRegistrationHelper.warmUp(Item.class, 10));
+        assertTrue(LayoutRegistrationHelper.warmUp(Point.class, 10));
+        assertDoesNotThrow(() -> StructLayout.warmUp(5, Order.class));
+    }
+}
@@ -177,4 +177,38 @@ public class TypeConverterHelperTest {
         assertThrows(TypeConversionException.class, () -> TypeConverterHelper.convertToType("12.34", char.class)); // 길이가 1 이상
         assertThrows(TypeConversionException.class, () -> TypeConverterHelper.convertToType("invalid", java.math.BigInteger.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testConverterFor_MatchesConvertToType() {
+        ValueConverter identity = TypeConverterHelper.converterFor(Integer.class, int.class);
+        Integer boxed = 1234;
+        assertSame(boxed, identity.convert(boxed));
+        assertEquals(0, identity.convert(null)); // primitive 기본값
+        assertEquals(7, identity.convert(7L)); // 선언과 다른 타입은 동적 변환
+
+        ValueConverter widening = TypeConverterHelper.converterFor(Short.class, long.class);
+        assertEquals(-5L, widening.convert((short) -5));
+
+        ValueConverter narrowing = TypeConverterHelper.converterFor(Long.class, Short.class);
+        assertEquals((short) 32000, narrowing.convert(32000L));
+        TypeConversionException error = assertThrows(TypeConversionException.class, () -> narrowing.convert(40000L));
+        assertEquals("Value 40000 is out of range for type: Short", error.getMessage());
+
+        ValueConverter floats = TypeConverterHelper.converterFor(Float.class, float.class);
+        assertEquals(1.5f, floats.convert(1.5f));
+        assertEquals(0.0f, floats.convert(Float.NaN));
+        assertEquals(-Float.MAX_VALUE, floats.convert(Float.NEGATIVE_INFINITY));
+
+        ValueConverter strings = TypeConverterHelper.converterFor(Integer.class, String.class);
+        assertEquals("42", strings.convert(42));
+
+        assertSame(identity, TypeConverterHelper.converterFor(Integer.class, int.class));
+    }
+
+    @Test
+    public void testLayoutConverterFor_MatchesConvertToLayoutType() {
+        ValueConverter converter = TypeConverterHelper.layoutConverterFor(int.class, BasicTypes.UINT8);
+        assertEquals(TypeConverterHelper.convertToLayoutType(200, BasicTypes.UINT8), converter.convert(200));
+        assertNull(converter.convert(null));
+    }
+}
@@ -0,0 +1,86 @@
+package net.deanly.structlayout.factory;
+
+import net.deanly.structlayout.Field;
+import net.deanly.structlayout.exception.LayoutInitializationException;
+import net.deanly.structlayout.exception.NoDefaultConstructorException;
+import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.basic.Int32LEField;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassFactoryTest {
+
+    public static class SimpleStruct {
+        public int value = 7;
+    }
+
+    public class InnerStruct {
+    }
+
+    public static class ThrowingStruct {
+        public ThrowingStruct() {
+            throw new IllegalStateException("boom");
+        }
+    }
+
+    // FieldBase 를 상속하지 않는 Field 구현체
+    public static class PlainField implements Field<Integer> {
+        @Override
+        public int getSpan() {
+            return 1;
+        }
+
+        @Override
+        public Integer decode(byte[] bytes, int offset) {
+            return (int) bytes[offset];
+        }
+
+        @Override
+        public byte[] encode(Integer value) {
+            return new byte[]{value.byteValue()};
+        }
+    }
+
+    @Test
+    void testCreateNoArgumentsInstanceReturnsNewInstances() {
+        SimpleStruct first = ClassFactory.createNoArgumentsInstance(SimpleStruct.class);
+        SimpleStruct second = ClassFactory.createNoArgumentsInstance(SimpleStruct.class);
+
+        assertNotNull(first);
+        assertEquals(7, first.value);
+        assertNotSame(first, second); // 생성자는 캐싱되지만 인스턴스는 매번 새로 생성
+    }
+
+    @Test
+    void testCreateNoArgumentsInstanceRejectsNonStaticInnerClass() {
+        // 검증 실패는 캐싱되지 않고 매 호출마다 동일하게 보고됨
+        assertThrows(NoDefaultConstructorException.class, () -> ClassFactory.createNoArgumentsInstance(InnerStruct.class));
+        assertThrows(NoDefaultConstructorException.class, () -> ClassFactory.createNoArgumentsInstance(InnerStruct.class));
+    }
+
+    @Test
+    void testCreateNoArgumentsInstanceWrapsConstructorException() {
+        LayoutInitializationException exception = assertThrows(LayoutInitializationException.class,
+                () -> ClassFactory.createNoArgumentsInstance(ThrowingStruct.class));
+
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    void testCreateLayoutInstance() {
+        FieldBase<Integer> first = ClassFactory.createLayoutInstance(Int32LEField.class);
+        FieldBase<Integer> second = ClassFactory.createLayoutInstance(Int32LEField.class);
+
+        assertTrue(first instanceof Int32LEField);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void testCreateFieldInstanceWithoutFieldBase() {
+        Field<Integer> field = ClassFactory.createFieldInstance(PlainField.class);
+        assertEquals(5, field.decode(new byte[]{5}, 0));
+
+        assertThrows(LayoutInitializationException.class, () -> ClassFactory.createLayoutInstance(PlainField.class));
+    }
+}
@@ -0,0 +1,130 @@
+package net.deanly.structlayout.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import net.deanly.structlayout.StructLayout;
+import net.deanly.structlayout.annotation.StructField;
+import net.deanly.structlayout.annotation.StructObjectField;
+import net.deanly.structlayout.exception.StructDecodingException;
+import net.deanly.structlayout.type.basic.Int32LEField;
+import net.deanly.structlayout.type.basic.UInt8Field;
+import net.deanly.structlayout.type.borsh.BorshStringField;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodecEventsTest {
+
+    public static class Inner {
+        @StructField(order = 1, type = BorshStringField.class)
+        public String text;
+    }
+
+    public static class Outer {
+        @StructField(order = 1, type = Int32LEField.class)
+        public int id;
+
+        @StructObjectField(order = 2)
+        public Inner inner = new Inner();
+    }
+
+    public static class Flag {
+        @StructField(order = 1, type = Int32LEField.class)
+        public int id;
+
+        @StructField(order = 2, type = UInt8Field.class)
+        public short value = 300;
+    }
+
+    public static class Flagged {
+        @StructObjectField(order = 1)
+        public Flag flag = new Flag();
+    }
+
+    public static class Compiled {
+        @StructField(order = 1, type = Int32LEField.class)
+        public int id;
+    }
+
+    @Test
+    void testEncodeDecodeAndCompileEvents(@TempDir Path dir) throws Exception {
+        Outer outer = new Outer();
+        outer.id = 3;
+        outer.inner.text = "abc";
+
+        List<RecordedEvent> events = record(dir, () -> {
+            byte[] encoded = StructLayout.encode(outer);
+            StructLayout.decode(encoded, Outer.class);
+            StructLayout.encode(new Compiled());
+        });
+
+        RecordedEvent encode = single(events, "net.deanly.structlayout.Encode", Outer.class);
+        assertEquals(Outer.class.getName(), encode.getClass("structClass").getName());
+        assertEquals(11, encode.getInt("bytes"));
+        assertEquals(2, encode.getInt("depth"));
+
+        RecordedEvent decode = single(events, "net.deanly.structlayout.Decode", Outer.class);
+        assertEquals(11, decode.getInt("bytes"));
+        assertEquals(2, decode.getInt("depth"));
+
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("net.deanly.structlayout.LayoutCompile")
+                && event.getClass("structClass").getName().equals(Compiled.class.getName())));
+    }
+
+    @Test
+    void testFailureEvents(@TempDir Path dir) throws Exception {
+        // inner.text 의 길이 prefix 가 남은 바이트보다 큼
+        byte[] truncated = {3, 0, 0, 0, 9, 0, 0, 0, 'a'};
+
+        List<RecordedEvent> events = record(dir, () -> {
+            assertThrows(StructDecodingException.class, () -> StructLayout.decode(truncated, Outer.class));
+            assertThrows(RuntimeException.class, () -> StructLayout.encode(new Flagged()));
+        });
+
+        List<RecordedEvent> failures = events.stream()
+                .filter(event -> event.getEventType().getName().equals("net.deanly.structlayout.CodecFailure"))
+                .toList();
+        assertEquals(2, failures.size());
+
+        RecordedEvent decodeFailure = failures.stream().filter(event -> "decode".equals(event.getString("operation"))).findFirst().orElseThrow();
+        assertEquals(Inner.class.getName(), decodeFailure.getClass("failedStruct").getName());
+        assertEquals("text", decodeFailure.getString("failedField"));
+        assertEquals(4, decodeFailure.getInt("failedOffset"));
+
+        RecordedEvent encodeFailure = failures.stream().filter(event -> "encode".equals(event.getString("operation"))).findFirst().orElseThrow();
+        assertEquals(Flagged.class.getName(), encodeFailure.getClass("structClass").getName());
+        assertEquals(Flag.class.getName(), encodeFailure.getClass("failedStruct").getName());
+        assertEquals("value", encodeFailure.getString("failedField"));
+        assertEquals(4, encodeFailure.getInt("failedOffset"));
+    }
+
+    private static List<RecordedEvent> record(Path dir, Runnable action) throws Exception {
+        Path file = dir.resolve("codec.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(StructEncodeEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(StructDecodeEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(StructCodecFailureEvent.class);
+            recording.enable(StructLayoutCompileEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name, Class<?> structClass) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name)
+                        && event.getClass("structClass").getName().equals(structClass.getName()))
+                .toList();
+        assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+}
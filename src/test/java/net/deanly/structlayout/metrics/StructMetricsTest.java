@@ -0,0 +1,104 @@
+package net.deanly.structlayout.metrics;
+
+import net.deanly.structlayout.StructLayout;
+import net.deanly.structlayout.annotation.StructField;
+import net.deanly.structlayout.exception.StructDecodingException;
+import net.deanly.structlayout.type.basic.Int32LEField;
+import net.deanly.structlayout.type.borsh.BorshStringField;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StructMetricsTest {
+
+    public static class Message {
+        @StructField(order = 1, type = Int32LEField.class)
+        public int id;
+
+        @StructField(order = 2, type = BorshStringField.class)
+        public String text;
+    }
+
+    @AfterEach
+    void tearDown() {
+        StructLayout.setMetrics(null);
+    }
+
+    @Test
+    void testRecordsMessagesBytesAndFailures() {
+        StructMetrics metrics = new StructMetrics();
+        StructLayout.setMetrics(metrics);
+
+        Message message = new Message();
+        message.id = 7;
+        message.text = "hello";
+        byte[] encoded = StructLayout.encode(message);
+        StructLayout.decode(encoded, Message.class);
+        StructLayout.decode(encoded, Message.class);
+        assertThrows(StructDecodingException.class, () -> StructLayout.decode(new byte[]{1, 0, 0, 0, 9}, Message.class));
+
+        StructMetrics.TypeSnapshot snapshot = metrics.snapshot(Message.class);
+        assertNotNull(snapshot);
+        assertEquals(1, snapshot.encode().messages());
+        assertEquals(encoded.length, snapshot.encode().bytes());
+        assertEquals(2, snapshot.decode().messages());
+        assertEquals(2L * encoded.length, snapshot.decode().bytes());
+        assertEquals(1L, snapshot.decode().failures().get(StructDecodingException.class.getName()));
+        assertEquals(1, snapshot.decode().failureCount());
+        assertEquals(3, snapshot.decode().latency().count());
+    }
+
+    @Test
+    void testNothingRecordedWithoutMetrics() {
+        StructMetrics metrics = new StructMetrics();
+        StructLayout.setMetrics(metrics);
+        StructLayout.setMetrics(null);
+
+        StructLayout.encode(new Message());
+        assertNull(metrics.snapshot(Message.class));
+    }
+
+    @Test
+    void testHistogramPercentiles() {
+        LogHistogram histogram = new LogHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(100);
+        }
+        histogram.record(1_000_000);
+
+        LogHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(100, snapshot.count());
+        assertEquals(1_000_000, snapshot.max());
+        assertTrue(snapshot.percentile(50) >= 100 && snapshot.percentile(50) < 200);
+        assertTrue(snapshot.percentile(99) < 200);
+        assertEquals(1_000_000, snapshot.percentile(100));
+        assertEquals(0, LogHistogram.bucketOf(0));
+        assertEquals(1, LogHistogram.bucketOf(1));
+        assertEquals(63, LogHistogram.bucketOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testMBean() throws Exception {
+        StructMetrics metrics = new StructMetrics();
+        StructLayout.setMetrics(metrics);
+        StructLayout.encode(new Message());
+
+        ObjectName name = metrics.registerMBean("net.deanly.structlayout:type=StructMetrics,name=test");
+        try {
+            var server = ManagementFactory.getPlatformMBeanServer();
+            assertEquals(1L, server.getAttribute(name, "EncodeCount"));
+            TabularData counters = (TabularData) server.getAttribute(name, "Counters");
+            assertNotNull(counters.get(new Object[]{Message.class.getName() + ".encode.messages"}));
+
+            server.invoke(name, "reset", null, null);
+            assertNull(metrics.snapshot(Message.class));
+        } finally {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        }
+    }
+}
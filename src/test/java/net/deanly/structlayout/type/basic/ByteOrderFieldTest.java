@@ -0,0 +1,77 @@
+package net.deanly.structlayout.type.basic;
+
+import net.deanly.structlayout.Field;
+import net.deanly.structlayout.type.ByteOrderField;
+import net.deanly.structlayout.type.Endianness;
+import net.deanly.structlayout.type.guava.UnsignedLong;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteOrderFieldTest {
+
+    private static <T> void assertSameEncoding(Field<T> neutral, Field<T> fixed, T value) {
+        byte[] encoded = fixed.encode(value);
+        assertArrayEquals(encoded, neutral.encode(value));
+        assertEquals(value, neutral.decode(encoded, 0));
+    }
+
+    @Test
+    void testMatchesLittleEndianFields() {
+        assertSameEncoding(new Int16Field(), new Int16LEField(), (short) -12345);
+        assertSameEncoding(new UInt16Field(), new UInt16LEField(), 0xFEDC);
+        assertSameEncoding(new Int32Field(), new Int32LEField(), -123456789);
+        assertSameEncoding(new UInt32Field(), new UInt32LEField(), 0xFEDCBA98L);
+        assertSameEncoding(new Int64Field(), new Int64LEField(), 0x0123456789ABCDEFL);
+        assertSameEncoding(new UInt64Field(), new UInt64LEField(), UnsignedLong.MAX_VALUE);
+        assertSameEncoding(new Float32Field(), new Float32LEField(), -1.5f);
+        assertSameEncoding(new Float64Field(), new Float64LEField(), Math.PI);
+    }
+
+    @Test
+    void testMatchesBigEndianFields() {
+        assertSameEncoding(new Int16Field(Endianness.BIG_ENDIAN), new Int16BEField(), (short) -12345);
+        assertSameEncoding(new UInt16Field(Endianness.BIG_ENDIAN), new UInt16BEField(), 0xFEDC);
+        assertSameEncoding(new Int32Field(Endianness.BIG_ENDIAN), new Int32BEField(), -123456789);
+        assertSameEncoding(new UInt32Field(Endianness.BIG_ENDIAN), new UInt32BEField(), 0xFEDCBA98L);
+        assertSameEncoding(new Int64Field(Endianness.BIG_ENDIAN), new Int64BEField(), 0x0123456789ABCDEFL);
+        assertSameEncoding(new UInt64Field(Endianness.BIG_ENDIAN), new UInt64BEField(), UnsignedLong.MAX_VALUE);
+        assertSameEncoding(new Float32Field(Endianness.BIG_ENDIAN), new Float32BEField(), -1.5f);
+        assertSameEncoding(new Float64Field(Endianness.BIG_ENDIAN), new Float64BEField(), Math.PI);
+    }
+
+    @Test
+    void testDecodeAtOffset() {
+        byte[] data = {9, 9, 0x01, 0x02, 0x03, 0x04};
+        assertEquals(0x04030201, new Int32Field().decode(data, 2));
+        assertEquals(0x01020304, new Int32Field(Endianness.BIG_ENDIAN).decode(data, 2));
+        assertThrows(IllegalArgumentException.class, () -> new Int32Field().decode(data, 3));
+    }
+
+    @Test
+    void testOrderedSelectsSharedInstance() {
+        Int32Field little = new Int32Field();
+
+        Field<Integer> big = ByteOrderField.ordered(little, Endianness.BIG_ENDIAN);
+        assertEquals(Endianness.BIG_ENDIAN, ((ByteOrderField<Integer>) big).getEndianness());
+        assertSame(big, ByteOrderField.ordered(new Int32Field(), Endianness.BIG_ENDIAN));
+        assertSame(little, ByteOrderField.ordered(little, Endianness.LITTLE_ENDIAN));
+
+        Int32LEField fixed = new Int32LEField();
+        assertSame(fixed, ByteOrderField.ordered(fixed, Endianness.BIG_ENDIAN));
+    }
+
+    @Test
+    void testUnsignedRangeIsValidated() {
+        assertThrows(IllegalArgumentException.class, () -> new UInt16Field().encode(65536));
+        assertThrows(IllegalArgumentException.class, () -> new UInt32Field().encode(-1L));
+    }
+
+    @Test
+    void testToByteOrder() {
+        assertEquals(ByteOrder.LITTLE_ENDIAN, Endianness.LITTLE_ENDIAN.toByteOrder());
+        assertEquals(ByteOrder.BIG_ENDIAN, Endianness.BIG_ENDIAN.toByteOrder());
+    }
+}
@@ -0,0 +1,91 @@
+package net.deanly.structlayout.type.basic;
+
+import net.deanly.structlayout.type.Int128;
+import net.deanly.structlayout.type.UInt128;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Int128LEFieldTest {
+
+    private static final BigInteger TWO_POW_128 = BigInteger.ONE.shiftLeft(128);
+
+    @Test
+    void testUnsignedRoundTrip() {
+        UInt128LEField field = new UInt128LEField();
+        assertEquals(16, field.getSpan());
+
+        UInt128 value = UInt128.fromLongBits(0x0102030405060708L, -1L);
+        byte[] encoded = field.encode(value);
+        assertEquals(16, encoded.length);
+        assertEquals((byte) 0xFF, encoded[0]);
+        assertEquals((byte) 0x08, encoded[8]);
+        assertEquals((byte) 0x01, encoded[15]);
+
+        UInt128 decoded = field.decode(encoded, 0);
+        assertEquals(value, decoded);
+        assertEquals(0x0102030405060708L, decoded.getHigh());
+        assertEquals(-1L, decoded.getLow());
+    }
+
+    @Test
+    void testUnsignedBigIntegerConversion() {
+        assertEquals(TWO_POW_128.subtract(BigInteger.ONE), UInt128.MAX_VALUE.toBigInteger());
+        assertEquals("340282366920938463463374607431768211455", UInt128.MAX_VALUE.toString());
+        assertEquals("18446744073709551615", UInt128.fromLongBits(0L, -1L).toString());
+
+        BigInteger big = new BigInteger("123456789012345678901234567890");
+        assertEquals(big, UInt128.valueOf(big).toBigInteger());
+        assertSame(UInt128.ZERO, UInt128.valueOf(BigInteger.ZERO));
+
+        assertThrows(IllegalArgumentException.class, () -> UInt128.valueOf(TWO_POW_128));
+        assertThrows(IllegalArgumentException.class, () -> UInt128.valueOf(BigInteger.valueOf(-1)));
+        assertThrows(IllegalArgumentException.class, () -> UInt128.valueOf(-1L));
+    }
+
+    @Test
+    void testSignedRoundTrip() {
+        Int128LEField field = new Int128LEField();
+
+        for (Int128 value : new Int128[]{Int128.ZERO, Int128.valueOf(-1), Int128.MIN_VALUE, Int128.MAX_VALUE,
+                Int128.valueOf(new BigInteger("-98765432109876543210987654321"))}) {
+            assertEquals(value, field.decode(field.encode(value), 0));
+        }
+
+        byte[] minusOne = field.encode(Int128.valueOf(-1));
+        for (byte b : minusOne) {
+            assertEquals((byte) 0xFF, b);
+        }
+        assertEquals("-1", Int128.valueOf(-1).toString());
+        assertEquals(BigInteger.ONE.shiftLeft(127).negate(), Int128.MIN_VALUE.toBigInteger());
+        assertThrows(IllegalArgumentException.class, () -> Int128.valueOf(BigInteger.ONE.shiftLeft(127)));
+    }
+
+    @Test
+    void testOrderingAndDoubleValue() {
+        assertTrue(UInt128.fromLongBits(1L, 0L).compareTo(UInt128.fromLongBits(0L, -1L)) > 0);
+        assertTrue(Int128.valueOf(-1).compareTo(Int128.ZERO) < 0);
+        assertTrue(Int128.MIN_VALUE.compareTo(Int128.MAX_VALUE) < 0);
+
+        assertEquals(TWO_POW_128.doubleValue(), UInt128.MAX_VALUE.doubleValue());
+        assertEquals(-1.0, Int128.valueOf(-1).doubleValue());
+        assertEquals(0x1p64, UInt128.fromLongBits(1L, 0L).doubleValue());
+        assertEquals(-0x1p127, Int128.MIN_VALUE.doubleValue());
+        assertEquals(-0x1p64, Int128.fromLongBits(-1L, 0L).doubleValue());
+    }
+
+    @Test
+    void testDecodeLongsIntoArray() {
+        UInt128LEField field = new UInt128LEField();
+        byte[] data = new byte[20];
+        field.encodeLongs(42L, 7L, data, 4);
+
+        long[] target = new long[2];
+        field.decodeLongs(data, 4, target);
+        assertArrayEquals(new long[]{42L, 7L}, target);
+
+        assertThrows(IllegalArgumentException.class, () -> field.decodeLongs(data, 5, target));
+    }
+}
@@ -1,5 +1,6 @@
 package net.deanly.structlayout.type.basic;
 
+import net.deanly.structlayout.type.helpers.StringCache;
 import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
@@ -144,4 +145,18 @@ class StringCFieldTest {
         assertThrows(IllegalArgumentException.class, () -> layout.bytesToHex(null, 0)); // Null 데이터 예외 처리
         assertThrows(IllegalArgumentException.class, () -> layout.bytesToHex(new byte[0], 0)); // 빈 데이터 예외 처리
     }
-}
\ No newline at end of file
+
+    @Test
+    void testDecodeWithStringCacheReusesInstances() {
+        StringCField layout = new StringCField(StandardCharsets.US_ASCII, new StringCache(16));
+        byte[] data = {'x', 0x00, 'A', 'C', 'C', 'T', 0x00, 'A', 'C', 'C', 'T', 0x00};
+
+        String first = layout.decode(data, 2);
+        assertEquals(5, layout.getSpan());
+        String second = layout.decode(data, 7);
+
+        assertEquals("ACCT", first);
+        assertSame(first, second);
+        assertEquals("x", layout.decode(data, 0));
+    }
+}
@@ -1,6 +1,12 @@
 package net.deanly.structlayout.type.borsh;
 
+import net.deanly.structlayout.StructLayout;
+import net.deanly.structlayout.annotation.StructField;
+import net.deanly.structlayout.type.basic.Bytes4Field;
 import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class BorshBlobFieldTest {
@@ -84,4 +90,67 @@ class BorshBlobFieldTest {
         // 검증
         assertArrayEquals(inputData, decodedData, "Decoded data with offset should match the original input");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testDecodeRejectsNegativeOrOversizedLength() {
+        BorshBlobField field = new BorshBlobField();
+
+        // 0xFFFFFFFF -> 음수 길이
+        byte[] negative = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 1, 2};
+        assertThrows(IllegalArgumentException.class, () -> field.decode(negative, 0));
+
+        byte[] oversized = {0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 1, 2};
+        assertThrows(IllegalArgumentException.class, () -> field.decode(oversized, 0));
+        assertEquals(Integer.MAX_VALUE, field.payloadLength(oversized, 0));
+    }
+
+    @Test
+    void testDecodeSliceSharesSourceBytes() {
+        BorshBlobField field = new BorshBlobField();
+        byte[] encoded = field.encode(new byte[]{1, 2, 3});
+
+        ByteBuffer slice = field.decodeSlice(encoded, 0);
+        assertTrue(slice.isReadOnly());
+        assertEquals(3, slice.remaining());
+        assertEquals(1, slice.get(0));
+
+        encoded[4] = 9; // 복사본이 아니라 원본의 view
+        assertEquals(9, slice.get(0));
+    }
+
+    public static class Envelope {
+        @StructField(order = 1, type = Bytes4Field.class)
+        private ByteBuffer tag;
+        @StructField(order = 2, type = BorshBlobField.class)
+        private ByteBuffer payload;
+    }
+
+    @Test
+    void testByteBufferStructFieldsDecodeWithoutCopy() {
+        Envelope envelope = new Envelope();
+        envelope.tag = ByteBuffer.wrap(new byte[]{0x0A, 0x0B, 0x0C, 0x0D});
+        envelope.payload = ByteBuffer.wrap("payload".getBytes());
+        byte[] encoded = StructLayout.encode(envelope);
+        assertEquals(0, envelope.payload.position(), "encoding must not consume the buffer");
+
+        Envelope decoded = StructLayout.decode(encoded, Envelope.class);
+        assertEquals(envelope.tag, decoded.tag);
+        assertEquals(envelope.payload, decoded.payload);
+        assertTrue(decoded.payload.isReadOnly());
+
+        encoded[8] = 'P';
+        assertEquals('P', decoded.payload.get(0));
+        assertArrayEquals(encoded, StructLayout.encode(decoded));
+    }
+
+    @Test
+    void testSpanEndsAtPayload() {
+        BorshBlobField field = new BorshBlobField();
+        byte[] data = {0x7F, 0, 0, 0, 2, 0x11, 0x22, 0x33};
+
+        // 뒤따르는 바이트는 span 에 포함하지 않음
+        assertEquals(6, field.calculateSpan(data, 1));
+        assertEquals(6, field.spanWithin(data, 1, 5));
+        assertEquals(-4, field.spanWithin(data, 1, 3));
+    }
+}
@@ -1,5 +1,6 @@
 package net.deanly.structlayout.type.borsh;
 
+import net.deanly.structlayout.type.helpers.StringCache;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -84,4 +85,29 @@ class BorshStringFieldTest {
         // 검증
         assertEquals(inputData, decodedData, "Decoded string with offset should match the original input");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testDecodeStripsTrailingNulPadding() {
+        byte[] data = {0x05, 0x00, 0x00, 0x00, 'a', 'b', 0x00, 0x00, 0x00};
+
+        BorshStringField decoder = new BorshStringField();
+        assertEquals("ab", decoder.decode(data, 0));
+
+        byte[] allPadding = {0x02, 0x00, 0x00, 0x00, 0x00, 0x00};
+        assertEquals("", decoder.decode(allPadding, 0));
+    }
+
+    @Test
+    void testDecodeWithStringCacheReusesInstances() {
+        BorshStringField field = new BorshStringField(new StringCache(16));
+        byte[] encoded = field.encode("BTC-USD");
+
+        String first = field.decode(encoded, 0);
+        String second = new BorshStringField(null).decode(encoded, 0);
+        String third = field.decode(encoded.clone(), 0);
+
+        assertEquals("BTC-USD", first);
+        assertEquals(first, second);
+        assertSame(first, third);
+    }
+}
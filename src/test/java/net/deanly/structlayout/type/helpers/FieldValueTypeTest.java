@@ -0,0 +1,54 @@
+package net.deanly.structlayout.type.helpers;
+
+import net.deanly.structlayout.type.FieldBase;
+import net.deanly.structlayout.type.basic.Float32LEField;
+import net.deanly.structlayout.type.basic.Int32Field;
+import net.deanly.structlayout.type.basic.StringCField;
+import net.deanly.structlayout.type.basic.UInt64LEField;
+import net.deanly.structlayout.type.guava.UnsignedLong;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldValueTypeTest {
+
+    // 제네릭 superclass 가 없는 Field (Int32Field 를 상속)
+    static class CustomInt32Field extends Int32Field {
+    }
+
+    @Test
+    void testResolvesValueTypeAndCategory() {
+        assertEquals(Integer.class, FieldValueType.of(Int32Field.class).getValueType());
+        assertEquals(FieldValueType.Category.INTEGER, FieldValueType.of(Int32Field.class).getCategory());
+        assertEquals(FieldValueType.Category.FLOAT, FieldValueType.of(Float32LEField.class).getCategory());
+        assertEquals(FieldValueType.Category.STRING, FieldValueType.of(StringCField.class).getCategory());
+
+        FieldValueType unsigned = FieldValueType.of(UInt64LEField.class);
+        assertEquals(UnsignedLong.class, unsigned.getValueType());
+        assertEquals(FieldValueType.Category.OTHER_NUMBER, unsigned.getCategory());
+        assertTrue(unsigned.isNumeric());
+    }
+
+    @Test
+    void testResultIsCachedPerClass() {
+        assertSame(FieldValueType.of(Int32Field.class), FieldValueType.of(Int32Field.class));
+    }
+
+    @Test
+    void testUnresolvedGenericType() {
+        FieldValueType custom = FieldValueType.of(CustomInt32Field.class);
+        assertNull(custom.getValueType());
+        assertEquals(FieldValueType.Category.UNRESOLVED, custom.getCategory());
+        assertFalse(FieldBase.isNumericType(CustomInt32Field.class));
+        assertThrows(NullPointerException.class, () -> DataTypeHelper.matches(CustomInt32Field.class, Integer.class));
+    }
+
+    @Test
+    void testDataTypeHelperUsesCachedCategory() {
+        assertTrue(DataTypeHelper.isIntegerType(Int32Field.class));
+        assertFalse(DataTypeHelper.isIntegerType(UInt64LEField.class));
+        assertTrue(DataTypeHelper.isFloatType(Float32LEField.class));
+        assertTrue(DataTypeHelper.isStringType(StringCField.class));
+        assertTrue(DataTypeHelper.matches(Int32Field.class, Integer.class));
+    }
+}
@@ -0,0 +1,52 @@
+package net.deanly.structlayout.type.helpers;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringCacheTest {
+
+    @Test
+    void testCapacityIsRoundedUpToPowerOfTwo() {
+        assertEquals(8, new StringCache(5).capacity());
+        assertEquals(1, new StringCache(1).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new StringCache(0));
+    }
+
+    @Test
+    void testSameBytesReturnSameInstance() {
+        StringCache cache = new StringCache(32);
+        byte[] data = "..ETH..ETH".getBytes(StandardCharsets.US_ASCII);
+
+        String first = cache.get(data, 2, 3, StandardCharsets.US_ASCII);
+        String second = cache.get(data, 7, 3, StandardCharsets.US_ASCII);
+
+        assertEquals("ETH", first);
+        assertSame(first, second);
+    }
+
+    @Test
+    void testCollisionsAndCharsetsAreDistinguished() {
+        StringCache cache = new StringCache(1); // 모든 값이 같은 슬롯을 사용
+        byte[] data = "ab".getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals("a", cache.get(data, 0, 1, StandardCharsets.US_ASCII));
+        assertEquals("b", cache.get(data, 1, 1, StandardCharsets.US_ASCII));
+        assertEquals("b", cache.get(data, 1, 1, StandardCharsets.UTF_8));
+        assertEquals("", cache.get(data, 0, 0, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void testLongStringsAreNotCached() {
+        StringCache cache = new StringCache(16, 4);
+        byte[] data = "ABCDEFG".getBytes(StandardCharsets.US_ASCII);
+
+        String first = cache.get(data, 0, 7, StandardCharsets.US_ASCII);
+        String second = cache.get(data, 0, 7, StandardCharsets.US_ASCII);
+
+        assertEquals(first, second);
+        assertNotSame(first, second);
+    }
+}
@@ -0,0 +1,51 @@
+package net.deanly.structlayout.type.helpers;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringEncodingHelperTest {
+
+    private static final List<String> SAMPLES = List.of(
+            "",
+            "Hello, World!",
+            "café",
+            "한글 문자열",
+            "emoji 😀!",
+            "unpaired \uD800 high",
+            "unpaired \uDC00 low",
+            "trailing high \uD83D",
+            "\u0000\u007f\u0080߿ࠀ￿"
+    );
+
+    @Test
+    void testEncodingMatchesGetBytes() {
+        for (Charset charset : List.of(StandardCharsets.UTF_8, StandardCharsets.US_ASCII, StandardCharsets.ISO_8859_1)) {
+            for (String sample : SAMPLES) {
+                byte[] expected = sample.getBytes(charset);
+                assertEquals(expected.length, StringEncodingHelper.encodedLength(sample, charset),
+                        "length of '" + sample + "' in " + charset);
+
+                byte[] dest = new byte[expected.length + 3];
+                int written = StringEncodingHelper.encode(sample, charset, dest, 2);
+
+                assertEquals(expected.length, written);
+                assertArrayEquals(expected, Arrays.copyOfRange(dest, 2, 2 + written),
+                        "bytes of '" + sample + "' in " + charset);
+            }
+        }
+    }
+
+    @Test
+    void testUnsupportedCharset() {
+        Charset utf16 = StandardCharsets.UTF_16;
+
+        assertFalse(StringEncodingHelper.isSupported(utf16));
+        assertThrows(IllegalArgumentException.class, () -> StringEncodingHelper.encodedLength("a", utf16));
+    }
+}
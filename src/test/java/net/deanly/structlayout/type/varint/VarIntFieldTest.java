@@ -0,0 +1,149 @@
+package net.deanly.structlayout.type.varint;
+
+import net.deanly.structlayout.StructLayout;
+import net.deanly.structlayout.annotation.StructField;
+import net.deanly.structlayout.annotation.StructSequenceField;
+import net.deanly.structlayout.annotation.StructSequenceObjectField;
+import net.deanly.structlayout.type.basic.Int16LEField;
+import net.deanly.structlayout.type.basic.UInt8Field;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VarIntFieldTest {
+
+    public static class Telemetry {
+        @StructField(order = 1, type = VarUInt32Field.class)
+        public int sequence;
+
+        @StructField(order = 2, type = ZigZagVarInt64Field.class)
+        public long delta;
+
+        @StructSequenceField(order = 3, lengthType = VarUInt32Field.class, elementType = ZigZagVarInt32Field.class)
+        public int[] samples;
+
+        @StructSequenceObjectField(order = 4, lengthType = VarUInt64Field.class)
+        public List<Point> points;
+    }
+
+    public static class Point {
+        @StructField(order = 1, type = UInt8Field.class)
+        public short x;
+
+        @StructField(order = 2, type = Int16LEField.class)
+        public short y;
+    }
+
+    @Test
+    void testVarUInt32EncodeDecode() {
+        VarUInt32Field field = new VarUInt32Field();
+
+        assertArrayEquals(new byte[]{0x00}, field.encode(0));
+        assertArrayEquals(new byte[]{0x7F}, field.encode(127));
+        assertArrayEquals(new byte[]{(byte) 0x80, 0x01}, field.encode(128));
+        assertArrayEquals(new byte[]{(byte) 0xAC, 0x02}, field.encode(300));
+        assertArrayEquals(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F}, field.encode(-1));
+
+        for (int value : new int[]{0, 1, 127, 128, 16383, 16384, Integer.MAX_VALUE, Integer.MIN_VALUE, -1}) {
+            byte[] encoded = field.encode(value);
+            assertEquals(value, field.decode(encoded, 0));
+            assertEquals(encoded.length, field.calculateSpan(encoded, 0));
+        }
+    }
+
+    @Test
+    void testVarUInt64EncodeDecode() {
+        VarUInt64Field field = new VarUInt64Field();
+
+        assertEquals(10, field.encode(-1L).length);
+        assertEquals(9, field.encode(Long.MAX_VALUE).length);
+
+        for (long value : new long[]{0, 1, 127, 128, 1L << 35, Long.MAX_VALUE, Long.MIN_VALUE, -1}) {
+            byte[] encoded = field.encode(value);
+            assertEquals(value, field.decode(encoded, 0));
+            assertEquals(encoded.length, field.calculateSpan(encoded, 0));
+        }
+    }
+
+    @Test
+    void testZigZagKeepsSmallNegativeValuesShort() {
+        ZigZagVarInt32Field int32 = new ZigZagVarInt32Field();
+        ZigZagVarInt64Field int64 = new ZigZagVarInt64Field();
+
+        assertArrayEquals(new byte[]{0x01}, int32.encode(-1));
+        assertArrayEquals(new byte[]{0x02}, int32.encode(1));
+        assertArrayEquals(new byte[]{0x7F}, int64.encode(-64L));
+        assertEquals(2, int64.encode(64L).length);
+
+        for (int value : new int[]{0, -1, 1, -64, 63, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            assertEquals(value, int32.decode(int32.encode(value), 0));
+        }
+        for (long value : new long[]{0, -1, 1, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            assertEquals(value, int64.decode(int64.encode(value), 0));
+        }
+    }
+
+    @Test
+    void testDecodeAtOffset() {
+        byte[] data = {0x11, (byte) 0xAC, 0x02, 0x22};
+        VarUInt32Field field = new VarUInt32Field();
+
+        assertEquals(300, field.decode(data, 1));
+        assertEquals(2, field.calculateSpan(data, 1));
+    }
+
+    @Test
+    void testMalformedVarints() {
+        VarUInt32Field int32 = new VarUInt32Field();
+        VarUInt64Field int64 = new VarUInt64Field();
+
+        // 종료 바이트 없이 데이터가 끝남
+        assertThrows(IllegalArgumentException.class, () -> int32.decode(new byte[]{(byte) 0x80, (byte) 0x80}, 0));
+        assertThrows(IllegalArgumentException.class, () -> int32.calculateSpan(new byte[]{(byte) 0x80}, 0));
+        // 최대 길이 초과
+        assertThrows(IllegalArgumentException.class,
+                () -> int32.decode(new byte[]{(byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x00}, 0));
+        // 32비트 범위 초과
+        assertThrows(IllegalArgumentException.class,
+                () -> int32.decode(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x1F}, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> int64.decode(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                        (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x02}, 0));
+        assertThrows(IllegalArgumentException.class, () -> int32.decode(new byte[0], 0));
+    }
+
+    @Test
+    void testSpanIsDynamic() {
+        VarUInt32Field field = new VarUInt32Field();
+
+        assertEquals(1, field.getNoDataSpan());
+        assertThrows(UnsupportedOperationException.class, field::getSpan);
+    }
+
+    @Test
+    void testStructRoundTrip() {
+        Point point = new Point();
+        point.x = 7;
+        point.y = -2;
+
+        Telemetry telemetry = new Telemetry();
+        telemetry.sequence = 300;
+        telemetry.delta = -5;
+        telemetry.samples = new int[]{0, -1, 1000, -1000};
+        telemetry.points = List.of(point);
+
+        byte[] encoded = StructLayout.encode(telemetry);
+        // 2 (sequence) + 1 (delta) + 1 (length) + 1 + 1 + 2 + 2 (samples) + 1 (length) + 3 (point)
+        assertEquals(14, encoded.length);
+
+        Telemetry decoded = StructLayout.decode(encoded, Telemetry.class);
+        assertEquals(300, decoded.sequence);
+        assertEquals(-5, decoded.delta);
+        assertArrayEquals(new int[]{0, -1, 1000, -1000}, decoded.samples);
+        assertEquals(1, decoded.points.size());
+        assertEquals(7, decoded.points.get(0).x);
+        assertEquals(-2, decoded.points.get(0).y);
+    }
+}